@@ -1,12 +1,17 @@
 package wsd.bookstore.book.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,19 +22,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import wsd.bookstore.book.request.BookCreateRequest;
 import wsd.bookstore.book.request.BookSearchCondition;
 import wsd.bookstore.book.request.BookUpdateRequest;
+import wsd.bookstore.book.request.SalesWindow;
 import wsd.bookstore.book.response.BookDetailResponse;
+import wsd.bookstore.book.response.BookFacetedSearchResponse;
+import wsd.bookstore.book.response.BookFuzzySearchResponse;
 import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.response.SuggestionResponse;
+import wsd.bookstore.book.search.BookSearchEngine;
 import wsd.bookstore.book.service.BookService;
+import wsd.bookstore.book.service.FlashSaleStockService;
+import wsd.bookstore.common.cache.ResponseBodyCache;
 import wsd.bookstore.common.response.ApiResponse;
+import wsd.bookstore.common.response.CursorResponse;
+import wsd.bookstore.common.response.SliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 
 @RestController
 @RequestMapping("/api/books")
@@ -38,10 +54,13 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 public class BookController {
 
     private final BookService bookService;
+    private final FlashSaleStockService flashSaleStockService;
+    private final BookSearchEngine bookSearchEngine;
+    private final ResponseBodyCache responseBodyCache;
 
     @GetMapping
     @Operation(summary = "도서 검색", description = "조건에 맞는 도서를 검색합니다.")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 전체 조회 성공 예시", value = """
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookPageApiResponse.class), examples = @ExampleObject(name = "도서 전체 조회 성공 예시", value = """
             {
                 "isSuccess": true,
                 "message": "도서 목록 조회 성공",
@@ -61,16 +80,145 @@ public class BookController {
                 ]
             }
             """)))
-    public ResponseEntity<ApiResponse<Page<BookSummaryResponse>>> getBooks(
+    public ResponseEntity<byte[]> getBooks(
+            @ModelAttribute BookSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable,
+            HttpServletRequest request) {
+        // 자주 요청되는 첫 페이지만 직렬화된 응답을 캐싱 (키에 카탈로그 버전이 포함됨)
+        // 응답 캐시를 먼저 확인하고, 놓친 경우에만 같은 키로 검색하므로 검색 결과 캐시가 다른 버전을 보지 않음
+        String cacheKey = pageable.getPageNumber() == 0 ? bookService.getSearchCacheKey(condition, pageable) : null;
+        if (cacheKey == null) {
+            Page<BookSummaryResponse> books = bookService.searchBooks(condition, pageable);
+            return responseBodyCache.respondUncached(request, ApiResponse.success(books, "도서 목록 조회 성공"));
+        }
+        return responseBodyCache.respond(request, "books|" + cacheKey, cacheKey,
+                () -> ApiResponse.success(bookService.searchBooks(condition, pageable, cacheKey), "도서 목록 조회 성공"));
+    }
+
+    @GetMapping(params = "facets=true")
+    @Operation(summary = "도서 검색 (패싯 포함)", description = "검색 결과와 함께 결과 전체에 대한 카테고리, 저자, 출판사, 가격대별 도서 수를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 패싯 검색 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 목록 조회 성공",
+                "payload": {
+                    "books": {
+                        "content": [
+                            {
+                                "bookId": 1,
+                                "title": "클린 코드",
+                                "author": "로버트 마틴",
+                                "price": 30000
+                            }
+                        ],
+                        "totalElements": 132
+                    },
+                    "facets": {
+                        "categories": [{ "id": 1, "name": "컴퓨터/IT", "count": 132 }],
+                        "authors": [{ "id": 3, "name": "로버트 마틴", "count": 4 }],
+                        "publishers": [{ "id": 2, "name": "인사이트", "count": 57 }],
+                        "priceRanges": [{ "minPrice": 20000, "maxPrice": 50000, "count": 98 }]
+                    }
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<BookFacetedSearchResponse>> getBooksWithFacets(
+            @ModelAttribute BookSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable) {
+        BookFacetedSearchResponse books = bookService.searchBooksWithFacets(condition, pageable);
+        return ApiResponse.ok(books, "도서 목록 조회 성공");
+    }
+
+    @GetMapping(params = "fuzzy=true")
+    @Operation(summary = "도서 검색 (오타 교정 포함)", description = "검색어에 사전에 없는 단어가 있으면 편집 거리 1~2 의 교정어를 함께 반환합니다. 원래 검색어의 결과가 없으면 첫 번째 교정어로 검색한 결과를 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 오타 교정 검색 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 목록 조회 성공",
+                "payload": {
+                    "books": {
+                        "content": [
+                            {
+                                "bookId": 1,
+                                "title": "Clean Code",
+                                "author": "로버트 마틴",
+                                "price": 30000
+                            }
+                        ],
+                        "totalElements": 1
+                    },
+                    "correctedKeyword": "clean code",
+                    "didYouMean": ["clean code", "clear code"]
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<BookFuzzySearchResponse>> getBooksWithCorrections(
+            @ModelAttribute BookSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable) {
+        BookFuzzySearchResponse books = bookService.searchBooksWithCorrections(condition, pageable);
+        return ApiResponse.ok(books, "도서 목록 조회 성공");
+    }
+
+    @GetMapping(params = "mode=slice")
+    @Operation(summary = "도서 검색 (Slice)", description = "전체 개수를 계산하지 않고 다음 페이지 존재 여부만 반환합니다. 무한 스크롤 목록에 사용합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 Slice 검색 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 목록 조회 성공",
+                "payload": {
+                    "content": [
+                        {
+                            "bookId": 1,
+                            "title": "클린 코드",
+                            "author": "로버트 마틴",
+                            "price": 30000
+                        }
+                    ],
+                    "page": 0,
+                    "size": 20,
+                    "hasNext": true
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<SliceResponse<BookSummaryResponse>>> getBookSlice(
             @ModelAttribute BookSearchCondition condition,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<BookSummaryResponse> books = bookService.searchBooks(condition, pageable);
+        Slice<BookSummaryResponse> books = bookService.searchBookSlice(condition, pageable);
+        return ApiResponse.ok(SliceResponse.from(books), "도서 목록 조회 성공");
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "도서 검색 (커서)", description = "커서 기반으로 도서를 검색합니다. 첫 페이지는 빈 cursor 로 요청하고, 이후에는 응답의 nextCursor 를 그대로 전달합니다. 정렬은 title, price, publishedAt, createdAt 중 하나를 지원합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 커서 검색 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 목록 조회 성공",
+                "payload": {
+                    "content": [
+                        {
+                            "bookId": 1,
+                            "title": "클린 코드",
+                            "author": "로버트 마틴",
+                            "price": 30000
+                        }
+                    ],
+                    "nextCursor": "MXxwcmljZXxBU0N8MzAwMDA",
+                    "hasNext": true
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<CursorResponse<BookSummaryResponse>>> getBooksByCursor(
+            @ModelAttribute BookSearchCondition condition,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        CursorResponse<BookSummaryResponse> books = bookService.searchBooksByCursor(condition, cursor, sort, size);
         return ApiResponse.ok(books, "도서 목록 조회 성공");
     }
 
     @GetMapping("/best-sellers")
-    @Operation(summary = "베스트셀러 조회", description = "판매량 상위 10개 도서를 조회합니다.")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "베스트셀러 조회 성공 예시", value = """
+    @Operation(summary = "베스트셀러 조회", description = "기간(window=all|day|week|month)별 판매량 상위 도서를 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookListApiResponse.class), examples = @ExampleObject(name = "베스트셀러 조회 성공 예시", value = """
             {
                 "isSuccess": true,
                 "message": "베스트셀러 조회 성공",
@@ -90,9 +238,63 @@ public class BookController {
                 ]
             }
             """)))
-    public ResponseEntity<ApiResponse<List<BookSummaryResponse>>> getBestSellers() {
-        List<BookSummaryResponse> books = bookService.getBestSellers();
-        return ApiResponse.ok(books, "베스트셀러 조회 성공");
+    public ResponseEntity<byte[]> getBestSellers(
+            @RequestParam(defaultValue = "all") String window,
+            @RequestParam(defaultValue = "10") int limit,
+            HttpServletRequest request) {
+        SalesWindow salesWindow = SalesWindow.from(window);
+        List<BookSummaryResponse> books = bookService.getBestSellers(salesWindow, limit);
+        return responseBodyCache.respond(request, "bestSellers|" + salesWindow.name() + ":" + limit, books,
+                () -> ApiResponse.success(books, "베스트셀러 조회 성공"));
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "트렌딩 도서 조회", description = "최근 주문/좋아요/위시리스트/리뷰 활동을 시간 감쇠 가중치로 합산한 인기 도서를 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "트렌딩 도서 조회 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "트렌딩 도서 조회 성공",
+                "payload": [
+                    {
+                        "bookId": 1,
+                        "title": "클린 코드",
+                        "author": "로버트 마틴",
+                        "price": 30000
+                    }
+                ]
+            }
+            """)))
+    public ResponseEntity<ApiResponse<List<BookSummaryResponse>>> getTrendingBooks(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<BookSummaryResponse> books = bookService.getTrendingBooks(limit);
+        return ApiResponse.ok(books, "트렌딩 도서 조회 성공");
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력한 접두사로 시작하는 단어를 포함한 도서 제목, 저자, 출판사를 판매량 순으로 제안합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "검색어 자동완성 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "자동완성 조회 성공",
+                "payload": [
+                    {
+                        "type": "TITLE",
+                        "id": 1,
+                        "text": "클린 코드"
+                    },
+                    {
+                        "type": "AUTHOR",
+                        "id": 3,
+                        "text": "클린트 이스트우드"
+                    }
+                ]
+            }
+            """)))
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = bookService.suggest(query, limit);
+        return ApiResponse.ok(suggestions, "자동완성 조회 성공");
     }
 
     @GetMapping("/{id}")
@@ -173,4 +375,60 @@ public class BookController {
         bookService.deleteBook(id);
         return ApiResponse.noContent("도서 삭제 성공");
     }
+
+    @PostMapping("/{id}/flash-sale")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "플래시 세일 시작", description = "관리자가 도서의 재고를 Redis 로 옮겨 플래시 세일 모드로 전환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전환 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "플래시 세일 시작 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "플래시 세일 시작 성공",
+                "payload": null
+            }
+            """)))
+    public ResponseEntity<ApiResponse<Void>> enableFlashSale(@PathVariable Long id) {
+        flashSaleStockService.enable(id);
+        return ApiResponse.ok(null, "플래시 세일 시작 성공");
+    }
+
+    @DeleteMapping("/{id}/flash-sale")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "플래시 세일 종료", description = "관리자가 플래시 세일을 종료하고 남은 재고 변경분을 DB 에 반영합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "종료 성공")
+    public ResponseEntity<ApiResponse<Void>> disableFlashSale(@PathVariable Long id) {
+        flashSaleStockService.disable(id);
+        return ApiResponse.noContent("플래시 세일 종료 성공");
+    }
+
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "도서 검색 재색인", description = "관리자가 books 테이블 전체를 읽어 현재 검색 엔진의 색인을 다시 만듭니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재색인 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "도서 재색인 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 재색인 성공",
+                "payload": 300
+            }
+            """)))
+    public ResponseEntity<ApiResponse<Long>> reindexBooks() {
+        long indexed = bookSearchEngine.reindex();
+        return ApiResponse.ok(indexed, "도서 재색인 성공");
+    }
+
+    // 응답 바이트 캐시를 거치는 엔드포인트는 byte[] 를 반환하므로 API 문서에 표시할 응답 형식을 따로 둠
+    @Getter
+    static class BookPageApiResponse {
+
+        private String code;
+        private String message;
+        private Page<BookSummaryResponse> data;
+    }
+
+    @Getter
+    static class BookListApiResponse {
+
+        private String code;
+        private String message;
+        private List<BookSummaryResponse> data;
+    }
 }
@@ -1,8 +1,10 @@
 package wsd.bookstore.book.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,11 +20,13 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import wsd.bookstore.book.response.CategoryResponse;
 import wsd.bookstore.book.request.CategoryRequest;
 import wsd.bookstore.book.service.CategoryService;
+import wsd.bookstore.common.cache.ResponseBodyCache;
 import wsd.bookstore.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -31,10 +35,11 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ResponseBodyCache responseBodyCache;
 
     @GetMapping
     @Operation(summary = "카테고리 목록 조회", description = "전체 카테고리 목록을 조회합니다.")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "카테고리 목록 조회 성공 예시", value = """
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryListApiResponse.class), examples = @ExampleObject(name = "카테고리 목록 조회 성공 예시", value = """
             {
                 "isSuccess": true,
                 "message": "카테고리 목록 조회 성공",
@@ -50,9 +55,10 @@ public class CategoryController {
                 ]
             }
             """)))
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories() {
+    public ResponseEntity<byte[]> getCategories(HttpServletRequest request) {
         List<CategoryResponse> response = categoryService.getCategories();
-        return ApiResponse.ok(response, "카테고리 목록 조회 성공");
+        return responseBodyCache.respond(request, "categories|all", response,
+                () -> ApiResponse.success(response, "카테고리 목록 조회 성공"));
     }
 
     @GetMapping("/{categoryId}")
@@ -122,4 +128,13 @@ public class CategoryController {
         categoryService.deleteCategory(categoryId);
         return ApiResponse.noContent("카테고리 삭제 성공");
     }
+
+    // getCategories 는 응답 바이트 캐시를 거쳐 byte[] 를 반환하므로 API 문서에 표시할 응답 형식을 따로 둠
+    @Getter
+    static class CategoryListApiResponse {
+
+        private String code;
+        private String message;
+        private List<CategoryResponse> data;
+    }
 }
@@ -23,12 +23,15 @@ import org.hibernate.annotations.Check;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import wsd.bookstore.common.audit.BaseEntity;
-import wsd.bookstore.common.error.CustomException;
-import wsd.bookstore.common.error.ErrorCode;
 
 @Getter
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_title_id", columnList = "title, id"),
+        @Index(name = "idx_books_price_id", columnList = "price, id"),
+        @Index(name = "idx_books_published_at_id", columnList = "published_at, id"),
+        @Index(name = "idx_books_created_at_id", columnList = "created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE books SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
@@ -107,16 +110,4 @@ public class Book extends BaseEntity {
     public void clearCategories() {
         this.bookCategories.clear();
     }
-
-    public void decreaseStock(int quantity) {
-        int restStock = this.stockQuantity - quantity;
-        if (restStock < 0) {
-            throw new CustomException(ErrorCode.NOT_ENOUGH_STOCK);
-        }
-        this.stockQuantity = restStock;
-    }
-
-    public void increaseStock(int quantity) {
-        this.stockQuantity += quantity;
-    }
 }
@@ -0,0 +1,12 @@
+package wsd.bookstore.book.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookActivityEvent {
+
+    private final Long bookId;
+    private final BookActivityType type;
+}
@@ -0,0 +1,17 @@
+package wsd.bookstore.book.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BookActivityType {
+    ORDER(5.0),
+    REVIEW(4.0),
+    FAVORITE(3.0),
+    WISHLIST(2.0),
+    REVIEW_LIKE(1.0);
+
+    // 인기 점수 가중치
+    private final double weight;
+}
@@ -0,0 +1,23 @@
+package wsd.bookstore.book.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+
+    private final List<Long> bookIds;
+
+    // 다른 노드에서 전달받은 변경 (다시 전파하지 않음)
+    private final boolean remote;
+
+    public CatalogChangedEvent(Long bookId) {
+        this(List.of(bookId), false);
+    }
+
+    public CatalogChangedEvent(List<Long> bookIds) {
+        this(bookIds, false);
+    }
+}
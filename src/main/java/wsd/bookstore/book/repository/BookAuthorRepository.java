@@ -1,7 +1,13 @@
 package wsd.bookstore.book.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import wsd.bookstore.book.entity.BookAuthor;
 
 public interface BookAuthorRepository extends JpaRepository<BookAuthor, Long> {
+
+    @Query("SELECT ba.book.id FROM BookAuthor ba WHERE ba.author.id = :authorId")
+    List<Long> findBookIdsByAuthorId(@Param("authorId") Long authorId);
 }
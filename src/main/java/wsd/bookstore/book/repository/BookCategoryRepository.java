@@ -1,7 +1,13 @@
 package wsd.bookstore.book.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import wsd.bookstore.book.entity.BookCategory;
 
 public interface BookCategoryRepository extends JpaRepository<BookCategory, Long> {
+
+    @Query("SELECT bc.book.id FROM BookCategory bc WHERE bc.category.id = :categoryId")
+    List<Long> findBookIdsByCategoryId(@Param("categoryId") Long categoryId);
 }
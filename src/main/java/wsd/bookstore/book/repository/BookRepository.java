@@ -1,9 +1,39 @@
 package wsd.bookstore.book.repository;
 
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import wsd.bookstore.book.entity.Book;
 
 public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
     boolean existsByIsbn13(String isbn13);
+
+    @Query("SELECT b.id FROM Book b WHERE b.publisher.id = :publisherId")
+    List<Long> findIdsByPublisherId(@Param("publisherId") Long publisherId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :bookId")
+    Optional<Book> findByIdForUpdate(@Param("bookId") Long bookId);
+
+    // 재고가 충분할 때만 차감 (영향받은 행 수 0 = 재고 부족)
+    // 재고 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 앞선 변경을 먼저 반영하고 이미 읽어 둔 Book 을 비워,
+    // 이후 변경 감지가 이전 재고를 다시 써 넣지 않도록 함 (아래 재고 UPDATE 모두 동일)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Book b SET b.stockQuantity = b.stockQuantity - :quantity "
+            + "WHERE b.id = :bookId AND b.stockQuantity >= :quantity")
+    int decreaseStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Book b SET b.stockQuantity = b.stockQuantity + :quantity WHERE b.id = :bookId")
+    int increaseStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Book b SET b.stockQuantity = b.stockQuantity + :delta WHERE b.id = :bookId")
+    int adjustStock(@Param("bookId") Long bookId, @Param("delta") int delta);
 }
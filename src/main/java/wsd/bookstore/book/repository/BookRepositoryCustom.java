@@ -1,14 +1,33 @@
 package wsd.bookstore.book.repository;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import wsd.bookstore.book.request.BookCursor;
 import wsd.bookstore.book.request.BookSearchCondition;
 import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.search.BookSearchDocument;
+import wsd.bookstore.common.response.CursorResponse;
 
 public interface BookRepositoryCustom {
 
     Page<BookSummaryResponse> search(BookSearchCondition condition, Pageable pageable);
 
-    List<BookSummaryResponse> findBestSellers(int limit);
+    Slice<BookSummaryResponse> searchSlice(BookSearchCondition condition, Pageable pageable);
+
+    long countBooks(BookSearchCondition condition);
+
+    List<Long> findMatchingBookIds(BookSearchCondition condition);
+
+    CursorResponse<BookSummaryResponse> searchByCursor(BookSearchCondition condition, BookCursor cursor, int size);
+
+    List<BookSummaryResponse> findSummariesByIds(List<Long> bookIds);
+
+    List<BookSearchDocument> findSearchDocuments(Long afterId, int limit);
+
+    List<BookSearchDocument> findSearchDocumentsByIds(List<Long> bookIds);
+
+    Map<Long, Long> countSoldQuantities();
 }
@@ -8,25 +8,40 @@ import static wsd.bookstore.book.entity.QCategory.category;
 import static wsd.bookstore.book.entity.QPublisher.publisher;
 import static wsd.bookstore.order.entity.QOrderItem.orderItem;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
-import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.request.BookCursor;
 import wsd.bookstore.book.request.BookSearchCondition;
 import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.response.QBookSummaryResponse;
+import wsd.bookstore.book.search.BookSearchDocument;
+import wsd.bookstore.common.response.CursorResponse;
+import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.entity.QOrder;
 
 @Repository
 @RequiredArgsConstructor
@@ -37,7 +52,7 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     @Override
     public Page<BookSummaryResponse> search(BookSearchCondition condition, Pageable pageable) {
         // 조건에 맞는 Book Id 가져오기
-        List<Long> bookIds = fetchBookIds(condition, pageable);
+        List<Long> bookIds = fetchBookIds(condition, pageable, pageable.getPageSize());
 
         // 검색 결과 없는 경우
         if (bookIds.isEmpty()) {
@@ -46,38 +61,156 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         }
 
         // Book Ids로 책 정보 전부 가져오기
-        List<Book> books = fetchBooksWithDetails(bookIds);
+        List<BookSummaryResponse> content = findSummariesByIds(bookIds);
 
-        Map<Long, Book> bookMap = books.stream()
-                .collect(Collectors.toMap(Book::getId, b -> b));
+        JPAQuery<Long> countQuery = createCountQuery(condition);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<BookSummaryResponse> searchSlice(BookSearchCondition condition, Pageable pageable) {
+        // 다음 페이지 존재 여부만 알면 되므로 count 쿼리 대신 한 건 더 조회
+        List<Long> bookIds = fetchBookIds(condition, pageable, pageable.getPageSize() + 1);
+
+        boolean hasNext = bookIds.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? bookIds.subList(0, pageable.getPageSize()) : bookIds;
+
+        return new SliceImpl<>(findSummariesByIds(pageIds), pageable, hasNext);
+    }
+
+    @Override
+    public long countBooks(BookSearchCondition condition) {
+        Long count = createCountQuery(condition).fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<Long> findMatchingBookIds(BookSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(book.id)
+                .distinct()
+                .from(book);
+
+        return joinForCondition(query, condition)
+                .where(createPredicates(condition))
+                .fetch();
+    }
+
+    @Override
+    public CursorResponse<BookSummaryResponse> searchByCursor(BookSearchCondition condition, BookCursor cursor,
+                                                              int size) {
+        return switch (cursor.getProperty()) {
+            case "title" -> searchByCursor(condition, cursor, size, book.title, value -> value);
+            case "price" -> searchByCursor(condition, cursor, size, book.price, Long::valueOf);
+            case "publishedAt" -> searchByCursor(condition, cursor, size, book.publishedAt, LocalDateTime::parse);
+            default -> searchByCursor(condition, cursor, size, book.createdAt, LocalDateTime::parse);
+        };
+    }
+
+    @Override
+    public List<BookSummaryResponse> findSummariesByIds(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
 
-        List<BookSummaryResponse> content = bookIds.stream()
-                .map(bookMap::get)
-                .map(BookSummaryResponse::from)
+        // 엔티티를 로딩하지 않고 요약 컬럼과 저자 이름만 각각 조회 (컬렉션 fetch join 으로 인한 행 중복 방지)
+        Map<Long, BookSummaryResponse> summaryMap = fetchSummaries(bookIds).stream()
+                .collect(Collectors.toMap(BookSummaryResponse::getId, summary -> summary));
+        Map<Long, List<String>> authorNames = fetchAuthorNames(bookIds);
+
+        // 요청한 ID 순서 유지 (삭제된 도서는 제외)
+        return bookIds.stream()
+                .map(summaryMap::get)
+                .filter(Objects::nonNull)
+                .map(summary -> summary.withAuthors(authorNames.getOrDefault(summary.getId(), List.of())))
                 .toList();
+    }
 
-        JPAQuery<Long> countQuery = createCountQuery(condition);
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    @Override
+    public List<BookSearchDocument> findSearchDocuments(Long afterId, int limit) {
+        List<Tuple> rows = selectSearchDocumentColumns()
+                .where(afterId != null ? book.id.gt(afterId) : null)
+                .orderBy(book.id.asc())
+                .limit(limit)
+                .fetch();
+        return toSearchDocuments(rows);
     }
 
     @Override
-    public List<BookSummaryResponse> findBestSellers(int limit) {
-        List<Book> books = queryFactory
-                .select(book)
+    public List<BookSearchDocument> findSearchDocumentsByIds(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Tuple> rows = selectSearchDocumentColumns()
+                .where(book.id.in(bookIds))
+                .fetch();
+        return toSearchDocuments(rows);
+    }
+
+    @Override
+    public Map<Long, Long> countSoldQuantities() {
+        QOrder order = QOrder.order;
+        NumberExpression<Long> soldQuantity = orderItem.quantity.longValue().sum();
+
+        List<Tuple> rows = queryFactory
+                .select(orderItem.book.id, soldQuantity)
                 .from(orderItem)
-                .join(orderItem.book, book)
-                .join(book.publisher, publisher).fetchJoin()
-                .groupBy(book.id)
-                .orderBy(orderItem.quantity.sum().desc())
-                .limit(limit)
+                .join(orderItem.order, order)
+                .where(order.status.ne(OrderStatus.CANCELLED))
+                .groupBy(orderItem.book.id)
                 .fetch();
 
-        return books.stream()
-                .map(BookSummaryResponse::from)
+        return rows.stream()
+                .collect(Collectors.toMap(row -> row.get(orderItem.book.id), row -> row.get(soldQuantity)));
+    }
+
+    // 정렬 키 + ID 로 마지막 행 이후부터 조회 (OFFSET 없이 인덱스 탐색)
+    private <T extends Comparable<?>> CursorResponse<BookSummaryResponse> searchByCursor(
+            BookSearchCondition condition, BookCursor cursor, int size,
+            ComparableExpressionBase<T> sortKey, Function<String, T> parser) {
+        Order direction = cursor.getDirection().isAscending() ? Order.ASC : Order.DESC;
+
+        JPAQuery<Tuple> query = queryFactory
+                .select(book.id, sortKey)
+                .from(book);
+
+        List<Tuple> rows = joinForCondition(query, condition)
+                .where(createPredicates(condition))
+                .where(cursor.isFirst() ? null : seekPredicate(cursor, sortKey, parser.apply(cursor.getLastValue())))
+                .groupBy(book.id, sortKey)
+                .orderBy(new OrderSpecifier<>(direction, sortKey), new OrderSpecifier<>(direction, book.id))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<Long> bookIds = pageRows.stream()
+                .map(row -> row.get(book.id))
                 .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = cursor.next(String.valueOf(last.get(sortKey)), last.get(book.id)).encode();
+        }
+
+        return new CursorResponse<>(findSummariesByIds(bookIds), nextCursor, hasNext);
+    }
+
+    private <T> BooleanExpression seekPredicate(BookCursor cursor, ComparableExpressionBase<T> sortKey, T lastValue) {
+        boolean ascending = cursor.getDirection().isAscending();
+        Long lastId = cursor.getLastId();
+
+        BooleanExpression beyond = Expressions.predicate(ascending ? Ops.GT : Ops.LT, sortKey,
+                Expressions.constant(lastValue));
+        BooleanExpression sameKey = Expressions.predicate(Ops.EQ, sortKey, Expressions.constant(lastValue))
+                .and(ascending ? book.id.gt(lastId) : book.id.lt(lastId));
+        return beyond.or(sameKey);
     }
 
-    private List<Long> fetchBookIds(BookSearchCondition condition, Pageable pageable) {
+    private List<Long> fetchBookIds(BookSearchCondition condition, Pageable pageable, int limit) {
         BooleanExpression[] predicates = createPredicates(condition);
 
         return queryFactory
@@ -92,21 +225,98 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 .groupBy(book.id)
                 .orderBy(getOrderSpecifier(pageable))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
     }
 
-    private List<Book> fetchBooksWithDetails(List<Long> bookIds) {
+    private List<BookSummaryResponse> fetchSummaries(List<Long> bookIds) {
         return queryFactory
-                .selectFrom(book)
-                .distinct()
-                .leftJoin(book.publisher, publisher).fetchJoin()
-                .leftJoin(book.bookAuthors, bookAuthor).fetchJoin()
-                .leftJoin(bookAuthor.author, author).fetchJoin()
+                .select(new QBookSummaryResponse(
+                        book.id,
+                        book.isbn13,
+                        book.title,
+                        book.price,
+                        book.publishedAt,
+                        publisher.name))
+                .from(book)
+                .leftJoin(book.publisher, publisher)
                 .where(book.id.in(bookIds))
                 .fetch();
     }
 
+    private JPAQuery<Tuple> selectSearchDocumentColumns() {
+        return queryFactory
+                .select(book.id, book.title, book.price, book.publishedAt, book.createdAt, publisher.id, publisher.name)
+                .from(book)
+                .leftJoin(book.publisher, publisher);
+    }
+
+    // 저자, 카테고리는 문서 단위로 묶어 한 번씩만 조회
+    private List<BookSearchDocument> toSearchDocuments(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> bookIds = rows.stream()
+                .map(row -> row.get(book.id))
+                .toList();
+
+        Map<Long, List<Tuple>> authorRows = queryFactory
+                .select(bookAuthor.book.id, author.id, author.name)
+                .from(bookAuthor)
+                .join(bookAuthor.author, author)
+                .where(bookAuthor.book.id.in(bookIds))
+                .orderBy(bookAuthor.book.id.asc(), bookAuthor.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(bookAuthor.book.id)));
+
+        Map<Long, List<Tuple>> categoryRows = queryFactory
+                .select(bookCategory.book.id, category.id, category.name)
+                .from(bookCategory)
+                .join(bookCategory.category, category)
+                .where(bookCategory.book.id.in(bookIds))
+                .orderBy(bookCategory.book.id.asc(), bookCategory.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(bookCategory.book.id)));
+
+        return rows.stream()
+                .map(row -> {
+                    Long bookId = row.get(book.id);
+                    List<Tuple> authors = authorRows.getOrDefault(bookId, List.of());
+                    List<Tuple> categories = categoryRows.getOrDefault(bookId, List.of());
+                    return BookSearchDocument.builder()
+                            .bookId(bookId)
+                            .title(row.get(book.title))
+                            .price(row.get(book.price))
+                            .publishedAt(row.get(book.publishedAt))
+                            .createdAt(row.get(book.createdAt))
+                            .publisherId(row.get(publisher.id))
+                            .publisherName(row.get(publisher.name))
+                            .authorIds(authors.stream().map(authorRow -> authorRow.get(author.id)).toList())
+                            .authorNames(authors.stream().map(authorRow -> authorRow.get(author.name)).toList())
+                            .categoryIds(categories.stream().map(categoryRow -> categoryRow.get(category.id)).toList())
+                            .categoryNames(categories.stream().map(categoryRow -> categoryRow.get(category.name)).toList())
+                            .build();
+                })
+                .toList();
+    }
+
+    private Map<Long, List<String>> fetchAuthorNames(List<Long> bookIds) {
+        List<Tuple> rows = queryFactory
+                .select(bookAuthor.book.id, author.name)
+                .from(bookAuthor)
+                .join(bookAuthor.author, author)
+                .where(bookAuthor.book.id.in(bookIds))
+                .orderBy(bookAuthor.book.id.asc(), bookAuthor.id.asc())
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.groupingBy(row -> row.get(bookAuthor.book.id),
+                        Collectors.mapping(row -> row.get(author.name), Collectors.toList())));
+    }
+
     private JPAQuery<Long> createCountQuery(BookSearchCondition condition) {
         BooleanExpression[] predicates = createPredicates(condition);
 
@@ -114,6 +324,11 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 .select(book.countDistinct())
                 .from(book);
 
+        return joinForCondition(query, condition).where(predicates);
+    }
+
+    // 검색 조건에 필요한 연관 테이블만 조인
+    private <T> JPAQuery<T> joinForCondition(JPAQuery<T> query, BookSearchCondition condition) {
         if (needsPublisherJoin(condition)) {
             query.leftJoin(book.publisher, publisher);
         }
@@ -125,13 +340,12 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
             query.leftJoin(book.bookAuthors, bookAuthor)
                     .leftJoin(bookAuthor.author, author);
         }
-
-        return query.where(predicates);
+        return query;
     }
 
     private BooleanExpression[] createPredicates(BookSearchCondition condition) {
         return new BooleanExpression[] {
-                titleContains(condition.getKeyword()),
+                keywordMatches(condition),
                 categoryIdEq(condition.getCategoryId()),
                 authorIdEq(condition.getAuthorId()),
                 publisherIdEq(condition.getPublisherId())
@@ -150,11 +364,22 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         return StringUtils.hasText(condition.getKeyword()) || condition.getAuthorId() != null;
     }
 
-    private BooleanExpression titleContains(String keyword) {
+    private BooleanExpression keywordMatches(BookSearchCondition condition) {
+        String keyword = condition.getKeyword();
         if (!StringUtils.hasText(keyword)) {
             return null;
         }
-        return book.title.containsIgnoreCase(keyword);
+
+        // 초성/자모 검색처럼 후보가 확정된 일치 결과면 ID 조건만 사용
+        List<Long> candidateIds = condition.getKeywordCandidateIds();
+        if (candidateIds != null && condition.isKeywordCandidatesExact()) {
+            return candidateIds.isEmpty() ? Expressions.FALSE.isTrue() : book.id.in(candidateIds);
+        }
+
+        BooleanExpression contains = book.title.containsIgnoreCase(keyword);
+
+        // 색인 후보가 있으면 LIKE 비교는 후보 행에만 적용 (전체 테이블 스캔 방지)
+        return candidateIds != null && !candidateIds.isEmpty() ? book.id.in(candidateIds).and(contains) : contains;
     }
 
     private BooleanExpression categoryIdEq(Long categoryId) {
@@ -0,0 +1,71 @@
+package wsd.bookstore.book.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+/**
+ * 도서 검색 커서. 정렬 기준과 마지막 행의 정렬 키 값, ID 를 담아 Base64(URL-safe) 문자열로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String DEFAULT_PROPERTY = "createdAt";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final String lastValue;
+    private final Long lastId;
+
+    public static BookCursor first(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        if (order == null) {
+            return new BookCursor(DEFAULT_PROPERTY, Sort.Direction.DESC, null, null);
+        }
+        return new BookCursor(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 정렬 키 값(제목 등)에 구분자가 포함될 수 있으므로 마지막 필드로 두고 최대 4개로 분리
+            String[] parts = decoded.split("\\|", 4);
+            // 정렬 키 값은 조회 시 정렬 필드 타입으로 변환되므로, 변조된 값은 여기서 잘못된 입력으로 거부
+            validateValue(parts[1], parts[3]);
+            return new BookCursor(parts[1], Sort.Direction.valueOf(parts[2]), parts[3], Long.valueOf(parts[0]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "cursor=" + cursor);
+        }
+    }
+
+    public BookCursor next(String value, Long id) {
+        return new BookCursor(property, direction, value, id);
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    // BookRepositoryImpl.searchByCursor 와 같은 규칙 (title: 문자열, price: Long, 그 외: LocalDateTime)
+    private static void validateValue(String property, String value) {
+        switch (property) {
+            case "title" -> {
+            }
+            case "price" -> Long.valueOf(value);
+            default -> LocalDateTime.parse(value);
+        }
+    }
+
+    public String encode() {
+        String raw = lastId + DELIMITER + property + DELIMITER + direction.name() + DELIMITER + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,12 @@
 package wsd.bookstore.book.request;
 
+import java.util.List;
+import java.util.Locale;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.util.StringUtils;
 
 @Getter
 @Setter
@@ -13,6 +17,15 @@ public class BookSearchCondition {
     private Long categoryId;
     private Long authorId;
     private Long publisherId;
+    private SearchMode searchMode = SearchMode.TEXT;
+
+    // 검색 색인으로 미리 찾은 키워드 후보. 요청 파라미터로 바인딩되지 않도록 setter 를 두지 않음
+    @Setter(AccessLevel.NONE)
+    private List<Long> keywordCandidateIds;
+
+    // 후보가 곧 일치 결과인지 (초성/자모 검색, 또는 색인에 후보가 없어 일치 없음이 확정된 경우). 아니면 후보 안에서 키워드를 다시 비교
+    @Setter(AccessLevel.NONE)
+    private boolean keywordCandidatesExact;
 
     public BookSearchCondition(String keyword, Long categoryId, Long authorId, Long publisherId) {
         this.keyword = keyword;
@@ -20,4 +33,38 @@ public class BookSearchCondition {
         this.authorId = authorId;
         this.publisherId = publisherId;
     }
+
+    public BookSearchCondition(String keyword, Long categoryId, Long authorId, Long publisherId,
+                               SearchMode searchMode) {
+        this(keyword, categoryId, authorId, publisherId);
+        this.searchMode = searchMode;
+    }
+
+    public BookSearchCondition withKeyword(String keyword) {
+        return new BookSearchCondition(keyword, categoryId, authorId, publisherId, searchMode);
+    }
+
+    public BookSearchCondition withKeywordCandidates(List<Long> candidateIds, boolean exact) {
+        BookSearchCondition condition = new BookSearchCondition(keyword, categoryId, authorId, publisherId, searchMode);
+        condition.keywordCandidateIds = candidateIds;
+        condition.keywordCandidatesExact = exact;
+        return condition;
+    }
+
+    public boolean isHangulSearch() {
+        return searchMode == SearchMode.HANGUL && StringUtils.hasText(keyword);
+    }
+
+    // 초성/자모 검색인데 색인 후보가 담기지 않은 조건. 색인을 쓸 수 없어 일반 키워드 검색으로 처리된 경우로, 결과를 캐싱하지 않음
+    public boolean isUnresolvedHangulSearch() {
+        return isHangulSearch() && keywordCandidateIds == null;
+    }
+
+    // 검색 결과 수 캐시 키. 제목 검색은 대소문자를 구분하지 않고 빈 키워드는 조건 없음과 같으므로 같은 키로 정규화
+    public String toCacheKey() {
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : "";
+        SearchMode normalizedMode = isHangulSearch() ? SearchMode.HANGUL : SearchMode.TEXT;
+        return "c=" + categoryId + "|a=" + authorId + "|p=" + publisherId + "|m=" + normalizedMode
+                + "|k=" + normalizedKeyword;
+    }
 }
@@ -0,0 +1,20 @@
+package wsd.bookstore.book.request;
+
+import java.util.Locale;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+public enum SalesWindow {
+    ALL,
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static SalesWindow from(String value) {
+        try {
+            return SalesWindow.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "window=" + value);
+        }
+    }
+}
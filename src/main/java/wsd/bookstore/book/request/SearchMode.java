@@ -0,0 +1,10 @@
+package wsd.bookstore.book.request;
+
+/**
+ * 키워드 검색 방식. TEXT 는 제목 부분 문자열 일치(Lucene 엔진은 저자/출판사도 함께 검색),
+ * HANGUL 은 제목/저자의 초성 또는 자모 일치.
+ */
+public enum SearchMode {
+    TEXT,
+    HANGUL
+}
@@ -0,0 +1,28 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "도서 검색 패싯 응답 DTO")
+public class BookFacetResponse {
+
+    @Schema(description = "카테고리별 도서 수 (많은 순)")
+    private List<FacetCountResponse> categories;
+
+    @Schema(description = "저자별 도서 수 (많은 순)")
+    private List<FacetCountResponse> authors;
+
+    @Schema(description = "출판사별 도서 수 (많은 순)")
+    private List<FacetCountResponse> publishers;
+
+    @Schema(description = "가격대별 도서 수 (가격 오름차순)")
+    private List<PriceRangeFacetResponse> priceRanges;
+
+    public static BookFacetResponse empty() {
+        return new BookFacetResponse(List.of(), List.of(), List.of(), List.of());
+    }
+}
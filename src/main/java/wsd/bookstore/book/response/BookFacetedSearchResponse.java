@@ -0,0 +1,18 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "패싯을 포함한 도서 검색 응답 DTO")
+public class BookFacetedSearchResponse {
+
+    @Schema(description = "검색 결과 페이지")
+    private Page<BookSummaryResponse> books;
+
+    @Schema(description = "검색 결과 전체에 대한 패싯별 도서 수")
+    private BookFacetResponse facets;
+}
@@ -0,0 +1,22 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "오타 교정을 포함한 도서 검색 응답 DTO")
+public class BookFuzzySearchResponse {
+
+    @Schema(description = "검색 결과 페이지")
+    private Page<BookSummaryResponse> books;
+
+    @Schema(description = "원래 검색어의 결과가 없어 교정된 검색어로 검색한 경우 그 검색어", example = "clean code", nullable = true)
+    private String correctedKeyword;
+
+    @Schema(description = "이 검색어를 찾으셨나요? (가까운 순, 최대 3개)", example = "[\"clean code\", \"clear code\"]")
+    private List<String> didYouMean;
+}
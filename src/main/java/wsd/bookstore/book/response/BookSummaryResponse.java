@@ -1,5 +1,7 @@
 package wsd.bookstore.book.response;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.querydsl.core.annotations.QueryProjection;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -9,7 +11,7 @@ import wsd.bookstore.book.entity.Book;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Getter
-@AllArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator) // 캐시에서 복원할 때 사용할 생성자
 @Schema(description = "도서 요약 정보 응답 DTO")
 public class BookSummaryResponse {
 
@@ -34,6 +36,17 @@ public class BookSummaryResponse {
     @Schema(description = "저자 목록", example = "[\"조슈아 블로크\"]")
     private List<String> authors;
 
+    // 저자 목록은 별도 쿼리로 채우므로 요약 컬럼만 조회
+    @QueryProjection
+    public BookSummaryResponse(Long id, String isbn13, String title, Long price, LocalDateTime publishedAt,
+            String publisherName) {
+        this(id, isbn13, title, price, publishedAt, publisherName, List.of());
+    }
+
+    public BookSummaryResponse withAuthors(List<String> authors) {
+        return new BookSummaryResponse(id, isbn13, title, price, publishedAt, publisherName, authors);
+    }
+
     public static BookSummaryResponse from(Book book) {
         return new BookSummaryResponse(
                 book.getId(),
@@ -0,0 +1,20 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "패싯 값별 도서 수 응답 DTO")
+public class FacetCountResponse {
+
+    @Schema(description = "패싯 값 ID (카테고리, 저자, 출판사 ID)", example = "1")
+    private Long id;
+
+    @Schema(description = "패싯 값 이름", example = "컴퓨터/IT")
+    private String name;
+
+    @Schema(description = "검색 결과 중 해당 값을 가진 도서 수", example = "132")
+    private long count;
+}
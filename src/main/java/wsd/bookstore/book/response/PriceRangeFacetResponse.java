@@ -0,0 +1,20 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "가격대별 도서 수 응답 DTO")
+public class PriceRangeFacetResponse {
+
+    @Schema(description = "최소 가격 (포함, 없으면 하한 없음)", example = "20000")
+    private Long minPrice;
+
+    @Schema(description = "최대 가격 (미포함, 없으면 상한 없음)", example = "50000")
+    private Long maxPrice;
+
+    @Schema(description = "검색 결과 중 해당 가격대의 도서 수", example = "57")
+    private long count;
+}
@@ -0,0 +1,26 @@
+package wsd.bookstore.book.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import wsd.bookstore.book.search.Suggestion;
+import wsd.bookstore.book.search.SuggestionType;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "검색어 자동완성 응답 DTO")
+public class SuggestionResponse {
+
+    @Schema(description = "자동완성 종류 (TITLE, AUTHOR, PUBLISHER)", example = "TITLE")
+    private SuggestionType type;
+
+    @Schema(description = "종류에 따른 도서, 저자, 출판사 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "자동완성 문구", example = "클린 코드")
+    private String text;
+
+    public static SuggestionResponse from(Suggestion suggestion) {
+        return new SuggestionResponse(suggestion.type(), suggestion.id(), suggestion.text());
+    }
+}
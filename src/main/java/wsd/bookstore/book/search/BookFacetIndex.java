@@ -0,0 +1,316 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.FacetCountResponse;
+import wsd.bookstore.book.response.PriceRangeFacetResponse;
+
+/**
+ * 도서 검색 패싯(카테고리, 저자, 출판사, 가격대) 집계용 메모리 비트맵 색인.
+ * 패싯 값마다 해당 도서 ID 의 압축 비트맵(Roaring)을 두고, 검색 결과 ID 비트맵과의 교집합 크기로 개수를 센다.
+ * 검색 색인과 달리 도서 변경 시 이전 값에서 빼고 새 값에 더하므로 이 노드에 반영된 변경까지는 카탈로그와 일치한다.
+ * 반영에 실패한 변경은 CatalogSearchIndexer 의 점검 주기 재색인으로, 다른 노드에서 전달받지 못한 변경은 매일 재색인으로 보정된다.
+ */
+@Slf4j
+@Component
+public class BookFacetIndex {
+
+    // 패싯별로 반환할 최대 값 수
+    private static final int FACET_SIZE = 10;
+
+    // 가격대 경계 (원). 구간은 [하한, 상한)
+    private static final long[] PRICE_BOUNDARIES = {20_000L, 50_000L, 100_000L, 150_000L};
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Facets facets;
+
+    // 재색인 도중 들어온 변경분 (빈 Optional 은 삭제). 새 색인으로 교체할 때 다시 적용
+    private Map<Integer, Optional<BookSearchDocument>> rebuildDelta;
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return facets != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리, 저자, 출판사 ID 조건을 모두 만족하는 도서 비트맵을 반환한다. null 인 조건은 무시한다.
+     */
+    public RoaringBitmap matchFilters(Long categoryId, Long authorId, Long publisherId) {
+        lock.readLock().lock();
+        try {
+            if (facets == null) {
+                return new RoaringBitmap();
+            }
+
+            RoaringBitmap matches = facets.books.clone();
+            if (categoryId != null) {
+                matches.and(facets.categories.bitmap(categoryId));
+            }
+            if (authorId != null) {
+                matches.and(facets.authors.bitmap(authorId));
+            }
+            if (publisherId != null) {
+                matches.and(facets.publishers.bitmap(publisherId));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 도서 비트맵에 대해 패싯별로 도서 수가 많은 값부터 센다. 색인이 준비되지 않았으면 빈 패싯을 반환한다.
+     */
+    public BookFacetResponse count(RoaringBitmap matches) {
+        lock.readLock().lock();
+        try {
+            if (facets == null) {
+                return BookFacetResponse.empty();
+            }
+
+            // 삭제된 도서가 섞여 있어도 집계되지 않도록 현재 카탈로그로 한정
+            RoaringBitmap live = RoaringBitmap.and(matches, facets.books);
+            if (live.isEmpty()) {
+                return BookFacetResponse.empty();
+            }
+
+            return new BookFacetResponse(
+                    facets.categories.count(live),
+                    facets.authors.count(live),
+                    facets.publishers.count(live),
+                    countPriceRanges(live));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(BookSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (facets != null) {
+                facets.put(document);
+            }
+            if (rebuildDelta != null) {
+                rebuildDelta.put(Math.toIntExact(document.getBookId()), Optional.of(document));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            if (facets != null) {
+                facets.remove(Math.toIntExact(bookId));
+            }
+            if (rebuildDelta != null) {
+                rebuildDelta.put(Math.toIntExact(bookId), Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * loader 가 전달하는 문서로 새 색인을 만든 뒤 교체하고 색인한 문서 수를 반환한다. 조회는 교체 전까지 기존 색인을 사용한다.
+     */
+    public int rebuild(Consumer<Consumer<BookSearchDocument>> loader) {
+        lock.writeLock().lock();
+        try {
+            rebuildDelta = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Facets rebuilt = new Facets();
+        try {
+            loader.accept(rebuilt::put);
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+
+        for (RoaringBitmap bitmap : rebuilt.allBitmaps()) {
+            bitmap.runOptimize();
+        }
+        int documentCount = rebuilt.books.getCardinality();
+        finishRebuild(rebuilt);
+        log.info("도서 패싯 색인 구성 완료: documents={}", documentCount);
+        return documentCount;
+    }
+
+    private void finishRebuild(Facets rebuilt) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                rebuildDelta.forEach((bookId, document) -> {
+                    if (document.isPresent()) {
+                        rebuilt.put(document.get());
+                    } else {
+                        rebuilt.remove(bookId);
+                    }
+                });
+                facets = rebuilt;
+            }
+            rebuildDelta = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<PriceRangeFacetResponse> countPriceRanges(RoaringBitmap matches) {
+        List<PriceRangeFacetResponse> ranges = new ArrayList<>();
+        for (int i = 0; i < facets.priceRanges.length; i++) {
+            long count = RoaringBitmap.andCardinality(facets.priceRanges[i], matches);
+            if (count > 0) {
+                Long minPrice = i > 0 ? PRICE_BOUNDARIES[i - 1] : null;
+                Long maxPrice = i < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i] : null;
+                ranges.add(new PriceRangeFacetResponse(minPrice, maxPrice, count));
+            }
+        }
+        return ranges;
+    }
+
+    private static int priceRangeOf(Long price) {
+        if (price == null) {
+            return -1;
+        }
+        int range = 0;
+        while (range < PRICE_BOUNDARIES.length && price >= PRICE_BOUNDARIES[range]) {
+            range++;
+        }
+        return range;
+    }
+
+    private static final class Facets {
+
+        private final RoaringBitmap books = new RoaringBitmap();
+        private final FacetField categories = new FacetField();
+        private final FacetField authors = new FacetField();
+        private final FacetField publishers = new FacetField();
+        private final RoaringBitmap[] priceRanges = new RoaringBitmap[PRICE_BOUNDARIES.length + 1];
+
+        // 수정/삭제 시 이전 값의 비트맵에서 빼기 위해 도서별 패싯 값을 보관
+        private final Map<Integer, Entry> entries = new HashMap<>();
+
+        private Facets() {
+            for (int i = 0; i < priceRanges.length; i++) {
+                priceRanges[i] = new RoaringBitmap();
+            }
+        }
+
+        private void put(BookSearchDocument document) {
+            int bookId = Math.toIntExact(document.getBookId());
+            remove(bookId);
+
+            Entry entry = new Entry(document.getCategoryIds(), document.getAuthorIds(), document.getPublisherId(),
+                    priceRangeOf(document.getPrice()));
+            entries.put(bookId, entry);
+            books.add(bookId);
+
+            categories.add(bookId, document.getCategoryIds(), document.getCategoryNames());
+            authors.add(bookId, document.getAuthorIds(), document.getAuthorNames());
+            if (entry.publisherId() != null) {
+                publishers.add(bookId, List.of(entry.publisherId()), List.of(document.getPublisherName()));
+            }
+            if (entry.priceRange() >= 0) {
+                priceRanges[entry.priceRange()].add(bookId);
+            }
+        }
+
+        private void remove(int bookId) {
+            Entry entry = entries.remove(bookId);
+            if (entry == null) {
+                return;
+            }
+
+            books.remove(bookId);
+            categories.remove(bookId, entry.categoryIds());
+            authors.remove(bookId, entry.authorIds());
+            if (entry.publisherId() != null) {
+                publishers.remove(bookId, List.of(entry.publisherId()));
+            }
+            if (entry.priceRange() >= 0) {
+                priceRanges[entry.priceRange()].remove(bookId);
+            }
+        }
+
+        private List<RoaringBitmap> allBitmaps() {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(List.of(priceRanges));
+            bitmaps.add(books);
+            bitmaps.addAll(categories.bitmaps.values());
+            bitmaps.addAll(authors.bitmaps.values());
+            bitmaps.addAll(publishers.bitmaps.values());
+            return bitmaps;
+        }
+    }
+
+    private record Entry(List<Long> categoryIds, List<Long> authorIds, Long publisherId, int priceRange) {
+    }
+
+    private static final class FacetField {
+
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+
+        private RoaringBitmap bitmap(Long valueId) {
+            return bitmaps.getOrDefault(valueId, EMPTY);
+        }
+
+        private void add(int bookId, List<Long> valueIds, List<String> valueNames) {
+            for (int i = 0; i < valueIds.size(); i++) {
+                Long valueId = valueIds.get(i);
+                bitmaps.computeIfAbsent(valueId, key -> new RoaringBitmap()).add(bookId);
+                if (i < valueNames.size() && valueNames.get(i) != null) {
+                    names.put(valueId, valueNames.get(i));
+                }
+            }
+        }
+
+        private void remove(int bookId, List<Long> valueIds) {
+            for (Long valueId : valueIds) {
+                RoaringBitmap bitmap = bitmaps.get(valueId);
+                if (bitmap != null) {
+                    bitmap.remove(bookId);
+                    if (bitmap.isEmpty()) {
+                        bitmaps.remove(valueId);
+                        names.remove(valueId);
+                    }
+                }
+            }
+        }
+
+        // 값별 비트맵과 검색 결과 비트맵의 교집합 크기만 계산 (교집합 비트맵은 만들지 않음)
+        private List<FacetCountResponse> count(RoaringBitmap matches) {
+            List<FacetCountResponse> counts = new ArrayList<>();
+            bitmaps.forEach((valueId, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(bitmap, matches);
+                if (count > 0) {
+                    counts.add(new FacetCountResponse(valueId, names.get(valueId), count));
+                }
+            });
+            counts.sort(Comparator.comparingLong(FacetCountResponse::getCount).reversed()
+                    .thenComparing(FacetCountResponse::getId));
+            return counts.size() > FACET_SIZE ? counts.subList(0, FACET_SIZE) : counts;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package wsd.bookstore.book.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 색인 대상 도서 문서 (키워드 필드, 필터/패싯용 연관 ID 와 이름, 정렬 키).
+ */
+@Getter
+@Builder
+public class BookSearchDocument {
+
+    private final Long bookId;
+    private final String title;
+    private final Long price;
+    private final LocalDateTime publishedAt;
+    private final LocalDateTime createdAt;
+    private final Long publisherId;
+    private final String publisherName;
+    @Builder.Default
+    private final List<Long> authorIds = List.of();
+    @Builder.Default
+    private final List<String> authorNames = List.of();
+    @Builder.Default
+    private final List<Long> categoryIds = List.of();
+    @Builder.Default
+    private final List<String> categoryNames = List.of();
+}
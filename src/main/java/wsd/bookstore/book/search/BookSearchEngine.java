@@ -0,0 +1,30 @@
+package wsd.bookstore.book.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookSummaryResponse;
+
+/**
+ * 도서 검색 엔진. app.search.engine 설정(querydsl, lucene)에 따라 구현체 하나가 등록된다.
+ */
+public interface BookSearchEngine {
+
+    Page<BookSummaryResponse> search(BookSearchCondition condition, Pageable pageable);
+
+    Slice<BookSummaryResponse> searchSlice(BookSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 결과 전체에 대한 카테고리, 저자, 출판사, 가격대별 도서 수를 센다.
+     */
+    BookFacetResponse countFacets(BookSearchCondition condition);
+
+    /**
+     * books 테이블 전체로 검색 색인을 다시 만든다.
+     *
+     * @return 색인한 도서 수
+     */
+    long reindex();
+}
@@ -0,0 +1,73 @@
+package wsd.bookstore.book.search;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.common.redis.RedisService;
+
+/**
+ * 카탈로그 변경을 다른 노드에 전달한다.
+ * 검색 색인은 노드마다 메모리에 있으므로, 커밋된 변경의 도서 ID 를 Redis 채널로 보내고
+ * 받은 노드는 같은 도서에 대한 CatalogChangedEvent(remote) 를 발행해 자신의 색인에 반영한다.
+ * 구독이 끊긴 동안의 메시지는 유실되며 정기 재색인으로 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "catalog:changed";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isRemote() || event.getBookIds().isEmpty()) {
+            return;
+        }
+        try {
+            redisService.publish(CHANNEL, nodeId + "|" + event.getBookIds().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            // 알림을 못 받은 노드의 색인은 다음 재색인 전까지 이 변경을 모름
+            log.warn("카탈로그 변경 알림 전송 실패: size={}", event.getBookIds().size(), e);
+        }
+    }
+
+    // 자신이 보낸 메시지도 구독으로 돌아오므로 노드 ID 로 걸러냄
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length < 2 || parts[0].equals(nodeId) || parts[1].isEmpty()) {
+            return;
+        }
+
+        List<Long> bookIds = Arrays.stream(parts[1].split(","))
+                .map(Long::valueOf)
+                .toList();
+        eventPublisher.publishEvent(new CatalogChangedEvent(bookIds, true));
+    }
+}
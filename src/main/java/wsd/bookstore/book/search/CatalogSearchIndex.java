@@ -0,0 +1,312 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목에 대한 메모리 역색인 (토큰 → 정렬된 도서 ID 배열). SQL 키워드 검색이 제목만 비교하므로 제목만 색인한다.
+ * 검색어를 포함하는 토큰들의 ID 를 후보로 돌려주며, 최종 일치 여부는 호출하는 쪽(SQL)에서 다시 확인한다.
+ * 그래서 수정/삭제 시 이전 토큰을 지우지 않고 새 토큰만 추가하며, 남은 항목은 정기 재색인 때 정리된다.
+ * 후보는 이 노드에 반영된 변경까지만 상위 집합이며, 호출하는 쪽은 빈 후보를 일치 없음으로 처리한다.
+ * 반영에 실패한 뒤에는 일치 도서가 빠질 수 있으므로 재색인 전까지 후보를 내주지 않아 전체 검색으로 처리되게 한다.
+ */
+@Slf4j
+@Component
+public class CatalogSearchIndex {
+
+    // 재색인 이후 추가된 토큰은 조회마다 순회하므로 이보다 많아지면 재색인으로 본 색인에 합침
+    private static final int MAX_DELTA_TERMS = 10_000;
+
+    private volatile Snapshot snapshot;
+
+    // 재색인 도중 들어온 변경분 (새 스냅샷에 그대로 이어 붙임)
+    private Map<String, Set<Integer>> rebuildDelta;
+
+    // 변경 반영에 실패해 후보를 신뢰할 수 없는 상태. 재색인 도중 표시되면 재색인 후에도 유지
+    private volatile boolean stale;
+    private boolean staleDuringRebuild;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 도서 ID 를 오름차순으로 반환한다.
+     * 색인이 준비되지 않았거나 변경 반영에 실패했거나 후보가 limit 를 넘으면 빈 Optional 을 반환하며,
+     * 이 경우 호출하는 쪽은 전체 검색을 수행한다. 빈 목록은 일치하는 도서가 없다는 뜻이다.
+     */
+    public Optional<List<Long>> findCandidateIds(String keyword, int limit) {
+        Snapshot current = snapshot;
+        List<String> words = tokenize(keyword);
+        if (current == null || stale || words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 긴 단어일수록 후보가 적으므로 먼저 좁힘
+        words.sort(Comparator.comparingInt(String::length).reversed());
+
+        BitSet candidates = null;
+        for (String word : words) {
+            candidates = current.match(word, candidates);
+            if (candidates.isEmpty()) {
+                return Optional.of(List.of());
+            }
+        }
+
+        if (candidates.cardinality() > limit) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.stream().mapToObj(id -> (long) id).toList());
+    }
+
+    public boolean needsCompaction() {
+        Snapshot current = snapshot;
+        return current != null && current.delta.size() > MAX_DELTA_TERMS;
+    }
+
+    public synchronized void markStale() {
+        stale = true;
+        if (rebuildDelta != null) {
+            staleDuringRebuild = true;
+        }
+    }
+
+    public synchronized void add(BookSearchDocument document) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        int bookId = Math.toIntExact(document.getBookId());
+        for (String token : tokenize(document)) {
+            current.delta.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(bookId);
+            if (rebuildDelta != null) {
+                rebuildDelta.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(bookId);
+            }
+        }
+    }
+
+    /**
+     * loader 가 전달하는 문서로 새 색인을 만든 뒤 교체하고 색인한 문서 수를 반환한다. 조회는 교체 전까지 기존 색인을 사용한다.
+     */
+    public int rebuild(Consumer<Consumer<BookSearchDocument>> loader) {
+        Map<String, Set<Integer>> delta = startRebuild();
+        Map<String, IntArrayBuilder> postings = new HashMap<>();
+        int[] documentCount = {0};
+
+        try {
+            loader.accept(document -> {
+                int bookId = Math.toIntExact(document.getBookId());
+                for (String token : tokenize(document)) {
+                    postings.computeIfAbsent(token, key -> new IntArrayBuilder()).add(bookId);
+                }
+                documentCount[0]++;
+            });
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+
+        String[] terms = new String[postings.size()];
+        int[][] ids = new int[postings.size()][];
+        int index = 0;
+        for (Map.Entry<String, IntArrayBuilder> entry : postings.entrySet()) {
+            terms[index] = entry.getKey();
+            ids[index] = entry.getValue().toArray();
+            index++;
+        }
+
+        finishRebuild(new Snapshot(terms, ids, delta));
+        log.info("카탈로그 검색 색인 구성 완료: documents={}, terms={}", documentCount[0], terms.length);
+        return documentCount[0];
+    }
+
+    private synchronized Map<String, Set<Integer>> startRebuild() {
+        rebuildDelta = new ConcurrentHashMap<>();
+        staleDuringRebuild = false;
+        return rebuildDelta;
+    }
+
+    private synchronized void finishRebuild(Snapshot rebuilt) {
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            stale = staleDuringRebuild;
+        }
+        rebuildDelta = null;
+    }
+
+    private static Set<String> tokenize(BookSearchDocument document) {
+        return new LinkedHashSet<>(tokenize(document.getTitle()));
+    }
+
+    // SQL 의 LOWER(...) LIKE 비교와 같도록 소문자로 정규화하고 공백으로만 분리
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Snapshot {
+
+        private final String[] terms;
+        private final int[][] postings;
+        // 모든 토큰의 모든 접미사를 사전순으로 정렬한 배열 (상위 32비트: 토큰 번호, 하위 32비트: 시작 위치)
+        private final long[] suffixes;
+        private final Map<String, Set<Integer>> delta;
+
+        private Snapshot(String[] terms, int[][] postings, Map<String, Set<Integer>> delta) {
+            this.terms = terms;
+            this.postings = postings;
+            this.suffixes = sortedSuffixes(terms);
+            this.delta = delta;
+        }
+
+        // 단어를 부분 문자열로 포함하는 모든 토큰의 ID (within 이 있으면 그 안에서만)
+        // 단어로 시작하는 접미사는 정렬된 배열에서 연속되므로 이진 탐색으로 첫 위치를 찾은 뒤 그 구간만 읽음
+        private BitSet match(String word, BitSet within) {
+            BitSet hits = new BitSet();
+            BitSet matchedTerms = new BitSet();
+            for (int i = lowerBound(word); i < suffixes.length; i++) {
+                int termIndex = (int) (suffixes[i] >>> 32);
+                if (!terms[termIndex].startsWith(word, (int) suffixes[i])) {
+                    break;
+                }
+                if (matchedTerms.get(termIndex)) {
+                    continue;
+                }
+                matchedTerms.set(termIndex);
+                for (int bookId : postings[termIndex]) {
+                    if (within == null || within.get(bookId)) {
+                        hits.set(bookId);
+                    }
+                }
+            }
+            // 마지막 재색인 이후 추가된 토큰만 순회 (크기가 커지면 재색인으로 본 색인에 합침)
+            delta.forEach((term, bookIds) -> {
+                if (term.contains(word)) {
+                    bookIds.forEach(bookId -> {
+                        if (within == null || within.get(bookId)) {
+                            hits.set(bookId);
+                        }
+                    });
+                }
+            });
+            return hits;
+        }
+
+        private int lowerBound(String word) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareSuffix(terms, suffixes[mid], word) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long[] sortedSuffixes(String[] terms) {
+            int count = 0;
+            for (String term : terms) {
+                count += term.length();
+            }
+
+            long[] suffixes = new long[count];
+            int index = 0;
+            for (int termIndex = 0; termIndex < terms.length; termIndex++) {
+                for (int offset = 0; offset < terms[termIndex].length(); offset++) {
+                    suffixes[index++] = ((long) termIndex << 32) | offset;
+                }
+            }
+            sort(terms, suffixes, new long[count], 0, count);
+            return suffixes;
+        }
+
+        // 접미사 문자열을 만들지 않고 비교하기 위한 병합 정렬
+        private static void sort(String[] terms, long[] suffixes, long[] buffer, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            sort(terms, suffixes, buffer, from, mid);
+            sort(terms, suffixes, buffer, mid, to);
+            if (compareSuffixes(terms, suffixes[mid - 1], suffixes[mid]) <= 0) {
+                return;
+            }
+
+            System.arraycopy(suffixes, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && compareSuffixes(terms, buffer[left], buffer[right]) <= 0)) {
+                    suffixes[i] = buffer[left++];
+                } else {
+                    suffixes[i] = buffer[right++];
+                }
+            }
+        }
+
+        private static int compareSuffixes(String[] terms, long left, long right) {
+            return compareSuffix(terms, left, terms[(int) (right >>> 32)], (int) right);
+        }
+
+        private static int compareSuffix(String[] terms, long suffix, String word) {
+            return compareSuffix(terms, suffix, word, 0);
+        }
+
+        private static int compareSuffix(String[] terms, long suffix, String other, int otherOffset) {
+            String term = terms[(int) (suffix >>> 32)];
+            int offset = (int) suffix;
+            int length = Math.min(term.length() - offset, other.length() - otherOffset);
+            for (int i = 0; i < length; i++) {
+                int diff = term.charAt(offset + i) - other.charAt(otherOffset + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return (term.length() - offset) - (other.length() - otherOffset);
+        }
+    }
+
+    private static final class IntArrayBuilder {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
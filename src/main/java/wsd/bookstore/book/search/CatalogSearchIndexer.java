@@ -0,0 +1,123 @@
+package wsd.bookstore.book.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
+
+/**
+ * 카탈로그 검색 색인, 초성/자모 검색 색인, 오타 교정 사전, 패싯 색인 적재.
+ * 기동 시 books 테이블을 ID 순으로 나눠 읽어 네 색인을 함께 만들고, 카탈로그 변경 이벤트(다른 노드에서 전달된 변경 포함)마다
+ * 영향받은 도서를 다시 읽어 반영한다. 저자/출판사 이름 변경이나 삭제로 검색 색인에 남은 항목은 매일 재색인으로 정리한다.
+ * 반영이나 재색인에 실패하면 색인이 카탈로그와 어긋나므로 다음 점검 주기에 전체 재색인을 다시 수행하며,
+ * 재색인 이후 추가된 토큰이 많이 쌓여 조회가 느려질 때도 점검 주기에 재색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSearchIndexer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final SpellingIndex spellingIndex;
+    private final BookFacetIndex bookFacetIndex;
+    private final BookRepository bookRepository;
+
+    private volatile boolean repairNeeded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.search.index-rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            reindex();
+        } catch (RuntimeException e) {
+            repairNeeded = true;
+            log.warn("카탈로그 검색 색인 구성 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.index-repair-interval-ms:60000}")
+    public void repair() {
+        if (!repairNeeded && !catalogSearchIndex.needsCompaction()) {
+            return;
+        }
+        // 재색인 도중 다시 실패하면 플래그가 다시 세워지도록 먼저 내림
+        repairNeeded = false;
+        rebuild();
+    }
+
+    // books 테이블은 한 번만 읽고 각 문서를 네 색인에 함께 전달
+    public int reindex() {
+        return catalogSearchIndex.rebuild(searchSink -> hangulSearchIndex.rebuild(hangulSink ->
+                spellingIndex.rebuild(spellingSink -> bookFacetIndex.rebuild(facetSink -> loadAll(document -> {
+                    searchSink.accept(document);
+                    hangulSink.accept(document);
+                    spellingSink.accept(document);
+                    facetSink.accept(document);
+                })))));
+    }
+
+    // 커밋 이후 실행되므로 실패해도 도서 변경에는 영향을 주지 않음 (정기 재색인으로 보정)
+    // 다른 노드에서 전달된 변경은 트랜잭션 밖에서 발행되므로 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        List<Long> bookIds = event.getBookIds();
+        for (int from = 0; from < bookIds.size(); from += BATCH_SIZE) {
+            apply(bookIds.subList(from, Math.min(from + BATCH_SIZE, bookIds.size())));
+        }
+    }
+
+    private void apply(List<Long> bookIds) {
+        try {
+            List<BookSearchDocument> documents = bookRepository.findSearchDocumentsByIds(bookIds);
+            Set<Long> foundIds = documents.stream()
+                    .map(BookSearchDocument::getBookId)
+                    .collect(Collectors.toSet());
+            bookIds.stream()
+                    .filter(bookId -> !foundIds.contains(bookId))
+                    .forEach(bookId -> {
+                        hangulSearchIndex.remove(bookId);
+                        bookFacetIndex.remove(bookId);
+                    });
+            documents.forEach(document -> {
+                catalogSearchIndex.add(document);
+                hangulSearchIndex.put(document);
+                spellingIndex.add(document);
+                bookFacetIndex.put(document);
+            });
+        } catch (RuntimeException e) {
+            // 빠진 도서가 후보에서 누락되지 않도록 다음 재색인 전까지 색인 후보를 쓰지 않음
+            catalogSearchIndex.markStale();
+            hangulSearchIndex.markStale();
+            repairNeeded = true;
+            log.warn("카탈로그 검색 색인 반영 실패: size={}", bookIds.size(), e);
+        }
+    }
+
+    private void loadAll(Consumer<BookSearchDocument> sink) {
+        Long lastId = null;
+        List<BookSearchDocument> batch;
+        do {
+            batch = bookRepository.findSearchDocuments(lastId, BATCH_SIZE);
+            batch.forEach(sink);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getBookId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
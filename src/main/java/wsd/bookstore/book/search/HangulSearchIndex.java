@@ -0,0 +1,262 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목, 저자 이름의 초성/자모 검색 색인.
+ * 색인 시점에 각 필드를 초성 시퀀스와 자모 시퀀스(공백 제거)로 분해하고, 단어 시작 위치부터의 접미사를 정렬된 배열로 보관한다.
+ * 검색어는 같은 방식으로 분해한 뒤 이진 탐색으로 접두사가 일치하는 구간을 찾으므로 조회 시 행마다 분해하지 않는다.
+ * ("ㅋㄹㅋㄷ" → "클린 코드", "클ㄹ" → "클린 코드", "ㅋㄷ" → "클린 코드")
+ * 도서 변경분은 다음 재색인 전까지 변경분 맵에서 직접 비교한다.
+ */
+@Slf4j
+@Component
+public class HangulSearchIndex {
+
+    private volatile Snapshot snapshot;
+
+    // 재색인 도중 들어온 변경분 (새 스냅샷에 그대로 이어 붙임)
+    private Map<Long, List<DecomposedField>> rebuildDelta;
+
+    // 변경 반영에 실패해 결과를 신뢰할 수 없는 상태. 재색인 도중 표시되면 재색인 후에도 유지
+    private volatile boolean stale;
+    private boolean staleDuringRebuild;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    // findBookIds 가 결과를 내줄 수 있는 상태인지 (준비되었고 변경 반영에 실패하지 않음)
+    public boolean isAvailable() {
+        return snapshot != null && !stale;
+    }
+
+    /**
+     * 키워드와 초성 또는 자모가 일치하는 도서 ID 를 오름차순으로 반환한다.
+     * 색인이 준비되지 않았거나 변경 반영에 실패했으면 빈 Optional 을 반환한다.
+     */
+    public Optional<List<Long>> findBookIds(String keyword) {
+        Snapshot current = snapshot;
+        if (current == null || stale || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        boolean chosungQuery = HangulDecomposer.isChosungQuery(keyword);
+        String query = chosungQuery ? HangulDecomposer.chosung(keyword) : HangulDecomposer.jamo(keyword);
+
+        BitSet matches = new BitSet();
+        (chosungQuery ? current.chosungKeys : current.jamoKeys).collect(query, matches);
+
+        // 스냅샷 이후 변경된 도서는 스냅샷 결과 대신 변경분으로 판단
+        current.delta.forEach((bookId, fields) -> {
+            boolean matched = fields.stream().anyMatch(field -> chosungQuery
+                    ? field.chosung().matches(query)
+                    : field.jamo().matches(query));
+            matches.set(Math.toIntExact(bookId), matched);
+        });
+
+        return Optional.of(matches.stream().mapToObj(bookId -> (long) bookId).toList());
+    }
+
+    public synchronized void markStale() {
+        stale = true;
+        if (rebuildDelta != null) {
+            staleDuringRebuild = true;
+        }
+    }
+
+    public synchronized void put(BookSearchDocument document) {
+        putDelta(document.getBookId(), decompose(document));
+    }
+
+    public synchronized void remove(Long bookId) {
+        putDelta(bookId, List.of());
+    }
+
+    /**
+     * loader 가 전달하는 문서로 새 색인을 만든 뒤 교체하고 색인한 문서 수를 반환한다. 조회는 교체 전까지 기존 색인을 사용한다.
+     */
+    public int rebuild(Consumer<Consumer<BookSearchDocument>> loader) {
+        Map<Long, List<DecomposedField>> delta = startRebuild();
+        List<Long> owners = new ArrayList<>();
+        List<DecomposedField> fields = new ArrayList<>();
+        int[] documentCount = {0};
+
+        try {
+            loader.accept(document -> {
+                for (DecomposedField field : decompose(document)) {
+                    owners.add(document.getBookId());
+                    fields.add(field);
+                }
+                documentCount[0]++;
+            });
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+
+        long[] fieldOwners = owners.stream().mapToLong(Long::longValue).toArray();
+        Snapshot rebuilt = new Snapshot(
+                KeyArray.build(fieldOwners, fields, DecomposedField::chosung),
+                KeyArray.build(fieldOwners, fields, DecomposedField::jamo),
+                delta);
+        finishRebuild(rebuilt);
+        log.info("초성/자모 검색 색인 구성 완료: documents={}, fields={}", documentCount[0], fields.size());
+        return documentCount[0];
+    }
+
+    private void putDelta(Long bookId, List<DecomposedField> fields) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.delta.put(bookId, fields);
+        }
+        if (rebuildDelta != null) {
+            rebuildDelta.put(bookId, fields);
+        }
+    }
+
+    private synchronized Map<Long, List<DecomposedField>> startRebuild() {
+        rebuildDelta = new ConcurrentHashMap<>();
+        staleDuringRebuild = false;
+        return rebuildDelta;
+    }
+
+    private synchronized void finishRebuild(Snapshot rebuilt) {
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            stale = staleDuringRebuild;
+        }
+        rebuildDelta = null;
+    }
+
+    private static List<DecomposedField> decompose(BookSearchDocument document) {
+        List<DecomposedField> fields = new ArrayList<>();
+        if (document.getTitle() != null) {
+            fields.add(DecomposedField.of(document.getTitle()));
+        }
+        document.getAuthorNames().forEach(name -> fields.add(DecomposedField.of(name)));
+        return fields;
+    }
+
+    private record Snapshot(KeyArray chosungKeys, KeyArray jamoKeys, Map<Long, List<DecomposedField>> delta) {
+    }
+
+    /**
+     * 분해한 시퀀스와 단어 시작 위치. 검색어는 단어 시작 위치부터 시작해 여러 단어에 걸쳐 일치할 수 있다.
+     */
+    private record DecomposedText(String text, int[] wordStarts) {
+
+        private boolean matches(String query) {
+            for (int wordStart : wordStarts) {
+                if (text.startsWith(query, wordStart)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record DecomposedField(DecomposedText chosung, DecomposedText jamo) {
+
+        private static DecomposedField of(String text) {
+            String[] words = text.trim().split("\\s+");
+            StringBuilder chosung = new StringBuilder();
+            StringBuilder jamo = new StringBuilder();
+            int[] chosungStarts = new int[words.length];
+            int[] jamoStarts = new int[words.length];
+            for (int i = 0; i < words.length; i++) {
+                chosungStarts[i] = chosung.length();
+                jamoStarts[i] = jamo.length();
+                chosung.append(HangulDecomposer.chosung(words[i]));
+                jamo.append(HangulDecomposer.jamo(words[i]));
+            }
+            return new DecomposedField(new DecomposedText(chosung.toString(), chosungStarts),
+                    new DecomposedText(jamo.toString(), jamoStarts));
+        }
+    }
+
+    /**
+     * 모든 필드의 단어 시작 접미사를 정렬한 배열. 키 i 는 texts[keyFields[i]] 의 keyOffsets[i] 위치부터 끝까지다.
+     */
+    private static final class KeyArray {
+
+        private final String[] texts;
+        private final long[] fieldOwners;
+        private final int[] keyFields;
+        private final int[] keyOffsets;
+
+        private KeyArray(String[] texts, long[] fieldOwners, int[] keyFields, int[] keyOffsets) {
+            this.texts = texts;
+            this.fieldOwners = fieldOwners;
+            this.keyFields = keyFields;
+            this.keyOffsets = keyOffsets;
+        }
+
+        private static KeyArray build(long[] fieldOwners, List<DecomposedField> fields,
+                                      Function<DecomposedField, DecomposedText> sequence) {
+            String[] texts = new String[fields.size()];
+            List<long[]> keys = new ArrayList<>();
+            for (int field = 0; field < fields.size(); field++) {
+                DecomposedText decomposed = sequence.apply(fields.get(field));
+                texts[field] = decomposed.text();
+                for (int wordStart : decomposed.wordStarts()) {
+                    if (wordStart < texts[field].length()) {
+                        keys.add(new long[] {field, wordStart});
+                    }
+                }
+            }
+            keys.sort((left, right) -> compareSuffix(texts[(int) left[0]], (int) left[1],
+                    texts[(int) right[0]], (int) right[1]));
+
+            int[] keyFields = new int[keys.size()];
+            int[] keyOffsets = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                keyFields[i] = (int) keys.get(i)[0];
+                keyOffsets[i] = (int) keys.get(i)[1];
+            }
+            return new KeyArray(texts, fieldOwners, keyFields, keyOffsets);
+        }
+
+        private void collect(String query, BitSet matches) {
+            int low = 0;
+            int high = keyFields.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareSuffix(texts[keyFields[mid]], keyOffsets[mid], query, 0) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            for (int key = low; key < keyFields.length; key++) {
+                if (!texts[keyFields[key]].startsWith(query, keyOffsets[key])) {
+                    break;
+                }
+                matches.set(Math.toIntExact(fieldOwners[keyFields[key]]));
+            }
+        }
+
+        private static int compareSuffix(String left, int leftOffset, String right, int rightOffset) {
+            int leftLength = left.length() - leftOffset;
+            int rightLength = right.length() - rightOffset;
+            int length = Math.min(leftLength, rightLength);
+            for (int i = 0; i < length; i++) {
+                int diff = left.charAt(leftOffset + i) - right.charAt(rightOffset + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return leftLength - rightLength;
+        }
+    }
+}
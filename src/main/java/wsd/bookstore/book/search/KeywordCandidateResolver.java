@@ -0,0 +1,52 @@
+package wsd.bookstore.book.search;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+/**
+ * 검색 조건의 키워드를 메모리 색인으로 미리 풀어 후보 도서 ID 를 조건에 담는다.
+ * 저장소는 색인을 모르고 조건에 담긴 후보만 사용한다. 색인이 준비되지 않았거나 신뢰할 수 없거나 후보가 너무 많을 때만
+ * 키워드 LIKE 비교로 전체 검색하며, 준비된 색인에서 후보가 없으면 일치 없음으로 확정한다.
+ * 초성/자모 검색은 LIKE 로 대신할 수 없으므로 일치 도서가 상한을 넘으면 더 구체적인 검색어를 요구한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordCandidateResolver {
+
+    // 색인 후보가 이보다 많으면 IN 조건이 오히려 느려지므로 일반 검색으로 처리 (초성/자모 검색은 거부)
+    static final int MAX_KEYWORD_CANDIDATES = 1000;
+
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final HangulSearchIndex hangulSearchIndex;
+
+    public BookSearchCondition resolve(BookSearchCondition condition) {
+        String keyword = condition.getKeyword();
+        if (!StringUtils.hasText(keyword)) {
+            return condition;
+        }
+
+        // 초성/자모 일치는 색인에서 바로 확정되므로 후보를 그대로 결과로 사용
+        // 색인이 준비되기 전이거나 변경 반영에 실패해 다시 색인하기 전에는 일반 키워드 검색으로 처리
+        if (condition.isHangulSearch()) {
+            Optional<List<Long>> bookIds = hangulSearchIndex.findBookIds(keyword);
+            if (bookIds.isPresent()) {
+                if (bookIds.get().size() > MAX_KEYWORD_CANDIDATES) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT,
+                            "keyword=" + keyword + ", matches=" + bookIds.get().size());
+                }
+                return condition.withKeywordCandidates(bookIds.get(), true);
+            }
+        }
+
+        // 준비된 색인의 빈 후보는 일치 없음으로 확정 (전체 LIKE 검색으로 되돌아가지 않음)
+        return catalogSearchIndex.findCandidateIds(keyword, MAX_KEYWORD_CANDIDATES)
+                .map(candidateIds -> condition.withKeywordCandidates(candidateIds, candidateIds.isEmpty()))
+                .orElse(condition);
+    }
+}
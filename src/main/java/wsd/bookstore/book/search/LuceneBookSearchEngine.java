@@ -0,0 +1,555 @@
+package wsd.bookstore.book.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.service.CatalogVersionService;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+/**
+ * 내장 Lucene(MMapDirectory) 기반 검색 엔진.
+ * 제목/저자/출판사 관련도 순위, 큰따옴표 구문 검색, 카테고리/저자/출판사 ID 필터를 지원하며,
+ * 색인 변경은 near-real-time 으로 주기적으로 검색기에 반영하고 커밋은 더 긴 주기로 수행한다.
+ * 전체 재색인 시점의 카탈로그 버전을 커밋 데이터에 남겨, 기동 시 버전이 다르면(꺼져 있던 동안의 변경이나
+ * 전달받지 못한 변경이 있을 수 있으면) 다시 색인하고, 정기 재색인으로 누락된 변경을 보정한다.
+ * 재색인은 별도 디렉터리에 새 색인을 완성한 뒤 기존 색인과 교체하므로, 도중에 실패해도 검색은 기존 색인을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "lucene")
+public class LuceneBookSearchEngine implements BookSearchEngine {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String TITLE = "title";
+    private static final String TITLE_SORT = "title_sort";
+    private static final String AUTHOR = "author";
+    private static final String PUBLISHER = "publisher";
+    private static final String AUTHOR_ID = "author_id";
+    private static final String CATEGORY_ID = "category_id";
+    private static final String PUBLISHER_ID = "publisher_id";
+    private static final String PRICE = "price";
+    private static final String PUBLISHED_AT = "published_at";
+    private static final String CREATED_AT = "created_at";
+    private static final String CATALOG_VERSION = "catalog_version";
+
+    private static final int REINDEX_BATCH_SIZE = 1000;
+    private static final Pattern KEYWORD_PART = Pattern.compile("\"([^\"]+)\"|(\\S+)");
+
+    private final BookRepository bookRepository;
+    private final BookFacetIndex bookFacetIndex;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final CatalogVersionService catalogVersionService;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+
+    // 교체에 실패해 마지막 커밋으로 되돌리면 다시 열리므로 volatile
+    private volatile MMapDirectory directory;
+    private volatile IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
+
+    // 교체 도중(기존 문서를 지운 뒤 새 색인을 붙이기 전) 증분 반영, 검색기 갱신, 커밋이 끼어들지 않도록 막는 잠금
+    private final Object swapLock = new Object();
+
+    // 재색인 도중 반영된 도서 ID. 교체로 지워질 수 있으므로 재색인이 끝나면 다시 반영
+    private volatile Set<Long> changedDuringReindex;
+
+    @Value("${app.search.lucene.path:./data/lucene/books}")
+    private Path indexPath;
+
+    @PostConstruct
+    public void open() {
+        try {
+            directory = new MMapDirectory(indexPath);
+            indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 색인을 열 수 없습니다: " + indexPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Lucene 색인 종료 실패", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (indexWriter.getDocStats().numDocs > 0 && isUpToDate()) {
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.search.lucene.reindex-cron:0 45 4 * * *}")
+    public void rebuild() {
+        try {
+            reindex();
+        } catch (RuntimeException e) {
+            log.warn("Lucene 재색인 실패", e);
+        }
+    }
+
+    @Override
+    public Page<BookSummaryResponse> search(BookSearchCondition condition, Pageable pageable) {
+        return withSearcher(searcher -> {
+            Query query = createQuery(condition);
+            List<Long> bookIds = fetchPageIds(searcher, query, pageable, pageable.getPageSize());
+            long total = searcher.count(query);
+            return new PageImpl<>(bookRepository.findSummariesByIds(bookIds), pageable, total);
+        });
+    }
+
+    @Override
+    public Slice<BookSummaryResponse> searchSlice(BookSearchCondition condition, Pageable pageable) {
+        return withSearcher(searcher -> {
+            // 다음 페이지 존재 여부만 알면 되므로 한 건 더 조회
+            List<Long> bookIds = fetchPageIds(searcher, createQuery(condition), pageable, pageable.getPageSize() + 1);
+            boolean hasNext = bookIds.size() > pageable.getPageSize();
+            List<Long> pageIds = hasNext ? bookIds.subList(0, pageable.getPageSize()) : bookIds;
+            return new SliceImpl<>(bookRepository.findSummariesByIds(pageIds), pageable, hasNext);
+        });
+    }
+
+    @Override
+    public BookFacetResponse countFacets(BookSearchCondition condition) {
+        return withSearcher(searcher -> {
+            RoaringBitmap matches = new RoaringBitmap();
+            searcher.search(createQuery(condition), new BookIdCollector(matches));
+            return bookFacetIndex.count(matches);
+        });
+    }
+
+    @Override
+    public synchronized long reindex() {
+        Path rebuildPath = indexPath.resolveSibling(indexPath.getFileName() + ".rebuild");
+        changedDuringReindex = ConcurrentHashMap.newKeySet();
+        try {
+            // 읽기 시작 전의 버전을 남겨, 읽는 도중 커밋된 변경이 있으면 다음 기동 때 다시 색인되도록 함
+            Long catalogVersion = currentCatalogVersion();
+            long indexed = buildIndex(rebuildPath);
+            swapIndex(rebuildPath, catalogVersion);
+            log.info("Lucene 재색인 완료: documents={}", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 재색인 실패", e);
+        } finally {
+            // 새 색인을 읽는 동안 반영된 변경은 교체나 되돌리기로 사라졌을 수 있으므로 현재 색인에 다시 반영
+            Set<Long> changedBookIds = changedDuringReindex;
+            changedDuringReindex = null;
+            applyAll(List.copyOf(changedBookIds));
+            deleteRebuildDirectory(rebuildPath);
+        }
+    }
+
+    // 커밋 이후 실행되므로 실패해도 도서 변경에는 영향을 주지 않음 (재색인으로 보정)
+    // 다른 노드에서 전달된 변경은 트랜잭션 밖에서 발행되므로 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        applyAll(event.getBookIds());
+    }
+
+    private void applyAll(List<Long> bookIds) {
+        for (int from = 0; from < bookIds.size(); from += REINDEX_BATCH_SIZE) {
+            apply(bookIds.subList(from, Math.min(from + REINDEX_BATCH_SIZE, bookIds.size())));
+        }
+    }
+
+    private void apply(List<Long> bookIds) {
+        // 색인에 쓰기 전에 기록해야 재색인이 끝난 뒤 빠짐없이 다시 반영됨
+        Set<Long> changed = changedDuringReindex;
+        if (changed != null) {
+            changed.addAll(bookIds);
+        }
+        try {
+            Map<Long, BookSearchDocument> documents = bookRepository.findSearchDocumentsByIds(bookIds).stream()
+                    .collect(Collectors.toMap(BookSearchDocument::getBookId, document -> document));
+            synchronized (swapLock) {
+                for (Long bookId : bookIds) {
+                    Term idTerm = new Term(ID, String.valueOf(bookId));
+                    BookSearchDocument document = documents.get(bookId);
+                    if (document == null) {
+                        indexWriter.deleteDocuments(idTerm);
+                    } else {
+                        indexWriter.updateDocument(idTerm, toDocument(document));
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Lucene 색인 반영 실패: size={}", bookIds.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.lucene.refresh-interval-ms:1000}")
+    public void refresh() {
+        synchronized (swapLock) {
+            try {
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                log.warn("Lucene 검색기 갱신 실패", e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.lucene.commit-interval-ms:60000}")
+    public void commit() {
+        synchronized (swapLock) {
+            if (!indexWriter.hasUncommittedChanges()) {
+                return;
+            }
+            try {
+                indexWriter.commit();
+            } catch (IOException e) {
+                log.warn("Lucene 색인 커밋 실패", e);
+            }
+        }
+    }
+
+    private long buildIndex(Path rebuildPath) throws IOException {
+        FileSystemUtils.deleteRecursively(rebuildPath);
+        try (MMapDirectory rebuildDirectory = new MMapDirectory(rebuildPath);
+             IndexWriter rebuildWriter = new IndexWriter(rebuildDirectory, new IndexWriterConfig(analyzer)
+                     .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                     .setCommitOnClose(false))) {
+            long indexed = 0;
+            Long lastId = null;
+            List<BookSearchDocument> batch;
+            do {
+                batch = bookRepository.findSearchDocuments(lastId, REINDEX_BATCH_SIZE);
+                for (BookSearchDocument document : batch) {
+                    rebuildWriter.addDocument(toDocument(document));
+                }
+                indexed += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getBookId();
+                }
+            } while (batch.size() == REINDEX_BATCH_SIZE);
+
+            rebuildWriter.commit();
+            return indexed;
+        }
+    }
+
+    // 완성된 새 색인으로 기존 문서를 교체. 교체 도중 실패하면 지운 내용이 반영되지 않도록 마지막 커밋으로 되돌림
+    private void swapIndex(Path rebuildPath, Long catalogVersion) throws IOException {
+        synchronized (swapLock) {
+            // 교체 전까지의 증분 반영은 되돌리기 대상에서 빠지도록 먼저 커밋
+            indexWriter.commit();
+            try (MMapDirectory rebuildDirectory = new MMapDirectory(rebuildPath)) {
+                indexWriter.deleteAll();
+                indexWriter.addIndexes(rebuildDirectory);
+                indexWriter.setLiveCommitData(catalogVersion != null
+                        ? Map.of(CATALOG_VERSION, String.valueOf(catalogVersion)).entrySet()
+                        : Map.<String, String>of().entrySet());
+                indexWriter.commit();
+            } catch (IOException | RuntimeException e) {
+                rollback();
+                throw e;
+            }
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    // IndexWriter.rollback 은 writer 를 닫으므로 검색기와 함께 마지막 커밋 기준으로 다시 염
+    private void rollback() {
+        try {
+            searcherManager.close();
+            indexWriter.rollback();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Lucene 색인 되돌리기 실패", e);
+        }
+        open();
+    }
+
+    private void deleteRebuildDirectory(Path rebuildPath) {
+        try {
+            FileSystemUtils.deleteRecursively(rebuildPath);
+        } catch (IOException e) {
+            log.warn("Lucene 재색인 임시 디렉터리 삭제 실패: path={}", rebuildPath, e);
+        }
+    }
+
+    // 증분 반영은 노드가 받지 못한 변경을 알 수 없으므로 전체 재색인 시점의 버전과 비교
+    private boolean isUpToDate() {
+        Long catalogVersion = currentCatalogVersion();
+        if (catalogVersion == null) {
+            return false;
+        }
+        try {
+            String indexedVersion = SegmentInfos.readLatestCommit(directory).getUserData().get(CATALOG_VERSION);
+            return String.valueOf(catalogVersion).equals(indexedVersion);
+        } catch (IOException e) {
+            log.warn("Lucene 색인 버전 조회 실패", e);
+            return false;
+        }
+    }
+
+    private Long currentCatalogVersion() {
+        try {
+            return catalogVersionService.getVersion();
+        } catch (RuntimeException e) {
+            log.warn("카탈로그 버전 조회 실패", e);
+            return null;
+        }
+    }
+
+    private Query createQuery(BookSearchCondition condition) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+
+        // 초성/자모 검색은 Lucene 분석기로 처리할 수 없으므로 초성/자모 색인이 찾은 도서 ID 로 필터링
+        Optional<List<Long>> hangulMatches = condition.isHangulSearch()
+                ? hangulSearchIndex.findBookIds(condition.getKeyword())
+                : Optional.empty();
+        if (hangulMatches.isPresent()) {
+            if (hangulMatches.get().size() > KeywordCandidateResolver.MAX_KEYWORD_CANDIDATES) {
+                throw new CustomException(ErrorCode.INVALID_INPUT,
+                        "keyword=" + condition.getKeyword() + ", matches=" + hangulMatches.get().size());
+            }
+            List<BytesRef> ids = hangulMatches.get().stream()
+                    .map(bookId -> new BytesRef(String.valueOf(bookId)))
+                    .toList();
+            builder.add(new TermInSetQuery(ID, ids), BooleanClause.Occur.FILTER);
+            hasClause = true;
+        } else if (StringUtils.hasText(condition.getKeyword())) {
+            Matcher matcher = KEYWORD_PART.matcher(condition.getKeyword());
+            while (matcher.find()) {
+                boolean phrase = matcher.group(1) != null;
+                Query part = keywordQuery(phrase ? matcher.group(1) : matcher.group(2), phrase);
+                if (part != null) {
+                    builder.add(part, BooleanClause.Occur.MUST);
+                    hasClause = true;
+                }
+            }
+            // 분석 후 남는 단어가 없는 키워드(기호, 불용어 등)는 전체 일치가 아니라 일치 없음으로 처리
+            if (!hasClause) {
+                return new MatchNoDocsQuery();
+            }
+        }
+        if (condition.getCategoryId() != null) {
+            builder.add(LongPoint.newExactQuery(CATEGORY_ID, condition.getCategoryId()), BooleanClause.Occur.FILTER);
+            hasClause = true;
+        }
+        if (condition.getAuthorId() != null) {
+            builder.add(LongPoint.newExactQuery(AUTHOR_ID, condition.getAuthorId()), BooleanClause.Occur.FILTER);
+            hasClause = true;
+        }
+        if (condition.getPublisherId() != null) {
+            builder.add(LongPoint.newExactQuery(PUBLISHER_ID, condition.getPublisherId()), BooleanClause.Occur.FILTER);
+            hasClause = true;
+        }
+
+        return hasClause ? builder.build() : new MatchAllDocsQuery();
+    }
+
+    // 제목 일치를 가장 높게, 저자, 출판사 순으로 가중치를 두고 필드 중 가장 잘 맞는 점수를 사용
+    private Query keywordQuery(String text, boolean phrase) {
+        List<Query> fieldQueries = new ArrayList<>();
+        addFieldQuery(fieldQueries, TITLE, text, phrase, 3.0f);
+        addFieldQuery(fieldQueries, AUTHOR, text, phrase, 2.0f);
+        addFieldQuery(fieldQueries, PUBLISHER, text, phrase, 1.0f);
+        return fieldQueries.isEmpty() ? null : new DisjunctionMaxQuery(fieldQueries, 0.1f);
+    }
+
+    private void addFieldQuery(List<Query> fieldQueries, String field, String text, boolean phrase, float boost) {
+        Query query = phrase
+                ? queryBuilder.createPhraseQuery(field, text)
+                : queryBuilder.createBooleanQuery(field, text, BooleanClause.Occur.MUST);
+        if (query != null) {
+            fieldQueries.add(new BoostQuery(query, boost));
+        }
+    }
+
+    private List<Long> fetchPageIds(IndexSearcher searcher, Query query, Pageable pageable, int limit)
+            throws IOException {
+        int offset = Math.toIntExact(pageable.getOffset());
+        TopDocs topDocs = searcher.search(query, offset + limit, createSort(pageable));
+
+        StoredFields storedFields = searcher.storedFields();
+        List<Long> bookIds = new ArrayList<>();
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        for (int i = offset; i < scoreDocs.length; i++) {
+            bookIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID)));
+        }
+        return bookIds;
+    }
+
+    // 정렬 조건이 없으면 키워드 검색은 관련도 순, 그 외에는 QueryDSL 검색과 같이 최신 등록 순
+    private Sort createSort(Pageable pageable) {
+        List<SortField> sortFields = new ArrayList<>();
+        for (org.springframework.data.domain.Sort.Order order : pageable.getSort()) {
+            boolean reverse = order.isDescending();
+            switch (order.getProperty()) {
+                case "title" -> sortFields.add(new SortField(TITLE_SORT, SortField.Type.STRING, reverse));
+                case "price" -> sortFields.add(new SortField(PRICE, SortField.Type.LONG, reverse));
+                case "publishedAt" -> sortFields.add(new SortField(PUBLISHED_AT, SortField.Type.LONG, reverse));
+                default -> sortFields.add(new SortField(CREATED_AT, SortField.Type.LONG, reverse));
+            }
+        }
+        if (sortFields.isEmpty()) {
+            sortFields.add(SortField.FIELD_SCORE);
+            sortFields.add(new SortField(CREATED_AT, SortField.Type.LONG, true));
+        }
+        sortFields.add(new SortField(ID_SORT, SortField.Type.LONG, true));
+        return new Sort(sortFields.toArray(SortField[]::new));
+    }
+
+    private Document toDocument(BookSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(source.getBookId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, source.getBookId()));
+
+        if (source.getTitle() != null) {
+            document.add(new TextField(TITLE, source.getTitle(), Field.Store.NO));
+            document.add(new SortedDocValuesField(TITLE_SORT, new BytesRef(source.getTitle())));
+        }
+        source.getAuthorNames().forEach(name -> document.add(new TextField(AUTHOR, name, Field.Store.NO)));
+        if (source.getPublisherName() != null) {
+            document.add(new TextField(PUBLISHER, source.getPublisherName(), Field.Store.NO));
+        }
+
+        source.getAuthorIds().forEach(authorId -> document.add(new LongPoint(AUTHOR_ID, authorId)));
+        source.getCategoryIds().forEach(categoryId -> document.add(new LongPoint(CATEGORY_ID, categoryId)));
+        if (source.getPublisherId() != null) {
+            document.add(new LongPoint(PUBLISHER_ID, source.getPublisherId()));
+        }
+
+        document.add(new NumericDocValuesField(PRICE, source.getPrice() != null ? source.getPrice() : 0L));
+        document.add(new NumericDocValuesField(PUBLISHED_AT, toEpochMilli(source.getPublishedAt())));
+        document.add(new NumericDocValuesField(CREATED_AT, toEpochMilli(source.getCreatedAt())));
+        return document;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private <T> T withSearcher(SearcherCallback<T> callback) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return callback.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 검색 실패", e);
+        }
+    }
+
+    // 점수 계산 없이 일치 문서의 도서 ID 만 비트맵에 모음
+    private static final class BookIdCollector extends SimpleCollector {
+
+        private final RoaringBitmap bookIds;
+        private NumericDocValues idValues;
+
+        private BookIdCollector(RoaringBitmap bookIds) {
+            this.bookIds = bookIds;
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            idValues = DocValues.getNumeric(context.reader(), ID_SORT);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (idValues.advanceExact(doc)) {
+                bookIds.add(Math.toIntExact(idValues.longValue()));
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SearcherCallback<T> {
+
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
@@ -0,0 +1,66 @@
+package wsd.bookstore.book.search;
+
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.service.BookCountService;
+
+/**
+ * DB(QueryDSL) 기반 검색 엔진. 키워드 후보는 메모리 색인으로 미리 풀어 조건에 담아 넘기고, 전체 개수는 검색 조건별 캐시에서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "querydsl", matchIfMissing = true)
+public class QuerydslBookSearchEngine implements BookSearchEngine {
+
+    private final BookRepository bookRepository;
+    private final BookCountService bookCountService;
+    private final CatalogSearchIndexer catalogSearchIndexer;
+    private final BookFacetIndex bookFacetIndex;
+    private final KeywordCandidateResolver keywordCandidateResolver;
+
+    @Override
+    public Page<BookSummaryResponse> search(BookSearchCondition condition, Pageable pageable) {
+        BookSearchCondition resolved = keywordCandidateResolver.resolve(condition);
+        Slice<BookSummaryResponse> slice = bookRepository.searchSlice(resolved, pageable);
+
+        // 마지막 페이지가 아니면 전체 개수는 검색 조건별 캐시에서 조회
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable,
+                () -> bookCountService.countBooks(resolved));
+    }
+
+    @Override
+    public Slice<BookSummaryResponse> searchSlice(BookSearchCondition condition, Pageable pageable) {
+        return bookRepository.searchSlice(keywordCandidateResolver.resolve(condition), pageable);
+    }
+
+    @Override
+    public BookFacetResponse countFacets(BookSearchCondition condition) {
+        // 키워드가 없으면 일치 도서 집합도 패싯 비트맵 교집합만으로 구함
+        if (!StringUtils.hasText(condition.getKeyword())) {
+            return bookFacetIndex.count(bookFacetIndex.matchFilters(
+                    condition.getCategoryId(), condition.getAuthorId(), condition.getPublisherId()));
+        }
+
+        // 키워드 검색은 일치하는 ID 만 한 번 조회 (패싯 값마다 count 쿼리를 보내지 않음)
+        RoaringBitmap matches = new RoaringBitmap();
+        bookRepository.findMatchingBookIds(keywordCandidateResolver.resolve(condition))
+                .forEach(bookId -> matches.add(Math.toIntExact(bookId)));
+        return bookFacetIndex.count(matches);
+    }
+
+    @Override
+    public long reindex() {
+        return catalogSearchIndexer.reindex();
+    }
+}
@@ -0,0 +1,371 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목, 저자 이름 토큰의 오타 교정 사전 (SymSpell 대칭 삭제 방식).
+ * 색인 시점에 토큰 앞 PREFIX_LENGTH 글자에서 최대 편집 거리만큼 글자를 지운 문자열을 만들고,
+ * (삭제 문자열 해시, 토큰 번호) 쌍을 정렬된 long 배열로 보관한다. 검색어 토큰도 같은 방식으로 지운 뒤
+ * 해시가 같은 토큰만 실제 편집 거리로 확인하므로 조회 비용은 사전 크기와 무관하다.
+ * 메모리는 도서 수가 많은 상위 MAX_TERMS 개 토큰으로 제한한다.
+ * 새 토큰은 다음 재색인 전까지 변경분에서 조회하고, 삭제된 도서의 토큰은 정기 재색인 때 정리된다.
+ */
+@Slf4j
+@Component
+public class SpellingIndex {
+
+    public static final int MAX_CORRECTIONS = 3;
+
+    // 이보다 짧은 토큰은 교정하지 않음 (편집 거리 1 로도 대부분의 토큰과 일치)
+    private static final int MIN_TERM_LENGTH = 3;
+
+    // 삭제 문자열은 토큰 앞부분으로만 만들어 긴 토큰의 삭제 문자열 수를 제한
+    private static final int PREFIX_LENGTH = 7;
+
+    private static final int MAX_TERMS = 500_000;
+
+    private volatile Snapshot snapshot;
+
+    // 재색인 도중 들어온 변경분 (새 스냅샷에 그대로 이어 붙임)
+    private Delta rebuildDelta;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 사전에 없는 토큰을 가까운 토큰으로 바꾼 검색어를 가까운 순서로 최대 MAX_CORRECTIONS 개 반환한다.
+     * 모든 토큰이 사전에 있거나 바꿀 토큰을 찾지 못하면 빈 목록을 반환한다.
+     */
+    public List<String> correct(String keyword) {
+        Snapshot current = snapshot;
+        List<String> tokens = tokenize(keyword);
+        if (current == null || tokens.isEmpty()) {
+            return List.of();
+        }
+
+        List<List<String>> candidates = new ArrayList<>(tokens.size());
+        boolean corrected = false;
+        for (String token : tokens) {
+            List<String> tokenCandidates = current.isKnown(token) ? List.of() : current.lookup(token);
+            candidates.add(tokenCandidates);
+            corrected |= !tokenCandidates.isEmpty();
+        }
+        if (!corrected) {
+            return List.of();
+        }
+
+        // n 번째 교정어는 각 오타 토큰의 n 번째 후보(없으면 첫 번째 후보)로 조합
+        Set<String> corrections = new LinkedHashSet<>();
+        for (int rank = 0; rank < MAX_CORRECTIONS; rank++) {
+            List<String> words = new ArrayList<>(tokens.size());
+            boolean hasRank = false;
+            for (int i = 0; i < tokens.size(); i++) {
+                List<String> tokenCandidates = candidates.get(i);
+                if (tokenCandidates.isEmpty()) {
+                    words.add(tokens.get(i));
+                } else {
+                    hasRank |= rank < tokenCandidates.size();
+                    words.add(tokenCandidates.get(Math.min(rank, tokenCandidates.size() - 1)));
+                }
+            }
+            if (!hasRank) {
+                break;
+            }
+            corrections.add(String.join(" ", words));
+        }
+        return List.copyOf(corrections);
+    }
+
+    public synchronized void add(BookSearchDocument document) {
+        Snapshot current = snapshot;
+        for (String token : tokenize(document)) {
+            if (current != null) {
+                current.delta.add(token);
+            }
+            if (rebuildDelta != null) {
+                rebuildDelta.add(token);
+            }
+        }
+    }
+
+    /**
+     * loader 가 전달하는 문서로 새 사전을 만든 뒤 교체하고 색인한 문서 수를 반환한다. 조회는 교체 전까지 기존 사전을 사용한다.
+     */
+    public int rebuild(Consumer<Consumer<BookSearchDocument>> loader) {
+        Delta delta = startRebuild();
+        Map<String, Integer> frequencies = new HashMap<>();
+        int[] documentCount = {0};
+
+        try {
+            loader.accept(document -> {
+                tokenize(document).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+                documentCount[0]++;
+            });
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+
+        Snapshot rebuilt = Snapshot.build(frequencies, delta);
+        finishRebuild(rebuilt);
+        log.info("오타 교정 사전 구성 완료: documents={}, terms={}, deletes={}",
+                documentCount[0], rebuilt.terms.length, rebuilt.deletes.length);
+        return documentCount[0];
+    }
+
+    private synchronized Delta startRebuild() {
+        rebuildDelta = new Delta();
+        return rebuildDelta;
+    }
+
+    private synchronized void finishRebuild(Snapshot rebuilt) {
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+        }
+        rebuildDelta = null;
+    }
+
+    // 짧은 토큰은 편집 한 번으로도 뜻이 크게 바뀌므로 허용 거리를 줄임
+    private static int maxDistance(int length) {
+        return length <= 4 ? 1 : 2;
+    }
+
+    // 토큰 앞부분에서 0 ~ maxDistance 글자를 지운 문자열
+    private static Set<String> deletes(String term) {
+        String prefix = term.length() > PREFIX_LENGTH ? term.substring(0, PREFIX_LENGTH) : term;
+        Set<String> deletes = new HashSet<>();
+        deletes.add(prefix);
+        collectDeletes(prefix, maxDistance(term.length()), deletes);
+        return deletes;
+    }
+
+    // 같은 삭제 문자열은 항상 같은 깊이에서 만들어지므로 이미 본 문자열은 다시 펼치지 않음
+    private static void collectDeletes(String word, int remaining, Set<String> deletes) {
+        if (remaining == 0 || word.length() <= 1) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            String deleted = word.substring(0, i) + word.substring(i + 1);
+            if (deletes.add(deleted)) {
+                collectDeletes(deleted, remaining - 1, deletes);
+            }
+        }
+    }
+
+    /**
+     * 인접한 두 글자의 전치를 한 번의 편집으로 보는 편집 거리 (optimal string alignment).
+     * maxDistance 를 넘는 것이 확실해지면 더 계산하지 않고 maxDistance + 1 을 반환한다.
+     */
+    static int distance(String source, String target, int maxDistance) {
+        int sourceLength = source.length();
+        int targetLength = target.length();
+        if (Math.abs(sourceLength - targetLength) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] beforePrevious = new int[targetLength + 1];
+        int[] previous = new int[targetLength + 1];
+        int[] current = new int[targetLength + 1];
+        for (int j = 0; j <= targetLength; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= sourceLength; i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= targetLength; j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[targetLength], maxDistance + 1);
+    }
+
+    private static Set<String> tokenize(BookSearchDocument document) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(document.getTitle()));
+        if (document.getAuthorNames() != null) {
+            document.getAuthorNames().forEach(name -> tokens.addAll(tokenize(name)));
+        }
+        tokens.removeIf(token -> token.length() < MIN_TERM_LENGTH);
+        return tokens;
+    }
+
+    // 카탈로그 검색 색인과 같이 소문자로 정규화하고 공백으로만 분리
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Snapshot {
+
+        // 사전순으로 정렬된 토큰과 토큰별 도서 수
+        private final String[] terms;
+        private final int[] frequencies;
+
+        // (삭제 문자열 해시 << 32 | 토큰 번호) 를 정렬한 배열. 해시가 같은 항목은 연속 구간
+        private final long[] deletes;
+
+        private final Delta delta;
+
+        private Snapshot(String[] terms, int[] frequencies, long[] deletes, Delta delta) {
+            this.terms = terms;
+            this.frequencies = frequencies;
+            this.deletes = deletes;
+            this.delta = delta;
+        }
+
+        private static Snapshot build(Map<String, Integer> frequencies, Delta delta) {
+            String[] terms = frequencies.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(MAX_TERMS)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toArray(String[]::new);
+
+            int[] termFrequencies = new int[terms.length];
+            LongArrayBuilder deletes = new LongArrayBuilder();
+            for (int termIndex = 0; termIndex < terms.length; termIndex++) {
+                termFrequencies[termIndex] = frequencies.get(terms[termIndex]);
+                for (String deleted : SpellingIndex.deletes(terms[termIndex])) {
+                    deletes.add(((long) deleted.hashCode() << 32) | termIndex);
+                }
+            }
+            return new Snapshot(terms, termFrequencies, deletes.toSortedArray(), delta);
+        }
+
+        private boolean isKnown(String token) {
+            return token.length() < MIN_TERM_LENGTH
+                    || Arrays.binarySearch(terms, token) >= 0
+                    || delta.frequencies.containsKey(token);
+        }
+
+        // 편집 거리가 가까운 순, 같으면 도서 수가 많은 순으로 최대 MAX_CORRECTIONS 개
+        private List<String> lookup(String token) {
+            int maxDistance = maxDistance(token.length());
+            Map<String, Candidate> candidates = new HashMap<>();
+
+            for (String deleted : SpellingIndex.deletes(token)) {
+                int hash = deleted.hashCode();
+                for (int i = lowerBound((long) hash << 32); i < deletes.length; i++) {
+                    if ((int) (deletes[i] >>> 32) != hash) {
+                        break;
+                    }
+                    int termIndex = (int) deletes[i];
+                    verify(token, terms[termIndex], frequencies[termIndex], maxDistance, candidates);
+                }
+                for (String term : delta.deletes.getOrDefault(deleted, Set.of())) {
+                    verify(token, term, delta.frequencies.getOrDefault(term, 0), maxDistance, candidates);
+                }
+            }
+
+            return candidates.values().stream()
+                    .sorted(Comparator.comparingInt(Candidate::distance)
+                            .thenComparing(Comparator.comparingInt(Candidate::frequency).reversed())
+                            .thenComparing(Candidate::term))
+                    .limit(MAX_CORRECTIONS)
+                    .map(Candidate::term)
+                    .toList();
+        }
+
+        // 해시 충돌이나 앞부분만 같은 토큰이 섞여 있으므로 전체 토큰의 편집 거리로 다시 확인
+        private void verify(String token, String term, int frequency, int maxDistance,
+                            Map<String, Candidate> candidates) {
+            if (candidates.containsKey(term)) {
+                return;
+            }
+            int distance = distance(token, term, maxDistance);
+            if (distance <= maxDistance) {
+                candidates.put(term, new Candidate(term, distance, frequency));
+            }
+        }
+
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = deletes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (deletes[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Candidate(String term, int distance, int frequency) {
+    }
+
+    /**
+     * 마지막 재색인 이후 추가된 토큰. 재색인 주기 사이의 변경분만 담으므로 삭제 문자열을 그대로 보관한다.
+     */
+    private static final class Delta {
+
+        private final Map<String, Integer> frequencies = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> deletes = new ConcurrentHashMap<>();
+
+        private void add(String token) {
+            if (frequencies.merge(token, 1, Integer::sum) == 1) {
+                for (String deleted : SpellingIndex.deletes(token)) {
+                    deletes.computeIfAbsent(deleted, key -> ConcurrentHashMap.newKeySet()).add(token);
+                }
+            }
+        }
+    }
+
+    private static final class LongArrayBuilder {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.parallelSort(sorted);
+            return sorted;
+        }
+    }
+}
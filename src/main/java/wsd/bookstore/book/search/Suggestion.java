@@ -0,0 +1,7 @@
+package wsd.bookstore.book.search;
+
+/**
+ * 자동완성 후보. id 는 type 에 따라 도서, 저자, 출판사 ID 이며 weight 가 클수록 먼저 제안된다.
+ */
+public record Suggestion(SuggestionType type, Long id, String text, long weight) {
+}
@@ -0,0 +1,309 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목, 저자, 출판사 자동완성용 메모리 접두사 트라이.
+ * 각 후보 문구의 단어 시작 위치마다 키(문구의 접미사)를 두고, 키를 정렬된 배열로 보관하는 배열형 radix 트라이다.
+ * 접두사에 해당하는 키 구간은 이진 탐색으로 찾고, 큰 구간(분기 노드)은 상위 후보를 미리 계산해 둔다.
+ * 재구성은 새 스냅샷을 만든 뒤 volatile 참조만 교체하므로 조회는 잠금 없이 수행된다.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    public static final int MAX_LIMIT = 20;
+
+    // 키 구간이 이보다 작으면 미리 계산하지 않고 조회 시 직접 훑음
+    private static final int SCAN_THRESHOLD = 256;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 접두사로 시작하는 단어를 포함한 후보를 weight 가 큰 순서로 최대 limit 개 반환한다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String normalized = normalize(prefix, true);
+        if (current == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        return current.suggest(normalized, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * 새 스냅샷을 만든 뒤 교체하고 색인한 후보 수를 반환한다. 같은 종류, 같은 문구의 후보는 하나로 합치고 weight 를 더한다.
+     */
+    public int rebuild(List<Suggestion> suggestions) {
+        Snapshot rebuilt = Snapshot.build(merge(suggestions));
+        snapshot = rebuilt;
+        log.info("자동완성 색인 구성 완료: suggestions={}, keys={}", rebuilt.suggestions.length, rebuilt.keyOwners.length);
+        return rebuilt.suggestions.length;
+    }
+
+    private static List<Suggestion> merge(List<Suggestion> suggestions) {
+        Map<String, Suggestion> merged = new LinkedHashMap<>();
+        for (Suggestion suggestion : suggestions) {
+            String text = normalize(suggestion.text(), false);
+            if (text.isEmpty()) {
+                continue;
+            }
+            // 대표 ID 는 weight 가 가장 큰 후보의 ID 를 사용
+            merged.merge(suggestion.type() + ":" + text, suggestion, (previous, next) -> new Suggestion(
+                    previous.type(),
+                    next.weight() > previous.weight() ? next.id() : previous.id(),
+                    previous.text(),
+                    previous.weight() + next.weight()));
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    // 소문자로 바꾸고 연속 공백을 하나로 합침. 입력 중인 접두사는 끝 공백(다음 단어 입력 중)을 유지
+    static String normalize(String text, boolean keepTrailingSpace) {
+        if (text == null) {
+            return "";
+        }
+        String collapsed = text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        String stripped = collapsed.strip();
+        if (keepTrailingSpace && !stripped.isEmpty() && collapsed.endsWith(" ")) {
+            return stripped + " ";
+        }
+        return stripped;
+    }
+
+    private static final class Snapshot {
+
+        // weight 내림차순으로 정렬되어 있어 인덱스가 작을수록 우선순위가 높음
+        private final Suggestion[] suggestions;
+        private final String[] texts;
+
+        // 정렬된 키: texts[keyOwners[i]] 의 keyOffsets[i] 위치부터 끝까지
+        private final int[] keyOwners;
+        private final int[] keyOffsets;
+
+        // 구간 [from, to) → 상위 MAX_LIMIT 개 후보 인덱스 (구간이 SCAN_THRESHOLD 보다 큰 분기 노드만)
+        private final Map<Long, int[]> topSuggestions = new HashMap<>();
+
+        private Snapshot(Suggestion[] suggestions, String[] texts, int[] keyOwners, int[] keyOffsets) {
+            this.suggestions = suggestions;
+            this.texts = texts;
+            this.keyOwners = keyOwners;
+            this.keyOffsets = keyOffsets;
+        }
+
+        private static Snapshot build(List<Suggestion> merged) {
+            Suggestion[] suggestions = merged.stream()
+                    .sorted(Comparator.comparingLong(Suggestion::weight).reversed()
+                            .thenComparingInt(suggestion -> suggestion.text().length())
+                            .thenComparing(Suggestion::text))
+                    .toArray(Suggestion[]::new);
+            String[] texts = Arrays.stream(suggestions)
+                    .map(suggestion -> normalize(suggestion.text(), false))
+                    .toArray(String[]::new);
+
+            // 단어 시작 위치마다 키 생성 ("clean code" → "clean code", "code")
+            List<long[]> keys = new ArrayList<>();
+            for (int owner = 0; owner < texts.length; owner++) {
+                String text = texts[owner];
+                for (int offset = 0; offset < text.length(); offset++) {
+                    if (offset == 0 || text.charAt(offset - 1) == ' ') {
+                        keys.add(new long[] {owner, offset});
+                    }
+                }
+            }
+            keys.sort((left, right) -> compareSuffix(texts[(int) left[0]], (int) left[1],
+                    texts[(int) right[0]], (int) right[1]));
+
+            int[] keyOwners = new int[keys.size()];
+            int[] keyOffsets = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                keyOwners[i] = (int) keys.get(i)[0];
+                keyOffsets[i] = (int) keys.get(i)[1];
+            }
+
+            Snapshot snapshot = new Snapshot(suggestions, texts, keyOwners, keyOffsets);
+            if (keyOwners.length > SCAN_THRESHOLD) {
+                snapshot.buildNode(0, keyOwners.length, snapshot.commonPrefixLength(0, keyOwners.length - 1));
+            }
+            return snapshot;
+        }
+
+        private List<Suggestion> suggest(String prefix, int limit) {
+            int from = lowerBound(prefix);
+            int to = upperBound(prefix, from);
+            if (from >= to) {
+                return List.of();
+            }
+
+            int[] top = to - from > SCAN_THRESHOLD ? topSuggestions.get(rangeKey(from, to)) : null;
+            if (top == null) {
+                top = scan(from, to);
+            }
+
+            List<Suggestion> result = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && i < limit; i++) {
+                result.add(suggestions[top[i]]);
+            }
+            return result;
+        }
+
+        // 구간 [from, to) 의 키는 모두 depth 길이의 공통 접두사를 가짐. 다음 글자별 하위 구간으로 나눠 상위 후보를 합침
+        private int[] buildNode(int from, int to, int depth) {
+            TopSuggestions top = new TopSuggestions();
+            int i = from;
+            while (i < to && keyLength(i) == depth) {
+                top.offer(keyOwners[i++]);
+            }
+            while (i < to) {
+                int groupEnd = groupEnd(i, to, depth);
+
+                if (groupEnd - i > SCAN_THRESHOLD) {
+                    top.offerAll(buildNode(i, groupEnd, commonPrefixLength(i, groupEnd - 1)));
+                } else {
+                    for (int k = i; k < groupEnd; k++) {
+                        top.offer(keyOwners[k]);
+                    }
+                }
+                i = groupEnd;
+            }
+
+            int[] result = top.toArray();
+            topSuggestions.put(rangeKey(from, to), result);
+            return result;
+        }
+
+        // 정렬되어 있으므로 depth 위치 글자가 같은 키는 연속 구간. 구간 끝을 이진 탐색으로 찾음
+        private int groupEnd(int from, int to, int depth) {
+            char next = keyChar(from, depth);
+            int low = from + 1;
+            int high = to;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keyChar(mid, depth) == next) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int[] scan(int from, int to) {
+            TopSuggestions top = new TopSuggestions();
+            for (int i = from; i < to; i++) {
+                top.offer(keyOwners[i]);
+            }
+            return top.toArray();
+        }
+
+        // 접두사 이상인 첫 키
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keyOwners.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareSuffix(texts[keyOwners[mid]], keyOffsets[mid], prefix, 0) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // 접두사로 시작하지 않는 첫 키 (from 이후)
+        private int upperBound(String prefix, int from) {
+            int low = from;
+            int high = keyOwners.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (texts[keyOwners[mid]].startsWith(prefix, keyOffsets[mid])) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int keyLength(int key) {
+            return texts[keyOwners[key]].length() - keyOffsets[key];
+        }
+
+        private char keyChar(int key, int position) {
+            return texts[keyOwners[key]].charAt(keyOffsets[key] + position);
+        }
+
+        // 정렬된 구간의 공통 접두사 길이는 첫 키와 마지막 키의 공통 접두사 길이와 같음
+        private int commonPrefixLength(int first, int last) {
+            int length = Math.min(keyLength(first), keyLength(last));
+            int common = 0;
+            while (common < length && keyChar(first, common) == keyChar(last, common)) {
+                common++;
+            }
+            return common;
+        }
+
+        private static int compareSuffix(String left, int leftOffset, String right, int rightOffset) {
+            int leftLength = left.length() - leftOffset;
+            int rightLength = right.length() - rightOffset;
+            int length = Math.min(leftLength, rightLength);
+            for (int i = 0; i < length; i++) {
+                int diff = left.charAt(leftOffset + i) - right.charAt(rightOffset + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return leftLength - rightLength;
+        }
+
+        private static long rangeKey(int from, int to) {
+            return ((long) from << 32) | to;
+        }
+    }
+
+    // 중복 없는 후보 인덱스 중 가장 작은(우선순위가 높은) MAX_LIMIT 개를 오름차순으로 유지
+    private static final class TopSuggestions {
+
+        private final int[] values = new int[MAX_LIMIT];
+        private int size;
+
+        private void offer(int value) {
+            if (size == MAX_LIMIT && value >= values[size - 1]) {
+                return;
+            }
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            int moved = Math.min(size, MAX_LIMIT - 1) - insertAt;
+            System.arraycopy(values, insertAt, values, insertAt + 1, moved);
+            values[insertAt] = value;
+            size = Math.min(size + 1, MAX_LIMIT);
+        }
+
+        private void offerAll(int[] candidates) {
+            for (int candidate : candidates) {
+                offer(candidate);
+            }
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package wsd.bookstore.book.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
+
+/**
+ * 자동완성 색인 적재.
+ * 도서 제목, 저자, 출판사 이름을 판매량(저자/출판사는 소속 도서 판매량 합) 가중치로 모아 색인을 통째로 다시 만든다.
+ * 도서 변경 이벤트는 표시만 해 두고 스케줄러가 모아서 재구성하며, 판매량 변화는 매시간 재구성으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndexer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SuggestionIndex suggestionIndex;
+    private final BookRepository bookRepository;
+
+    private final AtomicBoolean catalogChanged = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        catalogChanged.set(true);
+    }
+
+    // 연속된 도서 변경을 한 번의 재구성으로 묶음
+    @Scheduled(fixedDelayString = "${app.search.suggest.refresh-interval-ms:5000}")
+    public void rebuildIfChanged() {
+        if (catalogChanged.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${app.search.suggest.rebuild-cron:0 15 * * * *}")
+    public void rebuild() {
+        try {
+            reindex();
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 구성 실패", e);
+        }
+    }
+
+    public int reindex() {
+        Map<Long, Long> soldQuantities = bookRepository.countSoldQuantities();
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        Map<Long, Suggestion> authors = new HashMap<>();
+        Map<Long, Suggestion> publishers = new HashMap<>();
+
+        Long lastId = null;
+        List<BookSearchDocument> batch;
+        do {
+            batch = bookRepository.findSearchDocuments(lastId, BATCH_SIZE);
+            for (BookSearchDocument document : batch) {
+                long weight = soldQuantities.getOrDefault(document.getBookId(), 0L);
+                suggestions.add(new Suggestion(SuggestionType.TITLE, document.getBookId(), document.getTitle(), weight));
+
+                for (int i = 0; i < document.getAuthorIds().size(); i++) {
+                    addWeight(authors, SuggestionType.AUTHOR, document.getAuthorIds().get(i),
+                            document.getAuthorNames().get(i), weight);
+                }
+                if (document.getPublisherId() != null) {
+                    addWeight(publishers, SuggestionType.PUBLISHER, document.getPublisherId(),
+                            document.getPublisherName(), weight);
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getBookId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        suggestions.addAll(authors.values());
+        suggestions.addAll(publishers.values());
+        return suggestionIndex.rebuild(suggestions);
+    }
+
+    private void addWeight(Map<Long, Suggestion> suggestions, SuggestionType type, Long id, String text, long weight) {
+        suggestions.merge(id, new Suggestion(type, id, text, weight),
+                (previous, next) -> new Suggestion(type, id, text, previous.weight() + next.weight()));
+    }
+}
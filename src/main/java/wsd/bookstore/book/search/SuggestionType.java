@@ -0,0 +1,7 @@
+package wsd.bookstore.book.search;
+
+public enum SuggestionType {
+    TITLE,
+    AUTHOR,
+    PUBLISHER
+}
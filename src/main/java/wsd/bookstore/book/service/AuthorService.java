@@ -3,10 +3,13 @@ package wsd.bookstore.book.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wsd.bookstore.book.entity.Author;
+import wsd.bookstore.book.event.CatalogChangedEvent;
 import wsd.bookstore.book.repository.AuthorRepository;
+import wsd.bookstore.book.repository.BookAuthorRepository;
 import wsd.bookstore.book.request.AuthorRequest;
 import wsd.bookstore.book.response.AuthorResponse;
 import wsd.bookstore.common.error.CustomException;
@@ -19,6 +22,9 @@ import wsd.bookstore.common.error.ErrorCode;
 public class AuthorService {
 
     private final AuthorRepository authorRepository;
+    private final BookAuthorRepository bookAuthorRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AuthorResponse> getAuthors() {
         log.info("작가 목록 조회 요청");
@@ -39,6 +45,7 @@ public class AuthorService {
         log.info("작가 생성 요청: name={}", request.getName());
         Author author = new Author(request.getName(), request.getBio());
         Author savedAuthor = authorRepository.save(author);
+        catalogVersionService.increment();
         log.info("작가 생성 완료: id={}", savedAuthor.getId());
         return savedAuthor.getId();
     }
@@ -49,6 +56,8 @@ public class AuthorService {
         Author author = authorRepository.findById(authorId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_AUTHOR));
         author.update(request.getName(), request.getBio());
+        publishCatalogChanged(bookAuthorRepository.findBookIdsByAuthorId(authorId));
+        catalogVersionService.increment();
         log.info("작가 수정 완료: id={}", authorId);
     }
 
@@ -57,7 +66,17 @@ public class AuthorService {
         log.info("작가 삭제 요청: id={}", authorId);
         Author author = authorRepository.findById(authorId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_AUTHOR));
+        List<Long> bookIds = bookAuthorRepository.findBookIdsByAuthorId(authorId);
         authorRepository.delete(author);
+        publishCatalogChanged(bookIds);
+        catalogVersionService.increment();
         log.info("작가 삭제 완료: id={}", authorId);
     }
+
+    // 작가 이름은 도서 검색 색인에 포함되므로 소속 도서를 다시 색인하도록 알림
+    private void publishCatalogChanged(List<Long> bookIds) {
+        if (!bookIds.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(bookIds));
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package wsd.bookstore.book.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+
+/**
+ * 도서 검색 결과 수 캐시.
+ * 페이지마다 반복되는 count 쿼리를 줄이기 위해 정규화한 검색 조건별로 캐싱한다.
+ * 도서, 저자, 출판사, 분류가 바뀌면 엔티티 변경 이벤트로 커밋 이후 전체를 비운다. (CacheConfig 참고)
+ * 초성/자모 색인을 쓸 수 없어 일반 키워드 검색으로 처리된 조건은 같은 키의 정상 결과와 다르므로 캐싱하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookCountService {
+
+    public static final String CACHE_NAME = "bookCounts";
+
+    private final BookRepository bookRepository;
+
+    @Cacheable(value = CACHE_NAME, key = "#condition.toCacheKey()",
+            condition = "!#condition.isUnresolvedHangulSearch()")
+    public long countBooks(BookSearchCondition condition) {
+        log.debug("도서 검색 결과 수 조회: condition={}", condition.toCacheKey());
+        return bookRepository.countBooks(condition);
+    }
+}
@@ -0,0 +1,152 @@
+package wsd.bookstore.book.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.search.HangulSearchIndex;
+
+/**
+ * 도서 검색 결과 페이지 캐시.
+ * 키는 카탈로그 버전, 정규화한 검색 조건, 페이지 번호, 크기, 정렬로 만들며, 카탈로그가 바뀌면 버전이 올라가
+ * 이전 항목은 조회되지 않고 TTL 로 정리된다. 적중/실패 횟수와 적중률은 book.search.cache 지표로 내보낸다.
+ * 초성/자모 색인을 쓸 수 없는 동안의 초성/자모 검색은 일반 키워드 검색으로 대신하므로 캐시를 거치지 않는다.
+ */
+@Slf4j
+@Service
+public class BookSearchCacheService {
+
+    public static final String CACHE_NAME = "bookSearches";
+
+    private final CacheManager cacheManager;
+    private final CatalogVersionService catalogVersionService;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final Counter hits;
+    private final Counter misses;
+
+    public BookSearchCacheService(CacheManager cacheManager, CatalogVersionService catalogVersionService,
+                                  HangulSearchIndex hangulSearchIndex, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.catalogVersionService = catalogVersionService;
+        this.hangulSearchIndex = hangulSearchIndex;
+        this.hits = Counter.builder("book.search.cache.requests")
+                .description("도서 검색 결과 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("book.search.cache.requests")
+                .description("도서 검색 결과 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("book.search.cache.hit.ratio", this, BookSearchCacheService::hitRatio)
+                .description("도서 검색 결과 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 search 결과를 캐싱한 뒤 반환한다.
+     * 캐시 저장소에 접근하지 못하면 캐시 없이 검색한다.
+     */
+    public Page<BookSummaryResponse> getOrSearch(BookSearchCondition condition, Pageable pageable,
+                                                 Supplier<Page<BookSummaryResponse>> search) {
+        if (pageable.isUnpaged() || isHangulFallback(condition)) {
+            return search.get();
+        }
+
+        String key;
+        try {
+            key = toCacheKey(catalogVersionService.getVersion(), condition, pageable);
+        } catch (RuntimeException e) {
+            log.warn("도서 검색 캐시 조회 실패", e);
+            return search.get();
+        }
+        return getOrSearch(condition, pageable, key, search);
+    }
+
+    /**
+     * currentCacheKey 로 미리 구한 키로 캐시된 검색 결과를 조회한다.
+     * 카탈로그 버전을 다시 읽지 않으므로 같은 키를 쓰는 응답 캐시와 같은 버전의 결과가 저장된다.
+     */
+    public Page<BookSummaryResponse> getOrSearch(BookSearchCondition condition, Pageable pageable, String key,
+                                                 Supplier<Page<BookSummaryResponse>> search) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        CachedPage cached;
+        try {
+            cached = cache != null ? cache.get(key, CachedPage.class) : null;
+        } catch (RuntimeException e) {
+            log.warn("도서 검색 캐시 조회 실패", e);
+            return search.get();
+        }
+
+        if (cached != null) {
+            hits.increment();
+            return new PageImpl<>(cached.getContent(), pageable, cached.getTotalElements());
+        }
+
+        misses.increment();
+        Page<BookSummaryResponse> page = search.get();
+        // 검색 도중 색인 반영에 실패했으면 대체 검색 결과일 수 있음
+        if (isHangulFallback(condition)) {
+            return page;
+        }
+        try {
+            if (cache != null) {
+                cache.put(key, new CachedPage(page.getContent(), page.getTotalElements()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("도서 검색 캐시 저장 실패: key={}", key, e);
+        }
+        return page;
+    }
+
+    /**
+     * 현재 카탈로그 버전 기준의 검색 결과 캐시 키를 반환한다. 캐시 저장소에 접근하지 못하면 null 을 반환한다.
+     */
+    public String currentCacheKey(BookSearchCondition condition, Pageable pageable) {
+        if (pageable.isUnpaged() || isHangulFallback(condition)) {
+            return null;
+        }
+        try {
+            return toCacheKey(catalogVersionService.getVersion(), condition, pageable);
+        } catch (RuntimeException e) {
+            log.warn("도서 검색 캐시 키 조회 실패", e);
+            return null;
+        }
+    }
+
+    static String toCacheKey(long version, BookSearchCondition condition, Pageable pageable) {
+        return "v" + version + "|" + condition.toCacheKey() + "|page=" + pageable.getPageNumber()
+                + "|size=" + pageable.getPageSize() + "|sort=" + pageable.getSort();
+    }
+
+    private boolean isHangulFallback(BookSearchCondition condition) {
+        return condition.isHangulSearch() && !hangulSearchIndex.isAvailable();
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total > 0 ? hits.count() / total : 0.0;
+    }
+
+    // Page 구현체는 직렬화 형식이 고정되어 있지 않으므로 내용과 전체 개수만 저장
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedPage {
+
+        private List<BookSummaryResponse> content;
+        private long totalElements;
+    }
+}
@@ -3,25 +3,40 @@ package wsd.bookstore.book.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import wsd.bookstore.book.entity.Author;
 import wsd.bookstore.book.entity.Book;
 import wsd.bookstore.book.entity.Category;
 import wsd.bookstore.book.entity.Publisher;
+import wsd.bookstore.book.event.CatalogChangedEvent;
 import wsd.bookstore.book.repository.AuthorRepository;
 import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.book.repository.CategoryRepository;
 import wsd.bookstore.book.repository.PublisherRepository;
 import wsd.bookstore.book.request.BookCreateRequest;
+import wsd.bookstore.book.request.BookCursor;
 import wsd.bookstore.book.request.BookSearchCondition;
 import wsd.bookstore.book.request.BookUpdateRequest;
+import wsd.bookstore.book.request.SalesWindow;
 import wsd.bookstore.book.response.BookDetailResponse;
+import wsd.bookstore.book.response.BookFacetedSearchResponse;
+import wsd.bookstore.book.response.BookFuzzySearchResponse;
 import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.response.SuggestionResponse;
+import wsd.bookstore.book.search.BookSearchEngine;
+import wsd.bookstore.book.search.KeywordCandidateResolver;
+import wsd.bookstore.book.search.SpellingIndex;
+import wsd.bookstore.book.search.SuggestionIndex;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.response.CursorResponse;
 
 @Slf4j
 @Service
@@ -29,14 +44,83 @@ import wsd.bookstore.common.error.ErrorCode;
 @Transactional(readOnly = true)
 public class BookService {
 
+    private static final int MAX_RANKING_LIMIT = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookRepository bookRepository;
     private final AuthorRepository authorRepository;
     private final CategoryRepository categoryRepository;
     private final PublisherRepository publisherRepository;
+    private final SalesRankingService salesRankingService;
+    private final TrendingService trendingService;
+    private final BookSearchEngine bookSearchEngine;
+    private final KeywordCandidateResolver keywordCandidateResolver;
+    private final BookSearchCacheService bookSearchCacheService;
+    private final CatalogVersionService catalogVersionService;
+    private final SuggestionIndex suggestionIndex;
+    private final SpellingIndex spellingIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<BookSummaryResponse> searchBooks(BookSearchCondition condition, Pageable pageable) {
         log.info("도서 검색 요청");
-        return bookRepository.search(condition, pageable);
+        return bookSearchCacheService.getOrSearch(condition, pageable,
+                () -> bookSearchEngine.search(condition, pageable));
+    }
+
+    // 응답 캐시를 놓친 요청은 응답 캐시 키로 검색 결과 캐시를 조회 (카탈로그 버전을 다시 읽지 않음)
+    public Page<BookSummaryResponse> searchBooks(BookSearchCondition condition, Pageable pageable, String cacheKey) {
+        log.info("도서 검색 요청");
+        return bookSearchCacheService.getOrSearch(condition, pageable, cacheKey,
+                () -> bookSearchEngine.search(condition, pageable));
+    }
+
+    // 검색 결과 캐시와 같은 키를 쓰므로 카탈로그가 바뀌면 응답 캐시 키도 함께 바뀜
+    public String getSearchCacheKey(BookSearchCondition condition, Pageable pageable) {
+        return bookSearchCacheService.currentCacheKey(condition, pageable);
+    }
+
+    public BookFacetedSearchResponse searchBooksWithFacets(BookSearchCondition condition, Pageable pageable) {
+        log.info("도서 검색 요청 (패싯 포함)");
+        Page<BookSummaryResponse> books = bookSearchEngine.search(condition, pageable);
+        return new BookFacetedSearchResponse(books, bookSearchEngine.countFacets(condition));
+    }
+
+    // 결과가 없을 때만 첫 번째 교정어로 다시 검색하고, 교정어 목록은 결과와 관계없이 함께 반환
+    public BookFuzzySearchResponse searchBooksWithCorrections(BookSearchCondition condition, Pageable pageable) {
+        log.info("도서 검색 요청 (오타 교정 포함)");
+        Page<BookSummaryResponse> books = bookSearchEngine.search(condition, pageable);
+        if (!StringUtils.hasText(condition.getKeyword()) || condition.isHangulSearch()) {
+            return new BookFuzzySearchResponse(books, null, List.of());
+        }
+
+        List<String> corrections = spellingIndex.correct(condition.getKeyword());
+        if (books.getTotalElements() > 0 || corrections.isEmpty()) {
+            return new BookFuzzySearchResponse(books, null, corrections);
+        }
+
+        String correctedKeyword = corrections.get(0);
+        log.info("검색 결과가 없어 교정된 검색어로 재검색: keyword={}, corrected={}", condition.getKeyword(),
+                correctedKeyword);
+        Page<BookSummaryResponse> correctedBooks = bookSearchEngine.search(condition.withKeyword(correctedKeyword),
+                pageable);
+        return new BookFuzzySearchResponse(correctedBooks, correctedKeyword, corrections);
+    }
+
+    public Slice<BookSummaryResponse> searchBookSlice(BookSearchCondition condition, Pageable pageable) {
+        log.info("도서 검색 요청 (Slice)");
+        return bookSearchEngine.searchSlice(condition, pageable);
+    }
+
+    public CursorResponse<BookSummaryResponse> searchBooksByCursor(BookSearchCondition condition, String cursor,
+                                                                   Sort sort, int size) {
+        log.info("도서 커서 검색 요청: size={}", size);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "size=" + size);
+        }
+
+        // 첫 페이지는 요청한 정렬 기준으로 시작하고, 이후에는 커서에 담긴 정렬 기준을 따름
+        BookCursor bookCursor = StringUtils.hasText(cursor) ? BookCursor.decode(cursor) : BookCursor.first(sort);
+        return bookRepository.searchByCursor(keywordCandidateResolver.resolve(condition), bookCursor, size);
     }
 
     public BookDetailResponse getBookDetail(Long bookId) {
@@ -45,10 +129,31 @@ public class BookService {
         return BookDetailResponse.from(book);
     }
 
-    @org.springframework.cache.annotation.Cacheable(value = "bestSellers", key = "'top10'")
-    public List<BookSummaryResponse> getBestSellers() {
-        log.info("베스트셀러 조회 요청");
-        return bookRepository.findBestSellers(10);
+    @org.springframework.cache.annotation.Cacheable(value = "bestSellers", key = "#window.name() + ':' + #limit",
+            sync = true)
+    public List<BookSummaryResponse> getBestSellers(SalesWindow window, int limit) {
+        log.info("베스트셀러 조회 요청: window={}, limit={}", window, limit);
+        validateRankingLimit(limit);
+        List<Long> bookIds = salesRankingService.getTopBookIds(window, limit);
+        return bookRepository.findSummariesByIds(bookIds);
+    }
+
+    public List<BookSummaryResponse> getTrendingBooks(int limit) {
+        log.info("트렌딩 도서 조회 요청: limit={}", limit);
+        validateRankingLimit(limit);
+        List<Long> bookIds = trendingService.getTopBookIds(limit);
+        return bookRepository.findSummariesByIds(bookIds);
+    }
+
+    // 키 입력마다 호출되므로 DB 를 조회하지 않고 메모리 색인만 사용
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        log.debug("자동완성 요청: query={}, limit={}", query, limit);
+        if (limit < 1 || limit > SuggestionIndex.MAX_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "limit=" + limit);
+        }
+        return suggestionIndex.suggest(query, limit).stream()
+                .map(SuggestionResponse::from)
+                .toList();
     }
 
     @Transactional
@@ -63,6 +168,8 @@ public class BookService {
         addCategoriesToBook(book, request.getCategoryIds());
 
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(new CatalogChangedEvent(savedBook.getId()));
+        catalogVersionService.increment();
         log.info("도서 생성 완료: id={}", savedBook.getId());
         return BookSummaryResponse.from(savedBook);
     }
@@ -76,6 +183,8 @@ public class BookService {
         updateBookPublisher(book, request.getPublisherId());
         updateBookAuthors(book, request.getAuthorIds());
         updateBookCategories(book, request.getCategoryIds());
+        eventPublisher.publishEvent(new CatalogChangedEvent(bookId));
+        catalogVersionService.increment();
 
         log.info("도서 수정 완료: id={}", bookId);
         return BookSummaryResponse.from(book);
@@ -86,6 +195,8 @@ public class BookService {
         log.info("도서 삭제 요청: id={}", bookId);
         Book book = findBookById(bookId);
         bookRepository.delete(book);
+        eventPublisher.publishEvent(new CatalogChangedEvent(bookId));
+        catalogVersionService.increment();
         log.info("도서 삭제 완료: id={}", bookId);
     }
 
@@ -94,6 +205,12 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_BOOK, "book_id=" + bookId));
     }
 
+    private void validateRankingLimit(int limit) {
+        if (limit < 1 || limit > MAX_RANKING_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "limit=" + limit);
+        }
+    }
+
     private void validateDuplicateIsbn(String isbn13) {
         if (bookRepository.existsByIsbn13(isbn13)) {
             throw new CustomException(ErrorCode.DUPLICATE_BOOK, "book_isbn=" + isbn13);
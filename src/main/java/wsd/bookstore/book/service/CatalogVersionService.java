@@ -0,0 +1,51 @@
+package wsd.bookstore.book.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.common.redis.RedisService;
+
+/**
+ * 카탈로그(도서, 저자, 카테고리, 출판사) 전역 버전.
+ * 쓰기가 커밋된 뒤 Redis 카운터를 올리므로, 버전을 키에 포함한 캐시 항목은 변경이 보이는 시점부터 다시 조회되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService {
+
+    public static final String VERSION_KEY = "catalog:version";
+
+    private final RedisService redisService;
+
+    public long getVersion() {
+        String version = redisService.getValues(VERSION_KEY);
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    // 커밋 전에 올리면 다른 요청이 변경 전 데이터를 새 버전으로 캐싱할 수 있으므로 커밋 이후에 올림
+    public void increment() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementNow();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                incrementNow();
+            }
+        });
+    }
+
+    // 실패하면 이전 버전의 캐시 항목이 TTL 동안 남으므로 쓰기 자체는 실패시키지 않음
+    private void incrementNow() {
+        try {
+            long version = redisService.incrementValue(VERSION_KEY);
+            log.debug("카탈로그 버전 증가: version={}", version);
+        } catch (RuntimeException e) {
+            log.warn("카탈로그 버전 증가 실패", e);
+        }
+    }
+}
@@ -4,9 +4,12 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wsd.bookstore.book.entity.Category;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookCategoryRepository;
 import wsd.bookstore.book.repository.CategoryRepository;
 import wsd.bookstore.book.request.CategoryRequest;
 import wsd.bookstore.book.response.CategoryResponse;
@@ -20,8 +23,11 @@ import wsd.bookstore.common.error.ErrorCode;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(value = "categories", key = "'all'")
+    @Cacheable(value = "categories", key = "'all'", sync = true)
     public List<CategoryResponse> getCategories() {
         log.info("카테고리 목록 조회 요청");
         return categoryRepository.findAll().stream()
@@ -44,6 +50,7 @@ public class CategoryService {
         }
         Category category = new Category(request.getName());
         Category savedCategory = categoryRepository.save(category);
+        catalogVersionService.increment();
         log.info("카테고리 생성 완료: id={}", savedCategory.getId());
         return savedCategory.getId();
     }
@@ -59,6 +66,8 @@ public class CategoryService {
         }
 
         category.update(request.getName());
+        publishCatalogChanged(bookCategoryRepository.findBookIdsByCategoryId(categoryId));
+        catalogVersionService.increment();
         log.info("카테고리 수정 완료: id={}", categoryId);
     }
 
@@ -67,7 +76,17 @@ public class CategoryService {
         log.info("카테고리 삭제 요청: id={}", categoryId);
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CATEGORY));
+        List<Long> bookIds = bookCategoryRepository.findBookIdsByCategoryId(categoryId);
         categoryRepository.delete(category);
+        publishCatalogChanged(bookIds);
+        catalogVersionService.increment();
         log.info("카테고리 삭제 완료: id={}", categoryId);
     }
+
+    // 패싯 색인이 도서별 카테고리 이름을 가지고 있으므로 소속 도서를 다시 색인하도록 알림
+    private void publishCatalogChanged(List<Long> bookIds) {
+        if (!bookIds.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(bookIds));
+        }
+    }
 }
@@ -0,0 +1,301 @@
+package wsd.bookstore.book.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.redis.RedisService;
+
+/**
+ * 플래시 세일 재고 관리.
+ * STOCK:{bookId} 키가 존재하는 도서는 Redis 에서 재고를 차감하고, DB 반영분은 STOCK:PENDING 해시에 누적했다가
+ * 스케줄러가 배치로 반영한다. 정산 중인 항목은 처리 중 해시로 옮겨 두고 DB 커밋 후에만 지우므로,
+ * 정산 도중 중단되어도 차감분이 사라지지 않는다 (커밋 직후 중단되면 한 번 더 반영될 수 있음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlashSaleStockService {
+
+    private static final String STOCK_KEY_PREFIX = "STOCK:";
+    private static final String PENDING_KEY = "STOCK:PENDING";
+    private static final String PROCESSING_KEY = "STOCK:PENDING:PROCESSING";
+    private static final String PARKED_KEY = "STOCK:PARKED";
+    private static final int RECONCILE_BATCH_SIZE = 100;
+
+    // 모든 라인의 재고를 먼저 확인한 뒤 한 번에 차감 (키가 없는 라인은 DB 경로로 넘김)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local count = #KEYS - 1
+            for i = 1, count do
+                local stock = redis.call('GET', KEYS[i])
+                if stock and tonumber(stock) < tonumber(ARGV[i * 2]) then
+                    return {0, i}
+                end
+            end
+            local result = {1}
+            for i = 1, count do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('DECRBY', KEYS[i], ARGV[i * 2])
+                    redis.call('HINCRBY', KEYS[count + 1], ARGV[i * 2 - 1], -tonumber(ARGV[i * 2]))
+                    result[i + 1] = 1
+                else
+                    result[i + 1] = 0
+                end
+            end
+            return result
+            """, List.class);
+
+    // 플래시 세일이 종료되어 키가 없더라도 DB 반영분은 PENDING 에 남겨 정산되도록 함
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local count = #KEYS - 1
+            for i = 1, count do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i * 2])
+                end
+                redis.call('HINCRBY', KEYS[count + 1], ARGV[i * 2 - 1], ARGV[i * 2])
+            end
+            return count
+            """, Long.class);
+
+    // 이전 정산이 남긴 처리 중 해시가 있으면 그것부터 다시 처리하고, 없을 때만 PENDING 을 넘겨받음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private static final RedisScript<Long> PARK_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final BookRepository bookRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.flash-sale.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 플래시 세일 도서의 재고를 Redis 에서 원자적으로 예약한다.
+     *
+     * @param quantities 도서 ID 별 주문 수량
+     * @return Redis 에서 예약된 도서 ID (나머지는 호출 측에서 DB 로 차감)
+     */
+    public Set<Long> reserve(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> bookIds = new ArrayList<>(quantities.keySet());
+        List<?> result = redisService.executeScript(RESERVE_SCRIPT, scriptKeys(bookIds), scriptArgs(quantities));
+
+        if (toLong(result.get(0)) == 0L) {
+            Long bookId = bookIds.get((int) toLong(result.get(1)) - 1);
+            log.warn("플래시 세일 재고 부족: bookId={}, quantity={}", bookId, quantities.get(bookId));
+            throw new CustomException(ErrorCode.NOT_ENOUGH_STOCK, "book_id=" + bookId);
+        }
+
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            if (toLong(result.get(i + 1)) == 1L) {
+                reserved.put(bookIds.get(i), quantities.get(bookIds.get(i)));
+            }
+        }
+
+        if (!reserved.isEmpty()) {
+            log.info("플래시 세일 재고 예약: {}", reserved);
+            releaseOnRollback(reserved);
+        }
+        return reserved.keySet();
+    }
+
+    public Set<Long> findFlashSaleBookIds(Collection<Long> bookIds) {
+        if (!enabled || bookIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> ids = new ArrayList<>(bookIds);
+        List<String> stocks = redisService.multiGetValues(ids.stream().map(this::stockKey).toList());
+
+        Set<Long> flashSaleBookIds = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (stocks != null && stocks.get(i) != null) {
+                flashSaleBookIds.add(ids.get(i));
+            }
+        }
+        return flashSaleBookIds;
+    }
+
+    /**
+     * 예약된 재고를 반환한다. 트랜잭션 안에서 호출되면 커밋 이후에 반환한다.
+     */
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(quantities);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(quantities);
+            }
+        });
+    }
+
+    /**
+     * DB 재고를 Redis 재고 키로 복사해 플래시 세일을 시작한다.
+     * 도서 행을 잠근 트랜잭션 안에서 복사하므로 진행 중인 DB 경로 차감이 모두 커밋된 뒤의 재고가 복사된다.
+     */
+    public void enable(Long bookId) {
+        if (!enabled) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "flash_sale=disabled");
+        }
+
+        // 이전 세일의 미반영분을 먼저 정산해야 DB 재고가 최신 상태가 됨
+        reconcile();
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer stock = bookRepository.findByIdForUpdate(bookId)
+                    .map(Book::getStockQuantity)
+                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_BOOK));
+
+            if (redisService.setValuesIfAbsent(stockKey(bookId), String.valueOf(stock))) {
+                log.info("플래시 세일 시작: bookId={}, stock={}", bookId, stock);
+            }
+        });
+    }
+
+    public void disable(Long bookId) {
+        redisService.deleteValues(stockKey(bookId));
+        reconcile();
+        log.info("플래시 세일 종료: bookId={}", bookId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.flash-sale.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        List<?> entries = redisService.executeScript(DRAIN_SCRIPT, List.of(PENDING_KEY, PROCESSING_KEY), List.of());
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(Long.valueOf(entries.get(i).toString()), Integer.parseInt(entries.get(i + 1).toString()));
+        }
+
+        List<Long> bookIds = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < bookIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = bookIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, bookIds.size()));
+            applyDeltas(batch, deltas);
+        }
+        log.info("플래시 세일 재고 정산 완료: count={}", deltas.size());
+    }
+
+    // 배치 반영이 실패하면 도서별로 다시 반영해 실패한 도서만 골라냄
+    private void applyDeltas(List<Long> batch, Map<Long, Integer> deltas) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(bookId -> adjustStock(bookId, deltas.get(bookId))));
+            redisService.deleteHashValues(PROCESSING_KEY, batch.stream().map(String::valueOf).toList());
+        } catch (RuntimeException e) {
+            log.warn("플래시 세일 재고 배치 정산 실패, 도서별로 재시도: bookIds={}", batch, e);
+            batch.forEach(bookId -> applyDelta(bookId, deltas.get(bookId)));
+        }
+    }
+
+    private void applyDelta(Long bookId, int delta) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> adjustStock(bookId, delta));
+            redisService.deleteHashValues(PROCESSING_KEY, List.of(String.valueOf(bookId)));
+        } catch (DataIntegrityViolationException | CustomException e) {
+            // 다시 시도해도 반영할 수 없는 차감분(재고 음수, 삭제된 도서)은 따로 보관해 다른 도서의 정산을 막지 않도록 함
+            log.error("플래시 세일 재고 정산 불가, 수동 확인 필요: bookId={}, delta={}", bookId, delta, e);
+            redisService.executeScript(PARK_SCRIPT, List.of(PROCESSING_KEY, PARKED_KEY),
+                    List.of(String.valueOf(bookId), String.valueOf(delta)));
+        } catch (RuntimeException e) {
+            // 일시적인 실패는 처리 중 해시에 남겨 다음 주기에 다시 정산
+            log.error("플래시 세일 재고 정산 실패: bookId={}, delta={}", bookId, delta, e);
+        }
+    }
+
+    private void adjustStock(Long bookId, int delta) {
+        if (delta != 0 && bookRepository.adjustStock(bookId, delta) == 0) {
+            throw new CustomException(ErrorCode.NOT_FOUND_BOOK, "book_id=" + bookId);
+        }
+    }
+
+    private void releaseOnRollback(Map<Long, Integer> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    releaseNow(reserved);
+                }
+            }
+        });
+    }
+
+    private void releaseNow(Map<Long, Integer> quantities) {
+        List<Long> bookIds = new ArrayList<>(quantities.keySet());
+        redisService.executeScript(RELEASE_SCRIPT, scriptKeys(bookIds), scriptArgs(quantities));
+        log.info("플래시 세일 재고 반환: {}", quantities);
+    }
+
+    private List<String> scriptKeys(List<Long> bookIds) {
+        List<String> keys = new ArrayList<>(bookIds.size() + 1);
+        bookIds.forEach(bookId -> keys.add(stockKey(bookId)));
+        keys.add(PENDING_KEY);
+        return keys;
+    }
+
+    private List<String> scriptArgs(Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>(quantities.size() * 2);
+        quantities.forEach((bookId, quantity) -> {
+            args.add(String.valueOf(bookId));
+            args.add(String.valueOf(quantity));
+        });
+        return args;
+    }
+
+    private String stockKey(Long bookId) {
+        return STOCK_KEY_PREFIX + bookId;
+    }
+
+    private long toLong(Object value) {
+        return Long.parseLong(value.toString());
+    }
+}
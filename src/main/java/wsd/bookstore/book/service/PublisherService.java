@@ -3,9 +3,12 @@ package wsd.bookstore.book.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wsd.bookstore.book.entity.Publisher;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.book.repository.PublisherRepository;
 import wsd.bookstore.book.request.PublisherRequest;
 import wsd.bookstore.book.response.PublisherResponse;
@@ -19,6 +22,9 @@ import wsd.bookstore.common.error.ErrorCode;
 public class PublisherService {
 
     private final PublisherRepository publisherRepository;
+    private final BookRepository bookRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<PublisherResponse> getPublishers() {
         log.info("출판사 목록 조회 요청");
@@ -42,6 +48,7 @@ public class PublisherService {
         }
         Publisher publisher = new Publisher(request.getName());
         Publisher savedPublisher = publisherRepository.save(publisher);
+        catalogVersionService.increment();
         log.info("출판사 생성 완료: id={}", savedPublisher.getId());
         return savedPublisher.getId();
     }
@@ -57,6 +64,8 @@ public class PublisherService {
         }
 
         publisher.update(request.getName());
+        publishCatalogChanged(bookRepository.findIdsByPublisherId(publisherId));
+        catalogVersionService.increment();
         log.info("출판사 수정 완료: id={}", publisherId);
     }
 
@@ -65,7 +74,17 @@ public class PublisherService {
         log.info("출판사 삭제 요청: id={}", publisherId);
         Publisher publisher = publisherRepository.findById(publisherId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PUBLISHER));
+        List<Long> bookIds = bookRepository.findIdsByPublisherId(publisherId);
         publisherRepository.delete(publisher);
+        publishCatalogChanged(bookIds);
+        catalogVersionService.increment();
         log.info("출판사 삭제 완료: id={}", publisherId);
     }
+
+    // 출판사 이름으로도 검색되므로 소속 도서를 다시 색인하도록 알림
+    private void publishCatalogChanged(List<Long> bookIds) {
+        if (!bookIds.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(bookIds));
+        }
+    }
 }
@@ -0,0 +1,298 @@
+package wsd.bookstore.book.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wsd.bookstore.book.request.SalesWindow;
+import wsd.bookstore.book.service.SalesSnapshotReader.SalesSnapshot;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.order.event.OrderCancelledEvent;
+import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.event.OrderCompletedEvent;
+
+/**
+ * 도서별 판매량 랭킹.
+ * 주문 완료/취소 이벤트로 누적(RANK:SALES), 시간별(RANK:SALES:H:*), 일별(RANK:SALES:D:*) 정렬 집합을 증감하고,
+ * 기간별 랭킹은 스케줄러가 버킷을 미리 합산해 둔 RANK:SALES:W:* 에서 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRankingService {
+
+    private static final String SALES_RANKING_KEY = "RANK:SALES";
+    private static final String HOURLY_BUCKET_PREFIX = "RANK:SALES:H:";
+    private static final String DAILY_BUCKET_PREFIX = "RANK:SALES:D:";
+    private static final String WINDOW_KEY_PREFIX = "RANK:SALES:W:";
+    private static final String REBUILD_MARKER_KEY = "RANK:SALES:REBUILD";
+    private static final String REBUILD_TEMP_KEY = "RANK:SALES:REBUILD:TEMP";
+    private static final String REBUILD_JOURNAL_KEY = "RANK:SALES:REBUILD:JOURNAL";
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 버킷은 가장 긴 기간(월)보다 조금 더 보관한 뒤 자동 만료
+    private static final Duration HOURLY_BUCKET_TTL = Duration.ofHours(25);
+    private static final Duration DAILY_BUCKET_TTL = Duration.ofDays(31);
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(10);
+
+    // 재구성 표식 TTL. 재구성이 중단되어도 이 시간이 지나면 기록이 멈추고 다음 재구성이 가능해짐
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    // TTL 이 0 인 키(누적 랭킹)는 항상 반영, 그 외 버킷은 취소 시 이미 만료되었으면 건너뜀.
+    // 취소로 판매량이 0 이하가 된 도서는 제거해 판매가 적은 기간의 랭킹을 채우지 않도록 함.
+    // 재구성 중(표식 존재)이면 주문 단위로 기록해 스냅샷 이후의 판매가 교체 시 빠지지 않도록 함
+    // KEYS: 누적, 시간별, 일별, 재구성 표식, 재구성 기록 / ARGV: 키별 TTL 3개, 취소 여부, 기록 항목, 기록 TTL, (도서 ID, 증감) 쌍
+    private static final RedisScript<Long> APPLY_SALES_SCRIPT = new DefaultRedisScript<>("""
+            local onlyIfExists = ARGV[4] == '1'
+            for k = 1, 3 do
+                local ttl = tonumber(ARGV[k])
+                if ttl == 0 or not onlyIfExists or redis.call('EXISTS', KEYS[k]) == 1 then
+                    for i = 7, #ARGV, 2 do
+                        redis.call('ZINCRBY', KEYS[k], ARGV[i + 1], ARGV[i])
+                    end
+                    redis.call('ZREMRANGEBYSCORE', KEYS[k], '-inf', 0)
+                    if ttl > 0 and not onlyIfExists then
+                        redis.call('EXPIRE', KEYS[k], ttl)
+                    end
+                end
+            end
+            local token = redis.call('GET', KEYS[4])
+            if token then
+                redis.call('RPUSH', KEYS[5], token .. '|' .. ARGV[5])
+                redis.call('EXPIRE', KEYS[5], ARGV[6])
+            end
+            return 3
+            """, Long.class);
+
+    // 표식이 아직 자신의 것일 때만 교체. 스냅샷과 대조하지 않은 기록(ARGV[2] 이후)은 모두 스냅샷 이후 주문이므로 더함
+    // KEYS: 재구성 표식, 임시 랭킹, 누적 랭킹, 재구성 기록 / ARGV: 재구성 토큰, 대조한 기록 수
+    private static final RedisScript<Long> SWAP_RANKING_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                redis.call('DEL', KEYS[2])
+                return 0
+            end
+            local entries = redis.call('LRANGE', KEYS[4], tonumber(ARGV[2]), -1)
+            for _, entry in ipairs(entries) do
+                local token, items = string.match(entry, '^([^|]*)|[^|]*|[^|]*|(.*)$')
+                if token == ARGV[1] then
+                    for bookId, delta in string.gmatch(items, '(%d+):(-?%d+)') do
+                        redis.call('ZINCRBY', KEYS[2], delta, bookId)
+                    end
+                end
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', 0)
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[3])
+            else
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('DEL', KEYS[4], KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final SalesSnapshotReader salesSnapshotReader;
+
+    public List<Long> getTopBookIds(SalesWindow window, int limit) {
+        // ZREVRANGE 0 -1 은 전체 랭킹을 반환하므로 호출하는 쪽의 검증과 관계없이 여기서 거부
+        if (limit < 1) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "limit=" + limit);
+        }
+
+        String key = SALES_RANKING_KEY;
+        if (window != SalesWindow.ALL) {
+            key = WINDOW_KEY_PREFIX + window.name();
+            if (!redisService.hasKey(key)) {
+                rollWindow(window, LocalDateTime.now());
+            }
+        }
+
+        return redisService.getReverseRange(key, 0, limit - 1L).stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onOrderCompleted(OrderCompletedEvent event) {
+        applySales(event.getOrderId(), event.getQuantities(), event.getOrderedAt(), false);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        applySales(event.getOrderId(), event.getQuantities(), event.getOrderedAt(), true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!redisService.hasKey(SALES_RANKING_KEY)) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("판매량 랭킹 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 이벤트 유실(Redis 장애 등)에 대비해 매일 새벽 주문 이력 기준으로 누적 랭킹을 재구성한다.
+     * 재구성 표식을 건 뒤의 주문은 모두 기록되므로, 스냅샷에 반영되지 않은 기록만 더해 교체하면
+     * 재구성 도중의 판매도 교체 시 빠지지 않는다. 표식은 노드 간 잠금도 겸한다.
+     */
+    @Scheduled(cron = "${app.ranking.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.setValuesIfAbsent(REBUILD_MARKER_KEY, token, REBUILD_TIMEOUT)) {
+            log.info("다른 노드에서 판매량 랭킹 재구성 중");
+            return;
+        }
+
+        List<String> recorded = new ArrayList<>();
+        SalesSnapshot snapshot = salesSnapshotReader.read(() -> {
+            recorded.addAll(redisService.getListValues(REBUILD_JOURNAL_KEY));
+            return journalEntries(recorded, token).stream().map(JournalEntry::orderId).toList();
+        });
+
+        Map<Long, Long> soldQuantities = new HashMap<>(snapshot.soldQuantities());
+        for (JournalEntry entry : journalEntries(recorded, token)) {
+            if (!isReflected(entry, snapshot.orderStatuses())) {
+                entry.deltas().forEach((bookId, delta) -> soldQuantities.merge(bookId, (long) delta, Long::sum));
+            }
+        }
+
+        Map<String, Double> scores = new HashMap<>();
+        soldQuantities.forEach((bookId, quantity) -> {
+            if (quantity > 0) {
+                scores.put(String.valueOf(bookId), quantity.doubleValue());
+            }
+        });
+
+        redisService.storeSortedSet(REBUILD_TEMP_KEY, scores, REBUILD_TIMEOUT);
+        Long swapped = redisService.executeScript(SWAP_RANKING_SCRIPT,
+                List.of(REBUILD_MARKER_KEY, REBUILD_TEMP_KEY, SALES_RANKING_KEY, REBUILD_JOURNAL_KEY),
+                List.of(token, String.valueOf(recorded.size())));
+        if (swapped == null || swapped == 0L) {
+            log.warn("판매량 랭킹 재구성 시간 초과로 교체하지 않음: timeout={}", REBUILD_TIMEOUT);
+            return;
+        }
+        log.info("판매량 랭킹 재구성 완료: size={}, recorded={}", scores.size(), recorded.size());
+    }
+
+    // 조회 시점에 버킷을 합산하지 않도록 기간별 랭킹을 주기적으로 미리 합산
+    @Scheduled(fixedDelayString = "${app.ranking.window-roll-interval-ms:60000}")
+    public void rollWindows() {
+        LocalDateTime now = LocalDateTime.now();
+        for (SalesWindow window : SalesWindow.values()) {
+            if (window != SalesWindow.ALL) {
+                rollWindow(window, now);
+            }
+        }
+    }
+
+    private void rollWindow(SalesWindow window, LocalDateTime now) {
+        redisService.unionAndStore(bucketKeys(window, now), WINDOW_KEY_PREFIX + window.name(), WINDOW_TTL);
+    }
+
+    private List<String> bucketKeys(SalesWindow window, LocalDateTime now) {
+        List<String> keys = new ArrayList<>();
+        switch (window) {
+            case DAY -> {
+                for (int i = 0; i < 24; i++) {
+                    keys.add(HOURLY_BUCKET_PREFIX + HOUR_FORMAT.format(now.minusHours(i)));
+                }
+            }
+            case WEEK, MONTH -> {
+                int days = window == SalesWindow.WEEK ? 7 : 30;
+                for (int i = 0; i < days; i++) {
+                    keys.add(DAILY_BUCKET_PREFIX + DAY_FORMAT.format(now.minusDays(i)));
+                }
+            }
+            default -> throw new IllegalArgumentException("window=" + window);
+        }
+        return keys;
+    }
+
+    // 커밋 이후 실행되므로 실패해도 주문 처리에는 영향을 주지 않음 (정기 재구성으로 보정)
+    private void applySales(Long orderId, Map<Long, Integer> quantities, LocalDateTime orderedAt,
+                            boolean cancelled) {
+        LocalDateTime bucketTime = orderedAt != null ? orderedAt : LocalDateTime.now();
+
+        List<String> keys = List.of(
+                SALES_RANKING_KEY,
+                HOURLY_BUCKET_PREFIX + HOUR_FORMAT.format(bucketTime),
+                DAILY_BUCKET_PREFIX + DAY_FORMAT.format(bucketTime),
+                REBUILD_MARKER_KEY,
+                REBUILD_JOURNAL_KEY);
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        quantities.forEach((bookId, quantity) -> deltas.put(bookId, cancelled ? -quantity : quantity));
+
+        StringJoiner items = new StringJoiner(",");
+        deltas.forEach((bookId, delta) -> items.add(bookId + ":" + delta));
+
+        List<String> args = new ArrayList<>();
+        args.add("0");
+        args.add(String.valueOf(HOURLY_BUCKET_TTL.toSeconds()));
+        args.add(String.valueOf(DAILY_BUCKET_TTL.toSeconds()));
+        args.add(cancelled ? "1" : "0");
+        args.add(orderId + "|" + (cancelled ? "1" : "0") + "|" + items);
+        args.add(String.valueOf(REBUILD_TIMEOUT.toSeconds()));
+        deltas.forEach((bookId, delta) -> {
+            args.add(String.valueOf(bookId));
+            args.add(String.valueOf(delta));
+        });
+
+        try {
+            redisService.executeScript(APPLY_SALES_SCRIPT, keys, args);
+        } catch (RuntimeException e) {
+            log.warn("판매량 랭킹 반영 실패: orderId={}", orderId, e);
+        }
+    }
+
+    private List<JournalEntry> journalEntries(List<String> recorded, String token) {
+        return recorded.stream()
+                .map(JournalEntry::parse)
+                .filter(entry -> entry.token().equals(token))
+                .toList();
+    }
+
+    // 스냅샷 시점에 보이는 주문의 완료 기록과, 이미 취소 상태로 보이는 주문의 취소 기록은 스냅샷에 반영되어 있음
+    private boolean isReflected(JournalEntry entry, Map<Long, OrderStatus> orderStatuses) {
+        OrderStatus status = orderStatuses.get(entry.orderId());
+        return status != null && (!entry.cancelled() || status == OrderStatus.CANCELLED);
+    }
+
+    // 재구성 기록 항목: {재구성 토큰}|{주문 ID}|{취소 여부}|{도서 ID}:{증감},...
+    record JournalEntry(String token, Long orderId, boolean cancelled, Map<Long, Integer> deltas) {
+
+        static JournalEntry parse(String value) {
+            String[] parts = value.split("\\|", 4);
+            Map<Long, Integer> deltas = new LinkedHashMap<>();
+            for (String item : parts[3].split(",")) {
+                if (!item.isEmpty()) {
+                    String[] pair = item.split(":");
+                    deltas.put(Long.valueOf(pair[0]), Integer.valueOf(pair[1]));
+                }
+            }
+            return new JournalEntry(parts[0], Long.valueOf(parts[1]), "1".equals(parts[2]), deltas);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package wsd.bookstore.book.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.repository.OrderRepository;
+
+/**
+ * 판매량 랭킹 재구성용 DB 스냅샷 조회.
+ * 누적 판매량과 재구성 중 기록된 주문의 상태를 한 트랜잭션(같은 읽기 시점)에서 읽어,
+ * 기록된 주문이 스냅샷에 이미 반영되었는지 판단할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesSnapshotReader {
+
+    private final BookRepository bookRepository;
+    private final OrderRepository orderRepository;
+
+    /**
+     * @param recordedOrderIds 판매량을 읽은 뒤에 조회할 주문 ID (재구성 중 기록된 주문)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SalesSnapshot read(Supplier<Collection<Long>> recordedOrderIds) {
+        Map<Long, Long> soldQuantities = bookRepository.countSoldQuantities();
+
+        // 판매량 조회로 읽기 시점이 고정된 뒤에 기록을 읽어야, 이후에 기록되는 주문은 모두 스냅샷에 없는 주문이 됨
+        Map<Long, OrderStatus> orderStatuses = new HashMap<>();
+        orderRepository.findAllById(recordedOrderIds.get())
+                .forEach(order -> orderStatuses.put(order.getId(), order.getStatus()));
+        return new SalesSnapshot(soldQuantities, orderStatuses);
+    }
+
+    public record SalesSnapshot(Map<Long, Long> soldQuantities, Map<Long, OrderStatus> orderStatuses) {
+    }
+}
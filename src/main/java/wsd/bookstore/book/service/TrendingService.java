@@ -0,0 +1,211 @@
+package wsd.bookstore.book.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wsd.bookstore.book.event.BookActivityEvent;
+import wsd.bookstore.book.event.BookActivityType;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.order.event.OrderCompletedEvent;
+
+/**
+ * 지수 감쇠 인기 점수 기반 트렌딩 랭킹.
+ * 점수는 기준 시각(landmark) 대비 e^(λ·Δt) 를 곱한 값으로 누적하여(forward decay) 이벤트마다 전체를 갱신하지 않고,
+ * 주기적으로 기준 시각을 옮기면서 충분히 감쇠된 도서를 정리하고 Redis 에 스냅샷을 남긴다.
+ * 점수는 노드가 받은 이벤트만으로 쌓이므로 스냅샷은 노드별 키(TREND:SNAPSHOT:{nodeId})에 기준 시각과 함께 저장하고,
+ * 재시작한 노드는 자신의 키를 제외한 살아 있는 스냅샷들을 자신의 기준 시각으로 환산한 평균으로 복원하며,
+ * 복원이 끝나기 전에는 빈 스냅샷이 평균을 희석하지 않도록 스냅샷을 남기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "TREND:SNAPSHOT:";
+    private static final double MAX_EXPONENT = 50.0;
+    private static final double MIN_SCORE = 1e-3;
+
+    private final RedisService redisService;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private volatile long landmarkEpochSecond = Instant.now().getEpochSecond();
+    private volatile boolean restored;
+
+    @Value("${app.trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @TransactionalEventListener
+    public void onBookActivity(BookActivityEvent event) {
+        record(event.getBookId(), event.getType().getWeight(), Instant.now().getEpochSecond());
+    }
+
+    @TransactionalEventListener
+    public void onOrderCompleted(OrderCompletedEvent event) {
+        long now = Instant.now().getEpochSecond();
+        event.getQuantities().forEach((bookId, quantity) ->
+                record(bookId, BookActivityType.ORDER.getWeight() * quantity, now));
+    }
+
+    public List<Long> getTopBookIds(int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> topEntries =
+                new PriorityQueue<>(Comparator.comparingDouble(Map.Entry::getValue));
+
+        landmarkLock.readLock().lock();
+        try {
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                topEntries.offer(Map.entry(entry.getKey(), entry.getValue()));
+                if (topEntries.size() > limit) {
+                    topEntries.poll();
+                }
+            }
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+
+        List<Long> bookIds = new ArrayList<>(topEntries.size());
+        while (!topEntries.isEmpty()) {
+            bookIds.add(0, topEntries.poll().getKey());
+        }
+        return bookIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            String ownKey = SNAPSHOT_KEY_PREFIX + nodeId;
+            List<String> keys = redisService.scanKeys(SNAPSHOT_KEY_PREFIX + "*").stream()
+                    .filter(key -> !key.equals(ownKey))
+                    .toList();
+            if (keys.isEmpty()) {
+                return;
+            }
+
+            // 점수가 하나도 없는 스냅샷까지 평균에 넣으면 복원된 점수가 노드 수만큼 희석됨
+            List<String> snapshots = redisService.multiGetValues(keys).stream()
+                    .filter(TrendingService::hasEntries)
+                    .toList();
+            if (snapshots.isEmpty()) {
+                return;
+            }
+
+            landmarkLock.writeLock().lock();
+            try {
+                for (String snapshot : snapshots) {
+                    mergeSnapshot(snapshot, 1.0 / snapshots.size());
+                }
+            } finally {
+                landmarkLock.writeLock().unlock();
+            }
+            log.info("트렌딩 점수 복원 완료: snapshots={}, size={}", snapshots.size(), scores.size());
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 점수 복원 실패", e);
+        } finally {
+            restored = true;
+        }
+    }
+
+    // 반감기가 지나도록 갱신되지 않은 스냅샷(종료된 노드)은 만료되어 복원 대상에서 빠짐
+    // 스케줄러는 ApplicationReadyEvent 보다 먼저 시작되므로 첫 스냅샷을 한 주기 늦추고 복원 전이면 건너뜀
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!restored) {
+            return;
+        }
+
+        StringBuilder snapshot = new StringBuilder();
+
+        landmarkLock.writeLock().lock();
+        try {
+            rebase(Instant.now().getEpochSecond());
+            snapshot.append(landmarkEpochSecond).append(';');
+            scores.forEach((bookId, score) -> snapshot.append(bookId).append('=').append(score).append(','));
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+
+        try {
+            redisService.setValues(SNAPSHOT_KEY_PREFIX + nodeId, snapshot.toString(),
+                    Duration.ofSeconds((long) (halfLifeHours * 3600)));
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 점수 스냅샷 저장 실패", e);
+        }
+    }
+
+    void record(Long bookId, double weight, long epochSecond) {
+        landmarkLock.readLock().lock();
+        try {
+            double exponent = decayRate() * (epochSecond - landmarkEpochSecond);
+            if (exponent <= MAX_EXPONENT) {
+                scores.merge(bookId, weight * Math.exp(exponent), Double::sum);
+                return;
+            }
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+
+        // 지수가 너무 커지면 기준 시각을 옮긴 뒤 다시 반영
+        landmarkLock.writeLock().lock();
+        try {
+            rebase(epochSecond);
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+        record(bookId, weight, epochSecond);
+    }
+
+    private static boolean hasEntries(String snapshot) {
+        if (snapshot == null) {
+            return false;
+        }
+        int separator = snapshot.indexOf(';');
+        return separator >= 0 && separator < snapshot.length() - 1;
+    }
+
+    // 스냅샷 기준 시각의 점수를 현재 기준 시각 단위로 환산해 더함. 쓰기 잠금을 잡은 상태에서만 호출
+    private void mergeSnapshot(String snapshot, double weight) {
+        String[] parts = snapshot.split(";", 2);
+        long snapshotLandmark = Long.parseLong(parts[0]);
+        double factor = weight * Math.exp(-decayRate() * (landmarkEpochSecond - snapshotLandmark));
+        if (parts.length > 1 && !parts[1].isEmpty()) {
+            for (String entry : parts[1].split(",")) {
+                String[] pair = entry.split("=");
+                scores.merge(Long.valueOf(pair[0]), Double.parseDouble(pair[1]) * factor, Double::sum);
+            }
+        }
+    }
+
+    // 쓰기 잠금을 잡은 상태에서만 호출
+    private void rebase(long epochSecond) {
+        if (epochSecond <= landmarkEpochSecond) {
+            return;
+        }
+
+        double factor = Math.exp(-decayRate() * (epochSecond - landmarkEpochSecond));
+        scores.replaceAll((bookId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        landmarkEpochSecond = epochSecond;
+    }
+
+    private double decayRate() {
+        return Math.log(2) / (halfLifeHours * 3600);
+    }
+}
@@ -64,7 +64,7 @@ public class CartController {
             """)))
     public ResponseEntity<ApiResponse<CartResponse>> getMyCart(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        CartResponse cart = cartService.getMyCart(userDetails.getUser());
+        CartResponse cart = cartService.getMyCart(userDetails.getUserId());
         return ApiResponse.ok(cart, "장바구니 조회 성공");
     }
 
@@ -80,7 +80,7 @@ public class CartController {
     public ResponseEntity<ApiResponse<Void>> addItemToCart(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody @Valid AddCartItemRequest request) {
-        cartService.addCartItem(request, userDetails.getUser());
+        cartService.addCartItem(request, userDetails.getUserId());
         return ApiResponse.ok(null, "장바구니에 추가되었습니다.");
     }
 
@@ -119,7 +119,7 @@ public class CartController {
             @PathVariable Long cartItemId,
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody @Valid UpdateCartItemRequest request) {
-        CartResponse cart = cartService.updateCartItem(cartItemId, request, userDetails.getUser());
+        CartResponse cart = cartService.updateCartItem(cartItemId, request, userDetails.getUserId());
         return ApiResponse.ok(cart, "장바구니 업데이트 성공");
     }
 
@@ -135,7 +135,7 @@ public class CartController {
     public ResponseEntity<ApiResponse<Void>> removeCartItem(
             @PathVariable Long cartItemId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        cartService.removeCartItem(cartItemId, userDetails.getUser());
+        cartService.removeCartItem(cartItemId, userDetails.getUserId());
         return ApiResponse.noContent("장바구니 삭제 성공");
     }
 
@@ -150,7 +150,7 @@ public class CartController {
             """)))
     public ResponseEntity<ApiResponse<Void>> clearCart(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        cartService.clearCart(userDetails.getUser());
+        cartService.clearCart(userDetails.getUserId());
         return ApiResponse.noContent("장바구니에서 삭제되었습니다.");
     }
 }
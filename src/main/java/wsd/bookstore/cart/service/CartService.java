@@ -20,6 +20,7 @@ import wsd.bookstore.cart.response.CartResponse;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.user.entity.User;
+import wsd.bookstore.user.repository.UserRepository;
 
 @Slf4j
 @Service
@@ -30,29 +31,32 @@ public class CartService {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final BookRepository bookRepository;
+    private final UserRepository userRepository;
 
-    public CartResponse getMyCart(User user) {
-        log.info("장바구니 조회 요청: userId={}", user.getId());
-        Cart cart = cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE).orElse(null);
+    public CartResponse getMyCart(Long userId) {
+        log.info("장바구니 조회 요청: userId={}", userId);
+        Cart cart = cartRepository.findByUserIdAndStatus(userId, CartStatus.ACTIVE).orElse(null);
 
         if (cart == null) {
             return CartResponse.from(null, Collections.emptyList());
         }
 
-        List<CartItemResponse> cartItems = cartRepository.findCartItems(user.getId());
+        List<CartItemResponse> cartItems = cartRepository.findCartItems(userId);
         return CartResponse.from(cart, cartItems);
     }
 
     @Transactional
-    public void addCartItem(AddCartItemRequest request, User user) {
+    public void addCartItem(AddCartItemRequest request, Long userId) {
         log.info("장바구니 담기 요청: bookId={}, quantity={}, userId={}", request.getBookId(), request.getQuantity(),
-                user.getId());
+                userId);
         Book book = bookRepository.findById(request.getBookId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_BOOK));
 
-        Cart cart = cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)
+        Cart cart = cartRepository.findByUserIdAndStatus(userId, CartStatus.ACTIVE)
                 .orElseGet(() -> {
-                    log.info("새 장바구니 생성: userId={}", user.getId());
+                    log.info("새 장바구니 생성: userId={}", userId);
+                    User user = userRepository.findById(userId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
                     return cartRepository.save(Cart.builder()
                             .user(user)
                             .status(CartStatus.ACTIVE)
@@ -77,13 +81,13 @@ public class CartService {
     }
 
     @Transactional
-    public CartResponse updateCartItem(Long cartItemId, UpdateCartItemRequest request, User user) {
+    public CartResponse updateCartItem(Long cartItemId, UpdateCartItemRequest request, Long userId) {
         log.info("장바구니 상품 수량 변경 요청: cartItemId={}, quantity={}", cartItemId, request.getQuantity());
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CART_ITEM));
 
         Cart cart = cartItem.getCart();
-        if (!cart.getUser().getId().equals(user.getId())) {
+        if (!cart.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
@@ -94,17 +98,17 @@ public class CartService {
         cartItem.updateQuantity(request.getQuantity());
 
         log.info("장바구니 상품 수량 변경 완료: cartItemId={}", cartItemId);
-        return getMyCart(user);
+        return getMyCart(userId);
     }
 
     @Transactional
-    public void removeCartItem(Long cartItemId, User user) {
+    public void removeCartItem(Long cartItemId, Long userId) {
         log.info("장바구니 상품 삭제 요청: cartItemId={}", cartItemId);
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CART_ITEM));
 
         Cart cart = cartItem.getCart();
-        if (!cart.getUser().getId().equals(user.getId())) {
+        if (!cart.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
@@ -118,9 +122,9 @@ public class CartService {
     }
 
     @Transactional
-    public void clearCart(User user) {
-        log.info("장바구니 비우기 요청: userId={}", user.getId());
-        Cart cart = cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)
+    public void clearCart(Long userId) {
+        log.info("장바구니 비우기 요청: userId={}", userId);
+        Cart cart = cartRepository.findByUserIdAndStatus(userId, CartStatus.ACTIVE)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CART_ITEM));
 
         cart.getItems().clear();
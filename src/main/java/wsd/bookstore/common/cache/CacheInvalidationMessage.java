@@ -0,0 +1,23 @@
+package wsd.bookstore.common.cache;
+
+/**
+ * 다른 노드의 로컬 캐시 항목을 지우기 위한 메시지. key 가 null 이면 캐시 전체를 지운다.
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+
+    private static final String SEPARATOR = "\n";
+
+    public String encode() {
+        return nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? "k" + key : "*");
+    }
+
+    // 키에 구분자가 들어 있어도 되도록 앞의 두 필드만 나눔
+    public static CacheInvalidationMessage decode(String body) {
+        String[] parts = body.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지: " + body);
+        }
+        String key = parts[2].startsWith("k") ? parts[2].substring(1) : null;
+        return new CacheInvalidationMessage(parts[0], parts[1], key);
+    }
+}
@@ -0,0 +1,42 @@
+package wsd.bookstore.common.cache;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 로컬 캐시 무효화를 Redis pub/sub 채널로 다른 노드에 알린다.
+ * 전송에 실패하면 다른 노드의 로컬 항목은 로컬 TTL 이 지날 때까지 남는다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 자신이 보낸 메시지를 구분하기 위한 노드 식별자
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message.encode());
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 전송 실패: cache={}, key={}", message.cacheName(), message.key(), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package wsd.bookstore.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 캐시 항목 계산을 노드 간에 한 곳에서만 하도록 잡는 짧은 Redis 잠금.
+ * 잠금은 lease 가 지나면 자동으로 풀리므로 계산 중 노드가 죽어도 다른 노드가 이어서 계산한다.
+ * Redis 를 사용할 수 없으면 잠금을 얻은 것으로 보고 각 노드가 직접 계산한다.
+ */
+@Slf4j
+public class CacheLoadLock {
+
+    private static final String KEY_PREFIX = "cache:lock:";
+
+    // 자신이 잡은 잠금만 해제 (lease 만료 후 다른 노드가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration lease;
+
+    public CacheLoadLock(StringRedisTemplate stringRedisTemplate, Duration lease) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lease = lease;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    /**
+     * 잠금을 얻으면 해제에 쓸 토큰을, 다른 노드가 이미 잡고 있으면 null 을 반환한다.
+     */
+    public String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lease);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("캐시 계산 잠금 획득 실패, 직접 계산: cache={}, key={}", cacheName, key, e);
+            return token;
+        }
+    }
+
+    public void unlock(String cacheName, String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 계산 잠금 해제 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
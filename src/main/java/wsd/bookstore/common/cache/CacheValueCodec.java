@@ -0,0 +1,13 @@
+package wsd.bookstore.common.cache;
+
+/**
+ * 캐시 값 본문 인코딩 방식. id 는 저장된 값의 헤더에 기록되므로 구현마다 고유하고 바뀌지 않아야 한다.
+ */
+public interface CacheValueCodec {
+
+    byte id();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes, int offset, int length);
+}
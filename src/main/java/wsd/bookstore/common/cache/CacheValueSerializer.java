@@ -0,0 +1,121 @@
+package wsd.bookstore.common.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 캐시 값 직렬화기. 본문 앞에 4바이트 헤더를 두고, 본문이 임계값보다 크면 LZ4 로 압축한다.
+ * <pre>
+ * [MAGIC][스키마 버전][코덱 ID][플래그] ([원본 길이 4바이트] LZ4 블록 | 본문)
+ * </pre>
+ * 스키마 버전이 다르거나 읽을 수 없는 값은 캐시 미스(null)로 처리하므로, 형식이 다른 버전이 함께 떠 있는
+ * 롤링 배포 중에도 오류 없이 다시 계산해 덮어쓴다. 헤더가 없는 값은 이전 JSON 형식으로 읽는다.
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    // 캐시에 저장하는 DTO 구조가 호환되지 않게 바뀌면 올림
+    public static final byte SCHEMA_VERSION = 1;
+
+    // JSON 문서의 첫 글자('{', '[', '"')와 겹치지 않는 값
+    private static final byte MAGIC = (byte) 0xCA;
+    private static final int HEADER_LENGTH = 4;
+    private static final int LENGTH_FIELD = 4;
+    private static final byte FLAG_LZ4 = 0x01;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final CacheValueCodec writeCodec;
+    private final Map<Byte, CacheValueCodec> readCodecs = new HashMap<>();
+    private final CacheValueCodec legacyCodec = new JsonCacheValueCodec();
+    private final int compressionThreshold;
+
+    /**
+     * @param writeCodec           저장에 사용할 코덱
+     * @param readCodecs           읽을 수 있는 코덱 (코덱을 바꾸는 배포 중에는 이전 코덱도 포함)
+     * @param compressionThreshold 이 크기(바이트) 이상인 본문만 압축
+     */
+    public CacheValueSerializer(CacheValueCodec writeCodec, Collection<CacheValueCodec> readCodecs,
+                                int compressionThreshold) {
+        this.writeCodec = writeCodec;
+        this.compressionThreshold = compressionThreshold;
+        this.readCodecs.put(writeCodec.id(), writeCodec);
+        readCodecs.forEach(codec -> this.readCodecs.put(codec.id(), codec));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] body = writeCodec.encode(value);
+        if (body.length < compressionThreshold) {
+            return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+                    .put(header((byte) 0))
+                    .put(body)
+                    .array();
+        }
+
+        LZ4Compressor compressor = LZ4.fastCompressor();
+        byte[] compressed = new byte[HEADER_LENGTH + LENGTH_FIELD + compressor.maxCompressedLength(body.length)];
+        int compressedLength = compressor.compress(body, 0, body.length, compressed, HEADER_LENGTH + LENGTH_FIELD);
+        ByteBuffer.wrap(compressed)
+                .put(header(FLAG_LZ4))
+                .putInt(body.length);
+        return Arrays.copyOf(compressed, HEADER_LENGTH + LENGTH_FIELD + compressedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] != MAGIC) {
+                return legacyCodec.decode(bytes, 0, bytes.length);
+            }
+            return decode(bytes);
+        } catch (RuntimeException e) {
+            log.warn("캐시 값 디코딩 실패, 미스로 처리: length={}", bytes.length, e);
+            return null;
+        }
+    }
+
+    private Object decode(byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("캐시 값 헤더가 잘렸음: length=" + bytes.length);
+        }
+        byte schemaVersion = bytes[1];
+        if (schemaVersion != SCHEMA_VERSION) {
+            log.debug("다른 스키마 버전의 캐시 값, 미스로 처리: version={}", schemaVersion);
+            return null;
+        }
+        CacheValueCodec codec = readCodecs.get(bytes[2]);
+        if (codec == null) {
+            log.debug("알 수 없는 코덱의 캐시 값, 미스로 처리: codec={}", bytes[2]);
+            return null;
+        }
+
+        if ((bytes[3] & FLAG_LZ4) == 0) {
+            return codec.decode(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        }
+        int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_FIELD).getInt();
+        LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+        byte[] body = new byte[originalLength];
+        decompressor.decompress(bytes, HEADER_LENGTH + LENGTH_FIELD, body, 0, originalLength);
+        return codec.decode(body, 0, originalLength);
+    }
+
+    private byte[] header(byte flags) {
+        return new byte[] {MAGIC, SCHEMA_VERSION, writeCodec.id(), flags};
+    }
+}
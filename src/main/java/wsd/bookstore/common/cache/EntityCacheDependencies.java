@@ -0,0 +1,50 @@
+package wsd.bookstore.common.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 엔티티 타입별로 변경 시 무효화할 캐시 영역과 키.
+ * 키를 정할 수 없는 캐시(검색 조건별 키 등)는 캐시 전체를 비우도록 등록한다.
+ */
+public class EntityCacheDependencies {
+
+    private final Map<Class<?>, List<Function<Object, CacheInvalidation>>> dependencies = new LinkedHashMap<>();
+
+    public EntityCacheDependencies clearOn(Class<?> entityType, String cacheName) {
+        return register(entityType, entity -> new CacheInvalidation(cacheName, null));
+    }
+
+    public <T> EntityCacheDependencies evictOn(Class<T> entityType, String cacheName,
+                                               Function<? super T, ?> keyResolver) {
+        return register(entityType,
+                entity -> new CacheInvalidation(cacheName, keyResolver.apply(entityType.cast(entity))));
+    }
+
+    /**
+     * 변경된 엔티티에 의존하는 캐시 무효화 목록을 반환한다. 상위 타입으로 등록한 의존성도 포함한다.
+     */
+    public List<CacheInvalidation> resolve(Object entity) {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        dependencies.forEach((entityType, resolvers) -> {
+            if (entityType.isInstance(entity)) {
+                resolvers.forEach(resolver -> invalidations.add(resolver.apply(entity)));
+            }
+        });
+        return invalidations;
+    }
+
+    private EntityCacheDependencies register(Class<?> entityType, Function<Object, CacheInvalidation> resolver) {
+        dependencies.computeIfAbsent(entityType, key -> new ArrayList<>()).add(resolver);
+        return this;
+    }
+
+    /**
+     * 무효화할 캐시 항목. key 가 null 이면 캐시 전체를 비운다.
+     */
+    public record CacheInvalidation(String cacheName, Object key) {
+    }
+}
@@ -0,0 +1,137 @@
+package wsd.bookstore.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.common.cache.EntityCacheDependencies.CacheInvalidation;
+
+/**
+ * Hibernate 엔티티 변경(insert, update, delete) 이벤트로 의존 캐시를 무효화한다.
+ * 트랜잭션 안에서 발생한 무효화는 모아 두었다가 커밋 이후 한 번에 반영하고, 롤백되면 버린다.
+ * 다른 노드의 로컬 캐시는 캐시 매니저가 무효화 메시지로 함께 지운다.
+ * 벌크 JPQL 수정(재고 증감 등)은 엔티티 이벤트가 발생하지 않으므로 대상이 아니다.
+ */
+@Slf4j
+public class EntityCacheInvalidationListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final CacheManager cacheManager;
+    private final EntityCacheDependencies dependencies;
+
+    public EntityCacheInvalidationListener(CacheManager cacheManager, EntityCacheDependencies dependencies) {
+        this.cacheManager = cacheManager;
+        this.dependencies = dependencies;
+    }
+
+    public void register(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onEntityChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onEntityChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onEntityChanged(event.getEntity());
+    }
+
+    // 커밋 이후 무효화는 트랜잭션 동기화로 직접 처리하므로 Hibernate 의 커밋 후 콜백은 사용하지 않음
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onEntityChanged(Object entity) {
+        List<CacheInvalidation> invalidations = dependencies.resolve(entity);
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(invalidations);
+            return;
+        }
+
+        // 플러시는 커밋 직전에 일어나므로 이 시점에 등록한 동기화도 커밋 이후 호출됨
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.invalidations.addAll(invalidations);
+    }
+
+    private void apply(Collection<CacheInvalidation> invalidations) {
+        // 전체를 비우는 캐시는 개별 키 삭제를 생략
+        Set<String> clearedCaches = invalidations.stream()
+                .filter(invalidation -> invalidation.key() == null)
+                .map(CacheInvalidation::cacheName)
+                .collect(Collectors.toSet());
+
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.key() != null && clearedCaches.contains(invalidation.cacheName())) {
+                continue;
+            }
+            Cache cache = cacheManager.getCache(invalidation.cacheName());
+            if (cache == null) {
+                continue;
+            }
+            try {
+                if (invalidation.key() == null) {
+                    cache.clear();
+                } else {
+                    cache.evict(invalidation.key());
+                }
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 실패: cache={}, key={}", invalidation.cacheName(), invalidation.key(), e);
+            }
+        }
+        log.debug("엔티티 변경 캐시 무효화: {}", invalidations);
+    }
+
+    // 트랜잭션별 무효화 묶음 (같은 캐시 항목은 한 번만 무효화)
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            apply(invalidations);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheInvalidationListener.this);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package wsd.bookstore.common.cache;
+
+/**
+ * 다른 노드가 보낸 로컬 캐시 무효화 메시지를 받는 대상. 자신이 보낸 메시지는 구현체가 직접 걸러낸다.
+ */
+public interface LocalCacheInvalidationHandler {
+
+    void onInvalidation(CacheInvalidationMessage message);
+}
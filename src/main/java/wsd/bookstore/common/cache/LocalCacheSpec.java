@@ -0,0 +1,9 @@
+package wsd.bookstore.common.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드별 로컬(L1) 캐시의 최대 항목 수와 만료 시간. 만료 시간은 Redis(L2) TTL 보다 짧게 둔다.
+ */
+public record LocalCacheSpec(long maxSize, Duration ttl) {
+}
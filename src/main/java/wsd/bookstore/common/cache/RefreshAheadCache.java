@@ -0,0 +1,281 @@
+package wsd.bookstore.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 만료 전에 미리 갱신하고 동시 미스를 한 번의 계산으로 합치는 캐시.
+ * 값은 계산 시각, 계산 시간, 논리 만료 시각과 함께 저장하고, 조회마다 확률적 조기 만료(XFetch)로
+ * 만료가 가까울수록, 계산이 오래 걸릴수록 높은 확률로 백그라운드 갱신을 시작한다. 갱신 중에는 기존 값을 반환한다.
+ * 미스는 노드 안에서는 키별로 하나의 계산에 합치고, 노드 간에는 짧은 Redis 잠금으로 한 노드만 계산하며 나머지는 결과를 기다린다.
+ * 로더가 필요하므로 미리 갱신과 합치기는 @Cacheable(sync = true) 메서드에만 적용된다.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    // 다른 노드의 계산 결과를 기다릴 때 확인 간격
+    private static final long WAIT_INTERVAL_MILLIS = 50;
+
+    private final Cache delegate;
+    private final RefreshAheadSpec spec;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+
+    // 키별 진행 중인 계산 (미스) 과 진행 중인 미리 갱신
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter loads;
+    private final Counter collapsedLoads;
+    private final Counter refreshes;
+    private final Counter failedRefreshes;
+
+    public RefreshAheadCache(Cache delegate, RefreshAheadSpec spec, CacheLoadLock loadLock,
+                             Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.spec = spec;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.loads = loadCounter(meterRegistry, "load");
+        this.collapsedLoads = loadCounter(meterRegistry, "collapsed");
+        this.refreshes = loadCounter(meterRegistry, "refresh");
+        this.failedRefreshes = loadCounter(meterRegistry, "refresh_failed");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    // sync 가 아닌 @Cacheable 은 논리 만료만 적용
+    @Override
+    public ValueWrapper get(Object key) {
+        RefreshableValue entry = getFresh(key, System.currentTimeMillis());
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않음: cache=" + getName() + ", type=" + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long now = System.currentTimeMillis();
+        RefreshableValue entry = getFresh(key, now);
+        if (entry != null) {
+            if (shouldRefresh(entry, now, spec.beta(), 1.0 - ThreadLocalRandom.current().nextDouble())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        delegate.put(key, new RefreshableValue(value, now, 0, now + spec.ttl().toMillis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        ValueWrapper existing = delegate.putIfAbsent(key,
+                new RefreshableValue(value, now, 0, now + spec.ttl().toMillis()));
+        if (existing != null && existing.get() instanceof RefreshableValue entry) {
+            return new SimpleValueWrapper(entry.value());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * XFetch: now - computeMillis * beta * ln(random) 이 만료 시각을 넘으면 갱신한다. random 은 (0, 1] 범위의 난수다.
+     */
+    static boolean shouldRefresh(RefreshableValue entry, long now, double beta, double random) {
+        double gap = entry.computeMillis() * beta * -Math.log(random);
+        return now + gap >= entry.expiresAt();
+    }
+
+    private RefreshableValue getFresh(Object key, long now) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null && wrapper.get() instanceof RefreshableValue entry && entry.isFresh(now)) {
+            return entry;
+        }
+        return null;
+    }
+
+    // 같은 노드의 동시 미스는 먼저 시작한 계산 결과를 함께 사용
+    private Object load(Object key, Callable<?> valueLoader) {
+        String loadKey = String.valueOf(key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loading.putIfAbsent(loadKey, created);
+        if (inProgress != null) {
+            collapsedLoads.increment();
+            try {
+                return inProgress.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            Object value = loadExclusively(key, loadKey, valueLoader);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadKey, created);
+        }
+    }
+
+    // 노드 간에는 잠금을 잡은 노드만 계산하고, 나머지는 결과가 저장될 때까지 기다림
+    private Object loadExclusively(Object key, String loadKey, Callable<?> valueLoader) {
+        String token = loadLock.tryLock(getName(), loadKey);
+        if (token == null) {
+            RefreshableValue loaded = awaitOtherNode(key);
+            if (loaded != null) {
+                return loaded.value();
+            }
+            log.warn("다른 노드의 캐시 계산 대기 시간 초과, 직접 계산: cache={}, key={}", getName(), loadKey);
+        }
+
+        try {
+            // 잠금을 얻기 직전에 다른 노드가 계산을 마쳤을 수 있음
+            RefreshableValue loaded = getFresh(key, System.currentTimeMillis());
+            if (loaded != null) {
+                return loaded.value();
+            }
+            loads.increment();
+            return compute(key, valueLoader);
+        } finally {
+            if (token != null) {
+                loadLock.unlock(getName(), loadKey, token);
+            }
+        }
+    }
+
+    private RefreshableValue awaitOtherNode(Object key) {
+        long deadline = System.currentTimeMillis() + loadLock.getLease().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            RefreshableValue loaded = getFresh(key, System.currentTimeMillis());
+            if (loaded != null) {
+                return loaded;
+            }
+            try {
+                Thread.sleep(WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // 이미 갱신 중이거나 다른 노드가 갱신 중이면 건너뜀. 갱신에 실패해도 기존 값은 만료 시각까지 유지
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String loadKey = String.valueOf(key);
+        if (!refreshing.add(loadKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, loadKey, valueLoader);
+                } finally {
+                    refreshing.remove(loadKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(loadKey);
+            log.debug("캐시 미리 갱신 작업 거부: cache={}, key={}", getName(), loadKey);
+        }
+    }
+
+    private void refresh(Object key, String loadKey, Callable<?> valueLoader) {
+        String token = loadLock.tryLock(getName(), loadKey);
+        if (token == null) {
+            return;
+        }
+        try {
+            refreshes.increment();
+            compute(key, valueLoader);
+            log.debug("캐시 미리 갱신: cache={}, key={}", getName(), loadKey);
+        } catch (RuntimeException e) {
+            failedRefreshes.increment();
+            log.warn("캐시 미리 갱신 실패: cache={}, key={}", getName(), loadKey, e);
+        } finally {
+            loadLock.unlock(getName(), loadKey, token);
+        }
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        delegate.put(key, new RefreshableValue(value, now, now - startedAt, now + spec.ttl().toMillis()));
+        return value;
+    }
+
+    // 캐시별 계산 횟수 (cache.loads: load=미스 계산, collapsed=합쳐진 미스, refresh=미리 갱신)
+    private Counter loadCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("cache.loads")
+                .description("캐시 값 계산 횟수")
+                .tags("cache", getName(), "type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package wsd.bookstore.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * 설정한 캐시만 미리 갱신 캐시로 감싸는 캐시 매니저. 나머지 캐시는 원래 캐시 매니저의 캐시를 그대로 반환한다.
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, RefreshAheadSpec> refreshSpecs;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RefreshAheadCache> caches = new ConcurrentHashMap<>();
+
+    public RefreshAheadCacheManager(CacheManager delegate, Map<String, RefreshAheadSpec> refreshSpecs,
+                                    CacheLoadLock loadLock, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.refreshSpecs = refreshSpecs;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        RefreshAheadSpec spec = refreshSpecs.get(name);
+        if (spec == null) {
+            return delegate.getCache(name);
+        }
+        RefreshAheadCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+                key -> new RefreshAheadCache(target, spec, loadLock, refreshExecutor, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
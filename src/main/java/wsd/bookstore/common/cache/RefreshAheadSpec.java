@@ -0,0 +1,14 @@
+package wsd.bookstore.common.cache;
+
+import java.time.Duration;
+
+/**
+ * 미리 갱신(refresh-ahead)할 캐시의 논리 만료 시간과 조기 갱신 강도(beta).
+ * 논리 만료 시간은 Redis(L2) TTL 이하로 둔다. beta 가 클수록 만료 전에 더 일찍 갱신한다.
+ */
+public record RefreshAheadSpec(Duration ttl, double beta) {
+
+    public RefreshAheadSpec(Duration ttl) {
+        this(ttl, 1.0);
+    }
+}
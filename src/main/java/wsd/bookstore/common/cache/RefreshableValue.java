@@ -0,0 +1,11 @@
+package wsd.bookstore.common.cache;
+
+/**
+ * 미리 갱신하는 캐시에 저장하는 값. 조기 갱신 판단을 위해 계산 시각, 계산에 걸린 시간, 논리 만료 시각을 함께 둔다.
+ */
+public record RefreshableValue(Object value, long computedAt, long computeMillis, long expiresAt) {
+
+    public boolean isFresh(long now) {
+        return now < expiresAt;
+    }
+}
@@ -0,0 +1,175 @@
+package wsd.bookstore.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 자주 조회되는 카탈로그 응답의 직렬화 결과(UTF-8 JSON 바이트, gzip 바이트, ETag)를 노드별로 보관하는 캐시.
+ * 항목은 응답을 만든 원본 데이터(source)와 함께 저장하고, 원본이 같을 때만 재사용한다.
+ * 원본은 데이터 캐시가 돌려준 값이므로 데이터 캐시 항목이 무효화되거나 갱신되면 응답 캐시 항목도 더 이상 쓰이지 않는다.
+ * 적중하면 Jackson 직렬화 없이 저장된 바이트를 그대로 쓰고, If-None-Match 가 일치하면 본문 없이 304 로 응답한다.
+ */
+@Slf4j
+public class ResponseBodyCache {
+
+    // 이보다 작은 본문은 gzip 이득이 적으므로 압축본을 만들지 않음
+    private static final int GZIP_THRESHOLD_BYTES = 512;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponse> responses;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseBodyCache(ObjectMapper objectMapper, long maxWeightBytes, Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = Counter.builder("response.cache.requests")
+                .description("응답 바이트 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("response.cache.requests")
+                .description("응답 바이트 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * key 에 저장된 응답이 같은 source 로 만들어졌으면 그대로, 아니면 body 를 직렬화해 저장한 뒤 응답한다.
+     * 요청이 gzip 을 허용하면 압축본을 Content-Encoding: gzip 으로 보낸다.
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request, String key, Object source,
+                                          Supplier<?> body) {
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && Objects.equals(cached.source(), source)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            cached = serialize(source, body.get());
+            responses.put(key, cached);
+        }
+        return toResponse(request, cached);
+    }
+
+    /**
+     * 캐싱하지 않는 요청도 캐시된 응답과 같은 형식(본문 바이트, ETag, gzip)으로 응답하도록 body 를 직렬화만 한다.
+     */
+    public ResponseEntity<byte[]> respondUncached(HttpServletRequest request, Object body) {
+        return toResponse(request, serialize(null, body));
+    }
+
+    private ResponseEntity<byte[]> toResponse(HttpServletRequest request, CachedResponse cached) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cached.gzip() != null && acceptsGzip(request)) {
+            // 인코딩이 다른 표현은 강한 ETag 도 달라야 함
+            return builder.eTag(cached.etag() + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(cached.gzip());
+        }
+        return builder.eTag(cached.etag()).body(cached.json());
+    }
+
+    private CachedResponse serialize(Object source, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+        byte[] gzip = json.length >= GZIP_THRESHOLD_BYTES ? gzip(json) : null;
+        return new CachedResponse(source, json, gzip, etag(json));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 본문 SHA-256 앞 16바이트 (같은 본문이면 노드와 관계없이 같은 ETag)
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        return acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // "gzip;q=0" 은 거부이므로 q 값으로 판단하고, gzip 이 명시되지 않았으면 "*" 의 q 값을 따름 (RFC 9110 12.5.3)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parameters);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = Math.max(wildcardQuality, quality);
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    // q 파라미터가 없으면 1, 해석할 수 없으면 허용하지 않은 것으로 봄
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private record CachedResponse(Object source, byte[] json, byte[] gzip, String etag) {
+
+        private int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
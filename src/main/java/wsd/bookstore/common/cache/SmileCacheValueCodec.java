@@ -0,0 +1,139 @@
+package wsd.bookstore.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Jackson Smile(바이너리 JSON) 본문.
+ * 반복되는 속성 이름과 클래스 이름을 문서 안에서 한 번만 쓰고 이후에는 참조로 기록하므로, 목록 캐시에서 JSON 보다 작고 빠르다.
+ * 읽기 시 알 수 없는 속성은 무시해 필드가 추가된 버전과 함께 배포되어도 읽을 수 있다.
+ */
+public class SmileCacheValueCodec implements CacheValueCodec {
+
+    public static final byte ID = 2;
+
+    private final ObjectMapper objectMapper;
+
+    public SmileCacheValueCodec() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        PolymorphicTypeValidator validator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("wsd.bookstore.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.lang.")
+                .allowIfSubType("java.time.")
+                .build();
+
+        this.objectMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new ParameterNamesModule())
+                .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setDefaultTyping(new CacheTypeResolverBuilder(validator));
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 Smile 인코딩 실패: type=" + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes, int offset, int length) {
+        try {
+            return objectMapper.readValue(bytes, offset, length, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 Smile 디코딩 실패", e);
+        }
+    }
+
+    // 모든 값에 클래스 이름을 기록 (값 타입이 Object 인 캐시 항목을 원래 타입으로 복원하기 위함)
+    private static final class CacheTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+        private CacheTypeResolverBuilder(PolymorphicTypeValidator validator) {
+            super(ObjectMapper.DefaultTyping.EVERYTHING, validator);
+            init(JsonTypeInfo.Id.CLASS, null);
+            inclusion(JsonTypeInfo.As.PROPERTY);
+        }
+
+        @Override
+        protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+                                            PolymorphicTypeValidator subtypeValidator, Collection<NamedType> subtypes,
+                                            boolean forSer, boolean forDeser) {
+            return new JdkCollectionIdResolver(baseType, config.getTypeFactory(), subtypeValidator);
+        }
+    }
+
+    // List.of(), Stream.toList() 등 JDK 내부 불변 컬렉션은 생성할 수 없으므로 일반 컬렉션 타입으로 기록
+    private static final class JdkCollectionIdResolver extends ClassNameIdResolver {
+
+        private JdkCollectionIdResolver(JavaType baseType, TypeFactory typeFactory,
+                                        PolymorphicTypeValidator validator) {
+            super(baseType, typeFactory, validator);
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            return normalize(value, super.idFromValue(value));
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> type) {
+            return normalize(value, super.idFromValueAndType(value, type));
+        }
+
+        private static String normalize(Object value, String id) {
+            if (id == null || !isJdkInternalCollection(id)) {
+                return id;
+            }
+            if (value instanceof List<?>) {
+                return ArrayList.class.getName();
+            }
+            if (value instanceof Set<?>) {
+                return LinkedHashSet.class.getName();
+            }
+            if (value instanceof Map<?, ?>) {
+                return LinkedHashMap.class.getName();
+            }
+            return id;
+        }
+
+        private static boolean isJdkInternalCollection(String id) {
+            return id.startsWith("java.util.ImmutableCollections$")
+                    || id.startsWith("java.util.Collections$")
+                    || id.equals("java.util.Arrays$ArrayList");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package wsd.bookstore.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 노드별 Caffeine 캐시(L1)를 Redis 캐시(L2) 앞에 둔 캐시.
+ * 조회는 L1, L2 순서로 하고 L2 에서 찾은 값은 L1 에 채운다. 저장/삭제는 L2 에 먼저 반영한 뒤
+ * 자신의 L1 을 갱신하고 다른 노드에 L1 항목을 지우도록 알린다.
+ * L1 키는 Redis 캐시 키와 같은 문자열 형태를 사용한다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final TierStats localStats;
+    private final TierStats remoteStats;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                         Cache remote, CacheInvalidationPublisher invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localStats = new TierStats(meterRegistry, name, "l1");
+        this.remoteStats = new TierStats(meterRegistry, name, "l2");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localStats.hit();
+            return cached;
+        }
+        localStats.miss();
+
+        ValueWrapper value = remote.get(key);
+        if (value == null) {
+            remoteStats.miss();
+            return null;
+        }
+        remoteStats.hit();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않음: cache=" + name + ", type=" + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        // L2 가 로더 실행과 저장을 맡음 (이전에 없던 키이므로 다른 노드에 알릴 항목이 없음)
+        T value = remote.get(key, valueLoader);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = toLocalKey(key);
+        local.put(localKey, new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        if (existing != null) {
+            local.put(localKey, existing);
+            return existing;
+        }
+        local.put(localKey, new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(name, localKey);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    // 다른 노드가 보낸 무효화 메시지 반영 (L2 는 보낸 노드가 이미 반영함)
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    // 계층별 적중/실패 횟수와 적중률 (cache.tier.requests, cache.tier.hit.ratio)
+    private static final class TierStats {
+
+        private final Counter hits;
+        private final Counter misses;
+
+        private TierStats(MeterRegistry meterRegistry, String cacheName, String tier) {
+            this.hits = Counter.builder("cache.tier.requests")
+                    .description("계층별 캐시 조회 수")
+                    .tags("cache", cacheName, "tier", tier, "result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("cache.tier.requests")
+                    .description("계층별 캐시 조회 수")
+                    .tags("cache", cacheName, "tier", tier, "result", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("cache.tier.hit.ratio", this, TierStats::hitRatio)
+                    .description("계층별 캐시 적중률")
+                    .tags("cache", cacheName, "tier", tier)
+                    .register(meterRegistry);
+        }
+
+        private void hit() {
+            hits.increment();
+        }
+
+        private void miss() {
+            misses.increment();
+        }
+
+        private double hitRatio() {
+            double total = hits.count() + misses.count();
+            return total > 0 ? hits.count() / total : 0.0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package wsd.bookstore.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Redis 캐시 매니저(L2) 앞에 노드별 Caffeine 캐시(L1)를 두는 캐시 매니저.
+ * L1 은 캐시 이름별 최대 항목 수와 TTL 을 따로 두며, 최대 항목 수를 넘으면 Caffeine 의 W-TinyLFU 정책으로 정리한다.
+ * 다른 노드의 저장/삭제는 Redis pub/sub 무효화 메시지로 받아 L1 에서 지운다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, LocalCacheInvalidationHandler {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final LocalCacheSpec defaultLocalSpec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Map<String, LocalCacheSpec> localSpecs,
+                                LocalCacheSpec defaultLocalSpec, CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = localSpecs;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> createCache(name, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화 메시지를 L1 에 반영한다. 자신이 보낸 메시지는 이미 반영했으므로 무시한다.
+     */
+    @Override
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (invalidationPublisher.getNodeId().equals(message.nodeId())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            log.debug("로컬 캐시 무효화: cache={}, key={}", message.cacheName(), message.key());
+            cache.evictLocal(message.key());
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        LocalCacheSpec spec = localSpecs.getOrDefault(name, defaultLocalSpec);
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(spec.maxSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+        return new TwoLevelCache(name, local, remote, invalidationPublisher, meterRegistry);
+    }
+}
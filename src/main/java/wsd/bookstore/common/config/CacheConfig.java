@@ -1,38 +1,192 @@
 package wsd.bookstore.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import wsd.bookstore.book.entity.Author;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.entity.BookAuthor;
+import wsd.bookstore.book.entity.BookCategory;
+import wsd.bookstore.book.entity.Category;
+import wsd.bookstore.book.entity.Publisher;
+import wsd.bookstore.common.cache.CacheInvalidationMessage;
+import wsd.bookstore.common.cache.CacheInvalidationPublisher;
+import wsd.bookstore.common.cache.CacheLoadLock;
+import wsd.bookstore.common.cache.EntityCacheDependencies;
+import wsd.bookstore.common.cache.CacheValueSerializer;
+import wsd.bookstore.common.cache.EntityCacheInvalidationListener;
+import wsd.bookstore.common.cache.JsonCacheValueCodec;
+import wsd.bookstore.common.cache.LocalCacheInvalidationHandler;
+import wsd.bookstore.common.cache.LocalCacheSpec;
+import wsd.bookstore.common.cache.RefreshAheadCacheManager;
+import wsd.bookstore.common.cache.RefreshAheadSpec;
+import wsd.bookstore.common.cache.ResponseBodyCache;
+import wsd.bookstore.common.cache.SmileCacheValueCodec;
+import wsd.bookstore.common.cache.TwoLevelCacheManager;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 로컬 캐시 기본값. 이름별 설정이 없는 캐시에 적용
+    private static final LocalCacheSpec DEFAULT_LOCAL_SPEC = new LocalCacheSpec(1_000, Duration.ofMinutes(1));
+
+    // 노드 간 계산 잠금 유지 시간. 잠금을 못 얻은 노드는 이 시간까지 결과를 기다림
+    private static final Duration LOAD_LOCK_LEASE = Duration.ofSeconds(5);
+
+    // 이보다 큰 캐시 값 본문은 LZ4 로 압축 (작은 값은 압축 이득보다 비용이 큼)
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    // 노드별 응답 바이트 캐시 크기. 원본 데이터 캐시가 바뀌면 재사용되지 않으므로 TTL 은 안전장치
+    private static final long RESPONSE_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    private static final Duration RESPONSE_CACHE_TTL = Duration.ofMinutes(5);
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    @Bean
+    public TwoLevelCacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                     MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(redisCacheManager(connectionFactory), localCacheSpecs(),
+                DEFAULT_LOCAL_SPEC, cacheInvalidationPublisher, meterRegistry);
+    }
+
+    // @Cacheable 이 사용하는 캐시 매니저. 계산 비용이 큰 캐시는 미리 갱신하고 동시 미스를 합침
+    @Bean
+    @Primary
+    public RefreshAheadCacheManager cacheManager(TwoLevelCacheManager twoLevelCacheManager,
+                                                 StringRedisTemplate stringRedisTemplate,
+                                                 ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                                 MeterRegistry meterRegistry) {
+        return new RefreshAheadCacheManager(twoLevelCacheManager, refreshAheadSpecs(),
+                new CacheLoadLock(stringRedisTemplate, LOAD_LOCK_LEASE), cacheRefreshExecutor, meterRegistry);
+    }
+
+    // 미리 갱신 전용 스레드. 밀리면 갱신을 건너뛰고 만료 시 미스 계산으로 처리
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // Redis pub/sub 구독을 한 연결로 모으는 공용 컨테이너. 카탈로그 변경 전파와 토큰 폐기 전파도 여기에 구독을 추가함
+    // 캐시 무효화 채널은 로컬 캐시를 가진 모든 대상(L1 캐시 매니저, 인증 정보 캐시 등)에 메시지를 전달
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory, List<LocalCacheInvalidationHandler> invalidationHandlers) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            CacheInvalidationMessage invalidation =
+                    CacheInvalidationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+            invalidationHandlers.forEach(handler -> handler.onInvalidation(invalidation));
+        }, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public ResponseBodyCache responseBodyCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new ResponseBodyCache(objectMapper, RESPONSE_CACHE_MAX_BYTES, RESPONSE_CACHE_TTL, meterRegistry);
+    }
+
+    @Bean
+    public EntityCacheInvalidationListener entityCacheInvalidationListener(CacheManager cacheManager,
+                                                                           EntityManagerFactory entityManagerFactory) {
+        EntityCacheInvalidationListener listener =
+                new EntityCacheInvalidationListener(cacheManager, entityCacheDependencies());
+        listener.register(entityManagerFactory);
+        return listener;
+    }
+
+    // 엔티티 → 의존 캐시. 검색 조건별 키를 쓰는 캐시는 전체를 비움
+    // bookSearches 는 카탈로그 버전이 키에 포함되어 별도 무효화가 필요 없고, 리뷰에 의존하는 캐시는 아직 없음
+    private EntityCacheDependencies entityCacheDependencies() {
+        return new EntityCacheDependencies()
+                .evictOn(Category.class, "categories", category -> "all")
+                .clearOn(Book.class, "bookCounts")
+                .clearOn(BookAuthor.class, "bookCounts")
+                .clearOn(BookCategory.class, "bookCounts")
+                .clearOn(Author.class, "bookCounts")
+                .clearOn(Publisher.class, "bookCounts")
+                .clearOn(Category.class, "bookCounts")
+                .clearOn(Book.class, "bestSellers")
+                .clearOn(BookAuthor.class, "bestSellers")
+                .clearOn(Author.class, "bestSellers")
+                .clearOn(Publisher.class, "bestSellers");
+    }
+
+    // L2: 모든 노드가 공유하는 Redis 캐시
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                        .fromSerializer(cacheValueSerializer()))
                 .entryTtl(Duration.ofMinutes(30)); // 기본 캐시 유효 시간
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put("categories", defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put("bestSellers", defaultConfig.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("bookCounts", defaultConfig.entryTtl(Duration.ofMinutes(10))); // 도서, 저자, 출판사, 분류 변경 시 커밋 후 비움
+        cacheConfigurations.put("bookSearches", defaultConfig.entryTtl(Duration.ofMinutes(5))); // 카탈로그 버전이 키에 포함되어 변경 즉시 무효화, 이전 버전 항목은 TTL 로 정리
+        cacheConfigurations.put("bestSellers", defaultConfig.entryTtl(Duration.ofMinutes(1))); // 랭킹은 실시간 반영, 도서 정보 조회만 캐싱
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet(); // 빈으로 등록하지 않으므로 초기 캐시를 직접 생성
+        return redisCacheManager;
+    }
+
+    // Smile 로 저장하고, 이전 배포가 남긴 JSON 값도 읽음
+    private CacheValueSerializer cacheValueSerializer() {
+        return new CacheValueSerializer(new SmileCacheValueCodec(), List.of(new JsonCacheValueCodec()),
+                COMPRESSION_THRESHOLD_BYTES);
+    }
+
+    // 논리 만료 시간은 Redis TTL 과 같게 두고, 만료 전에 확률적으로 미리 갱신
+    private Map<String, RefreshAheadSpec> refreshAheadSpecs() {
+        Map<String, RefreshAheadSpec> refreshSpecs = new HashMap<>();
+        refreshSpecs.put("categories", new RefreshAheadSpec(Duration.ofHours(24)));
+        refreshSpecs.put("bestSellers", new RefreshAheadSpec(Duration.ofMinutes(1), 2.0));
+        return refreshSpecs;
+    }
+
+    // L1: 노드별 Caffeine 캐시. 무효화 메시지를 놓쳐도 오래 남지 않도록 L2 보다 짧은 TTL 사용
+    private Map<String, LocalCacheSpec> localCacheSpecs() {
+        Map<String, LocalCacheSpec> localSpecs = new HashMap<>();
+        localSpecs.put("categories", new LocalCacheSpec(100, Duration.ofHours(1)));
+        localSpecs.put("bookCounts", new LocalCacheSpec(10_000, Duration.ofMinutes(1)));
+        localSpecs.put("bookSearches", new LocalCacheSpec(10_000, Duration.ofSeconds(30)));
+        localSpecs.put("bestSellers", new LocalCacheSpec(100, Duration.ofSeconds(15)));
+        return localSpecs;
     }
 }
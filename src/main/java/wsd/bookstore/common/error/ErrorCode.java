@@ -53,6 +53,10 @@ public enum ErrorCode {
     DUPLICATE_FAVORITE("40909", "이미 즐겨찾기에 등록된 도서입니다", HttpStatus.CONFLICT),
     DUPLICATE_WISHLIST("40910", "이미 위시리스트에 등록된 도서입니다", HttpStatus.CONFLICT),
     DUPLICATE_USER("40911", "이미 존재하는 사용자입니다", HttpStatus.CONFLICT),
+    STOCK_CONFLICT("40912", "재고 상태가 변경되었습니다. 다시 시도해주세요", HttpStatus.CONFLICT),
+
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS("42900", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", HttpStatus.TOO_MANY_REQUESTS),
 
     // 500 Internal Server Error
     INTERNAL_ERROR("50000", "내부 서버 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -1,10 +1,20 @@
 package wsd.bookstore.common.redis;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -26,12 +36,87 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    public boolean setValuesIfAbsent(String key, String data) {
+        log.debug("Redis 값 저장 (존재하지 않을 때만): key={}", key);
+        ValueOperations<String, String> values = stringRedisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data));
+    }
+
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        log.debug("Redis 값 저장 (존재하지 않을 때만, 만료시간 포함): key={}, duration={}", key, duration);
+        ValueOperations<String, String> values = stringRedisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
     public String getValues(String key) {
         log.debug("Redis 값 조회: key={}", key);
         ValueOperations<String, String> values = stringRedisTemplate.opsForValue();
         return values.get(key);
     }
 
+    public List<String> multiGetValues(List<String> keys) {
+        log.debug("Redis 다중 값 조회: keys={}", keys);
+        ValueOperations<String, String> values = stringRedisTemplate.opsForValue();
+        return values.multiGet(keys);
+    }
+
+    public long incrementValue(String key) {
+        log.debug("Redis 값 증가: key={}", key);
+        Long value = stringRedisTemplate.opsForValue().increment(key);
+        return value != null ? value : 0L;
+    }
+
+    public void incrementHashValue(String key, String field, long delta) {
+        log.debug("Redis 해시 값 증감: key={}, field={}, delta={}", key, field, delta);
+        stringRedisTemplate.opsForHash().increment(key, field, delta);
+    }
+
+    public void deleteHashValues(String key, Collection<String> fields) {
+        log.debug("Redis 해시 필드 삭제: key={}, size={}", key, fields.size());
+        stringRedisTemplate.opsForHash().delete(key, fields.toArray());
+    }
+
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, List<String> args) {
+        log.debug("Redis 스크립트 실행: keys={}", keys);
+        return stringRedisTemplate.execute(script, keys, args.toArray());
+    }
+
+    public void incrementScore(String key, String member, double delta) {
+        log.debug("Redis 정렬 집합 점수 증감: key={}, member={}, delta={}", key, member, delta);
+        stringRedisTemplate.opsForZSet().incrementScore(key, member, delta);
+    }
+
+    public List<String> getReverseRange(String key, long start, long end) {
+        log.debug("Redis 정렬 집합 역순 조회: key={}, start={}, end={}", key, start, end);
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, start, end);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    public void unionAndStore(List<String> keys, String destKey, Duration duration) {
+        log.debug("Redis 정렬 집합 합산 저장: destKey={}, size={}", destKey, keys.size());
+        stringRedisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), destKey);
+        stringRedisTemplate.expire(destKey, duration);
+    }
+
+    public void storeSortedSet(String key, Map<String, Double> scores, Duration duration) {
+        log.debug("Redis 정렬 집합 저장: key={}, size={}", key, scores.size());
+        stringRedisTemplate.delete(key);
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        scores.forEach((member, score) -> tuples.add(TypedTuple.of(member, score)));
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, duration);
+    }
+
+    public List<String> getListValues(String key) {
+        log.debug("Redis 리스트 조회: key={}", key);
+        List<String> values = stringRedisTemplate.opsForList().range(key, 0, -1);
+        return values != null ? values : List.of();
+    }
+
     public void deleteValues(String key) {
         log.debug("Redis 값 삭제: key={}", key);
         stringRedisTemplate.delete(key);
@@ -40,4 +125,20 @@ public class RedisService {
     public boolean hasKey(String key) {
         return stringRedisTemplate.hasKey(key);
     }
+
+    // KEYS 대신 SCAN 으로 순회하여 Redis 를 오래 막지 않도록 함
+    public List<String> scanKeys(String pattern) {
+        log.debug("Redis 키 순회: pattern={}", pattern);
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    public void publish(String channel, String message) {
+        log.debug("Redis 메시지 발행: channel={}", channel);
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
 }
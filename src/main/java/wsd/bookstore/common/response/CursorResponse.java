@@ -0,0 +1,21 @@
+package wsd.bookstore.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답 DTO")
+public class CursorResponse<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MTB8cHJpY2V8QVNDfDM2MDAw")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
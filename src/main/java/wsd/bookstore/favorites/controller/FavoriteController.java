@@ -45,7 +45,7 @@ public class FavoriteController {
             """)))
     public ResponseEntity<ApiResponse<List<BookSummaryResponse>>> getMyFavorites(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        return ApiResponse.ok(favoriteService.getMyFavorites(userDetails.getUser()), "즐겨찾기 목록 조회 성공");
+        return ApiResponse.ok(favoriteService.getMyFavorites(userDetails.getUserId()), "즐겨찾기 목록 조회 성공");
     }
 
     @PostMapping("/{bookId}")
@@ -59,7 +59,7 @@ public class FavoriteController {
             """)))
     public ResponseEntity<ApiResponse<Void>> addFavorite(@AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId) {
-        favoriteService.addFavorite(userDetails.getUser(), bookId);
+        favoriteService.addFavorite(userDetails.getUserId(), bookId);
         return ApiResponse.ok(null, "즐겨찾기 추가 성공");
     }
 
@@ -74,7 +74,7 @@ public class FavoriteController {
             """)))
     public ResponseEntity<ApiResponse<Void>> deleteFavorite(@AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId) {
-        favoriteService.deleteFavorite(userDetails.getUser(), bookId);
+        favoriteService.deleteFavorite(userDetails.getUserId(), bookId);
         return ApiResponse.noContent("즐겨찾기 삭제 성공");
     }
 }
@@ -5,13 +5,12 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import wsd.bookstore.book.entity.Book;
 import wsd.bookstore.favorites.entity.Favorite;
-import wsd.bookstore.user.entity.User;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
-    boolean existsByUserAndBook(User user, Book book);
+    boolean existsByUserIdAndBook(Long userId, Book book);
 
-    Optional<Favorite> findByUserAndBook(User user, Book book);
+    Optional<Favorite> findByUserIdAndBook(Long userId, Book book);
 
-    List<Favorite> findAllByUser(User user);
+    List<Favorite> findAllByUserId(Long userId);
 }
@@ -3,9 +3,12 @@ package wsd.bookstore.favorites.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.event.BookActivityEvent;
+import wsd.bookstore.book.event.BookActivityType;
 import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.book.response.BookSummaryResponse;
 import wsd.bookstore.common.error.CustomException;
@@ -13,6 +16,7 @@ import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.favorites.entity.Favorite;
 import wsd.bookstore.favorites.repository.FavoriteRepository;
 import wsd.bookstore.user.entity.User;
+import wsd.bookstore.user.repository.UserRepository;
 
 @Slf4j
 @Service
@@ -22,43 +26,49 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<BookSummaryResponse> getMyFavorites(User user) {
-        log.info("좋아요 목록 조회 요청: userId={}", user.getId());
-        return favoriteRepository.findAllByUser(user).stream()
+    public List<BookSummaryResponse> getMyFavorites(Long userId) {
+        log.info("좋아요 목록 조회 요청: userId={}", userId);
+        return favoriteRepository.findAllByUserId(userId).stream()
                 .map(favorite -> BookSummaryResponse.from(favorite.getBook()))
                 .toList();
     }
 
     @Transactional
-    public void addFavorite(User user, Long bookId) {
-        log.info("좋아요 추가 요청: bookId={}, userId={}", bookId, user.getId());
+    public void addFavorite(Long userId, Long bookId) {
+        log.info("좋아요 추가 요청: bookId={}, userId={}", bookId, userId);
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_BOOK));
 
-        if (favoriteRepository.existsByUserAndBook(user, book)) {
+        if (favoriteRepository.existsByUserIdAndBook(userId, book)) {
             throw new CustomException(ErrorCode.DUPLICATE_FAVORITE);
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+
         Favorite favorite = Favorite.builder()
                 .user(user)
                 .book(book)
                 .build();
 
         favoriteRepository.save(favorite);
-        log.info("좋아요 추가 완료: bookId={}, userId={}", bookId, user.getId());
+        eventPublisher.publishEvent(new BookActivityEvent(bookId, BookActivityType.FAVORITE));
+        log.info("좋아요 추가 완료: bookId={}, userId={}", bookId, userId);
     }
 
     @Transactional
-    public void deleteFavorite(User user, Long bookId) {
-        log.info("좋아요 취소 요청: bookId={}, userId={}", bookId, user.getId());
+    public void deleteFavorite(Long userId, Long bookId) {
+        log.info("좋아요 취소 요청: bookId={}, userId={}", bookId, userId);
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_BOOK));
 
-        Favorite favorite = favoriteRepository.findByUserAndBook(user, book)
+        Favorite favorite = favoriteRepository.findByUserIdAndBook(userId, book)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_FAVORITE));
 
         favoriteRepository.delete(favorite);
-        log.info("좋아요 취소 완료: bookId={}, userId={}", bookId, user.getId());
+        log.info("좋아요 취소 완료: bookId={}, userId={}", bookId, userId);
     }
 }
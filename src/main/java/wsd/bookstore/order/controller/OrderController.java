@@ -4,6 +4,7 @@ import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
@@ -16,10 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import wsd.bookstore.common.response.ApiResponse;
+import wsd.bookstore.common.response.SliceResponse;
 import wsd.bookstore.order.response.OrderDetailResponse;
 import wsd.bookstore.order.response.OrderSummaryResponse;
 import wsd.bookstore.order.service.OrderService;
-import wsd.bookstore.user.entity.User;
+import wsd.bookstore.security.auth.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -42,8 +44,8 @@ public class OrderController {
                 "payload": null
             }
             """)))
-    public ResponseEntity<ApiResponse<Void>> checkout(@AuthenticationPrincipal(expression = "user") User user) {
-        Long orderId = orderService.checkout(user);
+    public ResponseEntity<ApiResponse<Void>> checkout(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long orderId = orderService.checkout(userDetails.getUserId());
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
                 .path("/{id}")
                 .buildAndExpand(orderId)
@@ -77,12 +79,41 @@ public class OrderController {
             }
             """)))
     public ResponseEntity<ApiResponse<PagedModel<OrderSummaryResponse>>> getMyOrders(
-            @AuthenticationPrincipal(expression = "user") User user,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @PageableDefault(sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        Page<OrderSummaryResponse> orders = orderService.getMyOrders(user, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getMyOrders(userDetails.getUserId(), pageable);
         return ApiResponse.ok(new PagedModel<>(orders), "주문 내역 조회 성공");
     }
 
+    @GetMapping(value = "/me", params = "mode=slice")
+    @Operation(summary = "내 주문 내역 조회 (Slice)", description = "내 주문 내역을 전체 개수 없이 다음 페이지 존재 여부와 함께 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "내 주문 Slice 조회 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "주문 내역 조회 성공",
+                "payload": {
+                    "content": [
+                        {
+                            "id": 501,
+                            "totalPrice": 25000,
+                            "status": "CREATED",
+                            "orderedAt": "2025-03-10T11:20:00",
+                            "representativeBookTitle": "Clean Code 외 0권"
+                        }
+                    ],
+                    "page": 0,
+                    "size": 20,
+                    "hasNext": true
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<SliceResponse<OrderSummaryResponse>>> getMyOrderSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PageableDefault(sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+        Slice<OrderSummaryResponse> orders = orderService.getMyOrderSlice(userDetails.getUserId(), pageable);
+        return ApiResponse.ok(SliceResponse.from(orders), "주문 내역 조회 성공");
+    }
+
     @GetMapping("/{orderId}")
     @Operation(summary = "주문 상세 조회", description = "주문 상세 정보를 조회합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "주문 상세 조회 성공 예시", value = """
@@ -108,8 +139,8 @@ public class OrderController {
             """)))
     public ResponseEntity<ApiResponse<OrderDetailResponse>> getOrderDetail(
             @PathVariable Long orderId,
-            @AuthenticationPrincipal(expression = "user") User user) {
-        OrderDetailResponse response = orderService.getOrderDetail(orderId, user);
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        OrderDetailResponse response = orderService.getOrderDetail(orderId, userDetails.getUserId());
         return ApiResponse.ok(response, "주문 상세 조회 성공");
     }
 
@@ -124,8 +155,8 @@ public class OrderController {
             """)))
     public ResponseEntity<ApiResponse<Void>> cancelOrder(
             @PathVariable Long orderId,
-            @AuthenticationPrincipal(expression = "user") User user) {
-        orderService.cancelOrder(orderId, user);
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        orderService.cancelOrder(orderId, userDetails.getUserId());
         return ApiResponse.noContent("주문 취소 성공");
     }
 }
@@ -62,7 +62,6 @@ public class Order extends BaseTimeEntity {
     }
 
     public void addOrderItem(OrderItem orderItem) {
-        this.orderItems.add(orderItem);
         orderItem.setOrder(this);
     }
 
@@ -71,8 +70,5 @@ public class Order extends BaseTimeEntity {
             throw new CustomException(ErrorCode.ALREADY_CANCELLED_ORDER);
         }
         this.status = OrderStatus.CANCELLED;
-        for (OrderItem orderItem : orderItems) {
-            orderItem.getBook().increaseStock(orderItem.getQuantity());
-        }
     }
 }
@@ -0,0 +1,16 @@
+package wsd.bookstore.order.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderCompletedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final Map<Long, Integer> quantities;
+    private final LocalDateTime orderedAt;
+}
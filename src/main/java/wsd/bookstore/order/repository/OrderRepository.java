@@ -3,6 +3,7 @@ package wsd.bookstore.order.repository;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
 import wsd.bookstore.order.entity.Order;
@@ -11,6 +12,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Page<Order> findAllByUser_Id(Long userId, Pageable pageable);
 
+    // Slice 반환 시 count 쿼리 없이 size + 1 건을 조회해 다음 페이지 여부만 판단
+    Slice<Order> findSliceByUser_Id(Long userId, Pageable pageable);
+
     @EntityGraph(attributePaths = "orderItems")
     Optional<Order> findByIdAndUser_Id(Long orderId, Long id);
 }
@@ -1,12 +1,20 @@
 package wsd.bookstore.order.service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.service.FlashSaleStockService;
 import wsd.bookstore.cart.entity.Cart;
 import wsd.bookstore.cart.entity.CartItem;
 import wsd.bookstore.cart.entity.CartStatus;
@@ -16,10 +24,11 @@ import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.order.entity.Order;
 import wsd.bookstore.order.entity.OrderItem;
 import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.event.OrderCancelledEvent;
+import wsd.bookstore.order.event.OrderCompletedEvent;
 import wsd.bookstore.order.repository.OrderRepository;
 import wsd.bookstore.order.response.OrderDetailResponse;
 import wsd.bookstore.order.response.OrderSummaryResponse;
-import wsd.bookstore.user.entity.User;
 
 @Slf4j
 @Service
@@ -29,72 +38,139 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
+    private final BookRepository bookRepository;
+    private final FlashSaleStockService flashSaleStockService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Page<OrderSummaryResponse> getMyOrders(User user, Pageable pageable) {
-        log.info("주문 목록 조회 요청: userId={}", user.getId());
-        return orderRepository.findAllByUser_Id(user.getId(), pageable)
+    public Page<OrderSummaryResponse> getMyOrders(Long userId, Pageable pageable) {
+        log.info("주문 목록 조회 요청: userId={}", userId);
+        return orderRepository.findAllByUser_Id(userId, pageable)
                 .map(OrderSummaryResponse::from);
     }
 
-    public OrderDetailResponse getOrderDetail(Long orderId, User user) {
-        log.info("주문 상세 조회 요청: orderId={}, userId={}", orderId, user.getId());
-        Order order = orderRepository.findByIdAndUser_Id(orderId, user.getId())
+    public Slice<OrderSummaryResponse> getMyOrderSlice(Long userId, Pageable pageable) {
+        log.info("주문 목록 조회 요청 (Slice): userId={}", userId);
+        return orderRepository.findSliceByUser_Id(userId, pageable)
+                .map(OrderSummaryResponse::from);
+    }
+
+    public OrderDetailResponse getOrderDetail(Long orderId, Long userId) {
+        log.info("주문 상세 조회 요청: orderId={}, userId={}", orderId, userId);
+        Order order = orderRepository.findByIdAndUser_Id(orderId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER));
         return OrderDetailResponse.from(order);
     }
 
     @Transactional
-    public Long checkout(User user) {
-        log.info("주문 생성 요청: userId={}", user.getId());
-        Cart cart = cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)
+    public Long checkout(Long userId) {
+        log.info("주문 생성 요청: userId={}", userId);
+        Cart cart = cartRepository.findByUserIdAndStatus(userId, CartStatus.ACTIVE)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CART_ITEM));
 
         List<CartItem> cartItems = cart.getItems();
         if (cartItems.isEmpty()) {
-            log.warn("장바구니가 비어있음: userId={}", user.getId());
+            log.warn("장바구니가 비어있음: userId={}", userId);
             throw new CustomException(ErrorCode.NOT_FOUND_CART_ITEM);
         }
 
-        return processCheckout(cart, user);
+        return processCheckout(cart, userId);
     }
 
     @Transactional
-    public void cancelOrder(Long orderId, User user) {
-        log.info("주문 취소 요청: orderId={}, userId={}", orderId, user.getId());
-        Order order = orderRepository.findByIdAndUser_Id(orderId, user.getId())
+    public void cancelOrder(Long orderId, Long userId) {
+        log.info("주문 취소 요청: orderId={}, userId={}", orderId, userId);
+        Order order = orderRepository.findByIdAndUser_Id(orderId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER));
 
         order.cancel();
+
+        Map<Long, Integer> quantities = toQuantities(order.getOrderItems());
+        restoreStock(quantities);
+
+        eventPublisher.publishEvent(new OrderCancelledEvent(
+                orderId, userId, quantities, order.getCreatedAt()));
         log.info("주문 취소 완료: orderId={}", orderId);
     }
 
-    private Long processCheckout(Cart cart, User user) {
+    private Long processCheckout(Cart cart, Long userId) {
         long totalPrice = cart.getItems().stream()
                 .mapToLong(item -> item.getBook().getPrice() * item.getQuantity())
                 .sum();
 
         Order order = Order.builder()
-                .user(user)
+                .user(cart.getUser())
                 .status(OrderStatus.COMPLETED)
                 .totalPrice(totalPrice)
                 .build();
 
         cart.getItems().stream()
-                .map(item -> {
-                    item.getBook().decreaseStock(item.getQuantity());
-                    return OrderItem.builder()
-                            .book(item.getBook())
-                            .quantity(item.getQuantity())
-                            .orderPrice(item.getBook().getPrice())
-                            .build();
-                })
+                .map(item -> OrderItem.builder()
+                        .book(item.getBook())
+                        .quantity(item.getQuantity())
+                        .orderPrice(item.getBook().getPrice())
+                        .build())
                 .forEach(order::addOrderItem);
 
+        Map<Long, Integer> quantities = toQuantities(order.getOrderItems());
+        reserveStock(quantities);
+
         orderRepository.save(order);
 
+        // 재고 차감이 영속성 컨텍스트를 비우므로 장바구니 상태 변경은 명시적으로 저장
         cart.updateStatus(CartStatus.ORDERED);
+        cartRepository.save(cart);
+
+        eventPublisher.publishEvent(new OrderCompletedEvent(
+                order.getId(), userId, quantities, order.getCreatedAt()));
 
         log.info("주문 생성 완료: orderId={}, totalPrice={}", order.getId(), totalPrice);
         return order.getId();
     }
+
+    // 도서 ID 순으로 정렬된 도서별 수량
+    private Map<Long, Integer> toQuantities(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        orderItems.forEach(item -> quantities.merge(item.getBook().getId(), item.getQuantity(), Integer::sum));
+        return quantities;
+    }
+
+    // 도서 ID 순으로 차감하여 동시 체크아웃 간 행 잠금 순서를 고정 (데드락 방지)
+    private void reserveStock(Map<Long, Integer> quantities) {
+        // 플래시 세일 도서는 Redis 에서 예약되고, DB 재고는 정산 스케줄러가 반영
+        Set<Long> flashSaleBookIds = flashSaleStockService.reserve(quantities);
+
+        quantities.forEach((bookId, quantity) -> {
+            if (flashSaleBookIds.contains(bookId)) {
+                return;
+            }
+            if (bookRepository.decreaseStock(bookId, quantity) == 0) {
+                log.warn("재고 부족: bookId={}, quantity={}", bookId, quantity);
+                throw new CustomException(ErrorCode.NOT_ENOUGH_STOCK, "book_id=" + bookId);
+            }
+        });
+
+        // 예약 확인 이후 플래시 세일이 시작된 도서는 Redis 재고에 이 차감분이 빠져 있으므로 주문을 되돌림.
+        // 세일 시작은 도서 행을 잠그고 재고를 복사하므로, 행 잠금을 잡은 지금 확인하면 누락이 없음
+        Set<Long> dbBookIds = new HashSet<>(quantities.keySet());
+        dbBookIds.removeAll(flashSaleBookIds);
+        Set<Long> startedBookIds = flashSaleStockService.findFlashSaleBookIds(dbBookIds);
+        if (!startedBookIds.isEmpty()) {
+            log.warn("주문 중 플래시 세일 시작: bookIds={}", startedBookIds);
+            throw new CustomException(ErrorCode.STOCK_CONFLICT, "book_id=" + startedBookIds.iterator().next());
+        }
+    }
+
+    private void restoreStock(Map<Long, Integer> quantities) {
+        Set<Long> flashSaleBookIds = flashSaleStockService.findFlashSaleBookIds(quantities.keySet());
+        Map<Long, Integer> flashSaleQuantities = new TreeMap<>();
+
+        quantities.forEach((bookId, quantity) -> {
+            if (flashSaleBookIds.contains(bookId)) {
+                flashSaleQuantities.put(bookId, quantity);
+            } else {
+                bookRepository.increaseStock(bookId, quantity);
+            }
+        });
+        flashSaleStockService.release(flashSaleQuantities);
+    }
 }
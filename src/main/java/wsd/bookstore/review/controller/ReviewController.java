@@ -5,6 +5,7 @@ import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import wsd.bookstore.common.response.ApiResponse;
+import wsd.bookstore.common.response.SliceResponse;
 import wsd.bookstore.review.request.CreateReviewRequest;
 import wsd.bookstore.review.request.UpdateReviewRequest;
 import wsd.bookstore.review.response.MyReviewResponse;
@@ -68,6 +70,35 @@ public class ReviewController {
         return ApiResponse.ok(reviews, "도서 리뷰 목록 조회 성공");
     }
 
+    @GetMapping(value = "/books/{bookId}/reviews", params = "mode=slice")
+    @Operation(summary = "리뷰 목록 조회 (Slice)", description = "특정 도서의 리뷰를 전체 개수 없이 다음 페이지 존재 여부와 함께 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "리뷰 Slice 조회 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "도서 리뷰 목록 조회 성공",
+                "payload": {
+                    "content": [
+                        {
+                            "reviewId": 101,
+                            "bookId": 10,
+                            "rating": 5,
+                            "content": "정말 유익한 책입니다!",
+                            "createdAt": "2025-03-10T11:20:00"
+                        }
+                    ],
+                    "page": 0,
+                    "size": 20,
+                    "hasNext": true
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<SliceResponse<ReviewResponse>>> getReviewSlice(
+            @PathVariable Long bookId,
+            Pageable pageable) {
+        Slice<ReviewResponse> reviews = reviewService.getReviewSlice(bookId, pageable);
+        return ApiResponse.ok(SliceResponse.from(reviews), "도서 리뷰 목록 조회 성공");
+    }
+
     @PostMapping("/books/{bookId}/reviews")
     @Operation(summary = "리뷰 작성", description = "도서에 대한 리뷰를 작성합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "생성 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "리뷰 작성 성공 예시", value = """
@@ -123,6 +154,35 @@ public class ReviewController {
         return ApiResponse.ok(reviews, "내가 작성한 리뷰 목록 조회 성공");
     }
 
+    @GetMapping(value = "/reviews/me", params = "mode=slice")
+    @Operation(summary = "내 리뷰 조회 (Slice)", description = "내가 작성한 리뷰를 전체 개수 없이 다음 페이지 존재 여부와 함께 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "내 리뷰 Slice 조회 성공 예시", value = """
+            {
+                "isSuccess": true,
+                "message": "내가 작성한 리뷰 목록 조회 성공",
+                "payload": {
+                    "content": [
+                        {
+                            "reviewId": 101,
+                            "bookId": 10,
+                            "rating": 5,
+                            "content": "정말 유익한 책입니다!",
+                            "createdAt": "2025-03-10T11:20:00"
+                        }
+                    ],
+                    "page": 0,
+                    "size": 20,
+                    "hasNext": true
+                }
+            }
+            """)))
+    public ResponseEntity<ApiResponse<SliceResponse<MyReviewResponse>>> getMyReviewSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            Pageable pageable) {
+        Slice<MyReviewResponse> reviews = reviewService.getMyReviewSlice(userDetails.getUserId(), pageable);
+        return ApiResponse.ok(SliceResponse.from(reviews), "내가 작성한 리뷰 목록 조회 성공");
+    }
+
     @PutMapping("/reviews/{reviewId}")
     @Operation(summary = "리뷰 수정", description = "리뷰 내용을 수정합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "리뷰 수정 성공 예시", value = """
@@ -2,6 +2,7 @@ package wsd.bookstore.review.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import wsd.bookstore.review.response.MyReviewResponse;
 import wsd.bookstore.review.response.ReviewResponse;
 
@@ -10,4 +11,8 @@ public interface ReviewRepositoryCustom {
     Page<ReviewResponse> getReviews(Long bookId, Pageable pageable);
 
     Page<MyReviewResponse> findMyReviews(Long userId, Pageable pageable);
+
+    Slice<ReviewResponse> getReviewSlice(Long bookId, Pageable pageable);
+
+    Slice<MyReviewResponse> findMyReviewSlice(Long userId, Pageable pageable);
 }
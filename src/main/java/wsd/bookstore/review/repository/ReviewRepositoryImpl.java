@@ -14,6 +14,8 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
@@ -30,7 +32,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     @Override
     public Page<ReviewResponse> getReviews(Long bookId, Pageable pageable) {
-        List<ReviewResponse> content = fetchReviews(bookId, pageable);
+        List<ReviewResponse> content = fetchReviews(bookId, pageable, pageable.getPageSize());
         JPAQuery<Long> countQuery = createCountQuery(bookId);
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
@@ -38,7 +40,35 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     @Override
     public Page<MyReviewResponse> findMyReviews(Long userId, Pageable pageable) {
-        List<MyReviewResponse> content = queryFactory
+        List<MyReviewResponse> content = fetchMyReviews(userId, pageable, pageable.getPageSize());
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(review.count())
+                .from(review)
+                .where(userIdEq(userId));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<ReviewResponse> getReviewSlice(Long bookId, Pageable pageable) {
+        // count 쿼리 대신 한 건 더 조회해서 다음 페이지 여부 판단
+        return toSlice(fetchReviews(bookId, pageable, pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public Slice<MyReviewResponse> findMyReviewSlice(Long userId, Pageable pageable) {
+        return toSlice(fetchMyReviews(userId, pageable, pageable.getPageSize() + 1), pageable);
+    }
+
+    private <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private List<MyReviewResponse> fetchMyReviews(Long userId, Pageable pageable, int limit) {
+        return queryFactory
                 .select(new QMyReviewResponse(
                         review.id,
                         review.book.id,
@@ -51,18 +81,11 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .where(userIdEq(userId))
                 .orderBy(review.createdAt.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
-
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(userIdEq(userId));
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
-    private List<ReviewResponse> fetchReviews(Long bookId, Pageable pageable) {
+    private List<ReviewResponse> fetchReviews(Long bookId, Pageable pageable, int limit) {
         return queryFactory
                 .select(new QReviewResponse(
                         review.id,
@@ -78,7 +101,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .where(bookIdEq(bookId))
                 .orderBy(getOrderSpecifier(pageable))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
     }
 
@@ -2,11 +2,15 @@ package wsd.bookstore.review.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.event.BookActivityEvent;
+import wsd.bookstore.book.event.BookActivityType;
 import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
@@ -31,6 +35,7 @@ public class ReviewService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<ReviewResponse> getReviews(Long bookId, Pageable pageable) {
         log.info("리뷰 목록 조회 요청: bookId={}", bookId);
@@ -40,11 +45,24 @@ public class ReviewService {
         return reviewRepository.getReviews(bookId, pageable);
     }
 
+    public Slice<ReviewResponse> getReviewSlice(Long bookId, Pageable pageable) {
+        log.info("리뷰 목록 조회 요청 (Slice): bookId={}", bookId);
+        if (!bookRepository.existsById(bookId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_BOOK);
+        }
+        return reviewRepository.getReviewSlice(bookId, pageable);
+    }
+
     public Page<MyReviewResponse> getMyReviews(Long userId, Pageable pageable) {
         log.info("내 리뷰 목록 조회 요청: userId={}", userId);
         return reviewRepository.findMyReviews(userId, pageable);
     }
 
+    public Slice<MyReviewResponse> getMyReviewSlice(Long userId, Pageable pageable) {
+        log.info("내 리뷰 목록 조회 요청 (Slice): userId={}", userId);
+        return reviewRepository.findMyReviewSlice(userId, pageable);
+    }
+
     @Transactional
     public Long createReview(Long userId, Long bookId, CreateReviewRequest request) {
         log.info("리뷰 작성 요청: userId={}, bookId={}", userId, bookId);
@@ -66,6 +84,7 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new BookActivityEvent(bookId, BookActivityType.REVIEW));
         log.info("리뷰 작성 완료: reviewId={}", savedReview.getId());
         return savedReview.getId();
     }
@@ -117,6 +136,7 @@ public class ReviewService {
 
         reviewLikeRepository.save(reviewLike);
         review.increaseLikeCount();
+        eventPublisher.publishEvent(new BookActivityEvent(review.getBook().getId(), BookActivityType.REVIEW_LIKE));
         log.info("리뷰 좋아요 완료: reviewId={}", reviewId);
     }
 
@@ -3,35 +3,51 @@ package wsd.bookstore.security.auth;
 import java.util.Collection;
 import java.util.Collections;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import wsd.bookstore.user.entity.User;
+import wsd.bookstore.user.entity.UserRole;
 
+/**
+ * 인증된 사용자 정보. 회원 ID, 이메일, 권한만 담는 불변 스냅샷으로, DB 에서 읽은 User 나 서명된 토큰 클레임으로 만든다.
+ * 요청 사이에 캐싱되므로 엔티티를 담지 않는다. 회원 엔티티가 필요한 서비스는 회원 ID 로 트랜잭션 안에서 조회한다.
+ */
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
 
-    public Long getUserId() {
-        return user.getId();
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    private CustomUserDetails(Long userId, String email, UserRole role) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+    }
+
+    public static CustomUserDetails fromClaims(Long userId, String email, UserRole role) {
+        return new CustomUserDetails(userId, email, role);
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().getAuthority()));
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getAuthority()));
     }
 
+    // 인증은 액세스 토큰으로만 하고 비밀번호 확인은 AuthService 가 직접 하므로 비밀번호 해시는 담지 않음
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -26,4 +26,13 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    // 액세스 토큰의 subject(회원 ID)로 조회. 인증 필터의 인증 정보 캐시가 미스일 때만 호출됨
+    public CustomUserDetails loadUserById(Long userId) {
+        log.info("사용자 인증 정보 로드 요청: userId={}", userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+
+        return new CustomUserDetails(user);
+    }
 }
@@ -0,0 +1,162 @@
+package wsd.bookstore.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.common.cache.CacheInvalidationMessage;
+import wsd.bookstore.common.cache.CacheInvalidationPublisher;
+import wsd.bookstore.common.cache.LocalCacheInvalidationHandler;
+import wsd.bookstore.common.redis.RedisService;
+
+/**
+ * 인증 필터가 요청마다 회원을 다시 조회하지 않도록 회원 ID 별 인증 정보 스냅샷을 노드 로컬에 보관한다.
+ * 회원 정보가 바뀌면 커밋 이후 로컬 항목을 지우고 다른 노드에도 무효화 메시지를 보낸다.
+ * 바뀐 시각은 변경 표시로 액세스 토큰 수명 동안 남겨, 그 전에 읽은 항목과 그 전에 발급된 토큰 클레임을 믿지 않게 한다.
+ * 변경 표시의 원본은 Redis(user:principal-changed:{userId})에 두고 노드 시작 시 로컬로 읽어 온다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache implements LocalCacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "userPrincipals";
+    static final String CHANGED_KEY_PREFIX = "user:principal-changed:";
+
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final Cache<Long, CachedPrincipal> principals;
+    // 회원 ID 별 마지막 변경 시각. 크기 제한으로 지워지면 변경 전 클레임을 믿게 되므로 만료로만 정리
+    private final Cache<Long, Long> changedAt;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RedisService redisService;
+    private final Duration changeMarkerTtl;
+
+    public UserPrincipalCache(CacheInvalidationPublisher invalidationPublisher,
+                              RedisService redisService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.access.expiration}") long accessExpiration) {
+        this.invalidationPublisher = invalidationPublisher;
+        this.redisService = redisService;
+        this.changeMarkerTtl = Duration.ofMillis(accessExpiration);
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        this.changedAt = Caffeine.newBuilder()
+                .expireAfterWrite(changeMarkerTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, CACHE_NAME);
+    }
+
+    // 노드가 뜨기 전에 바뀐 회원도 변경 전 토큰 클레임을 믿지 않도록 남아 있는 변경 표시를 채움
+    @PostConstruct
+    void init() {
+        try {
+            List<String> keys = redisService.scanKeys(CHANGED_KEY_PREFIX + "*");
+            if (keys.isEmpty()) {
+                return;
+            }
+            List<String> values = redisService.multiGetValues(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                if (values.get(i) != null) {
+                    changedAt.put(Long.valueOf(keys.get(i).substring(CHANGED_KEY_PREFIX.length())),
+                            Long.valueOf(values.get(i)));
+                }
+            }
+            log.info("회원 변경 표시 로드 완료: count={}", changedAt.estimatedSize());
+        } catch (RuntimeException e) {
+            log.warn("회원 변경 표시 로드 실패. 이후 변경분만 반영됨", e);
+        }
+    }
+
+    /**
+     * 캐시된 인증 정보를 반환한다. 없으면 loader 로 한 번만 읽어 저장한다 (같은 회원의 동시 요청은 결과를 공유).
+     * 회원 정보가 바뀌기 전에 읽은 항목이면 버리고 다시 읽는다.
+     */
+    public CustomUserDetails get(Long userId, Function<Long, CustomUserDetails> loader) {
+        CachedPrincipal cached = principals.get(userId, id -> load(id, loader));
+        if (isStale(userId, cached)) {
+            // 커밋 직전에 읽기 시작한 조회가 무효화 이후에 저장된 경우
+            principals.asMap().remove(userId, cached);
+            cached = principals.get(userId, id -> load(id, loader));
+        }
+        return cached.principal();
+    }
+
+    /**
+     * 액세스 토큰 수명 안에 회원 정보가 바뀌었으면 true. 이 경우 토큰 클레임(권한, 탈퇴 여부)이 현재와 다를 수 있다.
+     */
+    public boolean hasChangedRecently(Long userId) {
+        return changedAt.getIfPresent(userId) != null;
+    }
+
+    // 커밋 전에 지우면 다른 요청이 변경 전 회원 정보를 다시 캐싱할 수 있으므로 커밋 이후에 지움
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(userId);
+            }
+        });
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (!CACHE_NAME.equals(message.cacheName())
+                || invalidationPublisher.getNodeId().equals(message.nodeId())) {
+            return;
+        }
+        if (message.key() == null) {
+            principals.invalidateAll();
+            return;
+        }
+        log.debug("인증 정보 캐시 무효화: userId={}", message.key());
+        markChanged(Long.valueOf(message.key()), System.currentTimeMillis());
+    }
+
+    private void evictNow(Long userId) {
+        long now = System.currentTimeMillis();
+        markChanged(userId, now);
+        try {
+            redisService.setValues(CHANGED_KEY_PREFIX + userId, String.valueOf(now), changeMarkerTtl);
+        } catch (RuntimeException e) {
+            // 이후에 뜨는 노드만 변경 표시를 모름. 실행 중인 노드는 무효화 메시지로 표시함
+            log.warn("회원 변경 표시 저장 실패: userId={}", userId, e);
+        }
+        invalidationPublisher.publishEvict(CACHE_NAME, String.valueOf(userId));
+    }
+
+    private void markChanged(Long userId, long at) {
+        changedAt.asMap().merge(userId, at, Math::max);
+        principals.invalidate(userId);
+    }
+
+    // 조회 시작 시각을 기록해야 조회 도중에 커밋된 변경도 변경 전 항목으로 판단됨
+    private CachedPrincipal load(Long userId, Function<Long, CustomUserDetails> loader) {
+        long loadedAt = System.currentTimeMillis();
+        return new CachedPrincipal(loader.apply(userId), loadedAt);
+    }
+
+    private boolean isStale(Long userId, CachedPrincipal cached) {
+        Long changed = changedAt.getIfPresent(userId);
+        return changed != null && cached.loadedAt() < changed;
+    }
+
+    private record CachedPrincipal(CustomUserDetails principal, long loadedAt) {
+    }
+}
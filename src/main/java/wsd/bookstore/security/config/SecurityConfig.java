@@ -1,11 +1,14 @@
 package wsd.bookstore.security.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -19,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import wsd.bookstore.security.auth.BoundedPasswordEncoder;
 import wsd.bookstore.security.exception.CustomAccessDeniedHandler;
 import wsd.bookstore.security.exception.CustomAuthenticationEntryPoint;
 import wsd.bookstore.security.jwt.JwtAuthenticationFilter;
@@ -60,9 +64,31 @@ public class SecurityConfig {
         private final CustomAccessDeniedHandler customAccessDeniedHandler;
         private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+        // 목표 BCrypt 비용. 올리면 이전 비용으로 저장된 해시는 다음 로그인 때 다시 해시됨
+        @Value("${app.security.bcrypt-strength:10}")
+        private int bcryptStrength;
+
+        @Value("${app.security.password-hashing.queue-capacity:64}")
+        private int passwordHashingQueueCapacity;
+
+        @Bean
+        public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor passwordHashingExecutor,
+                        MeterRegistry meterRegistry) {
+                return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor,
+                                meterRegistry);
+        }
+
+        // 비밀번호 해시 전용 스레드. 코어의 절반만 사용해 로그인이 몰려도 다른 요청을 처리할 CPU 를 남김
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public ThreadPoolTaskExecutor passwordHashingExecutor() {
+                int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+                ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+                executor.setCorePoolSize(threads);
+                executor.setMaxPoolSize(threads);
+                executor.setQueueCapacity(passwordHashingQueueCapacity);
+                executor.setThreadNamePrefix("password-hash-");
+                executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+                return executor;
         }
 
         @Bean
@@ -0,0 +1,393 @@
+package wsd.bookstore.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Arrays;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import wsd.bookstore.user.entity.UserRole;
+
+/**
+ * JwtTokenProvider 가 발급하는 형태의 HS256 토큰 전용 검증기.
+ * 스레드별 Mac 과 버퍼를 재사용하고 Base64URL 디코딩과 클레임 읽기를 직접 수행해 jjwt 의 클레임 맵 생성 비용을 피한다.
+ * 헤더 필드, 클레임 구성, 이스케이프 문자 등이 예상과 다르거나 서명 불일치, 만료인 경우 null 을 반환하고 판단을 jjwt 에 맡긴다.
+ */
+final class Hs256FastVerifier {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MAX_TOKEN_LENGTH = 2048;
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    private static final byte[] KEY_ALG = ascii("alg");
+    private static final byte[] KEY_TYP = ascii("typ");
+    private static final byte[] HS256 = ascii("HS256");
+    private static final byte[] JWT = ascii("JWT");
+
+    // 클레임 키와 발견 여부 비트
+    private static final byte[][] CLAIM_KEYS = {
+            ascii("sub"), ascii("jti"), ascii("email"), ascii("role"), ascii("type"), ascii("iat"), ascii("exp")
+    };
+    private static final int SUB = 0;
+    private static final int JTI = 1;
+    private static final int EMAIL = 2;
+    private static final int ROLE = 3;
+    private static final int TYPE = 4;
+    private static final int IAT = 5;
+    private static final int EXP = 6;
+    private static final int ACCESS_CLAIMS = 0b1111111;
+    private static final int REFRESH_CLAIMS = ACCESS_CLAIMS & ~(1 << EMAIL) & ~(1 << ROLE);
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Scratch> scratch;
+
+    Hs256FastVerifier(SecretKey secretKey) {
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(secretKey)));
+    }
+
+    /**
+     * 서명과 만료를 확인한 토큰을 반환한다. 빠른 경로로 판단할 수 없으면 null 을 반환한다.
+     */
+    VerifiedToken verify(String token, long nowMillis) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (length > MAX_TOKEN_LENGTH || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Scratch buffers = scratch.get();
+        int headerLength = decode(token, 0, firstDot, buffers.json);
+        if (headerLength < 0 || !isExpectedHeader(buffers.json, headerLength, buffers.scanner)) {
+            return null;
+        }
+        int payloadLength = decode(token, firstDot + 1, secondDot, buffers.json);
+        if (payloadLength < 0 || decode(token, secondDot + 1, length, buffers.signature) != SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        Claims claims = buffers.claims;
+        if (!claims.read(buffers.json, payloadLength, buffers.scanner) || claims.exp * 1000 <= nowMillis) {
+            return null;
+        }
+        if (!hasValidSignature(token, secondDot, buffers)) {
+            return null;
+        }
+        return claims.toVerifiedToken();
+    }
+
+    private static boolean hasValidSignature(String token, int signingInputLength, Scratch buffers) {
+        // 앞 두 구간은 Base64URL 디코딩을 통과했으므로 모두 ASCII
+        for (int i = 0; i < signingInputLength; i++) {
+            buffers.signingInput[i] = (byte) token.charAt(i);
+        }
+        try {
+            buffers.mac.update(buffers.signingInput, 0, signingInputLength);
+            buffers.mac.doFinal(buffers.expected, 0);
+        } catch (ShortBufferException e) {
+            return false;
+        }
+
+        // 일치하는 바이트 수로 시간 차이가 나지 않도록 모든 바이트를 비교
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= buffers.expected[i] ^ buffers.signature[i];
+        }
+        return diff == 0;
+    }
+
+    private static boolean isExpectedHeader(byte[] json, int length, FlatJsonScanner scanner) {
+        boolean hs256 = false;
+        boolean typ = false;
+        scanner.reset(json, length);
+        int result;
+        while ((result = scanner.next()) == FlatJsonScanner.FIELD) {
+            if (scanner.keyEquals(KEY_ALG) && !hs256 && scanner.stringValueEquals(HS256)) {
+                hs256 = true;
+            } else if (scanner.keyEquals(KEY_TYP) && !typ && scanner.stringValueEquals(JWT)) {
+                typ = true;
+            } else {
+                return false;
+            }
+        }
+        return result == FlatJsonScanner.END && hs256;
+    }
+
+    // 패딩 없는 Base64URL. 남는 비트가 0 이 아닌 비정규 인코딩도 거부
+    private static int decode(String text, int from, int to, byte[] out) {
+        if (to - from > out.length) {
+            return -1;
+        }
+        int length = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            int value = c < BASE64URL.length ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[length++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return bits < 6 && buffer == 0 ? length : -1;
+    }
+
+    private static Mac newMac(SecretKey secretKey) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HS256 Mac 초기화 실패", e);
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Scratch {
+
+        private final Mac mac;
+        private final byte[] json = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final FlatJsonScanner scanner = new FlatJsonScanner();
+        private final Claims claims = new Claims();
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    /**
+     * 액세스 토큰(7개 클레임) 또는 리프레시 토큰(email, role 제외 5개 클레임)의 클레임. 다른 클레임이나 중복 키가 있으면 거부한다.
+     */
+    private static final class Claims {
+
+        private long sub;
+        private String jti;
+        private String email;
+        private UserRole role;
+        private String type;
+        private long exp;
+
+        private boolean read(byte[] json, int length, FlatJsonScanner scanner) {
+            jti = null;
+            email = null;
+            role = null;
+            type = null;
+            int seen = 0;
+            scanner.reset(json, length);
+            int result;
+            while ((result = scanner.next()) == FlatJsonScanner.FIELD) {
+                int claim = scanner.keyIndex(CLAIM_KEYS);
+                if (claim < 0 || (seen & (1 << claim)) != 0 || !readClaim(claim, scanner)) {
+                    return false;
+                }
+                seen |= 1 << claim;
+            }
+            if (result != FlatJsonScanner.END) {
+                return false;
+            }
+            if (JwtConstant.ACCESS_TOKEN_TYPE.equals(type)) {
+                return seen == ACCESS_CLAIMS;
+            }
+            return JwtConstant.REFRESH_TOKEN_TYPE.equals(type) && seen == REFRESH_CLAIMS;
+        }
+
+        private boolean readClaim(int claim, FlatJsonScanner scanner) {
+            switch (claim) {
+                case SUB -> {
+                    sub = scanner.stringValueAsLong();
+                    return sub >= 0;
+                }
+                case JTI -> {
+                    jti = scanner.stringValue();
+                    return jti != null;
+                }
+                case EMAIL -> {
+                    email = scanner.stringValue();
+                    return email != null;
+                }
+                case ROLE -> {
+                    role = parseRole(scanner.stringValue());
+                    return role != null;
+                }
+                case TYPE -> {
+                    type = scanner.stringValue();
+                    return type != null;
+                }
+                case IAT -> {
+                    return scanner.numberValue() >= 0;
+                }
+                case EXP -> {
+                    exp = scanner.numberValue();
+                    return exp >= 0;
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+
+        private VerifiedToken toVerifiedToken() {
+            return new VerifiedToken(sub, email, role, type, jti, Instant.ofEpochSecond(exp));
+        }
+
+        private static UserRole parseRole(String name) {
+            if (name == null) {
+                return null;
+            }
+            for (UserRole role : UserRole.values()) {
+                if (role.name().equals(name)) {
+                    return role;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 공백 없는 한 단계 JSON 객체만 읽는 스캐너. 값은 이스케이프 없는 문자열 또는 18자리 이하 음이 아닌 정수만 허용한다.
+     */
+    private static final class FlatJsonScanner {
+
+        private static final int FIELD = 1;
+        private static final int END = 0;
+        private static final int MALFORMED = -1;
+
+        private byte[] json;
+        private int length;
+        private int position;
+        private boolean first;
+
+        private int keyStart;
+        private int keyEnd;
+        private int valueStart;
+        private int valueEnd;
+        private boolean stringValue;
+
+        private void reset(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+            this.position = length >= 2 && json[0] == '{' ? 1 : length;
+            this.first = true;
+        }
+
+        private int next() {
+            if (position >= length) {
+                return MALFORMED;
+            }
+            if (json[position] == '}') {
+                return position == length - 1 ? END : MALFORMED;
+            }
+            if (!first && json[position++] != ',') {
+                return MALFORMED;
+            }
+            first = false;
+
+            if (!readString()) {
+                return MALFORMED;
+            }
+            keyStart = valueStart;
+            keyEnd = valueEnd;
+            if (position >= length || json[position++] != ':') {
+                return MALFORMED;
+            }
+
+            if (position < length && json[position] == '"') {
+                stringValue = true;
+                return readString() ? FIELD : MALFORMED;
+            }
+            stringValue = false;
+            valueStart = position;
+            while (position < length && json[position] >= '0' && json[position] <= '9') {
+                position++;
+            }
+            valueEnd = position;
+            return valueEnd > valueStart && valueEnd - valueStart <= 18 ? FIELD : MALFORMED;
+        }
+
+        private boolean readString() {
+            if (position >= length || json[position] != '"') {
+                return false;
+            }
+            valueStart = ++position;
+            while (position < length) {
+                int b = json[position] & 0xff;
+                if (b == '"') {
+                    valueEnd = position++;
+                    return true;
+                }
+                if (b == '\\' || b < 0x20) {
+                    return false;
+                }
+                position++;
+            }
+            return false;
+        }
+
+        private boolean keyEquals(byte[] expected) {
+            return Arrays.equals(json, keyStart, keyEnd, expected, 0, expected.length);
+        }
+
+        private int keyIndex(byte[][] keys) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keyEquals(keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean stringValueEquals(byte[] expected) {
+            return stringValue && Arrays.equals(json, valueStart, valueEnd, expected, 0, expected.length);
+        }
+
+        private String stringValue() {
+            return stringValue ? new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8) : null;
+        }
+
+        private long numberValue() {
+            return stringValue ? -1 : digits(valueStart, valueEnd);
+        }
+
+        // 문자열로 저장된 숫자 (subject)
+        private long stringValueAsLong() {
+            return stringValue ? digits(valueStart, valueEnd) : -1;
+        }
+
+        private long digits(int from, int to) {
+            if (to <= from || to - from > 18) {
+                return -1;
+            }
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                int digit = json[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+}
@@ -7,14 +7,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.security.auth.CustomUserDetails;
 import wsd.bookstore.security.auth.CustomUserDetailsService;
+import wsd.bookstore.security.auth.UserPrincipalCache;
 
 @Slf4j
 @Component
@@ -23,6 +28,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenBlacklist tokenBlacklist;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 회원 ID 와 권한만 쓰는 경로. 최근 바뀐 회원이 아니면 회원 조회 없이 서명된 토큰 클레임으로 인증 정보를 만듦
+    @Value("${app.security.claims-principal-paths:}")
+    private String[] claimsPrincipalPaths;
 
     @Override
     protected void doFilterInternal(
@@ -39,21 +52,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         String token = authHeader.substring(JwtConstant.TOKEN_PREFIX.length());
 
-        if (!jwtTokenProvider.validateToken(token)) {
+        VerifiedToken verifiedToken = jwtTokenProvider.tryVerify(token).orElse(null);
+        if (verifiedToken == null) {
             log.info("토큰 검증 실패: {}", token);
             filterChain.doFilter(request, response);
             return;
         }
 
+        if (!verifiedToken.isAccessToken()) {
+            log.info("액세스 토큰이 아님: type={}", verifiedToken.type());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (tokenBlacklist.isRevoked(verifiedToken.jti())) {
+            log.info("로그아웃한 토큰: jti={}", verifiedToken.jti());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (SecurityContextHolder.getContext().getAuthentication() != null) {
             log.info("이미 인증 정보 존재");
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = jwtTokenProvider.getEmail(token);
-
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+        UserDetails userDetails = resolvePrincipal(verifiedToken, request);
+        if (userDetails == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
                 userDetails.getAuthorities());
@@ -64,4 +92,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // 토큰 발급 이후 회원 정보가 바뀌었을 수 있으면 클레임을 믿지 않고 현재 회원 정보로 인증
+    private UserDetails resolvePrincipal(VerifiedToken verifiedToken, HttpServletRequest request) {
+        Long userId = verifiedToken.userId();
+        if (isClaimsPrincipalPath(request) && !userPrincipalCache.hasChangedRecently(userId)) {
+            return CustomUserDetails.fromClaims(userId, verifiedToken.email(), verifiedToken.role());
+        }
+        try {
+            return userPrincipalCache.get(userId, customUserDetailsService::loadUserById);
+        } catch (CustomException e) {
+            log.info("토큰의 회원을 찾을 수 없음: userId={}", userId);
+            return null;
+        }
+    }
+
+    private boolean isClaimsPrincipalPath(HttpServletRequest request) {
+        if (claimsPrincipalPaths == null) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : claimsPrincipalPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,16 +1,22 @@
 package wsd.bookstore.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
-
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -28,18 +34,35 @@ import wsd.bookstore.user.entity.UserRole;
 @Component
 public class JwtTokenProvider {
 
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     @Value("${jwt.secret}")
     private String secret;
     @Value("${jwt.access.expiration}")
     private Long accessExpiration;
     @Value("${jwt.refresh.expiration}")
     private Long refreshExpiration;
+    @Value("${jwt.fast-path.enabled:false}")
+    private boolean fastPathEnabled;
 
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Hs256FastVerifier fastVerifier;
+
+    // 검증한 토큰 → 클레임. 각 항목은 토큰 만료 시각에 함께 사라지고, 검증에 실패한 토큰은 보관하지 않음
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(Expiry.<String, VerifiedToken>creating((token, verified) ->
+                    Duration.between(Instant.now(), verified.expiresAt())))
+            .build();
 
     @PostConstruct
     void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.fastVerifier = fastPathEnabled ? new Hs256FastVerifier(secretKey) : null;
     }
 
     public String generateAccess(Long id, String email, UserRole role) {
@@ -76,69 +99,97 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 서명과 만료를 검증하고 클레임을 한 번에 읽는다. 검증한 토큰은 만료될 때까지 보관하므로 같은 토큰은 다시 파싱하지 않는다.
+     *
+     * @throws JwtException 서명이 틀리거나 만료된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = verifiedTokens.get(token, this::parse);
+        if (!verified.expiresAt().isAfter(Instant.now())) {
+            verifiedTokens.invalidate(token);
+            throw new JwtException("토큰 만료");
+        }
+        return verified;
     }
 
-    public boolean validateToken(String token) {
+    public VerifiedToken verifyAccessToken(String accessToken) {
+        VerifiedToken verified = verify(accessToken);
+        if (!verified.isAccessToken()) {
+            throw new JwtException("토큰 타입 불일치");
+        }
+        return verified;
+    }
+
+    /**
+     * 검증에 실패하면 사유를 로그로 남기고 빈 Optional 을 반환한다.
+     */
+    public Optional<VerifiedToken> tryVerify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(verify(token));
         } catch (ExpiredJwtException e) {
             log.warn("토큰 만료: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("토큰 유효성 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return tryVerify(token).isPresent();
+    }
+
     public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.valueOf(claims.getSubject());
+        return verify(token).userId();
     }
 
     public String getEmail(String accessToken) {
-        validateAccessTokenType(accessToken);
-        Claims claims = parseClaims(accessToken);
-        return claims.get(JwtConstant.CLAIM_EMAIL, String.class);
+        return verifyAccessToken(accessToken).email();
     }
 
     public String getRole(String accessToken) {
-        validateAccessTokenType(accessToken);
-        Claims claims = parseClaims(accessToken);
-        return claims.get(JwtConstant.CLAIM_ROLE, String.class);
+        return verifyAccessToken(accessToken).role().name();
     }
 
     public String getType(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get(JwtConstant.CLAIM_TYPE, String.class);
+        return verify(token).type();
     }
 
-    private void validateAccessTokenType(String token) {
-        if (!JwtConstant.ACCESS_TOKEN_TYPE.equals(getType(token))) {
-            throw new JwtException("토큰 타입 불일치");
+    // 직접 발급한 형태의 토큰은 빠른 경로로 검증하고, 판단할 수 없는 토큰(형식 불일치, 서명 불일치, 만료)만 jjwt 로 검증
+    private VerifiedToken parse(String token) {
+        if (fastVerifier != null) {
+            VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+            if (verified != null) {
+                return verified;
+            }
         }
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String subject = claims.getSubject();
+        String role = claims.get(JwtConstant.CLAIM_ROLE, String.class);
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            throw new JwtException("만료 시간 없는 토큰");
+        }
+        return new VerifiedToken(
+                subject != null ? Long.valueOf(subject) : null,
+                claims.get(JwtConstant.CLAIM_EMAIL, String.class),
+                role != null ? UserRole.valueOf(role) : null,
+                claims.get(JwtConstant.CLAIM_TYPE, String.class),
+                claims.getId(),
+                expiration.toInstant());
     }
 
     public Authentication getAuthentication(String token) {
-        if (!validateToken(token)) {
-            throw new JwtException("유효하지 않은 토큰");
+        VerifiedToken verified = tryVerify(token)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰"));
+        if (!verified.isAccessToken()) {
+            throw new JwtException("토큰 타입 불일치");
         }
-        String email = getEmail(token);
-        String role = getRole(token);
 
-        UserRole userRole = UserRole.valueOf(role);
-        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(userRole.getAuthority()));
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(verified.role().getAuthority()));
         UserDetails principal = User
-                .withUsername(email)
+                .withUsername(verified.email())
                 .password("")
                 .authorities(authorities)
                 .build();
@@ -147,9 +198,7 @@ public class JwtTokenProvider {
     }
 
     public long getExpiration(String token) {
-        Date expiration = parseClaims(token).getExpiration();
-        long now = new Date().getTime();
-        return (expiration.getTime() - now);
+        return verify(token).remainingMillis(Instant.now());
     }
 
     public long getRefreshExpiration() {
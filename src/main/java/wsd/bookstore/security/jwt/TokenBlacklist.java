@@ -0,0 +1,198 @@
+package wsd.bookstore.security.jwt;
+
+import static wsd.bookstore.security.jwt.JwtConstant.LOGOUT_VALUE;
+import static wsd.bookstore.security.jwt.JwtConstant.REDIS_BL_PREFIX;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import wsd.bookstore.common.redis.RedisService;
+
+/**
+ * 로그아웃한 액세스 토큰의 jti 블랙리스트.
+ * 원본은 Redis(BL:{jti}, 토큰 만료까지 TTL)에 두고, 노드별 Bloom 필터에 복제해 대부분의 요청은 I/O 없이 통과시킨다.
+ * 필터가 "있을 수 있음"으로 답한 경우에만 Redis 로 확인하므로 오탐은 Redis 조회 한 번으로 끝난다.
+ * 필터는 액세스 토큰 수명마다 세대를 교체해, 등록된 jti 가 토큰 만료 전에는 사라지지 않고 만료 후에는 정리되게 한다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "token:revocation";
+
+    // 세대(액세스 토큰 수명)당 예상 로그아웃 수와 목표 오탐률. 초과하면 오탐률만 올라가고 정확성은 유지됨
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long generationMillis;
+
+    private volatile Generations generations;
+
+    public TokenBlacklist(RedisService redisService,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${jwt.access.expiration}") long accessExpiration) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.generationMillis = accessExpiration;
+        this.generations = new Generations(new BloomFilter(), new BloomFilter(), System.currentTimeMillis());
+    }
+
+    // 다른 노드의 로그아웃을 받기 전에 이미 등록된 jti 를 채움
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        try {
+            int loaded = 0;
+            for (String key : redisService.scanKeys(REDIS_BL_PREFIX + "*")) {
+                add(key.substring(REDIS_BL_PREFIX.length()), System.currentTimeMillis());
+                loaded++;
+            }
+            log.info("토큰 블랙리스트 로드 완료: count={}", loaded);
+        } catch (RuntimeException e) {
+            log.warn("토큰 블랙리스트 로드 실패. 이후 로그아웃분만 반영됨", e);
+        }
+    }
+
+    /**
+     * 토큰을 만료 시각까지 블랙리스트에 등록하고 다른 노드에 알린다.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        long now = System.currentTimeMillis();
+        long remaining = expiresAt.toEpochMilli() - now;
+        if (jti == null || remaining <= 0) {
+            return;
+        }
+        redisService.setValues(REDIS_BL_PREFIX + jti, LOGOUT_VALUE, Duration.ofMillis(remaining));
+        add(jti, now);
+        try {
+            redisService.publish(CHANNEL, jti);
+        } catch (RuntimeException e) {
+            // 알림을 못 받은 노드는 Redis 를 확인하지 않으므로 해당 노드에서는 토큰이 만료까지 통과할 수 있음
+            log.warn("토큰 블랙리스트 알림 전송 실패: jti={}", jti, e);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return isRevoked(jti, System.currentTimeMillis());
+    }
+
+    // Redis 장애 중 필터가 일치하면 거부. 로그아웃한 토큰을 통과시키는 것보다 오탐 거부가 안전함
+    boolean isRevoked(String jti, long now) {
+        if (jti == null || !currentGenerations(now).mightContain(jti)) {
+            return false;
+        }
+        try {
+            return redisService.hasKey(REDIS_BL_PREFIX + jti);
+        } catch (RuntimeException e) {
+            log.warn("토큰 블랙리스트 확인 실패. 차단으로 처리: jti={}", jti, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8), System.currentTimeMillis());
+    }
+
+    // 등록 도중 세대가 교체되면 버려진 필터에 들어갔을 수 있으므로 새 세대에 다시 등록
+    void add(String jti, long now) {
+        Generations used;
+        do {
+            used = currentGenerations(now);
+            used.current().add(jti);
+        } while (used != generations);
+    }
+
+    // 등록은 항상 현재 세대에 하므로, 한 세대가 지나면 이전 세대로 넘기고 두 세대가 지나면 버림
+    private Generations currentGenerations(long now) {
+        Generations current = generations;
+        if (now - current.startedAt() < generationMillis) {
+            return current;
+        }
+        synchronized (this) {
+            current = generations;
+            long elapsed = now - current.startedAt();
+            if (elapsed >= 2 * generationMillis) {
+                generations = new Generations(new BloomFilter(), new BloomFilter(), now);
+            } else if (elapsed >= generationMillis) {
+                generations = new Generations(new BloomFilter(), current.current(), now);
+            }
+            return generations;
+        }
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long startedAt) {
+
+        private boolean mightContain(String jti) {
+            return current.mightContain(jti) || previous.mightContain(jti);
+        }
+    }
+
+    /**
+     * 동시 등록과 조회가 가능한 고정 크기 Bloom 필터. 두 해시 값을 조합해 k 개의 비트 위치를 만든다.
+     */
+    static final class BloomFilter {
+
+        private static final long BITS = optimalBits(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+        private static final int HASHES = Math.max(1,
+                (int) Math.round((double) BITS / EXPECTED_REVOCATIONS * Math.log(2)));
+
+        private final AtomicLongArray words = new AtomicLongArray((int) ((BITS + 63) / 64));
+
+        void add(String value) {
+            long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, BITS);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long previous;
+                do {
+                    previous = words.get(word);
+                } while ((previous & mask) == 0 && !words.compareAndSet(word, previous, previous | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, BITS);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long optimalBits(int expected, double falsePositiveRate) {
+            return (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        }
+
+        // 글자 단위 FNV-1a 에 64비트 마무리 혼합을 더해 비트를 고르게 퍼뜨림
+        private static long hash(String value, long seed) {
+            long hash = seed;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package wsd.bookstore.security.jwt;
+
+import java.time.Instant;
+import wsd.bookstore.user.entity.UserRole;
+
+/**
+ * 서명과 만료를 검증한 토큰의 클레임. 리프레시 토큰은 email, role 이 null 이다.
+ */
+public record VerifiedToken(Long userId, String email, UserRole role, String type, String jti, Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return JwtConstant.ACCESS_TOKEN_TYPE.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtConstant.REFRESH_TOKEN_TYPE.equals(type);
+    }
+
+    public long remainingMillis(Instant now) {
+        return expiresAt.toEpochMilli() - now.toEpochMilli();
+    }
+}
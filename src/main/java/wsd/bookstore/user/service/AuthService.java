@@ -1,7 +1,5 @@
 package wsd.bookstore.user.service;
 
-import static wsd.bookstore.security.jwt.JwtConstant.LOGOUT_VALUE;
-import static wsd.bookstore.security.jwt.JwtConstant.REDIS_BL_PREFIX;
 import static wsd.bookstore.security.jwt.JwtConstant.REDIS_RT_PREFIX;
 
 import java.time.Duration;
@@ -14,6 +12,8 @@ import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.common.redis.RedisService;
 import wsd.bookstore.security.jwt.JwtTokenProvider;
+import wsd.bookstore.security.jwt.TokenBlacklist;
+import wsd.bookstore.security.jwt.VerifiedToken;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.entity.UserRole;
 import wsd.bookstore.user.repository.UserRepository;
@@ -34,6 +34,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final TokenBlacklist tokenBlacklist;
 
     public SignupResponse signup(SignupRequest request) {
         log.info("회원가입 요청: email={}", request.getEmail());
@@ -57,18 +58,19 @@ public class AuthService {
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
+        rehashIfOutdated(user, request.getPassword());
 
         log.info("로그인 완료: userId={}", user.getId());
         return generateLoginResponse(user);
     }
 
     public void logout(String accessToken) {
-        String email = jwtTokenProvider.getEmail(accessToken);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+        String email = verifiedToken.email();
         log.info("로그아웃 요청: email={}", email);
         redisService.deleteValues(REDIS_RT_PREFIX + email);
 
-        long expiration = jwtTokenProvider.getExpiration(accessToken);
-        redisService.setValues(REDIS_BL_PREFIX + accessToken, LOGOUT_VALUE, Duration.ofMillis(expiration));
+        tokenBlacklist.revoke(verifiedToken.jti(), verifiedToken.expiresAt());
         log.info("로그아웃 완료: email={}", email);
     }
 
@@ -76,11 +78,10 @@ public class AuthService {
         log.info("토큰 재발급 요청");
         String refreshToken = request.getRefreshToken();
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        VerifiedToken verifiedToken = jwtTokenProvider.tryVerify(refreshToken)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
 
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
+        Long userId = verifiedToken.userId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
@@ -90,6 +91,23 @@ public class AuthService {
         return generateLoginResponse(user);
     }
 
+    // 저장된 해시의 비용이 설정값보다 낮으면 확인된 평문으로 다시 해시 (커밋 시 반영)
+    // 해시 대기열이 가득 차 있으면 로그인은 그대로 성공시키고 다음 로그인 때 다시 시도
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.updatePassword(passwordEncoder.encode(rawPassword));
+            log.info("비밀번호 해시 갱신: userId={}", user.getId());
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.TOO_MANY_REQUESTS) {
+                throw e;
+            }
+            log.warn("비밀번호 해시 갱신 보류: userId={}", user.getId());
+        }
+    }
+
     private User createUser(SignupRequest request, String encodedPassword) {
         return User.builder()
                 .email(request.getEmail())
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.security.auth.UserPrincipalCache;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.repository.UserRepository;
 import wsd.bookstore.user.request.ProfileUpdateRequest;
@@ -21,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     public UserResponse getUser(Long userId) {
         log.info("회원 정보 조회 요청: userId={}", userId);
@@ -40,6 +42,7 @@ public class UserService {
                 request.getAddress(),
                 request.getPhoneNumber());
 
+        userPrincipalCache.evict(userId);
         log.info("프로필 수정 완료: userId={}", userId);
         return UserResponse.from(user);
     }
@@ -53,6 +56,7 @@ public class UserService {
         if (StringUtils.hasText(newPassword)) {
             String encodedPassword = passwordEncoder.encode(newPassword);
             user.updatePassword(encodedPassword);
+            userPrincipalCache.evict(userId);
         }
         log.info("비밀번호 변경 완료: userId={}", userId);
     }
@@ -63,6 +67,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
         userRepository.delete(user);
+        userPrincipalCache.evict(userId);
         log.info("회원 탈퇴 완료: userId={}", userId);
     }
 }
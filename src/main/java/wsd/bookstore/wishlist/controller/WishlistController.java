@@ -45,7 +45,7 @@ public class WishlistController {
             """)))
     public ResponseEntity<ApiResponse<List<BookSummaryResponse>>> getMyWishlist(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        return ApiResponse.ok(wishlistService.getMyWishlist(userDetails.getUser()), "위시리스트 조회 성공");
+        return ApiResponse.ok(wishlistService.getMyWishlist(userDetails.getUserId()), "위시리스트 조회 성공");
     }
 
     @PostMapping("/{bookId}")
@@ -59,7 +59,7 @@ public class WishlistController {
             """)))
     public ResponseEntity<ApiResponse<Void>> addWishlist(@AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId) {
-        wishlistService.addWishlist(userDetails.getUser(), bookId);
+        wishlistService.addWishlist(userDetails.getUserId(), bookId);
         return ApiResponse.ok(null, "위시리스트 추가 성공");
     }
 
@@ -74,7 +74,7 @@ public class WishlistController {
             """)))
     public ResponseEntity<ApiResponse<Void>> deleteWishlist(@AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long bookId) {
-        wishlistService.deleteWishlist(userDetails.getUser(), bookId);
+        wishlistService.deleteWishlist(userDetails.getUserId(), bookId);
         return ApiResponse.noContent("위시리스트 삭제 성공");
     }
 }
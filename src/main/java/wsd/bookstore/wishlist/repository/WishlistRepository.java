@@ -4,14 +4,13 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import wsd.bookstore.book.entity.Book;
-import wsd.bookstore.user.entity.User;
 import wsd.bookstore.wishlist.entity.Wishlist;
 
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
 
-    boolean existsByUserAndBook(User user, Book book);
+    boolean existsByUserIdAndBook(Long userId, Book book);
 
-    Optional<Wishlist> findByUserAndBook(User user, Book book);
+    Optional<Wishlist> findByUserIdAndBook(Long userId, Book book);
 
-    List<Wishlist> findAllByUser(User user);
+    List<Wishlist> findAllByUserId(Long userId);
 }
@@ -0,0 +1,5 @@
+-- Keyset pagination indexes (sort key + id tie-breaker)
+CREATE INDEX idx_books_title_id ON books (title, id);
+CREATE INDEX idx_books_price_id ON books (price, id);
+CREATE INDEX idx_books_published_at_id ON books (published_at, id);
+CREATE INDEX idx_books_created_at_id ON books (created_at, id);
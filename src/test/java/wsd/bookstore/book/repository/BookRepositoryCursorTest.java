@@ -0,0 +1,173 @@
+package wsd.bookstore.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import wsd.bookstore.book.request.BookCursor;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.common.config.QuerydslConfig;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.response.CursorResponse;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(QuerydslConfig.class)
+class BookRepositoryCursorTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 1000;
+    private static final int BENCHMARK_ROUNDS = 20;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("성공: 커서로 끝까지 조회하면 모든 도서를 중복 없이 정렬 순서대로 반환해야 한다")
+    void success_traverseAll() {
+        // given
+        BookSearchCondition condition = new BookSearchCondition();
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE deleted_at IS NULL", Integer.class);
+        BookCursor cursor = BookCursor.first(Sort.by(Sort.Direction.ASC, "price"));
+
+        // when
+        List<BookSummaryResponse> visited = new ArrayList<>();
+        CursorResponse<BookSummaryResponse> page;
+        do {
+            page = bookRepository.searchByCursor(condition, cursor, 7);
+            visited.addAll(page.getContent());
+            if (page.isHasNext()) {
+                cursor = BookCursor.decode(page.getNextCursor());
+            }
+        } while (page.isHasNext());
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        visited.forEach(book -> ids.add(book.getId()));
+        assertThat(ids).hasSize(total);
+        assertThat(visited).extracting(BookSummaryResponse::getPrice).isSorted();
+    }
+
+    @Test
+    @DisplayName("성공: 커서 모드는 같은 위치의 오프셋 페이지와 동일한 결과를 반환해야 한다")
+    void success_matchesOffsetPage() {
+        // given
+        insertBooks(DEEP_PAGE * PAGE_SIZE);
+        BookSearchCondition condition = new BookSearchCondition();
+        int offset = (DEEP_PAGE - 1) * PAGE_SIZE;
+        PageRequest deepPage = PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        BookCursor deepCursor = cursorBefore(offset);
+
+        // when
+        Page<BookSummaryResponse> offsetResult = bookRepository.search(condition, deepPage);
+        CursorResponse<BookSummaryResponse> cursorResult =
+                bookRepository.searchByCursor(condition, deepCursor, PAGE_SIZE);
+
+        // then
+        assertThat(cursorResult.getContent())
+                .extracting(BookSummaryResponse::getId)
+                .containsExactlyElementsOf(offsetResult.getContent().stream().map(BookSummaryResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("실패: 정렬 키 값이 정렬 필드 타입과 맞지 않는 커서는 잘못된 입력으로 거부해야 한다")
+    void fail_tamperedValue() {
+        // given
+        String price = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1|price|ASC|abc".getBytes(StandardCharsets.UTF_8));
+        String createdAt = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1|createdAt|DESC|yesterday".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> BookCursor.decode(price))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> BookCursor.decode(createdAt))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 1페이지와 1000페이지 조회 지연 시간을 오프셋 모드와 커서 모드로 비교한다")
+    void benchmark_deepPage(TestReporter testReporter) {
+        // given
+        insertBooks(DEEP_PAGE * PAGE_SIZE);
+        BookSearchCondition condition = new BookSearchCondition();
+        PageRequest deepPage = PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        BookCursor deepCursor = cursorBefore((DEEP_PAGE - 1) * PAGE_SIZE);
+
+        // when
+        long offsetFirst = measure(() -> bookRepository.search(
+                condition, PageRequest.of(0, PAGE_SIZE, deepPage.getSort())));
+        long offsetDeep = measure(() -> bookRepository.search(condition, deepPage));
+        long cursorFirst = measure(() -> bookRepository.searchByCursor(
+                condition, BookCursor.first(deepPage.getSort()), PAGE_SIZE));
+        long cursorDeep = measure(() -> bookRepository.searchByCursor(condition, deepCursor, PAGE_SIZE));
+
+        // then
+        testReporter.publishEntry(String.format("offset  page 1: %.2f ms, page %d: %.2f ms",
+                offsetFirst / 1e6, DEEP_PAGE, offsetDeep / 1e6));
+        testReporter.publishEntry(String.format("cursor  page 1: %.2f ms, page %d: %.2f ms",
+                cursorFirst / 1e6, DEEP_PAGE, cursorDeep / 1e6));
+        assertThat(bookRepository.searchByCursor(condition, deepCursor, PAGE_SIZE).getContent()).hasSize(PAGE_SIZE);
+    }
+
+    private BookCursor cursorBefore(int offset) {
+        BookCursor first = BookCursor.first(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return jdbcTemplate.queryForObject(
+                "SELECT id, created_at FROM books WHERE deleted_at IS NULL "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> first.next(
+                        rs.getTimestamp("created_at").toLocalDateTime().toString(), rs.getLong("id")),
+                offset - 1);
+    }
+
+    private void insertBooks(int count) {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                    String.format("000%010d", i),
+                    "Benchmark Book " + i,
+                    1000L + i,
+                    Timestamp.valueOf(base),
+                    Timestamp.valueOf(base.plusSeconds(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (isbn13, title, price, stock_quantity, published_at, "
+                + "publisher_id, created_at, updated_at) VALUES (?, ?, ?, 10, ?, 1, ?, NOW())", rows);
+    }
+
+    private long measure(Runnable query) {
+        query.run(); // warm-up
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / BENCHMARK_ROUNDS;
+    }
+}
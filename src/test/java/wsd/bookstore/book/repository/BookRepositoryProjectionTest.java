@@ -0,0 +1,155 @@
+package wsd.bookstore.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wsd.bookstore.book.entity.QAuthor.author;
+import static wsd.bookstore.book.entity.QBook.book;
+import static wsd.bookstore.book.entity.QBookAuthor.bookAuthor;
+import static wsd.bookstore.book.entity.QPublisher.publisher;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.common.config.QuerydslConfig;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(QuerydslConfig.class)
+class BookRepositoryProjectionTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int BENCHMARK_ROUNDS = 500;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("성공: 프로젝션 조회는 엔티티 조회와 같은 요약 정보를 요청한 순서대로 반환해야 한다")
+    void success_matchesEntityQuery() {
+        // given
+        List<Long> bookIds = bookIds(20);
+
+        // when
+        List<BookSummaryResponse> projected = bookRepository.findSummariesByIds(bookIds);
+        entityManager.clear();
+        List<BookSummaryResponse> hydrated = findSummariesByEntities(bookIds);
+
+        // then
+        assertThat(projected).extracting(BookSummaryResponse::getId).containsExactlyElementsOf(bookIds);
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(hydrated);
+    }
+
+    @Test
+    @DisplayName("성공: 프로젝션 조회는 영속성 컨텍스트에 엔티티를 올리지 않아야 한다")
+    void success_noManagedEntities() {
+        // given
+        List<Long> bookIds = bookIds(20);
+        entityManager.clear();
+
+        // when
+        bookRepository.findSummariesByIds(bookIds);
+
+        // then
+        PersistenceContext context = entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        assertThat(context.getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 20건, 100건 페이지에서 엔티티 조회와 프로젝션 조회의 p99 지연 시간과 할당량을 비교한다")
+    void benchmark(TestReporter testReporter) {
+        for (int size : new int[] {20, 100}) {
+            List<Long> bookIds = bookIds(size);
+
+            Result entity = measure(() -> findSummariesByEntities(bookIds));
+            Result projection = measure(() -> bookRepository.findSummariesByIds(bookIds));
+
+            testReporter.publishEntry(String.format("size %3d entity     : p99 %.2f ms, %,d bytes/op", size,
+                    entity.p99Millis(), entity.bytesPerOp()));
+            testReporter.publishEntry(String.format("size %3d projection : p99 %.2f ms, %,d bytes/op", size,
+                    projection.p99Millis(), projection.bytesPerOp()));
+        }
+    }
+
+    // 기존 방식: 엔티티 + 저자 컬렉션 fetch join 후 DTO 변환
+    private List<BookSummaryResponse> findSummariesByEntities(List<Long> bookIds) {
+        Map<Long, Book> bookMap = queryFactory
+                .selectFrom(book)
+                .distinct()
+                .leftJoin(book.publisher, publisher).fetchJoin()
+                .leftJoin(book.bookAuthors, bookAuthor).fetchJoin()
+                .leftJoin(bookAuthor.author, author).fetchJoin()
+                .where(book.id.in(bookIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Book::getId, b -> b));
+
+        return bookIds.stream()
+                .map(bookMap::get)
+                .map(BookSummaryResponse::from)
+                .toList();
+    }
+
+    private List<Long> bookIds(int size) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM books WHERE deleted_at IS NULL ORDER BY created_at DESC, id DESC LIMIT ?",
+                Long.class, size);
+    }
+
+    private Result measure(Supplier<List<BookSummaryResponse>> query) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long[] latencies = new long[BENCHMARK_ROUNDS];
+        long allocated = 0;
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            query.get();
+            latencies[i] = System.nanoTime() - startedAt;
+            allocated += threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            // 요청마다 새 영속성 컨텍스트를 쓰는 실제 환경과 맞춤
+            entityManager.clear();
+        }
+
+        Arrays.sort(latencies);
+        return new Result(latencies[(int) Math.ceil(BENCHMARK_ROUNDS * 0.99) - 1], allocated / BENCHMARK_ROUNDS);
+    }
+
+    private record Result(long p99Nanos, long bytesPerOp) {
+
+        double p99Millis() {
+            return p99Nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package wsd.bookstore.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.common.config.QuerydslConfig;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookRepositoryStockTest {
+
+    private static final Long BOOK_ID = 1L;
+    private static final int INITIAL_STOCK = 50;
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 200;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Integer originalStock;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        originalStock = currentStock();
+        jdbcTemplate.update("UPDATE books SET stock_quantity = ? WHERE id = ?", INITIAL_STOCK, BOOK_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("UPDATE books SET stock_quantity = ? WHERE id = ?", originalStock, BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("성공: 동시에 재고를 차감해도 초기 재고 이상 판매되지 않아야 한다")
+    void success_noOversellUnderContention() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(
+                            status -> bookRepository.decreaseStock(BOOK_ID, 1));
+                    if (updated != null && updated == 1) {
+                        successCount.incrementAndGet();
+                    } else {
+                        rejectedCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        boolean completed = done.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejectedCount.get()).isEqualTo(REQUEST_COUNT - INITIAL_STOCK);
+        assertThat(currentStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 재고 복구는 차감된 수량만큼 재고를 되돌려야 한다")
+    void success_restore() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> bookRepository.decreaseStock(BOOK_ID, 3));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> bookRepository.increaseStock(BOOK_ID, 3));
+
+        // then
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("성공: 재고 차감 후 같은 트랜잭션의 도서 엔티티가 이전 재고를 보거나 다시 써 넣지 않아야 한다")
+    void success_noStaleEntityAfterUpdate() {
+        // when
+        Integer stock = transactionTemplate.execute(status -> {
+            Book loaded = bookRepository.findById(BOOK_ID).orElseThrow();
+            bookRepository.decreaseStock(BOOK_ID, 5);
+            // 차감 전에 읽은 인스턴스를 변경해도 이전 재고가 다시 써지지 않아야 함
+            loaded.updateBasicInfo(loaded.getTitle(), "changed", loaded.getPrice(), loaded.getStockQuantity(),
+                    loaded.getPublishedAt());
+            return bookRepository.findById(BOOK_ID).orElseThrow().getStockQuantity();
+        });
+
+        // then
+        assertThat(stock).isEqualTo(INITIAL_STOCK - 5);
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK - 5);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 조건부 UPDATE 와 낙관적 잠금(읽은 값 비교 후 재시도) 방식의 초당 체크아웃 수를 비교한다")
+    void benchmark_againstOptimisticLock(TestReporter testReporter) throws InterruptedException {
+        int stock = 2_000;
+
+        jdbcTemplate.update("UPDATE books SET stock_quantity = ? WHERE id = ?", stock, BOOK_ID);
+        long conditionalNanos = hammer(stock, () -> transactionTemplate.execute(
+                status -> bookRepository.decreaseStock(BOOK_ID, 1)) == 1);
+        assertThat(currentStock()).isZero();
+
+        // books 에 @Version 컬럼이 없으므로 읽은 재고 값 자체를 버전으로 비교 (UPDATE ... WHERE stock = 읽은 값)
+        AtomicInteger retries = new AtomicInteger();
+        jdbcTemplate.update("UPDATE books SET stock_quantity = ? WHERE id = ?", stock, BOOK_ID);
+        long optimisticNanos = hammer(stock, () -> {
+            while (true) {
+                Boolean result = transactionTemplate.execute(status -> {
+                    int read = currentStock();
+                    if (read < 1) {
+                        return false;
+                    }
+                    int updated = jdbcTemplate.update(
+                            "UPDATE books SET stock_quantity = ? WHERE id = ? AND stock_quantity = ?",
+                            read - 1, BOOK_ID, read);
+                    return updated == 1 ? Boolean.TRUE : null;
+                });
+                if (result != null) {
+                    return result;
+                }
+                retries.incrementAndGet();
+            }
+        });
+        assertThat(currentStock()).isZero();
+
+        testReporter.publishEntry(String.format("conditional update : %,.0f checkouts/s",
+                stock / (conditionalNanos / 1e9)));
+        testReporter.publishEntry(String.format("optimistic lock    : %,.0f checkouts/s, %d retries",
+                stock / (optimisticNanos / 1e9), retries.get()));
+    }
+
+    // 재고 수만큼의 체크아웃을 THREAD_COUNT 스레드로 동시에 실행하고 걸린 시간을 반환
+    private long hammer(int checkouts, Callable<Boolean> checkout) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch done = new CountDownLatch(checkouts);
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < checkouts; i++) {
+            executor.submit(() -> {
+                try {
+                    if (checkout.call()) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+
+        assertThat(successCount.get()).isEqualTo(checkouts);
+        return elapsed;
+    }
+
+    private Integer currentStock() {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM books WHERE id = ?", Integer.class, BOOK_ID);
+    }
+}
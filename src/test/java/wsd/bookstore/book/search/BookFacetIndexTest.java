@@ -0,0 +1,169 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.roaringbitmap.RoaringBitmap;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.FacetCountResponse;
+import wsd.bookstore.book.response.PriceRangeFacetResponse;
+
+class BookFacetIndexTest {
+
+    private BookFacetIndex bookFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookFacetIndex = new BookFacetIndex();
+    }
+
+    @Nested
+    @DisplayName("패싯 집계 테스트")
+    class CountTest {
+
+        @BeforeEach
+        void setUp() {
+            bookFacetIndex.rebuild(sink -> {
+                sink.accept(document(1L, 1L, 10L, 100L, 15_000L));
+                sink.accept(document(2L, 1L, 10L, 100L, 32_000L));
+                sink.accept(document(3L, 2L, 20L, 100L, 32_000L));
+                sink.accept(document(4L, 2L, 20L, 200L, 180_000L));
+            });
+        }
+
+        @Test
+        @DisplayName("성공: 검색 결과 비트맵에 대해 패싯 값별 도서 수를 많은 순으로 반환해야 한다")
+        void success() {
+            // when
+            BookFacetResponse result = bookFacetIndex.count(RoaringBitmap.bitmapOf(1, 2, 3));
+
+            // then
+            assertThat(result.getCategories()).extracting(FacetCountResponse::getId, FacetCountResponse::getCount)
+                    .containsExactly(tuple(1L, 2L), tuple(2L, 1L));
+            assertThat(result.getCategories().get(0).getName()).isEqualTo("category1");
+            assertThat(result.getPublishers()).extracting(FacetCountResponse::getCount).containsExactly(3L);
+            assertThat(result.getPriceRanges())
+                    .extracting(PriceRangeFacetResponse::getMinPrice, PriceRangeFacetResponse::getMaxPrice,
+                            PriceRangeFacetResponse::getCount)
+                    .containsExactly(tuple(null, 20_000L, 1L), tuple(20_000L, 50_000L, 2L));
+        }
+
+        @Test
+        @DisplayName("성공: 필터 조건은 패싯 비트맵의 교집합으로 계산해야 한다")
+        void success_matchFilters() {
+            // when & then
+            assertThat(bookFacetIndex.matchFilters(null, null, null).toArray()).containsExactly(1, 2, 3, 4);
+            assertThat(bookFacetIndex.matchFilters(2L, null, 100L).toArray()).containsExactly(3);
+            assertThat(bookFacetIndex.matchFilters(99L, null, null).isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 도서 수정 시 이전 패싯 값에서 빠지고 새 값에 더해져야 한다")
+        void success_put() {
+            // given
+            bookFacetIndex.put(document(1L, 2L, 10L, 100L, 15_000L));
+
+            // when
+            BookFacetResponse result = bookFacetIndex.count(RoaringBitmap.bitmapOf(1, 2, 3, 4));
+
+            // then
+            assertThat(result.getCategories()).extracting(FacetCountResponse::getId, FacetCountResponse::getCount)
+                    .containsExactly(tuple(2L, 3L), tuple(1L, 1L));
+        }
+
+        @Test
+        @DisplayName("성공: 삭제된 도서는 검색 결과에 포함되어도 집계하지 않아야 한다")
+        void success_remove() {
+            // given
+            bookFacetIndex.remove(4L);
+
+            // when
+            BookFacetResponse result = bookFacetIndex.count(RoaringBitmap.bitmapOf(3, 4));
+
+            // then
+            assertThat(result.getPublishers()).extracting(FacetCountResponse::getId).containsExactly(100L);
+            assertThat(result.getPriceRanges()).extracting(PriceRangeFacetResponse::getCount).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 색인이 준비되기 전에는 빈 패싯을 반환해야 한다")
+    void fail_notReady() {
+        // when
+        BookFacetResponse result = bookFacetIndex.count(RoaringBitmap.bitmapOf(1, 2));
+
+        // then
+        assertThat(bookFacetIndex.isReady()).isFalse();
+        assertThat(result.getCategories()).isEmpty();
+        assertThat(result.getPriceRanges()).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 100만 권 합성 카탈로그의 패싯 색인 메모리와 집계 지연 시간을 측정한다")
+    void benchmark_oneMillionBooks(TestReporter testReporter) {
+        int bookCount = 1_000_000;
+        Random random = new Random(42);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        long buildStartedAt = System.nanoTime();
+        bookFacetIndex.rebuild(sink -> {
+            for (int id = 1; id <= bookCount; id++) {
+                sink.accept(document((long) id, 1L + random.nextInt(30), 1L + random.nextInt(5_000),
+                        1L + random.nextInt(200), 5_000L + random.nextInt(200_000)));
+            }
+        });
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+
+        System.gc();
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        RoaringBitmap all = bookFacetIndex.matchFilters(null, null, null);
+        RoaringBitmap sparse = new RoaringBitmap();
+        for (int i = 0; i < 500; i++) {
+            sparse.add(1 + random.nextInt(bookCount));
+        }
+
+        for (RoaringBitmap matches : List.of(all, bookFacetIndex.matchFilters(3L, null, null), sparse)) {
+            long[] latencies = new long[50];
+            for (int i = 0; i < latencies.length; i++) {
+                long startedAt = System.nanoTime();
+                bookFacetIndex.count(matches);
+                latencies[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latencies);
+            testReporter.publishEntry(String.format("matches %7d, p50 %.2f ms, p99 %.2f ms", matches.getCardinality(),
+                    latencies[25] / 1e6, latencies[49] / 1e6));
+        }
+        testReporter.publishEntry(String.format("facet index build %d ms, heap %.1f MB", buildMillis,
+                (usedAfter - usedBefore) / 1024.0 / 1024.0));
+
+        assertThat(all.getCardinality()).isEqualTo(bookCount);
+    }
+
+    private BookSearchDocument document(Long bookId, Long categoryId, Long authorId, Long publisherId, Long price) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title("Book " + bookId)
+                .price(price)
+                .publisherId(publisherId)
+                .publisherName("publisher" + publisherId)
+                .authorIds(List.of(authorId))
+                .authorNames(List.of("author" + authorId))
+                .categoryIds(List.of(categoryId))
+                .categoryNames(List.of("category" + categoryId))
+                .build();
+    }
+}
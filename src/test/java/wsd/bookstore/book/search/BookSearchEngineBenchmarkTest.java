@@ -0,0 +1,158 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.service.BookCountService;
+import wsd.bookstore.book.service.CatalogVersionService;
+import wsd.bookstore.common.config.QuerydslConfig;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(QuerydslConfig.class)
+@Tag("benchmark")
+class BookSearchEngineBenchmarkTest {
+
+    private static final int SCALE = 1000;
+    private static final int ROUNDS = 50;
+    private static final String[] KEYWORDS = {"galaxy", "silver computer", "thinking", "\"thinking universe\""};
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path indexPath;
+
+    private QuerydslBookSearchEngine querydslBookSearchEngine;
+    private LuceneBookSearchEngine luceneBookSearchEngine;
+
+    @BeforeEach
+    void setUp() {
+        scaleUpSeedData();
+
+        CatalogSearchIndex catalogSearchIndex = new CatalogSearchIndex();
+        HangulSearchIndex hangulSearchIndex = new HangulSearchIndex();
+        BookFacetIndex bookFacetIndex = new BookFacetIndex();
+        CatalogSearchIndexer catalogSearchIndexer =
+                new CatalogSearchIndexer(catalogSearchIndex, hangulSearchIndex, new SpellingIndex(), bookFacetIndex,
+                        bookRepository);
+        catalogSearchIndexer.reindex();
+        KeywordCandidateResolver keywordCandidateResolver =
+                new KeywordCandidateResolver(catalogSearchIndex, hangulSearchIndex);
+        querydslBookSearchEngine = new QuerydslBookSearchEngine(bookRepository, new BookCountService(bookRepository),
+                catalogSearchIndexer, bookFacetIndex, keywordCandidateResolver);
+
+        luceneBookSearchEngine = new LuceneBookSearchEngine(bookRepository, bookFacetIndex, hangulSearchIndex,
+                mock(CatalogVersionService.class));
+        ReflectionTestUtils.setField(luceneBookSearchEngine, "indexPath", indexPath);
+        luceneBookSearchEngine.open();
+        luceneBookSearchEngine.reindex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        luceneBookSearchEngine.close();
+    }
+
+    @Test
+    @DisplayName("성공: 시드 데이터 1000배 카탈로그에서 두 검색 엔진의 조회 지연 시간을 비교한다")
+    void benchmark_engines(TestReporter testReporter) {
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE deleted_at IS NULL",
+                Integer.class);
+        testReporter.publishEntry(String.format("catalog size %d", total));
+
+        for (String keyword : KEYWORDS) {
+            BookSearchCondition condition = new BookSearchCondition(keyword, null, null, null);
+            report(testReporter, "querydsl", keyword, querydslBookSearchEngine, condition);
+            report(testReporter, "lucene", keyword, luceneBookSearchEngine, condition);
+        }
+
+        assertThat(luceneBookSearchEngine.search(new BookSearchCondition(), PageRequest.of(0, 20))
+                .getTotalElements()).isEqualTo(total.longValue());
+    }
+
+    @Test
+    @DisplayName("성공: 패싯 집계가 일반 검색 대비 추가하는 지연 시간을 측정한다")
+    void benchmark_facets(TestReporter testReporter) {
+        BookSearchCondition[] conditions = {
+                new BookSearchCondition(),
+                new BookSearchCondition(null, 1L, null, null),
+                new BookSearchCondition("galaxy", null, null, null),
+                new BookSearchCondition("e", null, null, null)
+        };
+
+        for (BookSearchCondition condition : conditions) {
+            long[] search = measure(() -> querydslBookSearchEngine.search(condition, PageRequest.of(0, 20)));
+            long[] facets = measure(() -> querydslBookSearchEngine.countFacets(condition));
+            testReporter.publishEntry(String.format(
+                    "condition %-28s search p50 %.2f ms, facets p50 %.2f ms, p99 %.2f ms", condition.toCacheKey(),
+                    search[ROUNDS / 2] / 1e6, facets[ROUNDS / 2] / 1e6, facets[ROUNDS * 99 / 100] / 1e6));
+        }
+
+        assertThat(querydslBookSearchEngine.countFacets(new BookSearchCondition()).getCategories()).isNotEmpty();
+    }
+
+    private void report(TestReporter testReporter, String name, String keyword, BookSearchEngine engine,
+            BookSearchCondition condition) {
+        PageRequest pageable = PageRequest.of(0, 20);
+        Page<BookSummaryResponse> result = engine.search(condition, pageable);
+        long[] latencies = measure(() -> engine.search(condition, pageable));
+        testReporter.publishEntry(String.format("%-8s keyword %-12s total %7d, p50 %.2f ms, p99 %.2f ms", name,
+                keyword, result.getTotalElements(), latencies[ROUNDS / 2] / 1e6, latencies[ROUNDS * 99 / 100] / 1e6));
+    }
+
+    private long[] measure(Runnable query) {
+        query.run(); // warm-up
+        long[] latencies = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            query.run();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * 시드 도서를 (SCALE - 1)번 복제한다. 복제본의 ISBN 은 3자리 복제 번호 + 원본 ISBN 이며, 저자/카테고리 연결도 함께 복제한다.
+     */
+    private void scaleUpSeedData() {
+        jdbcTemplate.update("INSERT INTO books (isbn13, title, description, price, stock_quantity, published_at, "
+                + "publisher_id, created_at, updated_at) "
+                + "SELECT LPAD(CAST(r.x AS VARCHAR), 3, '0') || b.isbn13, b.title, b.description, b.price, "
+                + "b.stock_quantity, b.published_at, b.publisher_id, b.created_at, b.updated_at "
+                + "FROM books b CROSS JOIN SYSTEM_RANGE(1, ?) r "
+                + "WHERE LENGTH(b.isbn13) = 13", SCALE - 1);
+        jdbcTemplate.update("INSERT INTO book_authors (book_id, author_id, created_at, updated_at) "
+                + "SELECT c.id, ba.author_id, NOW(), NOW() FROM books c "
+                + "JOIN books o ON o.isbn13 = SUBSTRING(c.isbn13, 4) "
+                + "JOIN book_authors ba ON ba.book_id = o.id "
+                + "WHERE LENGTH(c.isbn13) = 16");
+        jdbcTemplate.update("INSERT INTO book_categories (book_id, category_id, created_at, updated_at) "
+                + "SELECT c.id, bc.category_id, NOW(), NOW() FROM books c "
+                + "JOIN books o ON o.isbn13 = SUBSTRING(c.isbn13, 4) "
+                + "JOIN book_categories bc ON bc.book_id = o.id "
+                + "WHERE LENGTH(c.isbn13) = 16");
+    }
+}
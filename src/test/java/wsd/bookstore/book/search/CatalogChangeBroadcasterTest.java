@@ -0,0 +1,102 @@
+package wsd.bookstore.book.search;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.common.redis.RedisService;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeBroadcasterTest {
+
+    @InjectMocks
+    private CatalogChangeBroadcaster catalogChangeBroadcaster;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Nested
+    @DisplayName("변경 전파 테스트")
+    class PublishTest {
+
+        @Test
+        @DisplayName("성공: 커밋된 변경의 도서 ID 를 노드 ID 와 함께 발행해야 한다")
+        void success() {
+            // when
+            catalogChangeBroadcaster.onCatalogChanged(new CatalogChangedEvent(List.of(1L, 2L)));
+
+            // then
+            verify(redisService).publish(eq(CatalogChangeBroadcaster.CHANNEL),
+                    argThat(message -> message.endsWith("|1,2")));
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드에서 전달받은 변경은 다시 발행하지 않아야 한다")
+        void success_skipRemote() {
+            // when
+            catalogChangeBroadcaster.onCatalogChanged(new CatalogChangedEvent(List.of(1L), true));
+
+            // then
+            verify(redisService, never()).publish(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 수신 테스트")
+    class ReceiveTest {
+
+        @Test
+        @DisplayName("성공: 다른 노드의 변경은 remote 이벤트로 발행해야 한다")
+        void success() {
+            // when
+            catalogChangeBroadcaster.onMessage(message("other-node|3,4"), null);
+
+            // then
+            verify(eventPublisher).publishEvent(argThat((CatalogChangedEvent event) ->
+                    event.isRemote() && event.getBookIds().equals(List.of(3L, 4L))));
+        }
+
+        @Test
+        @DisplayName("성공: 자신이 보낸 변경은 무시해야 한다")
+        void success_ignoreOwnMessage() {
+            // given
+            catalogChangeBroadcaster.onCatalogChanged(new CatalogChangedEvent(5L));
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(redisService).publish(eq(CatalogChangeBroadcaster.CHANNEL), published.capture());
+
+            // when
+            catalogChangeBroadcaster.onMessage(message(published.getValue()), null);
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CatalogChangeBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,197 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+class CatalogSearchIndexTest {
+
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        catalogSearchIndex = new CatalogSearchIndex();
+    }
+
+    @Nested
+    @DisplayName("후보 조회 테스트")
+    class FindCandidateIdsTest {
+
+        @BeforeEach
+        void setUp() {
+            catalogSearchIndex.rebuild(sink -> {
+                sink.accept(document(1L, "Clean Code", "인사이트", List.of("Robert Martin")));
+                sink.accept(document(2L, "Effective Java", "인사이트", List.of("Joshua Bloch")));
+                sink.accept(document(3L, "클린 아키텍처", "인사이트", List.of("로버트 마틴")));
+            });
+        }
+
+        @Test
+        @DisplayName("성공: 제목 토큰의 부분 문자열로 대소문자 구분 없이 후보를 찾아야 한다")
+        void success() {
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("JAVA", 10)).contains(List.of(2L));
+            assertThat(catalogSearchIndex.findCandidateIds("ffect", 10)).contains(List.of(2L));
+            assertThat(catalogSearchIndex.findCandidateIds("클린", 10)).contains(List.of(3L));
+            assertThat(catalogSearchIndex.findCandidateIds("c", 10)).contains(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("성공: 저자와 출판사 이름은 후보 조회에 사용하지 않아야 한다")
+        void success_titleOnly() {
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("bloch", 10)).contains(List.of());
+            assertThat(catalogSearchIndex.findCandidateIds("인사이트", 10)).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("성공: 토큰의 중간이나 끝에 포함된 단어도 후보로 찾아야 한다")
+        void success_infix() {
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("ode", 10)).contains(List.of(1L));
+            assertThat(catalogSearchIndex.findCandidateIds("iv", 10)).contains(List.of(2L));
+            assertThat(catalogSearchIndex.findCandidateIds("텍처", 10)).contains(List.of(3L));
+            assertThat(catalogSearchIndex.findCandidateIds("codes", 10)).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("성공: 여러 단어는 모든 단어를 포함하는 도서만 후보로 반환해야 한다")
+        void success_multipleWords() {
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("clean code", 10)).contains(List.of(1L));
+            assertThat(catalogSearchIndex.findCandidateIds("clean java", 10)).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("성공: 추가 색인한 도서도 후보에 포함되어야 한다")
+        void success_incrementalAdd() {
+            // given
+            catalogSearchIndex.add(document(4L, "Java Concurrency in Practice", "에이콘", List.of()));
+
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("java", 10)).contains(List.of(2L, 4L));
+        }
+
+        @Test
+        @DisplayName("실패: 후보가 limit 를 넘으면 빈 결과를 반환해야 한다")
+        void fail_tooManyCandidates() {
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("e", 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패: 변경 반영에 실패하면 다음 재색인 전까지 빈 결과를 반환해야 한다")
+        void fail_stale() {
+            // given
+            catalogSearchIndex.markStale();
+
+            // when & then
+            assertThat(catalogSearchIndex.findCandidateIds("java", 10)).isEmpty();
+
+            catalogSearchIndex.rebuild(sink -> sink.accept(document(2L, "Effective Java", "인사이트", List.of())));
+            assertThat(catalogSearchIndex.findCandidateIds("java", 10)).contains(List.of(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 재색인 이후 추가된 토큰이 상한을 넘으면 재색인이 필요하다고 알려야 한다")
+    void success_needsCompaction() {
+        // given
+        catalogSearchIndex.rebuild(sink -> sink.accept(document(1L, "Clean Code", null, List.of())));
+        for (long id = 2; id <= 10_002; id++) {
+            catalogSearchIndex.add(document(id, "book" + id, null, List.of()));
+        }
+
+        // when & then
+        assertThat(catalogSearchIndex.needsCompaction()).isTrue();
+        assertThat(catalogSearchIndex.findCandidateIds("book10002", 10)).contains(List.of(10_002L));
+
+        catalogSearchIndex.rebuild(sink -> sink.accept(document(1L, "Clean Code", null, List.of())));
+        assertThat(catalogSearchIndex.needsCompaction()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 색인이 준비되기 전에는 빈 결과를 반환해야 한다")
+    void fail_notReady() {
+        // when & then
+        assertThat(catalogSearchIndex.isReady()).isFalse();
+        assertThat(catalogSearchIndex.findCandidateIds("java", 10)).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 100만 권 합성 카탈로그의 색인 메모리와 조회 지연 시간을 측정한다")
+    void benchmark_oneMillionBooks(TestReporter testReporter) {
+        int bookCount = 1_000_000;
+        String[] vocabulary = vocabulary(20_000);
+        Random random = new Random(42);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        long buildStartedAt = System.nanoTime();
+        catalogSearchIndex.rebuild(sink -> {
+            for (int id = 1; id <= bookCount; id++) {
+                String title = vocabulary[random.nextInt(vocabulary.length)] + " "
+                        + vocabulary[random.nextInt(vocabulary.length)] + " "
+                        + vocabulary[random.nextInt(vocabulary.length)];
+                sink.accept(document((long) id, title, "publisher" + random.nextInt(500),
+                        List.of("author" + random.nextInt(50_000))));
+            }
+        });
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+
+        System.gc();
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        String[] keywords = {vocabulary[7], vocabulary[123] + " " + vocabulary[456], vocabulary[9_999]};
+        for (String keyword : keywords) {
+            long[] latencies = new long[200];
+            Optional<List<Long>> candidates = Optional.empty();
+            for (int i = 0; i < latencies.length; i++) {
+                long startedAt = System.nanoTime();
+                candidates = catalogSearchIndex.findCandidateIds(keyword, 5_000);
+                latencies[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latencies);
+            testReporter.publishEntry(String.format("keyword %-24s candidates %5d, p50 %.2f ms, p99 %.2f ms",
+                    keyword, candidates.map(List::size).orElse(-1), latencies[100] / 1e6, latencies[197] / 1e6));
+        }
+        testReporter.publishEntry(String.format("index build %d ms, heap %.1f MB", buildMillis,
+                (usedAfter - usedBefore) / 1024.0 / 1024.0));
+
+        assertThat(catalogSearchIndex.isReady()).isTrue();
+    }
+
+    private BookSearchDocument document(Long bookId, String title, String publisherName, List<String> authorNames) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title(title)
+                .publisherName(publisherName)
+                .authorNames(authorNames)
+                .build();
+    }
+
+    private String[] vocabulary(int size) {
+        Random random = new Random(7);
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            char[] letters = new char[5 + random.nextInt(6)];
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(letters);
+        }
+        return words;
+    }
+}
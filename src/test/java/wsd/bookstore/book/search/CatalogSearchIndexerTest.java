@@ -0,0 +1,89 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSearchIndexerTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private BookFacetIndex bookFacetIndex;
+    private CatalogSearchIndexer catalogSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        bookFacetIndex = new BookFacetIndex();
+        catalogSearchIndexer = new CatalogSearchIndexer(new CatalogSearchIndex(), new HangulSearchIndex(),
+                new SpellingIndex(), bookFacetIndex, bookRepository);
+    }
+
+    @Nested
+    @DisplayName("색인 보정 테스트")
+    class RepairTest {
+
+        @Test
+        @DisplayName("성공: 변경 반영에 실패하면 다음 점검 주기에 전체 재색인해야 한다")
+        void success_afterFailedChange() {
+            // given
+            given(bookRepository.findSearchDocuments(isNull(), eq(1000))).willReturn(List.of(document(1L, 10L)));
+            catalogSearchIndexer.rebuild();
+            given(bookRepository.findSearchDocumentsByIds(anyList())).willThrow(new IllegalStateException("db down"));
+            catalogSearchIndexer.onCatalogChanged(new CatalogChangedEvent(2L));
+            given(bookRepository.findSearchDocuments(isNull(), eq(1000)))
+                    .willReturn(List.of(document(1L, 10L), document(2L, 10L)));
+
+            // when
+            catalogSearchIndexer.repair();
+
+            // then
+            verify(bookRepository, times(2)).findSearchDocuments(isNull(), eq(1000));
+            assertThat(bookFacetIndex.matchFilters(10L, null, null)).isEqualTo(RoaringBitmap.bitmapOf(1, 2));
+        }
+
+        @Test
+        @DisplayName("성공: 실패한 반영이 없으면 재색인하지 않아야 한다")
+        void success_nothingToRepair() {
+            // given
+            given(bookRepository.findSearchDocuments(isNull(), eq(1000))).willReturn(List.of(document(1L, 10L)));
+            catalogSearchIndexer.rebuild();
+
+            // when
+            catalogSearchIndexer.repair();
+
+            // then
+            verify(bookRepository, times(1)).findSearchDocuments(isNull(), eq(1000));
+        }
+    }
+
+    private BookSearchDocument document(Long bookId, Long categoryId) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title("Book " + bookId)
+                .price(10000L)
+                .publisherId(1L)
+                .publisherName("Publisher")
+                .authorIds(List.of())
+                .authorNames(List.of())
+                .categoryIds(List.of(categoryId))
+                .build();
+    }
+}
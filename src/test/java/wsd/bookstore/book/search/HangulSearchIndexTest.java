@@ -0,0 +1,152 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+class HangulSearchIndexTest {
+
+    private HangulSearchIndex hangulSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        hangulSearchIndex = new HangulSearchIndex();
+    }
+
+    @Nested
+    @DisplayName("초성/자모 검색 테스트")
+    class FindBookIdsTest {
+
+        @BeforeEach
+        void setUp() {
+            hangulSearchIndex.rebuild(sink -> {
+                sink.accept(document(1L, "클린 코드", List.of("로버트 C. 마틴")));
+                sink.accept(document(2L, "닭갈비 요리", List.of("홍길동")));
+                sink.accept(document(3L, "Effective Java", List.of("조슈아 블로크")));
+            });
+        }
+
+        @Test
+        @DisplayName("성공: 초성만 입력하면 단어 경계를 넘어 초성 시퀀스로 일치해야 한다")
+        void success_chosung() {
+            // when & then
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄹㅋㄷ")).contains(List.of(1L));
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄹ ㅋㄷ")).contains(List.of(1L));
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄷ")).contains(List.of(1L));
+            assertThat(hangulSearchIndex.findBookIds("ㅎㄱㄷ")).contains(List.of(2L));
+        }
+
+        @Test
+        @DisplayName("성공: 조합 중인 음절은 자모 시퀀스로 앞부분이 일치해야 한다")
+        void success_jamo() {
+            // when & then
+            assertThat(hangulSearchIndex.findBookIds("클ㄹ")).contains(List.of(1L));
+            assertThat(hangulSearchIndex.findBookIds("클리")).contains(List.of(1L));
+            assertThat(hangulSearchIndex.findBookIds("달")).contains(List.of(2L));
+            assertThat(hangulSearchIndex.findBookIds("닭가")).contains(List.of(2L));
+            assertThat(hangulSearchIndex.findBookIds("JAV")).contains(List.of(3L));
+        }
+
+        @Test
+        @DisplayName("실패: 단어 중간부터 시작하거나 자모가 다르면 일치하지 않아야 한다")
+        void fail_noMatch() {
+            // when & then
+            assertThat(hangulSearchIndex.findBookIds("린코")).contains(List.of());
+            assertThat(hangulSearchIndex.findBookIds("블록")).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("성공: 재색인 전 변경/삭제된 도서는 변경분 기준으로 일치해야 한다")
+        void success_delta() {
+            // given
+            hangulSearchIndex.put(document(3L, "이펙티브 자바", List.of()));
+            hangulSearchIndex.remove(1L);
+
+            // when & then
+            assertThat(hangulSearchIndex.findBookIds("ㅇㅍㅌㅂ")).contains(List.of(3L));
+            assertThat(hangulSearchIndex.findBookIds("jav")).contains(List.of());
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄹ")).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("실패: 변경 반영에 실패하면 다음 재색인 전까지 빈 결과를 반환해야 한다")
+        void fail_stale() {
+            // given
+            hangulSearchIndex.markStale();
+
+            // when & then
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄹㅋㄷ")).isEmpty();
+
+            hangulSearchIndex.rebuild(sink -> sink.accept(document(1L, "클린 코드", List.of())));
+            assertThat(hangulSearchIndex.findBookIds("ㅋㄹㅋㄷ")).contains(List.of(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 색인이 준비되기 전에는 빈 결과를 반환해야 한다")
+    void fail_notReady() {
+        // when & then
+        assertThat(hangulSearchIndex.isReady()).isFalse();
+        assertThat(hangulSearchIndex.findBookIds("ㅋㄹ")).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 30만 권 합성 카탈로그의 초성/자모 조회 지연 시간을 측정한다")
+    void benchmark_threeHundredThousandBooks(TestReporter testReporter) {
+        Random random = new Random(42);
+        String[] vocabulary = new String[5_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            char[] syllables = new char[2 + random.nextInt(3)];
+            for (int j = 0; j < syllables.length; j++) {
+                syllables[j] = (char) ('가' + random.nextInt('힣' - '가' + 1));
+            }
+            vocabulary[i] = new String(syllables);
+        }
+
+        long buildStartedAt = System.nanoTime();
+        hangulSearchIndex.rebuild(sink -> {
+            for (int id = 1; id <= 300_000; id++) {
+                String title = vocabulary[random.nextInt(vocabulary.length)] + " "
+                        + vocabulary[random.nextInt(vocabulary.length)];
+                sink.accept(document((long) id, title, List.of(vocabulary[random.nextInt(vocabulary.length)])));
+            }
+        });
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+
+        String word = vocabulary[7];
+        String chosung = HangulDecomposer.chosung(word);
+        for (String keyword : List.of(chosung, word, word.substring(0, 1), chosung.substring(0, 2))) {
+            long[] latencies = new long[200];
+            Optional<List<Long>> result = Optional.empty();
+            for (int i = 0; i < latencies.length; i++) {
+                long startedAt = System.nanoTime();
+                result = hangulSearchIndex.findBookIds(keyword);
+                latencies[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latencies);
+            testReporter.publishEntry(String.format("keyword %-6s matches %6d, p50 %.3f ms, p99 %.3f ms", keyword,
+                    result.map(List::size).orElse(-1), latencies[100] / 1e6, latencies[197] / 1e6));
+        }
+        testReporter.publishEntry(String.format("hangul index build %d ms", buildMillis));
+
+        assertThat(hangulSearchIndex.findBookIds(word)).isPresent();
+    }
+
+    private BookSearchDocument document(Long bookId, String title, List<String> authorNames) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title(title)
+                .authorNames(authorNames)
+                .build();
+    }
+}
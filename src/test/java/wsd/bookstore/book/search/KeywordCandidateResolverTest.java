@@ -0,0 +1,131 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.request.SearchMode;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+class KeywordCandidateResolverTest {
+
+    private CatalogSearchIndex catalogSearchIndex;
+    private HangulSearchIndex hangulSearchIndex;
+    private KeywordCandidateResolver keywordCandidateResolver;
+
+    @BeforeEach
+    void setUp() {
+        catalogSearchIndex = new CatalogSearchIndex();
+        hangulSearchIndex = new HangulSearchIndex();
+        keywordCandidateResolver = new KeywordCandidateResolver(catalogSearchIndex, hangulSearchIndex);
+    }
+
+    @Nested
+    @DisplayName("키워드 후보 조회 테스트")
+    class ResolveTest {
+
+        @BeforeEach
+        void setUp() {
+            catalogSearchIndex.rebuild(sink -> {
+                sink.accept(document(1L, "클린 코드"));
+                sink.accept(document(2L, "Effective Java"));
+            });
+            hangulSearchIndex.rebuild(sink -> {
+                sink.accept(document(1L, "클린 코드"));
+                sink.accept(document(2L, "Effective Java"));
+            });
+        }
+
+        @Test
+        @DisplayName("성공: 일반 검색은 색인 후보를 담고 키워드 비교를 유지해야 한다")
+        void success_text() {
+            // when
+            BookSearchCondition resolved = keywordCandidateResolver.resolve(
+                    new BookSearchCondition("java", 1L, null, null));
+
+            // then
+            assertThat(resolved.getKeywordCandidateIds()).containsExactly(2L);
+            assertThat(resolved.isKeywordCandidatesExact()).isFalse();
+            assertThat(resolved.getCategoryId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 초성/자모 검색은 색인 결과를 확정된 일치로 담아야 한다")
+        void success_hangul() {
+            // when
+            BookSearchCondition resolved = keywordCandidateResolver.resolve(
+                    new BookSearchCondition("ㅋㄹㅋㄷ", null, null, null, SearchMode.HANGUL));
+
+            // then
+            assertThat(resolved.getKeywordCandidateIds()).containsExactly(1L);
+            assertThat(resolved.isKeywordCandidatesExact()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 준비된 색인에 후보가 없으면 일치 없음으로 확정해야 한다")
+        void success_noCandidates() {
+            // when
+            BookSearchCondition resolved = keywordCandidateResolver.resolve(
+                    new BookSearchCondition("kotlin", null, null, null));
+
+            // then
+            assertThat(resolved.getKeywordCandidateIds()).isEmpty();
+            assertThat(resolved.isKeywordCandidatesExact()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 변경 반영에 실패한 색인이면 후보 없이 전체 검색 조건을 유지해야 한다")
+        void success_staleIndex() {
+            // given
+            catalogSearchIndex.markStale();
+            BookSearchCondition condition = new BookSearchCondition("kotlin", null, null, null);
+
+            // when
+            BookSearchCondition resolved = keywordCandidateResolver.resolve(condition);
+
+            // then
+            assertThat(resolved).isSameAs(condition);
+            assertThat(resolved.getKeywordCandidateIds()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 초성/자모 일치 도서가 상한을 넘으면 더 구체적인 검색어를 요구해야 한다")
+    void fail_tooManyHangulMatches() {
+        // given
+        int matches = KeywordCandidateResolver.MAX_KEYWORD_CANDIDATES + 1;
+        hangulSearchIndex.rebuild(sink -> LongStream.rangeClosed(1, matches)
+                .forEach(bookId -> sink.accept(document(bookId, "클린 코드 " + bookId))));
+        BookSearchCondition condition = new BookSearchCondition("ㅋㄹ", null, null, null, SearchMode.HANGUL);
+
+        // when & then
+        assertThatThrownBy(() -> keywordCandidateResolver.resolve(condition))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("성공: 색인이 준비되기 전에는 조건을 그대로 반환해야 한다")
+    void success_notReady() {
+        // given
+        BookSearchCondition condition = new BookSearchCondition("ㅋㄷ", null, null, null, SearchMode.HANGUL);
+
+        // when & then
+        assertThat(keywordCandidateResolver.resolve(condition)).isSameAs(condition);
+    }
+
+    private BookSearchDocument document(Long bookId, String title) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title(title)
+                .authorNames(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,316 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.request.SearchMode;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.response.FacetCountResponse;
+import wsd.bookstore.book.service.CatalogVersionService;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LuceneBookSearchEngineTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @TempDir
+    private Path indexPath;
+
+    private HangulSearchIndex hangulSearchIndex;
+    private LuceneBookSearchEngine luceneBookSearchEngine;
+
+    @BeforeEach
+    void setUp() {
+        BookFacetIndex bookFacetIndex = new BookFacetIndex();
+        hangulSearchIndex = new HangulSearchIndex();
+        luceneBookSearchEngine = new LuceneBookSearchEngine(bookRepository, bookFacetIndex, hangulSearchIndex,
+                catalogVersionService);
+        given(catalogVersionService.getVersion()).willReturn(3L);
+        ReflectionTestUtils.setField(luceneBookSearchEngine, "indexPath", indexPath);
+        luceneBookSearchEngine.open();
+
+        List<BookSearchDocument> documents = List.of(
+                document(1L, "Clean Code", 1L, "Prentice Hall", List.of(10L), List.of("Robert Martin"), 100L),
+                document(2L, "Clean Architecture", 1L, "Prentice Hall", List.of(10L), List.of("Robert Martin"), 200L),
+                document(3L, "Code Complete", 2L, "Microsoft Press", List.of(20L), List.of("Steve McConnell"), 100L),
+                document(4L, "The Pragmatic Coder", 3L, "Clean Publishing", List.of(30L), List.of("Jane Doe"), 200L),
+                document(5L, "클린 코드 실전", 2L, "Microsoft Press", List.of(40L), List.of("홍길동"), 100L));
+        given(bookRepository.findSearchDocuments(isNull(), eq(1000))).willReturn(documents);
+        bookFacetIndex.rebuild(sink -> documents.forEach(sink));
+        hangulSearchIndex.rebuild(sink -> documents.forEach(sink));
+        given(bookRepository.findSummariesByIds(anyList())).willAnswer(invocation -> {
+            List<Long> bookIds = invocation.getArgument(0);
+            return bookIds.stream()
+                    .map(bookId -> new BookSummaryResponse(bookId, null, "Book " + bookId, 10000L, null, null))
+                    .toList();
+        });
+
+        luceneBookSearchEngine.reindex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        luceneBookSearchEngine.close();
+    }
+
+    @Nested
+    @DisplayName("키워드 검색 테스트")
+    class KeywordTest {
+
+        @Test
+        @DisplayName("성공: 제목 일치가 출판사 일치보다 높은 순위여야 한다")
+        void success_relevance() {
+            // when
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(
+                    new BookSearchCondition("clean", null, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(3L);
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getId).last().isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("성공: 큰따옴표로 감싼 검색어는 구문으로 일치해야 한다")
+        void success_phrase() {
+            // when
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(
+                    new BookSearchCondition("\"clean code\"", null, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 여러 단어는 모두 일치하는 도서만 반환해야 한다")
+        void success_allTerms() {
+            // when
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(
+                    new BookSearchCondition("code martin", null, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 분석 후 남는 단어가 없는 검색어는 아무 도서도 반환하지 않아야 한다")
+        void success_noAnalyzableTerms() {
+            // when
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(
+                    new BookSearchCondition("!!! ???", null, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 초성/자모 일치 도서가 상한을 넘으면 더 구체적인 검색어를 요구해야 한다")
+    void fail_tooManyHangulMatches() {
+        // given
+        int matches = KeywordCandidateResolver.MAX_KEYWORD_CANDIDATES + 1;
+        hangulSearchIndex.rebuild(sink -> LongStream.rangeClosed(1, matches)
+                .forEach(bookId -> sink.accept(document(bookId, "클린 코드 " + bookId, 1L, "Prentice Hall",
+                        List.of(10L), List.of(), 100L))));
+        BookSearchCondition condition = new BookSearchCondition("ㅋㄹ", null, null, null, SearchMode.HANGUL);
+
+        // when & then
+        assertThatThrownBy(() -> luceneBookSearchEngine.search(condition, PageRequest.of(0, 10)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("성공: 초성 검색은 초성/자모 색인이 찾은 도서로 필터링해야 한다")
+    void success_hangul() {
+        // when
+        Page<BookSummaryResponse> result = luceneBookSearchEngine.search(
+                new BookSearchCondition("ㅋㄹㅋㄷ", null, null, null, SearchMode.HANGUL), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(BookSummaryResponse::getId).containsExactly(5L);
+    }
+
+    @Nested
+    @DisplayName("필터 및 정렬 테스트")
+    class FilterTest {
+
+        @Test
+        @DisplayName("성공: 카테고리, 저자, 출판사 ID 로 필터링해야 한다")
+        void success_filters() {
+            // when
+            Page<BookSummaryResponse> byCategory = luceneBookSearchEngine.search(
+                    new BookSearchCondition(null, 200L, null, null), PageRequest.of(0, 10));
+            Page<BookSummaryResponse> byAuthorAndPublisher = luceneBookSearchEngine.search(
+                    new BookSearchCondition(null, null, 10L, 1L), PageRequest.of(0, 10));
+
+            // then
+            assertThat(byCategory.getContent()).extracting(BookSummaryResponse::getId).containsExactlyInAnyOrder(2L, 4L);
+            assertThat(byAuthorAndPublisher.getContent()).extracting(BookSummaryResponse::getId)
+                    .containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("성공: 요청한 정렬 기준으로 Slice 를 반환해야 한다")
+        void success_sortedSlice() {
+            // when
+            Slice<BookSummaryResponse> result = luceneBookSearchEngine.searchSlice(
+                    new BookSearchCondition(), PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "title")));
+
+            // then
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getId).containsExactly(2L, 1L, 3L);
+            assertThat(result.hasNext()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 검색 결과 전체에 대한 패싯별 도서 수를 반환해야 한다")
+    void success_countFacets() {
+        // when
+        BookFacetResponse result = luceneBookSearchEngine.countFacets(new BookSearchCondition("clean", null, null, null));
+
+        // then
+        assertThat(result.getCategories()).extracting(FacetCountResponse::getId, FacetCountResponse::getCount)
+                .containsExactly(tuple(200L, 2L), tuple(100L, 1L));
+        assertThat(result.getPublishers()).extracting(FacetCountResponse::getId, FacetCountResponse::getCount)
+                .containsExactly(tuple(1L, 2L), tuple(3L, 1L));
+    }
+
+    @Nested
+    @DisplayName("재색인 테스트")
+    class ReindexTest {
+
+        @Test
+        @DisplayName("실패: 새 색인을 읽는 도중 실패하면 기존 색인으로 계속 검색해야 한다")
+        void fail_keepPreviousIndex() {
+            // given
+            given(bookRepository.findSearchDocuments(isNull(), eq(1000)))
+                    .willThrow(new IllegalStateException("db down"));
+
+            // when
+            assertThatThrownBy(() -> luceneBookSearchEngine.reindex()).isInstanceOf(IllegalStateException.class);
+            luceneBookSearchEngine.refresh();
+
+            // then
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(new BookSearchCondition(),
+                    PageRequest.of(0, 10));
+            assertThat(result.getTotalElements()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("성공: 다시 색인해도 문서가 중복되지 않아야 한다")
+        void success_replaceDocuments() {
+            // when
+            long indexed = luceneBookSearchEngine.reindex();
+
+            // then
+            Page<BookSummaryResponse> result = luceneBookSearchEngine.search(new BookSearchCondition(),
+                    PageRequest.of(0, 10));
+            assertThat(indexed).isEqualTo(5L);
+            assertThat(result.getTotalElements()).isEqualTo(5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("기동 시 색인 검증 테스트")
+    class InitializeTest {
+
+        @Test
+        @DisplayName("성공: 색인 시점과 카탈로그 버전이 같으면 다시 색인하지 않아야 한다")
+        void success_upToDate() {
+            // given
+            reopen();
+
+            // when
+            luceneBookSearchEngine.initialize();
+
+            // then
+            verify(bookRepository, times(1)).findSearchDocuments(isNull(), eq(1000));
+        }
+
+        @Test
+        @DisplayName("성공: 꺼져 있던 동안 카탈로그 버전이 바뀌었으면 다시 색인해야 한다")
+        void success_versionChanged() {
+            // given
+            reopen();
+            given(catalogVersionService.getVersion()).willReturn(4L);
+
+            // when
+            luceneBookSearchEngine.initialize();
+
+            // then
+            verify(bookRepository, times(2)).findSearchDocuments(isNull(), eq(1000));
+        }
+
+        @Test
+        @DisplayName("성공: 카탈로그 버전을 확인할 수 없으면 다시 색인해야 한다")
+        void success_versionUnavailable() {
+            // given
+            reopen();
+            given(catalogVersionService.getVersion()).willThrow(new IllegalStateException("redis down"));
+
+            // when
+            luceneBookSearchEngine.initialize();
+
+            // then
+            verify(bookRepository, times(2)).findSearchDocuments(isNull(), eq(1000));
+        }
+
+        private void reopen() {
+            luceneBookSearchEngine.close();
+            luceneBookSearchEngine.open();
+        }
+    }
+
+    private BookSearchDocument document(Long bookId, String title, Long publisherId, String publisherName,
+                                        List<Long> authorIds, List<String> authorNames, Long categoryId) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title(title)
+                .price(10000L)
+                .publishedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(bookId))
+                .publisherId(publisherId)
+                .publisherName(publisherName)
+                .authorIds(authorIds)
+                .authorNames(authorNames)
+                .categoryIds(List.of(categoryId))
+                .build();
+    }
+}
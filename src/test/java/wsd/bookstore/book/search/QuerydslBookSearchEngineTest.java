@@ -0,0 +1,161 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.service.BookCountService;
+
+@ExtendWith(MockitoExtension.class)
+class QuerydslBookSearchEngineTest {
+
+    @InjectMocks
+    private QuerydslBookSearchEngine querydslBookSearchEngine;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookCountService bookCountService;
+
+    @Mock
+    private CatalogSearchIndexer catalogSearchIndexer;
+
+    @Mock
+    private BookFacetIndex bookFacetIndex;
+
+    @Mock
+    private KeywordCandidateResolver keywordCandidateResolver;
+
+    @Nested
+    @DisplayName("도서 검색 테스트")
+    class SearchTest {
+
+        @Test
+        @DisplayName("성공: 색인 후보를 담은 조건으로 조회하고 전체 개수는 검색 조건별 캐시에서 조회해야 한다")
+        void success() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("keyword", 1L, 1L, 1L);
+            BookSearchCondition resolved = condition.withKeywordCandidates(List.of(1L, 2L), false);
+            Pageable pageable = PageRequest.of(0, 10);
+            List<BookSummaryResponse> content = Collections.nCopies(10, summary());
+
+            given(keywordCandidateResolver.resolve(condition)).willReturn(resolved);
+            given(bookRepository.searchSlice(resolved, pageable)).willReturn(new SliceImpl<>(content, pageable, true));
+            given(bookCountService.countBooks(resolved)).willReturn(25L);
+
+            // when
+            Page<BookSummaryResponse> result = querydslBookSearchEngine.search(condition, pageable);
+
+            // then
+            assertThat(result.getContent()).hasSize(10);
+            assertThat(result.getTotalElements()).isEqualTo(25L);
+        }
+
+        @Test
+        @DisplayName("성공: 마지막 페이지면 count 를 조회하지 않고 전체 개수를 계산해야 한다")
+        void success_lastPage() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            Pageable pageable = PageRequest.of(2, 10);
+            List<BookSummaryResponse> content = Collections.nCopies(3, summary());
+
+            given(keywordCandidateResolver.resolve(condition)).willReturn(condition);
+            given(bookRepository.searchSlice(condition, pageable)).willReturn(new SliceImpl<>(content, pageable, false));
+
+            // when
+            Page<BookSummaryResponse> result = querydslBookSearchEngine.search(condition, pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(23L);
+            verify(bookCountService, never()).countBooks(any());
+        }
+
+        @Test
+        @DisplayName("성공: Slice 모드는 count 없이 다음 페이지 여부만 반환해야 한다")
+        void success_slice() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            Pageable pageable = PageRequest.of(0, 10);
+            Slice<BookSummaryResponse> slice = new SliceImpl<>(Collections.nCopies(10, summary()), pageable, true);
+
+            given(keywordCandidateResolver.resolve(condition)).willReturn(condition);
+            given(bookRepository.searchSlice(condition, pageable)).willReturn(slice);
+
+            // when
+            Slice<BookSummaryResponse> result = querydslBookSearchEngine.searchSlice(condition, pageable);
+
+            // then
+            assertThat(result.hasNext()).isTrue();
+            verify(bookCountService, never()).countBooks(any());
+        }
+
+        private BookSummaryResponse summary() {
+            return BookSummaryResponse.from(Book.builder().title("Title").price(10000L).build());
+        }
+    }
+
+    @Nested
+    @DisplayName("패싯 집계 테스트")
+    class CountFacetsTest {
+
+        @Test
+        @DisplayName("성공: 키워드가 없으면 DB 조회 없이 패싯 비트맵으로 일치 도서를 구해야 한다")
+        void success_filtersOnly() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition(null, 1L, null, 2L);
+            RoaringBitmap matches = RoaringBitmap.bitmapOf(3, 5);
+            BookFacetResponse facets = BookFacetResponse.empty();
+
+            given(bookFacetIndex.matchFilters(1L, null, 2L)).willReturn(matches);
+            given(bookFacetIndex.count(matches)).willReturn(facets);
+
+            // when
+            BookFacetResponse result = querydslBookSearchEngine.countFacets(condition);
+
+            // then
+            assertThat(result).isEqualTo(facets);
+            verify(bookRepository, never()).findMatchingBookIds(any());
+        }
+
+        @Test
+        @DisplayName("성공: 키워드 검색은 일치하는 도서 ID 를 한 번 조회해 집계해야 한다")
+        void success_keyword() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("java", null, null, null);
+            BookFacetResponse facets = BookFacetResponse.empty();
+
+            given(keywordCandidateResolver.resolve(condition)).willReturn(condition);
+            given(bookRepository.findMatchingBookIds(condition)).willReturn(List.of(1L, 4L));
+            given(bookFacetIndex.count(RoaringBitmap.bitmapOf(1, 4))).willReturn(facets);
+
+            // when
+            BookFacetResponse result = querydslBookSearchEngine.countFacets(condition);
+
+            // then
+            assertThat(result).isEqualTo(facets);
+        }
+    }
+}
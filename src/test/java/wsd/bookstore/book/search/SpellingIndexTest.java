@@ -0,0 +1,145 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+class SpellingIndexTest {
+
+    private SpellingIndex spellingIndex;
+
+    @BeforeEach
+    void setUp() {
+        spellingIndex = new SpellingIndex();
+    }
+
+    @Nested
+    @DisplayName("오타 교정 테스트")
+    class CorrectTest {
+
+        @BeforeEach
+        void setUp() {
+            spellingIndex.rebuild(sink -> {
+                sink.accept(document(1L, "Clean Code", List.of("Robert Martin")));
+                sink.accept(document(2L, "Clean Architecture", List.of("Robert Martin")));
+                sink.accept(document(3L, "Effective Java", List.of("Joshua Bloch")));
+                sink.accept(document(4L, "Clear Thinking", List.of("Shane Parrish")));
+            });
+        }
+
+        @Test
+        @DisplayName("성공: 사전에 없는 토큰은 편집 거리가 가깝고 도서 수가 많은 순으로 교정해야 한다")
+        void success() {
+            // when & then
+            assertThat(spellingIndex.correct("Claen code")).containsExactly("clean code", "clear code");
+            assertThat(spellingIndex.correct("efective jav")).containsExactly("effective java");
+            assertThat(spellingIndex.correct("bloch")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 앞부분 이후의 오타도 전체 편집 거리로 교정해야 한다")
+        void success_beyondPrefix() {
+            // when & then
+            assertThat(spellingIndex.correct("architecure")).containsExactly("architecture");
+            assertThat(spellingIndex.correct("martni")).containsExactly("martin");
+        }
+
+        @Test
+        @DisplayName("실패: 모든 토큰이 사전에 있거나 가까운 토큰이 없으면 교정하지 않아야 한다")
+        void fail_noCorrection() {
+            // when & then
+            assertThat(spellingIndex.correct("Clean Code")).isEmpty();
+            assertThat(spellingIndex.correct("xyzzy")).isEmpty();
+            assertThat(spellingIndex.correct("jxvx")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 재색인 전 추가된 도서의 토큰도 교정 후보가 되어야 한다")
+        void success_delta() {
+            // given
+            spellingIndex.add(document(5L, "Refactoring", List.of("Martin Fowler")));
+
+            // when & then
+            assertThat(spellingIndex.correct("refactorng")).containsExactly("refactoring");
+            assertThat(spellingIndex.correct("fowler")).isEmpty();
+            assertThat(spellingIndex.correct("fowlr")).containsExactly("fowler");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 인접 전치는 한 번의 편집으로 계산하고 허용 거리를 넘으면 계산을 멈춰야 한다")
+    void success_distance() {
+        // when & then
+        assertThat(SpellingIndex.distance("clean", "claen", 2)).isEqualTo(1);
+        assertThat(SpellingIndex.distance("clear", "claen", 2)).isEqualTo(2);
+        assertThat(SpellingIndex.distance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(SpellingIndex.distance("java", "javascript", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패: 사전이 준비되기 전에는 교정하지 않아야 한다")
+    void fail_notReady() {
+        // when & then
+        assertThat(spellingIndex.isReady()).isFalse();
+        assertThat(spellingIndex.correct("claen")).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 20만 토큰 합성 사전의 교정 지연 시간을 측정한다")
+    void benchmark_twoHundredThousandTerms(TestReporter testReporter) {
+        Random random = new Random(42);
+        String[] vocabulary = new String[200_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            char[] letters = new char[5 + random.nextInt(6)];
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('a' + random.nextInt(26));
+            }
+            vocabulary[i] = new String(letters);
+        }
+
+        long buildStartedAt = System.nanoTime();
+        spellingIndex.rebuild(sink -> {
+            for (int id = 0; id < vocabulary.length; id += 2) {
+                sink.accept(document((long) id + 1, vocabulary[id] + " " + vocabulary[id + 1], List.of()));
+            }
+        });
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+
+        long[] latencies = new long[1_000];
+        int corrected = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            String word = vocabulary[random.nextInt(vocabulary.length)];
+            int position = random.nextInt(word.length());
+            String typo = word.substring(0, position) + (char) ('a' + random.nextInt(26)) + word.substring(position + 1);
+
+            long startedAt = System.nanoTime();
+            List<String> corrections = spellingIndex.correct(typo);
+            latencies[i] = System.nanoTime() - startedAt;
+            if (typo.equals(word) || corrections.contains(word)) {
+                corrected++;
+            }
+        }
+        Arrays.sort(latencies);
+        testReporter.publishEntry(String.format("spelling index build %d ms, p50 %.3f ms, p99 %.3f ms, corrected %d/%d",
+                buildMillis, latencies[500] / 1e6, latencies[989] / 1e6, corrected, latencies.length));
+
+        assertThat(corrected).isGreaterThan(latencies.length * 9 / 10);
+    }
+
+    private BookSearchDocument document(Long bookId, String title, List<String> authorNames) {
+        return BookSearchDocument.builder()
+                .bookId(bookId)
+                .title(title)
+                .authorNames(authorNames)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package wsd.bookstore.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+class SuggestionIndexTest {
+
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new SuggestionIndex();
+    }
+
+    @Nested
+    @DisplayName("자동완성 조회 테스트")
+    class SuggestTest {
+
+        @BeforeEach
+        void setUp() {
+            suggestionIndex.rebuild(List.of(
+                    new Suggestion(SuggestionType.TITLE, 1L, "Clean Code", 5),
+                    new Suggestion(SuggestionType.TITLE, 2L, "Clean Architecture", 9),
+                    new Suggestion(SuggestionType.TITLE, 3L, "The Pragmatic Coder", 1),
+                    new Suggestion(SuggestionType.AUTHOR, 10L, "Clean Eastwood", 3),
+                    new Suggestion(SuggestionType.PUBLISHER, 20L, "클린 출판사", 0)));
+        }
+
+        @Test
+        @DisplayName("성공: 접두사로 시작하는 후보를 weight 가 큰 순서로 대소문자 구분 없이 반환해야 한다")
+        void success() {
+            // when
+            List<Suggestion> result = suggestionIndex.suggest("CLE", 10);
+
+            // then
+            assertThat(result).extracting(Suggestion::id).containsExactly(2L, 1L, 10L);
+            assertThat(result.get(2).type()).isEqualTo(SuggestionType.AUTHOR);
+        }
+
+        @Test
+        @DisplayName("성공: 문구 중간 단어의 접두사로도 후보를 찾아야 한다")
+        void success_wordPrefix() {
+            // when & then
+            assertThat(suggestionIndex.suggest("cod", 10)).extracting(Suggestion::id).containsExactly(1L, 3L);
+            assertThat(suggestionIndex.suggest("clean c", 10)).extracting(Suggestion::id).containsExactly(1L);
+            assertThat(suggestionIndex.suggest("출판", 10)).extracting(Suggestion::id).containsExactly(20L);
+        }
+
+        @Test
+        @DisplayName("성공: limit 개수까지만 반환해야 한다")
+        void success_limit() {
+            // when & then
+            assertThat(suggestionIndex.suggest("clean", 1)).extracting(Suggestion::id).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 같은 종류, 같은 문구의 후보는 weight 를 합쳐 하나만 반환해야 한다")
+        void success_merge() {
+            // given
+            suggestionIndex.rebuild(List.of(
+                    new Suggestion(SuggestionType.TITLE, 1L, "Clean Code", 5),
+                    new Suggestion(SuggestionType.TITLE, 4L, "clean  code", 8),
+                    new Suggestion(SuggestionType.TITLE, 2L, "Clean Architecture", 9)));
+
+            // when
+            List<Suggestion> result = suggestionIndex.suggest("clean", 10);
+
+            // then
+            assertThat(result).extracting(Suggestion::id).containsExactly(4L, 2L);
+            assertThat(result.get(0).weight()).isEqualTo(13L);
+        }
+
+        @Test
+        @DisplayName("실패: 일치하는 후보가 없거나 빈 접두사면 빈 목록을 반환해야 한다")
+        void fail_noMatch() {
+            // when & then
+            assertThat(suggestionIndex.suggest("xyz", 10)).isEmpty();
+            assertThat(suggestionIndex.suggest("  ", 10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 분기 노드에 미리 계산한 상위 후보는 전체를 훑은 결과와 같아야 한다")
+    void success_precomputedMatchesScan() {
+        // given
+        Random random = new Random(7);
+        String[] words = {"java", "javascript", "jpa", "spring", "spark", "scala", "python", "pandas"};
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int id = 1; id <= 5_000; id++) {
+            String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + id;
+            suggestions.add(new Suggestion(SuggestionType.TITLE, (long) id, text, random.nextInt(1_000)));
+        }
+        suggestionIndex.rebuild(suggestions);
+
+        for (String prefix : List.of("j", "ja", "java", "sp", "p", "spring ")) {
+            // when
+            List<Suggestion> result = suggestionIndex.suggest(prefix, 20);
+
+            // then
+            List<Suggestion> expected = suggestions.stream()
+                    .filter(suggestion -> Arrays.stream(suggestion.text().split(" "))
+                            .anyMatch(word -> word.startsWith(prefix.strip()))
+                            && (!prefix.endsWith(" ") || suggestion.text().contains(prefix)))
+                    .sorted((left, right) -> left.weight() != right.weight()
+                            ? Long.compare(right.weight(), left.weight())
+                            : left.text().length() != right.text().length()
+                                    ? left.text().length() - right.text().length()
+                                    : left.text().compareTo(right.text()))
+                    .limit(20)
+                    .toList();
+            assertThat(result).extracting(Suggestion::id).containsExactlyElementsOf(
+                    expected.stream().map(Suggestion::id).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 색인이 준비되기 전에는 빈 목록을 반환해야 한다")
+    void fail_notReady() {
+        // when & then
+        assertThat(suggestionIndex.isReady()).isFalse();
+        assertThat(suggestionIndex.suggest("java", 10)).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 30만 권 합성 카탈로그의 자동완성 구성 시간과 조회 지연 시간을 측정한다")
+    void benchmark_threeHundredThousandBooks(TestReporter testReporter) {
+        Random random = new Random(42);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            char[] letters = new char[4 + random.nextInt(6)];
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('a' + random.nextInt(26));
+            }
+            vocabulary[i] = new String(letters);
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int id = 1; id <= 300_000; id++) {
+            String title = vocabulary[random.nextInt(vocabulary.length)] + " "
+                    + vocabulary[random.nextInt(vocabulary.length)] + " "
+                    + vocabulary[random.nextInt(vocabulary.length)];
+            suggestions.add(new Suggestion(SuggestionType.TITLE, (long) id, title, random.nextInt(10_000)));
+        }
+
+        long buildStartedAt = System.nanoTime();
+        suggestionIndex.rebuild(suggestions);
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+
+        for (String prefix : List.of("a", "ab", "abc", vocabulary[7].substring(0, 3))) {
+            long[] latencies = new long[1_000];
+            for (int i = 0; i < latencies.length; i++) {
+                long startedAt = System.nanoTime();
+                suggestionIndex.suggest(prefix, 10);
+                latencies[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latencies);
+            testReporter.publishEntry(String.format("prefix %-6s p50 %.3f ms, p99 %.3f ms", prefix,
+                    latencies[500] / 1e6, latencies[990] / 1e6));
+        }
+        testReporter.publishEntry(String.format("suggestion index build %d ms", buildMillis));
+
+        assertThat(suggestionIndex.suggest("a", 10)).hasSize(10);
+    }
+}
@@ -3,6 +3,7 @@ package wsd.bookstore.book.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -15,9 +16,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Author;
+import wsd.bookstore.book.event.CatalogChangedEvent;
 import wsd.bookstore.book.repository.AuthorRepository;
+import wsd.bookstore.book.repository.BookAuthorRepository;
 import wsd.bookstore.book.request.AuthorRequest;
 import wsd.bookstore.book.response.AuthorResponse;
 import wsd.bookstore.common.error.CustomException;
@@ -32,6 +36,15 @@ class AuthorServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("작가 목록 조회 테스트")
     class GetAuthorsTest {
@@ -112,6 +125,7 @@ class AuthorServiceTest {
             // then
             assertThat(resultId).isEqualTo(authorId);
             verify(authorRepository).save(any(Author.class));
+            verify(catalogVersionService).increment();
         }
     }
 
@@ -136,6 +150,27 @@ class AuthorServiceTest {
             // then
             assertThat(author.getName()).isEqualTo(request.getName());
             assertThat(author.getBio()).isEqualTo(request.getBio());
+            verify(catalogVersionService).increment();
+        }
+
+        @Test
+        @DisplayName("성공: 작가 수정 시 소속 도서의 카탈로그 변경 이벤트를 발행해야 한다")
+        void success_publishCatalogChanged() {
+            // given
+            Long authorId = 1L;
+            AuthorRequest request = new AuthorRequest("UpdatedName", "UpdatedBio");
+            Author author = new Author("OldName", "OldBio");
+            ReflectionTestUtils.setField(author, "id", authorId);
+
+            given(authorRepository.findById(authorId)).willReturn(Optional.of(author));
+            given(bookAuthorRepository.findBookIdsByAuthorId(authorId)).willReturn(List.of(10L, 11L));
+
+            // when
+            authorService.updateAuthor(authorId, request);
+
+            // then
+            verify(eventPublisher).publishEvent(argThat((CatalogChangedEvent event) ->
+                    event.getBookIds().equals(List.of(10L, 11L)) && !event.isRemote()));
         }
 
         @Test
@@ -172,6 +207,7 @@ class AuthorServiceTest {
 
             // then
             verify(authorRepository).delete(author);
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -0,0 +1,229 @@
+package wsd.bookstore.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import wsd.bookstore.book.request.BookSearchCondition;
+import wsd.bookstore.book.request.SearchMode;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.search.BookSearchDocument;
+import wsd.bookstore.book.search.HangulSearchIndex;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchCacheServiceTest {
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HangulSearchIndex hangulSearchIndex;
+    private BookSearchCacheService bookSearchCacheService;
+    private AtomicInteger searchCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hangulSearchIndex = new HangulSearchIndex();
+        bookSearchCacheService = new BookSearchCacheService(new ConcurrentMapCacheManager(
+                BookSearchCacheService.CACHE_NAME), catalogVersionService, hangulSearchIndex, meterRegistry);
+        searchCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("검색 결과 캐시 조회 테스트")
+    class GetOrSearchTest {
+
+        @Test
+        @DisplayName("성공: 같은 버전의 같은 조건은 검색하지 않고 캐시된 결과를 반환해야 한다")
+        void success_hit() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+            given(catalogVersionService.getVersion()).willReturn(3L);
+
+            // when
+            bookSearchCacheService.getOrSearch(new BookSearchCondition("Java", 1L, null, null), pageable, search());
+            Page<BookSummaryResponse> result = bookSearchCacheService.getOrSearch(
+                    new BookSearchCondition("java", 1L, null, null), pageable, search());
+
+            // then
+            assertThat(searchCount).hasValue(1);
+            assertThat(result.getContent()).extracting(BookSummaryResponse::getTitle).containsExactly("Java");
+            assertThat(result.getTotalElements()).isEqualTo(42L);
+            assertThat(result.getPageable()).isEqualTo(pageable);
+            assertThat(count("hit")).isEqualTo(1.0);
+            assertThat(count("miss")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("book.search.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("성공: 카탈로그 버전이 바뀌면 이전 결과를 사용하지 않아야 한다")
+        void success_versionChanged() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("java", null, null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            given(catalogVersionService.getVersion()).willReturn(3L, 4L);
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+
+            // then
+            assertThat(searchCount).hasValue(2);
+            assertThat(count("miss")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("성공: 페이지나 정렬이 다르면 다른 항목으로 캐싱해야 한다")
+        void success_differentPage() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            given(catalogVersionService.getVersion()).willReturn(3L);
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, PageRequest.of(0, 10), search());
+            bookSearchCacheService.getOrSearch(condition, PageRequest.of(1, 10), search());
+            bookSearchCacheService.getOrSearch(condition, PageRequest.of(0, 10, Sort.by("price")), search());
+
+            // then
+            assertThat(searchCount).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("실패: 카탈로그 버전을 조회하지 못하면 캐시 없이 검색해야 한다")
+        void fail_versionUnavailable() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            Pageable pageable = PageRequest.of(0, 10);
+            given(catalogVersionService.getVersion()).willThrow(new IllegalStateException("redis down"));
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+            Page<BookSummaryResponse> result = bookSearchCacheService.getOrSearch(condition, pageable, search());
+
+            // then
+            assertThat(searchCount).hasValue(2);
+            assertThat(result.getTotalElements()).isEqualTo(42L);
+            assertThat(count("hit") + count("miss")).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 미리 구한 키로 조회하면 카탈로그 버전을 다시 조회하지 않아야 한다")
+        void success_withKey() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("java", null, null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            String key = BookSearchCacheService.toCacheKey(3L, condition, pageable);
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, pageable, key, search());
+            bookSearchCacheService.getOrSearch(condition, pageable, key, search());
+
+            // then
+            assertThat(searchCount).hasValue(1);
+            verify(catalogVersionService, never()).getVersion();
+        }
+
+        @Test
+        @DisplayName("성공: 초성/자모 색인을 쓸 수 없는 동안의 초성 검색 결과는 캐싱하지 않아야 한다")
+        void success_skipHangulFallback() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("ㅈㅂ", null, null, null, SearchMode.HANGUL);
+            Pageable pageable = PageRequest.of(0, 10);
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+
+            // then
+            assertThat(searchCount).hasValue(2);
+            assertThat(count("hit") + count("miss")).isZero();
+            assertThat(bookSearchCacheService.currentCacheKey(condition, pageable)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 초성/자모 색인이 준비되면 초성 검색 결과도 캐싱해야 한다")
+        void success_cacheHangulOnceReady() {
+            // given
+            hangulSearchIndex.rebuild(sink -> sink.accept(BookSearchDocument.builder()
+                    .bookId(1L)
+                    .title("자바")
+                    .authorNames(List.of())
+                    .build()));
+            BookSearchCondition condition = new BookSearchCondition("ㅈㅂ", null, null, null, SearchMode.HANGUL);
+            Pageable pageable = PageRequest.of(0, 10);
+            given(catalogVersionService.getVersion()).willReturn(3L);
+
+            // when
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+            bookSearchCacheService.getOrSearch(condition, pageable, search());
+
+            // then
+            assertThat(searchCount).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("현재 캐시 키 조회 테스트")
+    class CurrentCacheKeyTest {
+
+        @Test
+        @DisplayName("성공: 현재 카탈로그 버전과 정규화한 조건으로 키를 만들어야 한다")
+        void success() {
+            // given
+            given(catalogVersionService.getVersion()).willReturn(7L);
+
+            // when
+            String key = bookSearchCacheService.currentCacheKey(new BookSearchCondition("Java", null, null, null),
+                    PageRequest.of(0, 20));
+
+            // then
+            assertThat(key).startsWith("v7|").contains("page=0", "size=20");
+        }
+
+        @Test
+        @DisplayName("실패: 카탈로그 버전을 조회하지 못하면 null 을 반환해야 한다")
+        void fail_versionUnavailable() {
+            // given
+            given(catalogVersionService.getVersion()).willThrow(new IllegalStateException("redis down"));
+
+            // when
+            String key = bookSearchCacheService.currentCacheKey(new BookSearchCondition(), PageRequest.of(0, 20));
+
+            // then
+            assertThat(key).isNull();
+        }
+    }
+
+    private Supplier<Page<BookSummaryResponse>> search() {
+        return () -> {
+            searchCount.incrementAndGet();
+            BookSummaryResponse summary = new BookSummaryResponse(
+                    1L, "9780134685991", "Java", 36000L, LocalDateTime.now(), "인사이트", List.of("조슈아 블로크"));
+            return new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 42L);
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("book.search.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -3,12 +3,15 @@ package wsd.bookstore.book.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,26 +19,44 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Author;
 import wsd.bookstore.book.entity.Book;
 import wsd.bookstore.book.entity.Category;
 import wsd.bookstore.book.entity.Publisher;
+import wsd.bookstore.book.event.CatalogChangedEvent;
 import wsd.bookstore.book.repository.AuthorRepository;
 import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.book.repository.CategoryRepository;
 import wsd.bookstore.book.repository.PublisherRepository;
 import wsd.bookstore.book.request.BookCreateRequest;
+import wsd.bookstore.book.request.BookCursor;
 import wsd.bookstore.book.request.BookSearchCondition;
 import wsd.bookstore.book.request.BookUpdateRequest;
+import wsd.bookstore.book.request.SalesWindow;
 import wsd.bookstore.book.response.BookDetailResponse;
+import wsd.bookstore.book.response.BookFacetResponse;
+import wsd.bookstore.book.response.BookFacetedSearchResponse;
+import wsd.bookstore.book.response.BookFuzzySearchResponse;
 import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.response.SuggestionResponse;
+import wsd.bookstore.book.search.BookSearchEngine;
+import wsd.bookstore.book.search.KeywordCandidateResolver;
+import wsd.bookstore.book.search.SpellingIndex;
+import wsd.bookstore.book.search.Suggestion;
+import wsd.bookstore.book.search.SuggestionIndex;
+import wsd.bookstore.book.search.SuggestionType;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.response.CursorResponse;
 
 @ExtendWith(MockitoExtension.class)
 class BookServiceTest {
@@ -55,20 +76,48 @@ class BookServiceTest {
     @Mock
     private PublisherRepository publisherRepository;
 
+    @Mock
+    private SalesRankingService salesRankingService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private BookSearchEngine bookSearchEngine;
+
+    @Mock
+    private KeywordCandidateResolver keywordCandidateResolver;
+
+    @Mock
+    private BookSearchCacheService bookSearchCacheService;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private SpellingIndex spellingIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("도서 검색 테스트")
     class SearchBooksTest {
 
         @Test
-        @DisplayName("성공: 도서 검색 결과를 반환해야 한다")
+        @DisplayName("성공: 검색 결과 캐시를 거쳐 설정된 검색 엔진의 결과를 반환해야 한다")
         void success() {
             // given
             BookSearchCondition condition = new BookSearchCondition("keyword", 1L, 1L, 1L);
             Pageable pageable = PageRequest.of(0, 10);
-            List<BookSummaryResponse> content = List.of();
-            Page<BookSummaryResponse> page = new PageImpl<>(content, pageable, 0);
+            Page<BookSummaryResponse> page = new PageImpl<>(List.of(), pageable, 0);
 
-            given(bookRepository.search(condition, pageable)).willReturn(page);
+            given(bookSearchCacheService.getOrSearch(eq(condition), eq(pageable), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<Page<BookSummaryResponse>>>getArgument(2).get());
+            given(bookSearchEngine.search(condition, pageable)).willReturn(page);
 
             // when
             Page<BookSummaryResponse> result = bookService.searchBooks(condition, pageable);
@@ -76,6 +125,241 @@ class BookServiceTest {
             // then
             assertThat(result).isEqualTo(page);
         }
+
+        @Test
+        @DisplayName("성공: Slice 모드는 검색 엔진의 Slice 결과를 반환해야 한다")
+        void success_slice() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            Pageable pageable = PageRequest.of(0, 10);
+            Slice<BookSummaryResponse> slice = new SliceImpl<>(List.of(), pageable, false);
+
+            given(bookSearchEngine.searchSlice(condition, pageable)).willReturn(slice);
+
+            // when
+            Slice<BookSummaryResponse> result = bookService.searchBookSlice(condition, pageable);
+
+            // then
+            assertThat(result).isEqualTo(slice);
+        }
+
+        @Test
+        @DisplayName("성공: 패싯 검색은 검색 결과와 검색 엔진의 패싯 집계를 함께 반환해야 한다")
+        void success_facets() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("java", null, null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<BookSummaryResponse> page = new PageImpl<>(List.of(), pageable, 0);
+            BookFacetResponse facets = BookFacetResponse.empty();
+
+            given(bookSearchEngine.search(condition, pageable)).willReturn(page);
+            given(bookSearchEngine.countFacets(condition)).willReturn(facets);
+
+            // when
+            BookFacetedSearchResponse result = bookService.searchBooksWithFacets(condition, pageable);
+
+            // then
+            assertThat(result.getBooks()).isEqualTo(page);
+            assertThat(result.getFacets()).isEqualTo(facets);
+        }
+
+        @Test
+        @DisplayName("성공: 검색 결과가 없으면 첫 번째 교정어로 다시 검색해야 한다")
+        void success_fuzzy_corrected() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("claen code", 1L, null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<BookSummaryResponse> empty = new PageImpl<>(List.of(), pageable, 0);
+            Page<BookSummaryResponse> corrected = new PageImpl<>(List.of(), pageable, 1);
+
+            given(bookSearchEngine.search(condition, pageable)).willReturn(empty);
+            given(spellingIndex.correct("claen code")).willReturn(List.of("clean code", "clear code"));
+            given(bookSearchEngine.search(argThat(searched -> searched != null
+                    && "clean code".equals(searched.getKeyword())
+                    && Long.valueOf(1L).equals(searched.getCategoryId())), eq(pageable))).willReturn(corrected);
+
+            // when
+            BookFuzzySearchResponse result = bookService.searchBooksWithCorrections(condition, pageable);
+
+            // then
+            assertThat(result.getBooks()).isEqualTo(corrected);
+            assertThat(result.getCorrectedKeyword()).isEqualTo("clean code");
+            assertThat(result.getDidYouMean()).containsExactly("clean code", "clear code");
+        }
+
+        @Test
+        @DisplayName("성공: 검색 결과가 있으면 교정어만 함께 반환하고 다시 검색하지 않아야 한다")
+        void success_fuzzy_withResults() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition("clean cod", null, null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<BookSummaryResponse> page = new PageImpl<>(List.of(), pageable, 3);
+
+            given(bookSearchEngine.search(condition, pageable)).willReturn(page);
+            given(spellingIndex.correct("clean cod")).willReturn(List.of("clean code"));
+
+            // when
+            BookFuzzySearchResponse result = bookService.searchBooksWithCorrections(condition, pageable);
+
+            // then
+            assertThat(result.getBooks()).isEqualTo(page);
+            assertThat(result.getCorrectedKeyword()).isNull();
+            assertThat(result.getDidYouMean()).containsExactly("clean code");
+            verify(bookSearchEngine).search(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 같은 의미의 검색 조건은 같은 캐시 키로 정규화되어야 한다")
+        void success_normalizedCacheKey() {
+            // given
+            BookSearchCondition upper = new BookSearchCondition("Java", 1L, null, null);
+            BookSearchCondition lower = new BookSearchCondition("java", 1L, null, null);
+            BookSearchCondition blank = new BookSearchCondition("  ", null, null, null);
+
+            // when & then
+            assertThat(upper.toCacheKey()).isEqualTo(lower.toCacheKey());
+            assertThat(blank.toCacheKey()).isEqualTo(new BookSearchCondition().toCacheKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 커서 검색 테스트")
+    class SearchBooksByCursorTest {
+
+        @Test
+        @DisplayName("성공: 커서가 없으면 요청한 정렬 기준의 첫 페이지를 조회해야 한다")
+        void success_firstPage() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            CursorResponse<BookSummaryResponse> response = new CursorResponse<>(List.of(), null, false);
+            given(keywordCandidateResolver.resolve(condition)).willReturn(condition);
+            given(bookRepository.searchByCursor(eq(condition), any(BookCursor.class), eq(20))).willReturn(response);
+
+            // when
+            CursorResponse<BookSummaryResponse> result =
+                    bookService.searchBooksByCursor(condition, "", Sort.by(Sort.Direction.ASC, "price"), 20);
+
+            // then
+            assertThat(result).isSameAs(response);
+            verify(bookRepository).searchByCursor(eq(condition), argThat(cursor -> cursor.isFirst()
+                    && cursor.getProperty().equals("price")
+                    && cursor.getDirection() == Sort.Direction.ASC), eq(20));
+        }
+
+        @Test
+        @DisplayName("성공: 다음 커서에는 정렬 기준과 마지막 정렬 키, ID 가 유지되어야 한다")
+        void success_nextPage() {
+            // given
+            BookSearchCondition condition = new BookSearchCondition();
+            String cursor = BookCursor.first(Sort.by(Sort.Direction.DESC, "title")).next("A|B", 42L).encode();
+            given(keywordCandidateResolver.resolve(condition)).willReturn(condition);
+            given(bookRepository.searchByCursor(eq(condition), any(BookCursor.class), eq(10)))
+                    .willReturn(new CursorResponse<>(List.of(), null, false));
+
+            // when
+            bookService.searchBooksByCursor(condition, cursor, Sort.unsorted(), 10);
+
+            // then
+            verify(bookRepository).searchByCursor(eq(condition), argThat(next -> next.getLastId() == 42L
+                    && next.getLastValue().equals("A|B")
+                    && next.getProperty().equals("title")
+                    && next.getDirection() == Sort.Direction.DESC), eq(10));
+        }
+
+        @Test
+        @DisplayName("실패: 잘못된 커서는 예외가 발생해야 한다")
+        void fail_invalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> bookService.searchBooksByCursor(
+                    new BookSearchCondition(), "not-a-cursor", Sort.unsorted(), 20))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    @Nested
+    @DisplayName("베스트셀러 조회 테스트")
+    class GetBestSellersTest {
+
+        @Test
+        @DisplayName("성공: 판매량 랭킹 순서대로 도서 정보를 반환해야 한다")
+        void success() {
+            // given
+            List<Long> bookIds = List.of(3L, 1L, 2L);
+            List<BookSummaryResponse> summaries = List.of();
+
+            given(salesRankingService.getTopBookIds(SalesWindow.WEEK, 10)).willReturn(bookIds);
+            given(bookRepository.findSummariesByIds(bookIds)).willReturn(summaries);
+
+            // when
+            List<BookSummaryResponse> result = bookService.getBestSellers(SalesWindow.WEEK, 10);
+
+            // then
+            assertThat(result).isSameAs(summaries);
+            verify(bookRepository).findSummariesByIds(bookIds);
+        }
+
+        @Test
+        @DisplayName("실패: 조회 개수가 허용 범위를 벗어나면 예외가 발생해야 한다")
+        void fail_invalidLimit() {
+            // when & then
+            assertThatThrownBy(() -> bookService.getBestSellers(SalesWindow.ALL, 0))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    @Nested
+    @DisplayName("트렌딩 도서 조회 테스트")
+    class GetTrendingBooksTest {
+
+        @Test
+        @DisplayName("성공: 트렌딩 점수 순서대로 도서 정보를 반환해야 한다")
+        void success() {
+            // given
+            List<Long> bookIds = List.of(5L, 4L);
+            List<BookSummaryResponse> summaries = List.of();
+
+            given(trendingService.getTopBookIds(10)).willReturn(bookIds);
+            given(bookRepository.findSummariesByIds(bookIds)).willReturn(summaries);
+
+            // when
+            List<BookSummaryResponse> result = bookService.getTrendingBooks(10);
+
+            // then
+            assertThat(result).isSameAs(summaries);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색어 자동완성 테스트")
+    class SuggestTest {
+
+        @Test
+        @DisplayName("성공: 자동완성 색인의 후보를 응답으로 변환해야 한다")
+        void success() {
+            // given
+            given(suggestionIndex.suggest("cle", 5)).willReturn(List.of(
+                    new Suggestion(SuggestionType.TITLE, 1L, "Clean Code", 10),
+                    new Suggestion(SuggestionType.AUTHOR, 3L, "Clean Eastwood", 2)));
+
+            // when
+            List<SuggestionResponse> result = bookService.suggest("cle", 5);
+
+            // then
+            assertThat(result).extracting(SuggestionResponse::getType)
+                    .containsExactly(SuggestionType.TITLE, SuggestionType.AUTHOR);
+            assertThat(result).extracting(SuggestionResponse::getText).containsExactly("Clean Code", "Clean Eastwood");
+        }
+
+        @Test
+        @DisplayName("실패: limit 가 허용 범위를 벗어나면 예외가 발생해야 한다")
+        void fail_invalidLimit() {
+            // when & then
+            assertThatThrownBy(() -> bookService.suggest("cle", 21))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+        }
     }
 
     @Nested
@@ -166,6 +450,7 @@ class BookServiceTest {
             // then
             assertThat(response).isNotNull();
             verify(bookRepository).save(any(Book.class));
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -235,6 +520,7 @@ class BookServiceTest {
             assertThat(response.getTitle()).isEqualTo(request.getTitle());
             assertThat(book.getTitle()).isEqualTo(request.getTitle());
             assertThat(book.getPublisher()).isEqualTo(newPublisher);
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -283,6 +569,8 @@ class BookServiceTest {
 
             // then
             verify(bookRepository).delete(book);
+            verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -0,0 +1,104 @@
+package wsd.bookstore.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.common.redis.RedisService;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionServiceTest {
+
+    @InjectMocks
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private RedisService redisService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("카탈로그 버전 조회 테스트")
+    class GetVersionTest {
+
+        @Test
+        @DisplayName("성공: 저장된 버전이 없으면 0 을 반환해야 한다")
+        void success_initial() {
+            // given
+            given(redisService.getValues(CatalogVersionService.VERSION_KEY)).willReturn(null);
+
+            // when & then
+            assertThat(catalogVersionService.getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 저장된 버전을 반환해야 한다")
+        void success() {
+            // given
+            given(redisService.getValues(CatalogVersionService.VERSION_KEY)).willReturn("7");
+
+            // when & then
+            assertThat(catalogVersionService.getVersion()).isEqualTo(7L);
+        }
+    }
+
+    @Nested
+    @DisplayName("카탈로그 버전 증가 테스트")
+    class IncrementTest {
+
+        @Test
+        @DisplayName("성공: 트랜잭션 밖에서는 바로 버전을 올려야 한다")
+        void success_withoutTransaction() {
+            // when
+            catalogVersionService.increment();
+
+            // then
+            verify(redisService).incrementValue(CatalogVersionService.VERSION_KEY);
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션 안에서는 커밋된 뒤에 버전을 올려야 한다")
+        void success_afterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            catalogVersionService.increment();
+
+            // then
+            verify(redisService, never()).incrementValue(CatalogVersionService.VERSION_KEY);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisService).incrementValue(CatalogVersionService.VERSION_KEY);
+        }
+
+        @Test
+        @DisplayName("실패: 버전 증가에 실패해도 예외를 전파하지 않아야 한다")
+        void fail_redisUnavailable() {
+            // given
+            given(redisService.incrementValue(CatalogVersionService.VERSION_KEY))
+                    .willThrow(new IllegalStateException("redis down"));
+
+            // when
+            catalogVersionService.increment();
+
+            // then
+            verify(redisService).incrementValue(CatalogVersionService.VERSION_KEY);
+        }
+    }
+}
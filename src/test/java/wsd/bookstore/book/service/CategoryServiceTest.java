@@ -3,6 +3,7 @@ package wsd.bookstore.book.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Category;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookCategoryRepository;
 import wsd.bookstore.book.repository.CategoryRepository;
 import wsd.bookstore.book.request.CategoryRequest;
 import wsd.bookstore.book.response.CategoryResponse;
@@ -32,6 +36,15 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private BookCategoryRepository bookCategoryRepository;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("카테고리 목록 조회 테스트")
     class GetCategoriesTest {
@@ -113,6 +126,7 @@ class CategoryServiceTest {
             // then
             assertThat(resultId).isEqualTo(categoryId);
             verify(categoryRepository).save(any(Category.class));
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -150,6 +164,7 @@ class CategoryServiceTest {
 
             // then
             assertThat(category.getName()).isEqualTo(request.getName());
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -204,6 +219,27 @@ class CategoryServiceTest {
 
             // then
             verify(categoryRepository).delete(category);
+            verify(catalogVersionService).increment();
+        }
+
+        @Test
+        @DisplayName("성공: 카테고리 삭제 시 삭제 전 소속 도서의 카탈로그 변경 이벤트를 발행해야 한다")
+        void success_publishCatalogChanged() {
+            // given
+            Long categoryId = 1L;
+            Category category = new Category("DeleteCategory");
+            ReflectionTestUtils.setField(category, "id", categoryId);
+
+            given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
+            given(bookCategoryRepository.findBookIdsByCategoryId(categoryId)).willReturn(List.of(5L, 6L));
+
+            // when
+            categoryService.deleteCategory(categoryId);
+
+            // then
+            verify(categoryRepository).delete(category);
+            verify(eventPublisher).publishEvent(argThat((CatalogChangedEvent event) ->
+                    event.getBookIds().equals(List.of(5L, 6L))));
         }
 
         @Test
@@ -0,0 +1,228 @@
+package wsd.bookstore.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.redis.RedisService;
+
+@ExtendWith(MockitoExtension.class)
+class FlashSaleStockServiceTest {
+
+    @InjectMocks
+    private FlashSaleStockService flashSaleStockService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(flashSaleStockService, "enabled", true);
+    }
+
+    @Nested
+    @DisplayName("재고 예약 테스트")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("성공: Redis 에 재고 키가 있는 도서만 예약 결과로 반환해야 한다")
+        void success() {
+            // given
+            Map<Long, Integer> quantities = new TreeMap<>(Map.of(1L, 2, 2L, 1));
+            given(redisService.executeScript(any(), eq(List.of("STOCK:1", "STOCK:2", "STOCK:PENDING")),
+                    eq(List.of("1", "2", "2", "1"))))
+                    .willReturn(List.of(1L, 1L, 0L));
+
+            // when
+            Set<Long> reserved = flashSaleStockService.reserve(quantities);
+
+            // then
+            assertThat(reserved).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("실패: 재고가 부족하면 예외가 발생해야 한다")
+        void fail_notEnoughStock() {
+            // given
+            Map<Long, Integer> quantities = new TreeMap<>(Map.of(1L, 2, 2L, 5));
+            given(redisService.executeScript(any(), anyList(), anyList())).willReturn(List.of(0L, 2L));
+
+            // when & then
+            assertThatThrownBy(() -> flashSaleStockService.reserve(quantities))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_ENOUGH_STOCK)
+                    .hasFieldOrPropertyWithValue("detail", "book_id=2");
+        }
+
+        @Test
+        @DisplayName("성공: 플래시 세일 기능이 꺼져 있으면 Redis 를 호출하지 않아야 한다")
+        void success_disabled() {
+            // given
+            ReflectionTestUtils.setField(flashSaleStockService, "enabled", false);
+
+            // when
+            Set<Long> reserved = flashSaleStockService.reserve(Map.of(1L, 2));
+
+            // then
+            assertThat(reserved).isEmpty();
+            verify(redisService, never()).executeScript(any(), anyList(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("플래시 세일 시작 테스트")
+    class EnableTest {
+
+        @Test
+        @DisplayName("성공: 잠근 도서 행의 DB 재고를 Redis 재고 키로 복사해야 한다")
+        void success() {
+            // given
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(30).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+
+            runTransactionCallbacks();
+            given(redisService.executeScript(any(), eq(List.of("STOCK:PENDING", "STOCK:PENDING:PROCESSING")),
+                    eq(List.of()))).willReturn(List.of());
+            given(bookRepository.findByIdForUpdate(1L)).willReturn(Optional.of(book));
+            given(redisService.setValuesIfAbsent("STOCK:1", "30")).willReturn(true);
+
+            // when
+            flashSaleStockService.enable(1L);
+
+            // then
+            verify(redisService).setValuesIfAbsent("STOCK:1", "30");
+        }
+
+        @Test
+        @DisplayName("실패: 존재하지 않는 도서는 예외가 발생해야 한다")
+        void fail_notFound() {
+            // given
+            runTransactionCallbacks();
+            given(redisService.executeScript(any(), anyList(), anyList())).willReturn(List.of());
+            given(bookRepository.findByIdForUpdate(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> flashSaleStockService.enable(999L))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
+        }
+
+        @Test
+        @DisplayName("실패: 플래시 세일 기능이 꺼져 있으면 시작할 수 없어야 한다")
+        void fail_disabled() {
+            // given
+            ReflectionTestUtils.setField(flashSaleStockService, "enabled", false);
+
+            // when & then
+            assertThatThrownBy(() -> flashSaleStockService.enable(1L))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BAD_REQUEST);
+            verify(redisService, never()).setValuesIfAbsent(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("재고 정산 테스트")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("성공: DB 반영이 끝난 항목만 처리 중 해시에서 지워야 한다")
+        void success() {
+            // given
+            runTransactionCallbacks();
+            given(redisService.executeScript(any(), eq(List.of("STOCK:PENDING", "STOCK:PENDING:PROCESSING")),
+                    eq(List.of()))).willReturn(List.of("1", "-3", "2", "-1"));
+            given(bookRepository.adjustStock(anyLong(), anyInt())).willReturn(1);
+
+            // when
+            flashSaleStockService.reconcile();
+
+            // then
+            verify(bookRepository).adjustStock(1L, -3);
+            verify(bookRepository).adjustStock(2L, -1);
+            verify(redisService).deleteHashValues("STOCK:PENDING:PROCESSING", List.of("1", "2"));
+        }
+
+        @Test
+        @DisplayName("성공: 반영할 수 없는 도서만 따로 보관하고 나머지 도서는 정산해야 한다")
+        void success_parkFailingBook() {
+            // given
+            runTransactionCallbacks();
+            given(redisService.executeScript(any(), eq(List.of("STOCK:PENDING", "STOCK:PENDING:PROCESSING")),
+                    eq(List.of()))).willReturn(List.of("1", "-3", "2", "-1"));
+            given(bookRepository.adjustStock(1L, -3)).willThrow(new DataIntegrityViolationException("stock < 0"));
+            given(bookRepository.adjustStock(2L, -1)).willReturn(1);
+
+            // when
+            flashSaleStockService.reconcile();
+
+            // then
+            verify(redisService).deleteHashValues("STOCK:PENDING:PROCESSING", List.of("2"));
+            verify(redisService).executeScript(any(), eq(List.of("STOCK:PENDING:PROCESSING", "STOCK:PARKED")),
+                    eq(List.of("1", "-3")));
+        }
+
+        @Test
+        @DisplayName("실패: 일시적인 오류로 반영하지 못한 항목은 처리 중 해시에 남겨야 한다")
+        void fail_keepOnTransientError() {
+            // given
+            runTransactionCallbacks();
+            given(redisService.executeScript(any(), eq(List.of("STOCK:PENDING", "STOCK:PENDING:PROCESSING")),
+                    eq(List.of()))).willReturn(List.of("1", "-3"));
+            given(bookRepository.adjustStock(1L, -3)).willThrow(new QueryTimeoutException("timeout"));
+
+            // when
+            flashSaleStockService.reconcile();
+
+            // then
+            verify(redisService, never()).deleteHashValues(anyString(), anyList());
+            verify(redisService, never()).executeScript(any(), eq(List.of("STOCK:PENDING:PROCESSING", "STOCK:PARKED")),
+                    anyList());
+        }
+    }
+
+    private void runTransactionCallbacks() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -3,6 +3,7 @@ package wsd.bookstore.book.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Publisher;
+import wsd.bookstore.book.event.CatalogChangedEvent;
+import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.book.repository.PublisherRepository;
 import wsd.bookstore.book.request.PublisherRequest;
 import wsd.bookstore.book.response.PublisherResponse;
@@ -32,6 +36,15 @@ class PublisherServiceTest {
     @Mock
     private PublisherRepository publisherRepository;
 
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("출판사 목록 조회 테스트")
     class GetPublishersTest {
@@ -113,6 +126,7 @@ class PublisherServiceTest {
             // then
             assertThat(resultId).isEqualTo(publisherId);
             verify(publisherRepository).save(any(Publisher.class));
+            verify(catalogVersionService).increment();
         }
 
         @Test
@@ -150,6 +164,28 @@ class PublisherServiceTest {
 
             // then
             assertThat(publisher.getName()).isEqualTo(request.getName());
+            verify(catalogVersionService).increment();
+        }
+
+        @Test
+        @DisplayName("성공: 출판사 수정 시 소속 도서의 카탈로그 변경 이벤트를 발행해야 한다")
+        void success_publishCatalogChanged() {
+            // given
+            Long publisherId = 1L;
+            PublisherRequest request = new PublisherRequest("UpdatedPublisher");
+            Publisher publisher = new Publisher("OldPublisher");
+            ReflectionTestUtils.setField(publisher, "id", publisherId);
+
+            given(publisherRepository.findById(publisherId)).willReturn(Optional.of(publisher));
+            given(publisherRepository.existsByName(request.getName())).willReturn(false);
+            given(bookRepository.findIdsByPublisherId(publisherId)).willReturn(List.of(3L));
+
+            // when
+            publisherService.updatePublisher(publisherId, request);
+
+            // then
+            verify(eventPublisher).publishEvent(argThat((CatalogChangedEvent event) ->
+                    event.getBookIds().equals(List.of(3L))));
         }
 
         @Test
@@ -204,6 +240,7 @@ class PublisherServiceTest {
 
             // then
             verify(publisherRepository).delete(publisher);
+            verify(catalogVersionService).increment();
         }
 
         @Test
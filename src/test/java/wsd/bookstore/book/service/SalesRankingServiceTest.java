@@ -0,0 +1,221 @@
+package wsd.bookstore.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import wsd.bookstore.book.request.SalesWindow;
+import wsd.bookstore.book.service.SalesSnapshotReader.SalesSnapshot;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.event.OrderCancelledEvent;
+import wsd.bookstore.order.event.OrderCompletedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRankingServiceTest {
+
+    private static final List<String> SWAP_KEYS = List.of(
+            "RANK:SALES:REBUILD", "RANK:SALES:REBUILD:TEMP", "RANK:SALES", "RANK:SALES:REBUILD:JOURNAL");
+
+    @InjectMocks
+    private SalesRankingService salesRankingService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private SalesSnapshotReader salesSnapshotReader;
+
+    @Nested
+    @DisplayName("랭킹 조회 테스트")
+    class GetTopBookIdsTest {
+
+        @Test
+        @DisplayName("성공: 누적 판매량 내림차순 도서 ID를 반환해야 한다")
+        void success() {
+            // given
+            given(redisService.getReverseRange("RANK:SALES", 0, 9)).willReturn(List.of("3", "1", "2"));
+
+            // when
+            List<Long> result = salesRankingService.getTopBookIds(SalesWindow.ALL, 10);
+
+            // then
+            assertThat(result).containsExactly(3L, 1L, 2L);
+        }
+
+        @Test
+        @DisplayName("성공: 기간별 랭킹이 없으면 버킷을 합산한 뒤 조회해야 한다")
+        void success_rollMissingWindow() {
+            // given
+            given(redisService.hasKey("RANK:SALES:W:WEEK")).willReturn(false);
+            given(redisService.getReverseRange("RANK:SALES:W:WEEK", 0, 4)).willReturn(List.of("7"));
+
+            // when
+            List<Long> result = salesRankingService.getTopBookIds(SalesWindow.WEEK, 5);
+
+            // then
+            assertThat(result).containsExactly(7L);
+            verify(redisService).unionAndStore(argThat(keys -> keys.size() == 7),
+                    eq("RANK:SALES:W:WEEK"), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("실패: limit 가 1보다 작으면 전체 랭킹을 조회하지 않고 예외가 발생해야 한다")
+        void fail_invalidLimit() {
+            // when & then
+            assertThatThrownBy(() -> salesRankingService.getTopBookIds(SalesWindow.ALL, 0))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+            verify(redisService, never()).getReverseRange(anyString(), anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 이벤트 반영 테스트")
+    class OrderEventTest {
+
+        private final LocalDateTime orderedAt = LocalDateTime.of(2025, 3, 1, 14, 30);
+
+        @Test
+        @DisplayName("성공: 주문 완료 시 누적/시간별/일별 판매량을 증가시켜야 한다")
+        void success_completed() {
+            // when
+            salesRankingService.onOrderCompleted(new OrderCompletedEvent(1L, 1L, Map.of(1L, 2), orderedAt));
+
+            // then
+            verify(redisService).executeScript(any(),
+                    eq(List.of("RANK:SALES", "RANK:SALES:H:2025030114", "RANK:SALES:D:20250301",
+                            "RANK:SALES:REBUILD", "RANK:SALES:REBUILD:JOURNAL")),
+                    eq(List.of("0", "90000", "2678400", "0", "1|0|1:2", "600", "1", "2")));
+        }
+
+        @Test
+        @DisplayName("성공: 주문 취소 시 주문 시점 버킷의 판매량을 감소시켜야 한다")
+        void success_cancelled() {
+            // when
+            salesRankingService.onOrderCancelled(new OrderCancelledEvent(1L, 1L, Map.of(1L, 2), orderedAt));
+
+            // then
+            verify(redisService).executeScript(any(),
+                    eq(List.of("RANK:SALES", "RANK:SALES:H:2025030114", "RANK:SALES:D:20250301",
+                            "RANK:SALES:REBUILD", "RANK:SALES:REBUILD:JOURNAL")),
+                    eq(List.of("0", "90000", "2678400", "1", "1|1|1:-2", "600", "1", "-2")));
+        }
+    }
+
+    @Nested
+    @DisplayName("랭킹 재구성 테스트")
+    class RebuildTest {
+
+        private final AtomicReference<String> token = new AtomicReference<>();
+
+        @Test
+        @DisplayName("성공: 취소되지 않은 주문의 판매량으로 랭킹을 교체해야 한다")
+        void success() {
+            // given
+            acquireRebuildMarker();
+            givenSnapshot(Map.of(1L, 5L, 2L, 0L), Map.of());
+            given(redisService.getListValues("RANK:SALES:REBUILD:JOURNAL")).willReturn(List.of());
+            given(redisService.executeScript(any(), eq(SWAP_KEYS), anyList())).willReturn(1L);
+
+            // when
+            salesRankingService.rebuild();
+
+            // then
+            verify(redisService).storeSortedSet(eq("RANK:SALES:REBUILD:TEMP"), eq(Map.of("1", 5.0)),
+                    any(Duration.class));
+            verify(redisService).executeScript(any(), eq(SWAP_KEYS), eq(List.of(token.get(), "0")));
+        }
+
+        @Test
+        @DisplayName("성공: 재구성 중 기록된 주문 중 스냅샷에 없는 주문만 더해야 한다")
+        void success_applyJournalNotInSnapshot() {
+            // given
+            acquireRebuildMarker();
+            givenSnapshot(Map.of(1L, 5L), Map.of(10L, OrderStatus.COMPLETED));
+            given(redisService.getListValues("RANK:SALES:REBUILD:JOURNAL")).willAnswer(invocation -> List.of(
+                    token.get() + "|10|0|1:2",   // 스냅샷에 이미 포함된 주문
+                    token.get() + "|11|0|3:4",   // 스냅샷 이후 주문
+                    token.get() + "|10|1|1:-2",  // 스냅샷 이후 취소
+                    "stale|12|0|3:100"));        // 이전 재구성의 기록
+            given(redisService.executeScript(any(), eq(SWAP_KEYS), anyList())).willReturn(1L);
+
+            // when
+            salesRankingService.rebuild();
+
+            // then
+            verify(redisService).storeSortedSet(eq("RANK:SALES:REBUILD:TEMP"), eq(Map.of("1", 3.0, "3", 4.0)),
+                    any(Duration.class));
+            verify(redisService).executeScript(any(), eq(SWAP_KEYS), eq(List.of(token.get(), "4")));
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드가 재구성 중이면 건너뛰어야 한다")
+        void success_skipWhenRebuilding() {
+            // given
+            given(redisService.setValuesIfAbsent(eq("RANK:SALES:REBUILD"), anyString(), any(Duration.class)))
+                    .willReturn(false);
+
+            // when
+            salesRankingService.rebuild();
+
+            // then
+            verify(salesSnapshotReader, never()).read(any());
+            verify(redisService, never()).storeSortedSet(anyString(), anyMap(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("성공: 랭킹 키가 이미 있으면 재구성하지 않아야 한다")
+        void success_skipWhenExists() {
+            // given
+            given(redisService.hasKey("RANK:SALES")).willReturn(true);
+
+            // when
+            salesRankingService.initialize();
+
+            // then
+            verify(salesSnapshotReader, never()).read(any());
+            verify(redisService, never()).storeSortedSet(anyString(), anyMap(), any(Duration.class));
+        }
+
+        private void acquireRebuildMarker() {
+            given(redisService.setValuesIfAbsent(eq("RANK:SALES:REBUILD"), anyString(), any(Duration.class)))
+                    .willAnswer(invocation -> {
+                        token.set(invocation.getArgument(1));
+                        return true;
+                    });
+        }
+
+        private void givenSnapshot(Map<Long, Long> soldQuantities, Map<Long, OrderStatus> orderStatuses) {
+            given(salesSnapshotReader.read(any())).willAnswer(invocation -> {
+                invocation.<Supplier<Collection<Long>>>getArgument(0).get();
+                return new SalesSnapshot(soldQuantities, orderStatuses);
+            });
+        }
+    }
+}
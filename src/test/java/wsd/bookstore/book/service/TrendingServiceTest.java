@@ -0,0 +1,170 @@
+package wsd.bookstore.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import wsd.bookstore.book.event.BookActivityEvent;
+import wsd.bookstore.book.event.BookActivityType;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.order.event.OrderCompletedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    private static final long HOUR = 3600;
+
+    @InjectMocks
+    private TrendingService trendingService;
+
+    @Mock
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(trendingService, "halfLifeHours", 24.0);
+    }
+
+    @Nested
+    @DisplayName("점수 반영 테스트")
+    class RecordTest {
+
+        @Test
+        @DisplayName("성공: 활동 가중치가 큰 도서가 먼저 조회되어야 한다")
+        void success_weight() {
+            // when
+            trendingService.onBookActivity(new BookActivityEvent(1L, BookActivityType.WISHLIST));
+            trendingService.onBookActivity(new BookActivityEvent(2L, BookActivityType.FAVORITE));
+            trendingService.onOrderCompleted(new OrderCompletedEvent(1L, 1L, Map.of(3L, 2), null));
+
+            // then
+            assertThat(trendingService.getTopBookIds(3)).containsExactly(3L, 2L, 1L);
+            assertThat(trendingService.getTopBookIds(1)).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("성공: 오래된 활동은 감쇠되어 최근 활동보다 낮은 점수를 가져야 한다")
+        void success_decay() {
+            // given
+            long now = Instant.now().getEpochSecond();
+
+            // when
+            trendingService.record(1L, 5.0, now - 48 * HOUR); // 반감기 2회 → 1.25
+            trendingService.record(2L, 2.0, now);
+
+            // then
+            assertThat(trendingService.getTopBookIds(2)).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("성공: 기준 시각을 옮길 때 충분히 감쇠된 도서는 정리되어야 한다")
+        void success_rebase() {
+            // given
+            long now = Instant.now().getEpochSecond();
+            trendingService.record(1L, 3.0, now);
+            trendingService.record(2L, 2.0, now);
+
+            // when (반감기 24시간 기준 지수 50 을 넘는 시점의 이벤트)
+            trendingService.record(3L, 1.0, now + 1800 * HOUR);
+
+            // then
+            assertThat(trendingService.getTopBookIds(3)).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 테스트")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("성공: 노드별 스냅샷을 현재 기준 시각으로 환산한 평균으로 복원해야 한다")
+        @SuppressWarnings("unchecked")
+        void success_restore() {
+            // given
+            long landmark = (long) ReflectionTestUtils.getField(trendingService, "landmarkEpochSecond");
+            given(redisService.scanKeys("TREND:SNAPSHOT:*"))
+                    .willReturn(List.of("TREND:SNAPSHOT:a", "TREND:SNAPSHOT:b"));
+            given(redisService.multiGetValues(List.of("TREND:SNAPSHOT:a", "TREND:SNAPSHOT:b")))
+                    .willReturn(List.of(
+                            landmark + ";1=4.0,2=1.0,",
+                            (landmark - 24 * HOUR) + ";2=8.0,")); // 반감기 1회 전 기준 → 4.0
+
+            // when
+            trendingService.restore();
+
+            // then
+            Map<Long, Double> scores = (Map<Long, Double>) ReflectionTestUtils.getField(trendingService, "scores");
+            assertThat(scores.get(1L)).isCloseTo(2.0, within(1e-9));
+            assertThat(scores.get(2L)).isCloseTo(2.5, within(1e-9));
+            assertThat(trendingService.getTopBookIds(2)).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("성공: 자신의 키와 점수가 없는 스냅샷은 복원 평균에서 제외해야 한다")
+        @SuppressWarnings("unchecked")
+        void success_restoreSkipsOwnAndEmptySnapshots() {
+            // given
+            long landmark = (long) ReflectionTestUtils.getField(trendingService, "landmarkEpochSecond");
+            String ownKey = "TREND:SNAPSHOT:" + ReflectionTestUtils.getField(trendingService, "nodeId");
+            given(redisService.scanKeys("TREND:SNAPSHOT:*"))
+                    .willReturn(List.of(ownKey, "TREND:SNAPSHOT:a", "TREND:SNAPSHOT:b"));
+            given(redisService.multiGetValues(List.of("TREND:SNAPSHOT:a", "TREND:SNAPSHOT:b")))
+                    .willReturn(List.of(landmark + ";1=4.0,", landmark + ";"));
+
+            // when
+            trendingService.restore();
+
+            // then
+            Map<Long, Double> scores = (Map<Long, Double>) ReflectionTestUtils.getField(trendingService, "scores");
+            assertThat(scores.get(1L)).isCloseTo(4.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("성공: 복원 전에는 스냅샷을 저장하지 않아야 한다")
+        void success_skipSnapshotBeforeRestore() {
+            // given
+            trendingService.onBookActivity(new BookActivityEvent(7L, BookActivityType.REVIEW));
+
+            // when
+            trendingService.snapshot();
+
+            // then
+            verify(redisService, never()).setValues(anyString(), anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("성공: 현재 점수를 기준 시각과 함께 노드별 키에 저장해야 한다")
+        void success_snapshot() {
+            // given
+            trendingService.restore();
+            trendingService.onBookActivity(new BookActivityEvent(7L, BookActivityType.REVIEW));
+
+            // when
+            trendingService.snapshot();
+
+            // then
+            verify(redisService).setValues(startsWith("TREND:SNAPSHOT:"), contains(";7="), eq(Duration.ofHours(24)));
+            assertThat(trendingService.getTopBookIds(1)).isEqualTo(List.of(7L));
+        }
+    }
+}
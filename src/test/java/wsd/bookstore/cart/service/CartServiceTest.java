@@ -32,6 +32,7 @@ import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.entity.UserRole;
+import wsd.bookstore.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class CartServiceTest {
@@ -48,6 +49,9 @@ class CartServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Nested
     @DisplayName("장바구니 조회 테스트")
     class GetMyCartTest {
@@ -57,11 +61,12 @@ class CartServiceTest {
         void success_noCart() {
             // given
             User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
 
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.empty());
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.empty());
 
             // when
-            CartResponse response = cartService.getMyCart(user);
+            CartResponse response = cartService.getMyCart(user.getId());
 
             // then
             assertThat(response).isNotNull();
@@ -79,11 +84,11 @@ class CartServiceTest {
 
             CartItemResponse itemResponse = new CartItemResponse(1L, "Title", 10000L, 2, java.time.LocalDateTime.now());
 
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
             given(cartRepository.findCartItems(user.getId())).willReturn(List.of(itemResponse));
 
             // when
-            CartResponse response = cartService.getMyCart(user);
+            CartResponse response = cartService.getMyCart(user.getId());
 
             // then
             assertThat(response).isNotNull();
@@ -114,7 +119,8 @@ class CartServiceTest {
             Cart cart = Cart.builder().user(user).status(CartStatus.ACTIVE).build();
 
             given(bookRepository.findById(1L)).willReturn(Optional.of(book));
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.empty());
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.empty());
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
             given(cartRepository.save(any(Cart.class))).willReturn(cart);
             given(cartItemRepository.findByCartAndBook(cart, book)).willReturn(Optional.empty());
 
@@ -123,7 +129,7 @@ class CartServiceTest {
             given(cartItemRepository.save(any(CartItem.class))).willReturn(savedCartItem);
 
             // when
-            cartService.addCartItem(request, user);
+            cartService.addCartItem(request, user.getId());
 
             // then
             verify(cartItemRepository).save(any(CartItem.class));
@@ -148,11 +154,11 @@ class CartServiceTest {
             ReflectionTestUtils.setField(cartItem, "id", 1L);
 
             given(bookRepository.findById(1L)).willReturn(Optional.of(book));
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
             given(cartItemRepository.findByCartAndBook(cart, book)).willReturn(Optional.of(cartItem));
 
             // when
-            cartService.addCartItem(request, user);
+            cartService.addCartItem(request, user.getId());
 
             // then
             assertThat(cartItem.getQuantity()).isEqualTo(3);
@@ -182,11 +188,11 @@ class CartServiceTest {
             given(cartItemRepository.findById(1L)).willReturn(Optional.of(cartItem));
 
             // For getMyCart call inside updateCartItem
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
             given(cartRepository.findCartItems(user.getId())).willReturn(Collections.emptyList());
 
             // when
-            cartService.updateCartItem(1L, request, user);
+            cartService.updateCartItem(1L, request, user.getId());
 
             // then
             assertThat(cartItem.getQuantity()).isEqualTo(5);
@@ -210,7 +216,7 @@ class CartServiceTest {
             given(cartItemRepository.findById(1L)).willReturn(Optional.of(cartItem));
 
             // when & then
-            assertThatThrownBy(() -> cartService.updateCartItem(1L, request, otherUser))
+            assertThatThrownBy(() -> cartService.updateCartItem(1L, request, otherUser.getId()))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
         }
@@ -234,7 +240,7 @@ class CartServiceTest {
             given(cartItemRepository.findById(1L)).willReturn(Optional.of(cartItem));
 
             // when
-            cartService.removeCartItem(1L, user);
+            cartService.removeCartItem(1L, user.getId());
 
             // then
             verify(cartItemRepository).delete(cartItem);
@@ -259,10 +265,10 @@ class CartServiceTest {
             cart.getItems().add(cartItem1);
             cart.getItems().add(cartItem2);
 
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
 
             // when
-            cartService.clearCart(user);
+            cartService.clearCart(user.getId());
 
             // then
             assertThat(cart.getItems()).isEmpty();
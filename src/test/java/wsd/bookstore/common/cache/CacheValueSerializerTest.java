@@ -0,0 +1,193 @@
+package wsd.bookstore.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import wsd.bookstore.book.response.BookSummaryResponse;
+import wsd.bookstore.book.service.BookSearchCacheService.CachedPage;
+
+class CacheValueSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final int ROUNDS = 2_000;
+
+    private final CacheValueSerializer serializer = new CacheValueSerializer(new SmileCacheValueCodec(),
+            List.of(new JsonCacheValueCodec()), COMPRESSION_THRESHOLD);
+
+    @Nested
+    @DisplayName("직렬화 테스트")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("성공: 작은 값은 압축하지 않고 원래 값으로 복원해야 한다")
+        void success_smallValue() {
+            // given
+            List<BookSummaryResponse> books = books(1);
+
+            // when
+            byte[] bytes = serializer.serialize(books);
+            Object restored = serializer.deserialize(bytes);
+
+            // then
+            assertThat(bytes[3]).isZero();
+            assertThat(restored).usingRecursiveComparison().isEqualTo(books);
+        }
+
+        @Test
+        @DisplayName("성공: 임계값보다 큰 값은 LZ4 로 압축하고 원래 값으로 복원해야 한다")
+        void success_compressedValue() {
+            // given
+            CachedPage page = new CachedPage(books(100), 1_234L);
+
+            // when
+            byte[] bytes = serializer.serialize(page);
+            Object restored = serializer.deserialize(bytes);
+
+            // then
+            assertThat(bytes[3]).isEqualTo((byte) 1);
+            assertThat(restored).isInstanceOf(CachedPage.class);
+            assertThat(restored).usingRecursiveComparison().isEqualTo(page);
+        }
+
+        @Test
+        @DisplayName("성공: 미리 갱신 캐시 값과 숫자 값을 원래 타입으로 복원해야 한다")
+        void success_wrappedValues() {
+            // given
+            RefreshableValue wrapped = new RefreshableValue(books(3), 1_000L, 25L, 61_000L);
+
+            // when
+            Object restoredWrapped = serializer.deserialize(serializer.serialize(wrapped));
+            Object restoredCount = serializer.deserialize(serializer.serialize(42L));
+
+            // then
+            assertThat(restoredWrapped).usingRecursiveComparison().isEqualTo(wrapped);
+            assertThat(restoredCount).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("성공: 헤더가 없는 이전 JSON 형식 값도 읽어야 한다")
+        void success_legacyJson() {
+            // given
+            byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(new ArrayList<>(List.of("a", "b")));
+
+            // when
+            Object restored = serializer.deserialize(legacy);
+
+            // then
+            assertThat(restored).isEqualTo(List.of("a", "b"));
+        }
+    }
+
+    @Nested
+    @DisplayName("호환되지 않는 값 테스트")
+    class IncompatibleTest {
+
+        @Test
+        @DisplayName("성공: 스키마 버전이 다른 값은 미스(null)로 처리해야 한다")
+        void success_otherSchemaVersion() {
+            // given
+            byte[] bytes = serializer.serialize(books(1));
+            bytes[1] = (byte) (CacheValueSerializer.SCHEMA_VERSION + 1);
+
+            // when
+            Object restored = serializer.deserialize(bytes);
+
+            // then
+            assertThat(restored).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 손상된 값은 예외 없이 미스(null)로 처리해야 한다")
+        void success_corrupted() {
+            // given
+            byte[] bytes = serializer.serialize(books(1));
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+            // when
+            Object restored = serializer.deserialize(truncated);
+
+            // then
+            assertThat(restored).isNull();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 검색 결과 페이지 캐시 값의 크기와 인코딩/디코딩 시간을 JSON 직렬화기와 비교한다")
+    void benchmark_againstJson(TestReporter testReporter) {
+        // 기존 직렬화기는 LocalDateTime 과 생성자 기반 DTO 를 처리하지 못하므로 같은 모듈을 등록한 JSON 과 비교
+        CachedPage page = new CachedPage(mutableBooks(20), 5_000L);
+        ObjectMapper jsonMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new ParameterNamesModule())
+                .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+        jsonMapper.activateDefaultTyping(jsonMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(jsonMapper);
+        CacheValueSerializer uncompressed = new CacheValueSerializer(new SmileCacheValueCodec(), List.of(),
+                Integer.MAX_VALUE);
+
+        byte[] jsonBytes = report(testReporter, "json", json, page);
+        report(testReporter, "smile", uncompressed, page);
+        byte[] compactBytes = report(testReporter, "smile+lz4", serializer, page);
+
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    private byte[] report(TestReporter testReporter, String name, RedisSerializer<Object> redisSerializer,
+            Object value) {
+        byte[] bytes = redisSerializer.serialize(value);
+        long[] encode = measure(() -> redisSerializer.serialize(value));
+        long[] decode = measure(() -> redisSerializer.deserialize(bytes));
+        testReporter.publishEntry(String.format("%-10s %6d bytes, encode p50 %.1f us, decode p50 %.1f us", name,
+                bytes.length, encode[ROUNDS / 2] / 1e3, decode[ROUNDS / 2] / 1e3));
+        return bytes;
+    }
+
+    private long[] measure(Runnable operation) {
+        for (int i = 0; i < ROUNDS; i++) {
+            operation.run(); // warm-up
+        }
+        long[] latencies = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    // 기존 JSON 직렬화기는 JDK 불변 컬렉션을 복원하지 못하므로 비교용 값은 ArrayList 로 구성
+    private static List<BookSummaryResponse> mutableBooks(int count) {
+        List<BookSummaryResponse> books = new ArrayList<>();
+        for (BookSummaryResponse book : books(count)) {
+            books.add(book.withAuthors(new ArrayList<>(book.getAuthors())));
+        }
+        return books;
+    }
+
+    private static List<BookSummaryResponse> books(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> new BookSummaryResponse((long) id, "97911622442" + String.format("%02d", id % 100),
+                        "Effective Java " + id, 36_000L, LocalDateTime.of(2018, 11, 1, 0, 0), "인사이트",
+                        List.of("조슈아 블로크")))
+                .toList();
+    }
+}
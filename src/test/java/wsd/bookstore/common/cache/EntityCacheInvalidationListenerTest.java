@@ -0,0 +1,177 @@
+package wsd.bookstore.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.book.entity.Category;
+
+class EntityCacheInvalidationListenerTest {
+
+    private CacheManager cacheManager;
+    private EntityCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("categories", "bookCounts", "bestSellers");
+        EntityCacheDependencies dependencies = new EntityCacheDependencies()
+                .evictOn(Category.class, "categories", category -> "all")
+                .clearOn(Category.class, "bookCounts");
+        listener = new EntityCacheInvalidationListener(cacheManager, dependencies);
+
+        cache("categories").put("all", "categories");
+        cache("bookCounts").put("condition-1", 10L);
+        cache("bestSellers").put("WEEKLY:10", "books");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(listener);
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 밖 변경 테스트")
+    class WithoutTransactionTest {
+
+        @Test
+        @DisplayName("성공: 트랜잭션이 없으면 의존 캐시를 즉시 무효화해야 한다")
+        void success_immediate() {
+            // when
+            listener.onPostInsert(insertEvent(new Category("컴퓨터/IT")));
+
+            // then
+            assertThat(cache("categories").get("all")).isNull();
+            assertThat(cache("bookCounts").get("condition-1")).isNull();
+            assertThat(cache("bestSellers").get("WEEKLY:10")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공: 의존 캐시가 없는 엔티티는 무시해야 한다")
+        void success_unrelatedEntity() {
+            // when
+            listener.onPostInsert(insertEvent("not-an-entity"));
+
+            // then
+            assertThat(cache("categories").get("all")).isNotNull();
+            assertThat(cache("bookCounts").get("condition-1")).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안 변경 테스트")
+    class WithinTransactionTest {
+
+        @BeforeEach
+        void beginTransaction() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @Test
+        @DisplayName("성공: 커밋 이후에 한 번에 무효화해야 한다")
+        void success_afterCommit() {
+            // given
+            Category category = new Category("컴퓨터/IT");
+            listener.onPostInsert(insertEvent(category));
+            listener.onPostUpdate(updateEvent(category));
+
+            // when
+            boolean evictedBeforeCommit = cache("categories").get("all") == null;
+            complete(true);
+
+            // then
+            assertThat(evictedBeforeCommit).isFalse();
+            assertThat(cache("categories").get("all")).isNull();
+            assertThat(cache("bookCounts").get("condition-1")).isNull();
+            assertThat(TransactionSynchronizationManager.getResource(listener)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 같은 캐시 항목은 트랜잭션당 한 번만 무효화해야 한다")
+        void success_deduplicate() {
+            // given
+            Cache categories = mock(Cache.class);
+            CacheManager mockCacheManager = mock(CacheManager.class);
+            given(mockCacheManager.getCache("categories")).willReturn(categories);
+            EntityCacheInvalidationListener dedupListener = new EntityCacheInvalidationListener(mockCacheManager,
+                    new EntityCacheDependencies().evictOn(Category.class, "categories", category -> "all"));
+
+            Category category = new Category("컴퓨터/IT");
+            dedupListener.onPostInsert(insertEvent(category));
+            dedupListener.onPostUpdate(updateEvent(category));
+            dedupListener.onPostDelete(deleteEvent(category));
+
+            // when
+            complete(true);
+
+            // then
+            verify(categories, times(1)).evict("all");
+            TransactionSynchronizationManager.unbindResourceIfPossible(dedupListener);
+        }
+
+        @Test
+        @DisplayName("성공: 롤백되면 무효화하지 않아야 한다")
+        void success_rollback() {
+            // given
+            listener.onPostDelete(deleteEvent(new Category("컴퓨터/IT")));
+
+            // when
+            complete(false);
+
+            // then
+            assertThat(cache("categories").get("all")).isNotNull();
+            assertThat(cache("bookCounts").get("condition-1")).isNotNull();
+            assertThat(TransactionSynchronizationManager.getResource(listener)).isNull();
+        }
+    }
+
+    private void complete(boolean committed) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (committed) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(committed
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static PostInsertEvent insertEvent(Object entity) {
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        given(event.getEntity()).willReturn(entity);
+        return event;
+    }
+
+    private static PostUpdateEvent updateEvent(Object entity) {
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        given(event.getEntity()).willReturn(entity);
+        return event;
+    }
+
+    private static PostDeleteEvent deleteEvent(Object entity) {
+        PostDeleteEvent event = mock(PostDeleteEvent.class);
+        given(event.getEntity()).willReturn(entity);
+        return event;
+    }
+}
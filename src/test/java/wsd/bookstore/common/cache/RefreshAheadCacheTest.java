@@ -0,0 +1,217 @@
+package wsd.bookstore.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshAheadCacheTest {
+
+    @Mock
+    private CacheLoadLock loadLock;
+
+    private ConcurrentMapCache delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("bestSellers");
+    }
+
+    private RefreshAheadCache cache(double beta) {
+        return new RefreshAheadCache(delegate, new RefreshAheadSpec(Duration.ofMinutes(1), beta), loadLock,
+                Runnable::run, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("미스 계산 테스트")
+    class LoadTest {
+
+        @Test
+        @DisplayName("성공: 미스는 한 번 계산해 저장하고 이후 조회는 저장된 값을 반환해야 한다")
+        void success_loadOnce() {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn("token");
+            RefreshAheadCache cache = cache(0.0);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            String first = cache.get("WEEKLY:10", () -> "books-" + calls.incrementAndGet());
+            String second = cache.get("WEEKLY:10", () -> "books-" + calls.incrementAndGet());
+
+            // then
+            assertThat(first).isEqualTo("books-1");
+            assertThat(second).isEqualTo("books-1");
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(delegate.get("WEEKLY:10").get()).isInstanceOf(RefreshableValue.class);
+            verify(loadLock).unlock("bestSellers", "WEEKLY:10", "token");
+        }
+
+        @Test
+        @DisplayName("성공: 같은 키의 동시 미스는 하나의 계산으로 합쳐야 한다")
+        void success_collapseConcurrentMisses() throws Exception {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn("token");
+            RefreshAheadCache cache = cache(0.0);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("WEEKLY:10", () -> {
+                        calls.incrementAndGet();
+                        Thread.sleep(200);
+                        return "books";
+                    });
+                }));
+            }
+            start.countDown();
+            List<String> values = new ArrayList<>();
+            for (Future<String> result : results) {
+                values.add(result.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(values).containsOnly("books");
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드가 계산 중이면 계산하지 않고 그 결과를 기다려야 한다")
+        void success_waitForOtherNode() {
+            // given
+            long now = System.currentTimeMillis();
+            given(loadLock.tryLock(anyString(), anyString())).willAnswer(invocation -> {
+                delegate.put("WEEKLY:10", new RefreshableValue("other-node", now, 10, now + 60_000));
+                return null;
+            });
+            given(loadLock.getLease()).willReturn(Duration.ofSeconds(1));
+            RefreshAheadCache cache = cache(0.0);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            String value = cache.get("WEEKLY:10", () -> "books-" + calls.incrementAndGet());
+
+            // then
+            assertThat(value).isEqualTo("other-node");
+            assertThat(calls.get()).isZero();
+            verify(loadLock, never()).unlock(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공: 논리 만료 시각이 지난 값은 다시 계산해야 한다")
+        void success_reloadExpired() {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn("token");
+            long now = System.currentTimeMillis();
+            delegate.put("WEEKLY:10", new RefreshableValue("stale", now - 120_000, 10, now - 60_000));
+            RefreshAheadCache cache = cache(0.0);
+
+            // when
+            String value = cache.get("WEEKLY:10", () -> "fresh");
+
+            // then
+            assertThat(value).isEqualTo("fresh");
+            assertThat(cache.get("WEEKLY:10").get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("실패: 계산이 실패하면 ValueRetrievalException 을 던지고 저장하지 않아야 한다")
+        void fail_loaderThrows() {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn("token");
+            RefreshAheadCache cache = cache(0.0);
+
+            // when & then
+            assertThatThrownBy(() -> cache.get("WEEKLY:10", () -> {
+                throw new IllegalStateException("집계 실패");
+            }))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(delegate.get("WEEKLY:10")).isNull();
+            verify(loadLock).unlock("bestSellers", "WEEKLY:10", "token");
+        }
+    }
+
+    @Nested
+    @DisplayName("미리 갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("성공: 조기 만료로 판단되면 기존 값을 반환하고 백그라운드에서 갱신해야 한다")
+        void success_refreshAhead() {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn("token");
+            long now = System.currentTimeMillis();
+            delegate.put("WEEKLY:10", new RefreshableValue("old", now, 100, now + 60_000));
+            RefreshAheadCache cache = cache(1e12);
+
+            // when
+            String value = cache.get("WEEKLY:10", () -> "new");
+
+            // then
+            assertThat(value).isEqualTo("old");
+            assertThat(cache.get("WEEKLY:10").get()).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드가 갱신 중이면 갱신을 건너뛰어야 한다")
+        void success_skipWhenOtherNodeRefreshing() {
+            // given
+            given(loadLock.tryLock(anyString(), anyString())).willReturn(null);
+            long now = System.currentTimeMillis();
+            delegate.put("WEEKLY:10", new RefreshableValue("old", now, 100, now + 60_000));
+            RefreshAheadCache cache = cache(1e12);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            String value = cache.get("WEEKLY:10", () -> "new-" + calls.incrementAndGet());
+
+            // then
+            assertThat(value).isEqualTo("old");
+            assertThat(calls.get()).isZero();
+            assertThat(cache.get("WEEKLY:10").get()).isEqualTo("old");
+        }
+
+        @Test
+        @DisplayName("성공: 만료가 가깝고 계산이 오래 걸릴수록 조기 갱신으로 판단해야 한다")
+        void success_shouldRefresh() {
+            // given
+            long now = 1_000_000;
+            RefreshableValue farFromExpiry = new RefreshableValue("v", now, 100, now + 60_000);
+            RefreshableValue nearExpiry = new RefreshableValue("v", now, 100, now + 50);
+
+            // when & then
+            assertThat(RefreshAheadCache.shouldRefresh(farFromExpiry, now, 1.0, 0.5)).isFalse();
+            assertThat(RefreshAheadCache.shouldRefresh(nearExpiry, now, 1.0, 0.5)).isTrue();
+            assertThat(RefreshAheadCache.shouldRefresh(nearExpiry, now, 0.0, 0.5)).isFalse();
+        }
+    }
+}
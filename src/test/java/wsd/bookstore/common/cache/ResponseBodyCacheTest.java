@@ -0,0 +1,175 @@
+package wsd.bookstore.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import wsd.bookstore.common.response.ApiResponse;
+
+class ResponseBodyCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseBodyCache responseBodyCache;
+    private AtomicInteger serializeCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        responseBodyCache = new ResponseBodyCache(new ObjectMapper(), 1024 * 1024, Duration.ofMinutes(1),
+                meterRegistry);
+        serializeCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("응답 바이트 캐시 테스트")
+    class RespondTest {
+
+        @Test
+        @DisplayName("성공: 원본 데이터가 같으면 직렬화하지 않고 저장된 바이트와 ETag 를 반환해야 한다")
+        void success_hit() {
+            // given
+            List<String> categories = List.of("컴퓨터/IT", "소설");
+
+            // when
+            ResponseEntity<byte[]> first = respond(new MockHttpServletRequest(), categories);
+            ResponseEntity<byte[]> second = respond(new MockHttpServletRequest(), categories);
+
+            // then
+            assertThat(serializeCount).hasValue(1);
+            assertThat(second.getBody()).isSameAs(first.getBody());
+            assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag()).startsWith("\"");
+            assertThat(new String(second.getBody(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"code\":\"SUCCESS\",\"message\":\"조회 성공\",\"data\":[\"컴퓨터/IT\",\"소설\"]}");
+            assertThat(meterRegistry.get("response.cache.requests").tag("result", "hit").counter().count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 원본 데이터가 바뀌면 다시 직렬화해야 한다")
+        void success_sourceChanged() {
+            // when
+            ResponseEntity<byte[]> first = respond(new MockHttpServletRequest(), List.of("소설"));
+            ResponseEntity<byte[]> second = respond(new MockHttpServletRequest(), List.of("소설", "에세이"));
+
+            // then
+            assertThat(serializeCount).hasValue(2);
+            assertThat(second.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("성공: gzip 을 허용하는 요청에는 미리 압축한 본문을 다른 ETag 로 반환해야 한다")
+        void success_gzip() throws IOException {
+            // given
+            List<String> categories = IntStream.range(0, 100).mapToObj(i -> "카테고리 " + i).toList();
+            MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+            gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+
+            // when
+            ResponseEntity<byte[]> plain = respond(new MockHttpServletRequest(), categories);
+            ResponseEntity<byte[]> gzip = respond(gzipRequest, categories);
+
+            // then
+            assertThat(serializeCount).hasValue(1);
+            assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(gzip.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+            assertThat(gzip.getBody().length).isLessThan(plain.getBody().length);
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+                assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 작은 본문은 gzip 을 허용해도 압축하지 않고 반환해야 한다")
+        void success_smallBodyNotCompressed() {
+            // given
+            MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+            gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+            // when
+            ResponseEntity<byte[]> response = respond(gzipRequest, List.of("소설"));
+
+            // then
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    @Nested
+    @DisplayName("Accept-Encoding 해석 테스트")
+    class AcceptsGzipTest {
+
+        @Test
+        @DisplayName("성공: gzip 이 0 보다 큰 q 값으로 허용되면 압축본을 사용해야 한다")
+        void success() {
+            // when & then
+            assertThat(ResponseBodyCache.acceptsGzip("gzip")).isTrue();
+            assertThat(ResponseBodyCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+            assertThat(ResponseBodyCache.acceptsGzip("br;q=1.0, *;q=0.1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패: gzip 이 q=0 으로 거부되거나 허용 목록에 없으면 압축본을 사용하지 않아야 한다")
+        void fail_refused() {
+            // when & then
+            assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(ResponseBodyCache.acceptsGzip("identity, gzip; q=0.000")).isFalse();
+            assertThat(ResponseBodyCache.acceptsGzip("*, gzip;q=0")).isFalse();
+            assertThat(ResponseBodyCache.acceptsGzip("br, deflate")).isFalse();
+            assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패: gzip;q=0 요청에는 압축하지 않은 본문을 반환해야 한다")
+        void fail_respondPlain() {
+            // given
+            List<String> categories = IntStream.range(0, 100).mapToObj(i -> "카테고리 " + i).toList();
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+
+            // when
+            ResponseEntity<byte[]> response = respond(request, categories);
+
+            // then
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 캐싱하지 않는 응답도 같은 형식으로 직렬화하고 저장하지 않아야 한다")
+    void success_respondUncached() {
+        // given
+        ApiResponse<List<String>> body = ApiResponse.success(List.of("소설"), "조회 성공");
+
+        // when
+        ResponseEntity<byte[]> first = responseBodyCache.respondUncached(new MockHttpServletRequest(), body);
+        ResponseEntity<byte[]> second = responseBodyCache.respondUncached(new MockHttpServletRequest(), body);
+
+        // then
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"code\":\"SUCCESS\",\"message\":\"조회 성공\",\"data\":[\"소설\"]}");
+        assertThat(second.getBody()).isNotSameAs(first.getBody());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+    }
+
+    private ResponseEntity<byte[]> respond(MockHttpServletRequest request, List<String> source) {
+        return responseBodyCache.respond(request, "categories|all", source, () -> {
+            serializeCount.incrementAndGet();
+            return ApiResponse.success(source, "조회 성공");
+        });
+    }
+}
@@ -0,0 +1,156 @@
+package wsd.bookstore.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("categories");
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager,
+                Map.of("categories", new LocalCacheSpec(10, Duration.ofMinutes(1))),
+                new LocalCacheSpec(10, Duration.ofSeconds(1)), invalidationPublisher, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("계층별 조회 테스트")
+    class GetTest {
+
+        @Test
+        @DisplayName("성공: L2 에서 찾은 값은 L1 에 채워 다음 조회부터 L1 에서 반환해야 한다")
+        void success_promoteToLocal() {
+            // given
+            remoteCacheManager.getCache("categories").put("all", "value");
+            Cache cache = cacheManager.getCache("categories");
+
+            // when
+            Object first = cache.get("all", String.class);
+            remoteCacheManager.getCache("categories").put("all", "changed-without-broadcast");
+            Object second = cache.get("all", String.class);
+
+            // then
+            assertThat(first).isEqualTo("value");
+            assertThat(second).isEqualTo("value");
+            assertThat(count("l1", "hit")).isEqualTo(1.0);
+            assertThat(count("l1", "miss")).isEqualTo(1.0);
+            assertThat(count("l2", "hit")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("cache.tier.hit.ratio").tags("cache", "categories", "tier", "l1")
+                    .gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("성공: 두 계층에 모두 없으면 로더 결과를 두 계층에 저장해야 한다")
+        void success_loader() {
+            // given
+            Cache cache = cacheManager.getCache("categories");
+
+            // when
+            String loaded = cache.get("all", () -> "loaded");
+
+            // then
+            assertThat(loaded).isEqualTo("loaded");
+            assertThat(remoteCacheManager.getCache("categories").get("all", String.class)).isEqualTo("loaded");
+            assertThat(cache.get("all", String.class)).isEqualTo("loaded");
+            assertThat(count("l2", "miss")).isEqualTo(1.0);
+            assertThat(count("l1", "hit")).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("성공: 저장과 삭제는 두 계층에 반영하고 다른 노드에 알려야 한다")
+        void success_broadcast() {
+            // given
+            Cache cache = cacheManager.getCache("categories");
+
+            // when
+            cache.put("all", "value");
+            cache.evict("all");
+            cache.clear();
+
+            // then
+            assertThat(remoteCacheManager.getCache("categories").get("all")).isNull();
+            assertThat(cache.get("all")).isNull();
+            verify(invalidationPublisher, times(2)).publishEvict("categories", "all");
+            verify(invalidationPublisher).publishClear("categories");
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드의 무효화 메시지를 받으면 L1 항목만 지워야 한다")
+        void success_remoteInvalidation() {
+            // given
+            given(invalidationPublisher.getNodeId()).willReturn("node-a");
+            Cache cache = cacheManager.getCache("categories");
+            cache.put("all", "old");
+            remoteCacheManager.getCache("categories").put("all", "new");
+
+            // when
+            cacheManager.onInvalidation(new CacheInvalidationMessage("node-b", "categories", "all"));
+
+            // then
+            assertThat(cache.get("all", String.class)).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("성공: 자신이 보낸 무효화 메시지는 무시해야 한다")
+        void success_ignoreOwnMessage() {
+            // given
+            given(invalidationPublisher.getNodeId()).willReturn("node-a");
+            Cache cache = cacheManager.getCache("categories");
+            cache.put("all", "mine");
+            remoteCacheManager.getCache("categories").put("all", "other");
+
+            // when
+            cacheManager.onInvalidation(new CacheInvalidationMessage("node-a", "categories", null));
+
+            // then
+            assertThat(cache.get("all", String.class)).isEqualTo("mine");
+        }
+
+        @Test
+        @DisplayName("성공: 무효화 메시지는 키에 구분자가 있어도 그대로 복원되어야 한다")
+        void success_messageCodec() {
+            // given
+            CacheInvalidationMessage evict = new CacheInvalidationMessage("node-a", "bookSearches", "v1|k=a\nb");
+            CacheInvalidationMessage clear = new CacheInvalidationMessage("node-a", "bookCounts", null);
+
+            // when & then
+            assertThat(CacheInvalidationMessage.decode(evict.encode())).isEqualTo(evict);
+            assertThat(CacheInvalidationMessage.decode(clear.encode())).isEqualTo(clear);
+        }
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tags("cache", "categories", "tier", tier, "result", result)
+                .counter().count();
+    }
+}
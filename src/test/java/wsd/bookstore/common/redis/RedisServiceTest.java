@@ -99,6 +99,26 @@ class RedisServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("값 증가 테스트")
+    class IncrementValueTest {
+
+        @Test
+        @DisplayName("성공: 키의 값을 1 증가시키고 증가된 값을 반환한다")
+        void success() {
+            // given
+            String key = "counter";
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.increment(key)).willReturn(3L);
+
+            // when
+            long result = redisService.incrementValue(key);
+
+            // then
+            assertThat(result).isEqualTo(3L);
+        }
+    }
+
     @Nested
     @DisplayName("값 삭제 테스트")
     class DeleteValuesTest {
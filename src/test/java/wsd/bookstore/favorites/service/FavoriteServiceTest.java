@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Book;
 import wsd.bookstore.book.repository.BookRepository;
@@ -26,6 +27,7 @@ import wsd.bookstore.favorites.entity.Favorite;
 import wsd.bookstore.favorites.repository.FavoriteRepository;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.entity.UserRole;
+import wsd.bookstore.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class FavoriteServiceTest {
@@ -39,6 +41,12 @@ class FavoriteServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("좋아요 목록 조회 테스트")
     class GetMyFavoritesTest {
@@ -55,10 +63,10 @@ class FavoriteServiceTest {
 
             Favorite favorite = Favorite.builder().user(user).book(book).build();
 
-            given(favoriteRepository.findAllByUser(user)).willReturn(List.of(favorite));
+            given(favoriteRepository.findAllByUserId(1L)).willReturn(List.of(favorite));
 
             // when
-            List<BookSummaryResponse> result = favoriteService.getMyFavorites(user);
+            List<BookSummaryResponse> result = favoriteService.getMyFavorites(1L);
 
             // then
             assertThat(result).hasSize(1);
@@ -81,10 +89,11 @@ class FavoriteServiceTest {
             ReflectionTestUtils.setField(book, "id", bookId);
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(favoriteRepository.existsByUserAndBook(user, book)).willReturn(false);
+            given(favoriteRepository.existsByUserIdAndBook(1L, book)).willReturn(false);
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
 
             // when
-            favoriteService.addFavorite(user, bookId);
+            favoriteService.addFavorite(1L, bookId);
 
             // then
             verify(favoriteRepository).save(any(Favorite.class));
@@ -94,13 +103,12 @@ class FavoriteServiceTest {
         @DisplayName("실패: 존재하지 않는 도서를 좋아요하려고 하면 예외가 발생해야 한다")
         void fail_notFoundBook() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
 
             given(bookRepository.findById(bookId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> favoriteService.addFavorite(user, bookId))
+            assertThatThrownBy(() -> favoriteService.addFavorite(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
         }
@@ -109,18 +117,34 @@ class FavoriteServiceTest {
         @DisplayName("실패: 이미 좋아요한 도서를 다시 좋아요하려고 하면 예외가 발생해야 한다")
         void fail_duplicateFavorite() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
             Book book = Book.builder().title("Book").build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(favoriteRepository.existsByUserAndBook(user, book)).willReturn(true);
+            given(favoriteRepository.existsByUserIdAndBook(1L, book)).willReturn(true);
 
             // when & then
-            assertThatThrownBy(() -> favoriteService.addFavorite(user, bookId))
+            assertThatThrownBy(() -> favoriteService.addFavorite(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_FAVORITE);
         }
+
+        @Test
+        @DisplayName("실패: 탈퇴한 회원이 좋아요하려고 하면 예외가 발생해야 한다")
+        void fail_notFoundUser() {
+            // given
+            Long bookId = 1L;
+            Book book = Book.builder().title("Book").build();
+
+            given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
+            given(favoriteRepository.existsByUserIdAndBook(1L, book)).willReturn(false);
+            given(userRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> favoriteService.addFavorite(1L, bookId))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_USER);
+        }
     }
 
     @Nested
@@ -137,10 +161,10 @@ class FavoriteServiceTest {
             Favorite favorite = Favorite.builder().user(user).book(book).build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(favoriteRepository.findByUserAndBook(user, book)).willReturn(Optional.of(favorite));
+            given(favoriteRepository.findByUserIdAndBook(1L, book)).willReturn(Optional.of(favorite));
 
             // when
-            favoriteService.deleteFavorite(user, bookId);
+            favoriteService.deleteFavorite(1L, bookId);
 
             // then
             verify(favoriteRepository).delete(favorite);
@@ -150,13 +174,12 @@ class FavoriteServiceTest {
         @DisplayName("실패: 존재하지 않는 도서의 좋아요를 취소하려고 하면 예외가 발생해야 한다")
         void fail_notFoundBook() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
 
             given(bookRepository.findById(bookId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> favoriteService.deleteFavorite(user, bookId))
+            assertThatThrownBy(() -> favoriteService.deleteFavorite(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
         }
@@ -165,15 +188,14 @@ class FavoriteServiceTest {
         @DisplayName("실패: 좋아요하지 않은 도서의 좋아요를 취소하려고 하면 예외가 발생해야 한다")
         void fail_notFoundFavorite() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
             Book book = Book.builder().title("Book").build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(favoriteRepository.findByUserAndBook(user, book)).willReturn(Optional.empty());
+            given(favoriteRepository.findByUserIdAndBook(1L, book)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> favoriteService.deleteFavorite(user, bookId))
+            assertThatThrownBy(() -> favoriteService.deleteFavorite(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_FAVORITE);
         }
@@ -3,11 +3,16 @@ package wsd.bookstore.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,12 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.repository.BookRepository;
+import wsd.bookstore.book.service.FlashSaleStockService;
 import wsd.bookstore.cart.entity.Cart;
 import wsd.bookstore.cart.entity.CartItem;
 import wsd.bookstore.cart.entity.CartStatus;
@@ -28,7 +38,10 @@ import wsd.bookstore.cart.repository.CartRepository;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.order.entity.Order;
+import wsd.bookstore.order.entity.OrderItem;
 import wsd.bookstore.order.entity.OrderStatus;
+import wsd.bookstore.order.event.OrderCancelledEvent;
+import wsd.bookstore.order.event.OrderCompletedEvent;
 import wsd.bookstore.order.repository.OrderRepository;
 import wsd.bookstore.order.response.OrderDetailResponse;
 import wsd.bookstore.order.response.OrderSummaryResponse;
@@ -47,6 +60,15 @@ class OrderServiceTest {
     @Mock
     private CartRepository cartRepository;
 
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private FlashSaleStockService flashSaleStockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("주문 목록 조회 테스트")
     class GetMyOrdersTest {
@@ -67,12 +89,34 @@ class OrderServiceTest {
             given(orderRepository.findAllByUser_Id(user.getId(), pageable)).willReturn(page);
 
             // when
-            Page<OrderSummaryResponse> result = orderService.getMyOrders(user, pageable);
+            Page<OrderSummaryResponse> result = orderService.getMyOrders(user.getId(), pageable);
 
             // then
             assertThat(result).hasSize(1);
             assertThat(result.getContent().get(0).getId()).isEqualTo(order.getId());
         }
+
+        @Test
+        @DisplayName("성공: Slice 모드는 전체 개수 없이 다음 페이지 여부를 반환해야 한다")
+        void success_slice() {
+            // given
+            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+            Pageable pageable = PageRequest.of(0, 1);
+
+            Order order = Order.builder().user(user).totalPrice(10000L).status(OrderStatus.COMPLETED).build();
+            ReflectionTestUtils.setField(order, "id", 1L);
+            Slice<Order> slice = new SliceImpl<>(List.of(order), pageable, true);
+
+            given(orderRepository.findSliceByUser_Id(user.getId(), pageable)).willReturn(slice);
+
+            // when
+            Slice<OrderSummaryResponse> result = orderService.getMyOrderSlice(user.getId(), pageable);
+
+            // then
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.getContent().get(0).getId()).isEqualTo(order.getId());
+        }
     }
 
     @Nested
@@ -93,7 +137,7 @@ class OrderServiceTest {
             given(orderRepository.findByIdAndUser_Id(orderId, user.getId())).willReturn(Optional.of(order));
 
             // when
-            OrderDetailResponse response = orderService.getOrderDetail(orderId, user);
+            OrderDetailResponse response = orderService.getOrderDetail(orderId, user.getId());
 
             // then
             assertThat(response).isNotNull();
@@ -112,7 +156,7 @@ class OrderServiceTest {
             given(orderRepository.findByIdAndUser_Id(orderId, user.getId())).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> orderService.getOrderDetail(orderId, user))
+            assertThatThrownBy(() -> orderService.getOrderDetail(orderId, user.getId()))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ORDER);
         }
@@ -137,7 +181,8 @@ class OrderServiceTest {
             CartItem cartItem = CartItem.builder().cart(cart).book(book).quantity(2).build();
             cart.getItems().add(cartItem);
 
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(bookRepository.decreaseStock(1L, 2)).willReturn(1);
 
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
                 Order order = invocation.getArgument(0);
@@ -146,13 +191,94 @@ class OrderServiceTest {
             });
 
             // when
-            Long orderId = orderService.checkout(user);
+            Long orderId = orderService.checkout(user.getId());
 
             // then
             assertThat(orderId).isEqualTo(1L);
             assertThat(cart.getStatus()).isEqualTo(CartStatus.ORDERED);
-            assertThat(book.getStockQuantity()).isEqualTo(8); // 10 - 2
+            verify(bookRepository).decreaseStock(1L, 2);
             verify(orderRepository).save(any(Order.class));
+            verify(cartRepository).save(cart);
+            verify(eventPublisher).publishEvent(any(OrderCompletedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패: 재고가 부족하면 예외가 발생하고 주문이 저장되지 않아야 한다")
+        void fail_notEnoughStock() {
+            // given
+            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            Cart cart = Cart.builder().user(user).status(CartStatus.ACTIVE).build();
+
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(1).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+
+            CartItem cartItem = CartItem.builder().cart(cart).book(book).quantity(2).build();
+            cart.getItems().add(cartItem);
+
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(bookRepository.decreaseStock(1L, 2)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.checkout(user.getId()))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_ENOUGH_STOCK);
+            assertThat(cart.getStatus()).isEqualTo(CartStatus.ACTIVE);
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("성공: 플래시 세일 도서는 Redis 에서 예약되고 DB 재고를 직접 차감하지 않아야 한다")
+        void success_flashSale() {
+            // given
+            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            Cart cart = Cart.builder().user(user).status(CartStatus.ACTIVE).build();
+
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(10).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+
+            CartItem cartItem = CartItem.builder().cart(cart).book(book).quantity(2).build();
+            cart.getItems().add(cartItem);
+
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(flashSaleStockService.reserve(Map.of(1L, 2))).willReturn(Set.of(1L));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            orderService.checkout(user.getId());
+
+            // then
+            assertThat(cart.getStatus()).isEqualTo(CartStatus.ORDERED);
+            verify(bookRepository, never()).decreaseStock(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("실패: 재고 차감 도중 플래시 세일이 시작되면 주문이 저장되지 않아야 한다")
+        void fail_flashSaleStartedDuringCheckout() {
+            // given
+            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            Cart cart = Cart.builder().user(user).status(CartStatus.ACTIVE).build();
+
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(10).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+
+            CartItem cartItem = CartItem.builder().cart(cart).book(book).quantity(2).build();
+            cart.getItems().add(cartItem);
+
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(bookRepository.decreaseStock(1L, 2)).willReturn(1);
+            given(flashSaleStockService.findFlashSaleBookIds(Set.of(1L))).willReturn(Set.of(1L));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.checkout(user.getId()))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_CONFLICT);
+            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
@@ -164,10 +290,10 @@ class OrderServiceTest {
 
             Cart cart = Cart.builder().user(user).status(CartStatus.ACTIVE).build();
 
-            given(cartRepository.findByUserAndStatus(user, CartStatus.ACTIVE)).willReturn(Optional.of(cart));
+            given(cartRepository.findByUserIdAndStatus(user.getId(), CartStatus.ACTIVE)).willReturn(Optional.of(cart));
 
             // when & then
-            assertThatThrownBy(() -> orderService.checkout(user))
+            assertThatThrownBy(() -> orderService.checkout(user.getId()))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_CART_ITEM);
         }
@@ -191,12 +317,37 @@ class OrderServiceTest {
             given(orderRepository.findByIdAndUser_Id(orderId, user.getId())).willReturn(Optional.of(order));
 
             // when
-            orderService.cancelOrder(orderId, user);
+            orderService.cancelOrder(orderId, user.getId());
 
             // then
             assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
         }
 
+        @Test
+        @DisplayName("성공: 주문 취소 시 주문 수량만큼 재고를 복구해야 한다")
+        void success_restoreStock() {
+            // given
+            Long orderId = 1L;
+            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(8).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+
+            Order order = Order.builder().user(user).totalPrice(20000L).status(OrderStatus.COMPLETED).build();
+            ReflectionTestUtils.setField(order, "id", orderId);
+            order.getOrderItems().add(OrderItem.builder().book(book).orderPrice(10000L).quantity(2).build());
+
+            given(orderRepository.findByIdAndUser_Id(orderId, user.getId())).willReturn(Optional.of(order));
+
+            // when
+            orderService.cancelOrder(orderId, user.getId());
+
+            // then
+            verify(bookRepository).increaseStock(1L, 2);
+            verify(eventPublisher).publishEvent(any(OrderCancelledEvent.class));
+        }
+
         @Test
         @DisplayName("실패: 존재하지 않는 주문 취소 시 예외가 발생해야 한다")
         void fail_notFound() {
@@ -208,7 +359,7 @@ class OrderServiceTest {
             given(orderRepository.findByIdAndUser_Id(orderId, user.getId())).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> orderService.cancelOrder(orderId, user))
+            assertThatThrownBy(() -> orderService.cancelOrder(orderId, user.getId()))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ORDER);
         }
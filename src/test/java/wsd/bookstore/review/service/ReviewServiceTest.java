@@ -16,12 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Book;
+import wsd.bookstore.book.event.BookActivityEvent;
 import wsd.bookstore.book.repository.BookRepository;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
@@ -55,6 +59,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewLikeRepository reviewLikeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("리뷰 목록 조회 테스트")
     class GetReviewsTest {
@@ -94,6 +101,24 @@ class ReviewServiceTest {
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
         }
+
+        @Test
+        @DisplayName("성공: Slice 모드는 count 없이 리뷰 목록을 반환해야 한다")
+        void success_slice() {
+            // given
+            Long bookId = 1L;
+            Pageable pageable = PageRequest.of(0, 10);
+            Slice<ReviewResponse> slice = new SliceImpl<>(Collections.emptyList(), pageable, false);
+
+            given(bookRepository.existsById(bookId)).willReturn(true);
+            given(reviewRepository.getReviewSlice(bookId, pageable)).willReturn(slice);
+
+            // when
+            Slice<ReviewResponse> result = reviewService.getReviewSlice(bookId, pageable);
+
+            // then
+            assertThat(result).isEqualTo(slice);
+        }
     }
 
     @Nested
@@ -319,7 +344,9 @@ class ReviewServiceTest {
             Long reviewId = 1L;
 
             User user = User.builder().email("test@test.com").role(UserRole.USER).build();
-            Review review = Review.builder().user(user).build(); // owner doesn't matter for like
+            Book book = Book.builder().title("Book").price(10000L).stockQuantity(10).build();
+            ReflectionTestUtils.setField(book, "id", 1L);
+            Review review = Review.builder().user(user).book(book).build(); // owner doesn't matter for like
 
             given(reviewLikeRepository.existsByUserIdAndReviewId(userId, reviewId)).willReturn(false);
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
@@ -330,6 +357,7 @@ class ReviewServiceTest {
 
             // then
             verify(reviewLikeRepository).save(any(ReviewLike.class));
+            verify(eventPublisher).publishEvent(any(BookActivityEvent.class));
             assertThat(review.getLikeCount()).isEqualTo(1);
         }
 
@@ -0,0 +1,189 @@
+package wsd.bookstore.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+
+class BoundedPasswordEncoderTest {
+
+    private static final int CATALOG_ROUNDS = 2_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("해시 작업 위임 테스트")
+    class DelegateTest {
+
+        @Test
+        @DisplayName("성공: 전용 스레드에서 해시하고 결과를 그대로 반환해야 한다")
+        void success() {
+            // given
+            BoundedPasswordEncoder encoder = encoder(new BCryptPasswordEncoder(4), 1, 4);
+
+            // when
+            String encoded = encoder.encode("password");
+
+            // then
+            assertThat(encoder.matches("password", encoded)).isTrue();
+            assertThat(encoder.matches("other", encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 저장된 해시의 비용이 목표보다 낮으면 다시 해시가 필요하다고 판단해야 한다")
+        void success_upgradeEncoding() {
+            // given
+            String outdated = new BCryptPasswordEncoder(4).encode("password");
+            BoundedPasswordEncoder encoder = encoder(new BCryptPasswordEncoder(5), 1, 4);
+
+            // when & then
+            assertThat(encoder.upgradeEncoding(outdated)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패: 대기열이 가득 차면 기다리지 않고 429 로 거절해야 한다")
+        void fail_queueFull() throws InterruptedException {
+            // given
+            BoundedPasswordEncoder encoder = encoder(new BCryptPasswordEncoder(4), 1, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+            started.await();
+            executor.submit(() -> null); // 대기열 한 칸 채움
+
+            try {
+                // when & then
+                assertThatThrownBy(() -> encoder.encode("password"))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+                assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+                assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isEqualTo(1.0);
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 로그인 급증 중 카탈로그 처리 지연 시간을 해시 스레드 제한 유무로 비교한다")
+    void benchmark_loginSpike(TestReporter testReporter) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        String stored = bcrypt.encode("password");
+        BoundedPasswordEncoder bounded = encoder(bcrypt, Math.max(1, cores / 2), 8);
+
+        long[] baseline = measureCatalog();
+        SpikeResult direct = duringSpike(cores * 4, () -> bcrypt.matches("password", stored));
+        SpikeResult limited = duringSpike(cores * 4, () -> bounded.matches("password", stored));
+
+        testReporter.publishEntry(String.format(
+                "catalog p99: baseline %.1f us, spike(direct) %.1f us, spike(bounded) %.1f us",
+                p99(baseline) / 1e3, p99(direct.catalog()) / 1e3, p99(limited.catalog()) / 1e3));
+        testReporter.publishEntry(String.format("logins: direct %d ok, bounded %d ok / %d rejected(429)",
+                direct.completed(), limited.completed(), limited.rejected()));
+
+        assertThat(limited.completed()).isPositive();
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return new BoundedPasswordEncoder(delegate, executor, meterRegistry);
+    }
+
+    // 로그인 스레드가 해시를 반복하는 동안 카탈로그 조회에 해당하는 짧은 CPU 작업의 지연 시간을 측정
+    private SpikeResult duringSpike(int loginThreads, Runnable login) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < loginThreads; i++) {
+            Thread thread = new Thread(() -> {
+                while (running.get()) {
+                    try {
+                        login.run();
+                        completed.incrementAndGet();
+                    } catch (CustomException e) {
+                        rejected.incrementAndGet();
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Thread.sleep(200); // 급증 상태가 자리 잡을 때까지 대기
+        long[] catalog = measureCatalog();
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new SpikeResult(catalog, completed.get(), rejected.get());
+    }
+
+    private long[] measureCatalog() {
+        Random random = new Random(42);
+        int[] data = new int[2_000];
+        long[] latencies = new long[CATALOG_ROUNDS];
+        for (int i = 0; i < CATALOG_ROUNDS; i++) {
+            for (int j = 0; j < data.length; j++) {
+                data[j] = random.nextInt();
+            }
+            long startedAt = System.nanoTime();
+            Arrays.sort(data);
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long p99(long[] sortedLatencies) {
+        return sortedLatencies[(int) (sortedLatencies.length * 0.99)];
+    }
+
+    private record SpikeResult(long[] catalog, int completed, int rejected) {
+    }
+}
@@ -0,0 +1,186 @@
+package wsd.bookstore.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wsd.bookstore.common.cache.CacheInvalidationMessage;
+import wsd.bookstore.common.cache.CacheInvalidationPublisher;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.user.entity.User;
+import wsd.bookstore.user.entity.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final String NODE_ID = "this-node";
+    private static final long ACCESS_EXPIRATION = 900_000;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @Mock
+    private RedisService redisService;
+
+    private UserPrincipalCache userPrincipalCache;
+    private AtomicInteger loads;
+    private Function<Long, CustomUserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(invalidationPublisher, redisService, new SimpleMeterRegistry(),
+                ACCESS_EXPIRATION);
+        loads = new AtomicInteger();
+        loader = userId -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(createUser(userId));
+        };
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class GetTest {
+
+        @Test
+        @DisplayName("성공: 같은 회원은 처음 한 번만 조회해야 한다")
+        void success_loadOnce() {
+            // when
+            CustomUserDetails first = userPrincipalCache.get(1L, loader);
+            CustomUserDetails second = userPrincipalCache.get(1L, loader);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 변경 표시보다 먼저 읽은 항목은 다시 읽어야 한다")
+        void success_reloadStale() {
+            // given
+            String key = UserPrincipalCache.CHANGED_KEY_PREFIX + "1";
+            given(redisService.scanKeys(UserPrincipalCache.CHANGED_KEY_PREFIX + "*")).willReturn(List.of(key));
+            given(redisService.multiGetValues(List.of(key)))
+                    .willReturn(List.of(String.valueOf(System.currentTimeMillis() + 60_000)));
+            userPrincipalCache.init();
+
+            // when
+            userPrincipalCache.get(1L, loader);
+
+            // then
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(userPrincipalCache.hasChangedRecently(1L)).isTrue();
+            assertThat(userPrincipalCache.hasChangedRecently(2L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공: 무효화 후에는 다시 조회하고 다른 노드에 알려야 한다")
+        void success_evict() {
+            // given
+            userPrincipalCache.get(1L, loader);
+
+            // when
+            userPrincipalCache.evict(1L);
+            userPrincipalCache.get(1L, loader);
+
+            // then
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(userPrincipalCache.hasChangedRecently(1L)).isTrue();
+            verify(redisService).setValues(eq(UserPrincipalCache.CHANGED_KEY_PREFIX + "1"), anyString(),
+                    eq(Duration.ofMillis(ACCESS_EXPIRATION)));
+            verify(invalidationPublisher).publishEvict(UserPrincipalCache.CACHE_NAME, "1");
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션 안에서는 커밋 이후에 무효화해야 한다")
+        void success_evictAfterCommit() {
+            // given
+            userPrincipalCache.get(1L, loader);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                userPrincipalCache.evict(1L);
+                userPrincipalCache.get(1L, loader);
+                int loadsBeforeCommit = loads.get();
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+                userPrincipalCache.get(1L, loader);
+
+                // then
+                assertThat(loadsBeforeCommit).isEqualTo(1);
+                assertThat(loads.get()).isEqualTo(2);
+                verify(invalidationPublisher, times(1)).publishEvict(UserPrincipalCache.CACHE_NAME, "1");
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드의 무효화 메시지를 받으면 로컬 항목을 지워야 한다")
+        void success_remoteInvalidation() {
+            // given
+            given(invalidationPublisher.getNodeId()).willReturn(NODE_ID);
+            userPrincipalCache.get(1L, loader);
+
+            // when
+            userPrincipalCache.onInvalidation(
+                    new CacheInvalidationMessage("other-node", UserPrincipalCache.CACHE_NAME, "1"));
+            userPrincipalCache.get(1L, loader);
+
+            // then
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(userPrincipalCache.hasChangedRecently(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 자신이 보낸 메시지와 다른 캐시의 메시지는 무시해야 한다")
+        void success_ignoreOwnAndOtherCacheMessages() {
+            // given
+            given(invalidationPublisher.getNodeId()).willReturn(NODE_ID);
+            userPrincipalCache.get(1L, loader);
+
+            // when
+            userPrincipalCache.onInvalidation(
+                    new CacheInvalidationMessage(NODE_ID, UserPrincipalCache.CACHE_NAME, "1"));
+            userPrincipalCache.onInvalidation(new CacheInvalidationMessage("other-node", "categories", "1"));
+            userPrincipalCache.get(1L, loader);
+
+            // then
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(userPrincipalCache.hasChangedRecently(1L)).isFalse();
+            verify(invalidationPublisher, never()).publishEvict(UserPrincipalCache.CACHE_NAME, "1");
+        }
+    }
+
+    private User createUser(Long id) {
+        User user = User.builder()
+                .email("user" + id + "@test.com")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
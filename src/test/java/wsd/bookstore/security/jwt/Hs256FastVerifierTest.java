@@ -0,0 +1,183 @@
+package wsd.bookstore.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import io.jsonwebtoken.security.Keys;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.Function;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.test.util.ReflectionTestUtils;
+import wsd.bookstore.user.entity.UserRole;
+
+class Hs256FastVerifierTest {
+
+    private static final String SECRET = "v3rY5ecReTk3yF0rJwTTe5t1nGv3rY5ecReTk3yF0rJwTTe5t1nG";
+    private static final int ROUNDS = 100_000;
+
+    private SecretKey secretKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private Hs256FastVerifier fastVerifier;
+
+    @BeforeEach
+    void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessExpiration", 1800000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+        fastVerifier = new Hs256FastVerifier(secretKey);
+    }
+
+    @Nested
+    @DisplayName("빠른 경로 검증 테스트")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("성공: 발급한 액세스 토큰의 클레임을 jjwt 와 같게 읽어야 한다")
+        void success_accessToken() {
+            // given
+            String token = jwtTokenProvider.generateAccess(7L, "독자@test.com", UserRole.ADMIN);
+            Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+            // when
+            VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+
+            // then
+            assertThat(verified).isNotNull();
+            assertThat(verified.userId()).isEqualTo(7L);
+            assertThat(verified.email()).isEqualTo("독자@test.com");
+            assertThat(verified.role()).isEqualTo(UserRole.ADMIN);
+            assertThat(verified.type()).isEqualTo(JwtConstant.ACCESS_TOKEN_TYPE);
+            assertThat(verified.jti()).isEqualTo(claims.getId());
+            assertThat(verified.expiresAt()).isEqualTo(claims.getExpiration().toInstant());
+        }
+
+        @Test
+        @DisplayName("성공: 발급한 리프레시 토큰을 읽어야 한다")
+        void success_refreshToken() {
+            // given
+            String token = jwtTokenProvider.generateRefresh(7L);
+
+            // when
+            VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+
+            // then
+            assertThat(verified).isNotNull();
+            assertThat(verified.isRefreshToken()).isTrue();
+            assertThat(verified.email()).isNull();
+            assertThat(verified.role()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 서명이 다르면 jjwt 에 맡겨야 한다")
+        void fail_tamperedSignature() {
+            // given
+            String token = jwtTokenProvider.generateAccess(7L, "test@test.com", UserRole.USER);
+            String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"sub\":\"1\",\"jti\":\"x\",\"email\":\"admin@test.com\",\"role\":\"ADMIN\",\"type\":\"access\",\"iat\":1,\"exp\":9999999999}"
+                            .getBytes(StandardCharsets.UTF_8));
+            String[] parts = token.split("\\.");
+            String forged = parts[0] + "." + payload + "." + parts[2];
+
+            // when
+            VerifiedToken verified = fastVerifier.verify(forged, System.currentTimeMillis());
+
+            // then
+            assertThat(verified).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 만료된 토큰은 jjwt 에 맡겨야 한다")
+        void fail_expired() {
+            // given
+            String token = jwtTokenProvider.generateAccess(7L, "test@test.com", UserRole.USER);
+
+            // when
+            VerifiedToken verified = fastVerifier.verify(token, Instant.now().plusSeconds(3600).toEpochMilli());
+
+            // then
+            assertThat(verified).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 예상하지 않은 클레임이나 헤더가 있으면 jjwt 에 맡겨야 한다")
+        void fail_unexpectedShape() {
+            // given
+            Date expiration = new Date(System.currentTimeMillis() + 60_000);
+            String extraClaim = Jwts.builder()
+                    .subject("1").id("jti")
+                    .claim(JwtConstant.CLAIM_TYPE, JwtConstant.REFRESH_TOKEN_TYPE)
+                    .claim("nbf-like", 1)
+                    .issuedAt(new Date()).expiration(expiration)
+                    .signWith(secretKey, SIG.HS256)
+                    .compact();
+            String extraHeader = Jwts.builder()
+                    .header().keyId("key-1").and()
+                    .subject("1").id("jti")
+                    .claim(JwtConstant.CLAIM_TYPE, JwtConstant.REFRESH_TOKEN_TYPE)
+                    .issuedAt(new Date()).expiration(expiration)
+                    .signWith(secretKey, SIG.HS256)
+                    .compact();
+            String escapedValue = Jwts.builder()
+                    .subject("1").id("j\"ti")
+                    .claim(JwtConstant.CLAIM_TYPE, JwtConstant.REFRESH_TOKEN_TYPE)
+                    .issuedAt(new Date()).expiration(expiration)
+                    .signWith(secretKey, SIG.HS256)
+                    .compact();
+
+            // when & then
+            long now = System.currentTimeMillis();
+            assertThat(fastVerifier.verify(extraClaim, now)).isNull();
+            assertThat(fastVerifier.verify(extraHeader, now)).isNull();
+            assertThat(fastVerifier.verify(escapedValue, now)).isNull();
+            assertThat(fastVerifier.verify("invalid.token.format", now)).isNull();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성공: 검증 1건당 처리량과 할당 바이트를 jjwt 와 비교한다")
+    void benchmark_againstJjwt(TestReporter testReporter) {
+        String token = jwtTokenProvider.generateAccess(1L, "reader@test.com", UserRole.USER);
+        JwtParser parser = Jwts.parser().verifyWith(secretKey).build();
+
+        double[] jjwt = measure(t -> parser.parseSignedClaims(t).getPayload(), token);
+        double[] fast = measure(t -> fastVerifier.verify(t, System.currentTimeMillis()), token);
+        testReporter.publishEntry(String.format("%-5s %,12.0f ops/s, %,8.0f bytes/op", "jjwt", jjwt[0], jjwt[1]));
+        testReporter.publishEntry(String.format("%-5s %,12.0f ops/s, %,8.0f bytes/op", "fast", fast[0], fast[1]));
+
+        assertThat(fast[1]).isLessThan(jjwt[1]);
+    }
+
+    // {초당 처리 수, 검증 1건당 할당 바이트}
+    private double[] measure(Function<String, Object> verifier, String token) {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ROUNDS; i++) {
+            verifier.apply(token); // warm-up
+        }
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            verifier.apply(token);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new double[] {ROUNDS / (elapsed / 1e9), (double) allocated / ROUNDS};
+    }
+}
@@ -1,35 +1,46 @@
 package wsd.bookstore.security.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
-import java.util.Collections;
+import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import wsd.bookstore.common.cache.CacheInvalidationPublisher;
+import wsd.bookstore.common.error.CustomException;
+import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.security.auth.CustomUserDetails;
 import wsd.bookstore.security.auth.CustomUserDetailsService;
+import wsd.bookstore.security.auth.UserPrincipalCache;
+import wsd.bookstore.user.entity.User;
+import wsd.bookstore.user.entity.UserRole;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private UserPrincipalCache userPrincipalCache;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -37,6 +48,15 @@ class JwtAuthenticationFilterTest {
     @Mock
     private CustomUserDetailsService customUserDetailsService;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
     @Mock
     private HttpServletRequest request;
 
@@ -49,6 +69,13 @@ class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
+        userPrincipalCache =
+                new UserPrincipalCache(cacheInvalidationPublisher, redisService, new SimpleMeterRegistry(), 900_000);
+        jwtAuthenticationFilter =
+                new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, userPrincipalCache,
+                        tokenBlacklist);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsPrincipalPaths",
+                new String[] {"/api/users/me", "/api/reviews/**"});
     }
 
     @AfterEach
@@ -94,13 +121,50 @@ class JwtAuthenticationFilterTest {
             // given
             String token = "invalidToken";
             given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
-            given(jwtTokenProvider.validateToken(token)).willReturn(false);
+            given(jwtTokenProvider.tryVerify(token)).willReturn(Optional.empty());
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(filterChain).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 액세스 토큰이 아니면 인증 정보 없이 다음 필터로 진행한다")
+        void success_refreshToken() throws ServletException, IOException {
+            // given
+            String token = "refreshToken";
+            given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
+            given(jwtTokenProvider.tryVerify(token)).willReturn(Optional.of(new VerifiedToken(1L, null, null,
+                    JwtConstant.REFRESH_TOKEN_TYPE, "jti", Instant.now().plusSeconds(60))));
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
             verify(filterChain).doFilter(request, response);
+            verify(customUserDetailsService, never()).loadUserById(any());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 로그아웃한 토큰이면 인증 정보 없이 다음 필터로 진행한다")
+        void success_revokedToken() throws ServletException, IOException {
+            // given
+            String token = "revokedToken";
+            given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
+            given(jwtTokenProvider.tryVerify(token)).willReturn(Optional.of(new VerifiedToken(1L, "test@test.com",
+                    UserRole.USER, JwtConstant.ACCESS_TOKEN_TYPE, "jti", Instant.now().plusSeconds(60))));
+            given(tokenBlacklist.isRevoked("jti")).willReturn(true);
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(filterChain).doFilter(request, response);
+            verify(customUserDetailsService, never()).loadUserById(any());
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         }
 
@@ -109,14 +173,9 @@ class JwtAuthenticationFilterTest {
         void success_validToken() throws ServletException, IOException {
             // given
             String token = "validToken";
-            String email = "test@test.com";
-            UserDetails userDetails = mock(UserDetails.class);
-
-            given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
-            given(jwtTokenProvider.validateToken(token)).willReturn(true);
-            given(jwtTokenProvider.getEmail(token)).willReturn(email);
-            given(customUserDetailsService.loadUserByUsername(email)).willReturn(userDetails);
-            given(userDetails.getAuthorities()).willReturn(Collections.emptyList());
+            CustomUserDetails userDetails = new CustomUserDetails(createUser(1L));
+            givenValidAccessToken(token, 1L, "/api/cart");
+            given(customUserDetailsService.loadUserById(1L)).willReturn(userDetails);
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -126,5 +185,100 @@ class JwtAuthenticationFilterTest {
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
             assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
         }
+
+        @Test
+        @DisplayName("성공: 같은 회원의 반복 요청은 회원을 다시 조회하지 않는다")
+        void success_cachedPrincipal() throws ServletException, IOException {
+            // given
+            String token = "validToken";
+            int requests = 1_000;
+            givenValidAccessToken(token, 1L, "/api/cart");
+            given(customUserDetailsService.loadUserById(1L)).willReturn(new CustomUserDetails(createUser(1L)));
+
+            // when
+            for (int i = 0; i < requests; i++) {
+                SecurityContextHolder.clearContext();
+                jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+            }
+
+            // then
+            verify(customUserDetailsService, times(1)).loadUserById(1L);
+            verify(filterChain, times(requests)).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("성공: 클레임 경로는 회원 조회 없이 토큰 클레임으로 인증 정보를 만든다")
+        void success_claimsPrincipal() throws ServletException, IOException {
+            // given
+            String token = "validToken";
+            givenValidAccessToken(token, 1L, "/api/reviews/10");
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(customUserDetailsService, never()).loadUserById(any());
+            CustomUserDetails principal =
+                    (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertThat(principal.getUserId()).isEqualTo(1L);
+            assertThat(principal.getUsername()).isEqualTo("test@test.com");
+            assertThat(principal.getAuthorities()).extracting("authority")
+                    .containsExactly(UserRole.USER.getAuthority());
+        }
+
+        @Test
+        @DisplayName("성공: 토큰 발급 이후 바뀐 회원은 클레임 경로에서도 회원 정보를 다시 조회한다")
+        void success_changedUserOnClaimsPath() throws ServletException, IOException {
+            // given
+            String token = "validToken";
+            User user = createUser(1L);
+            ReflectionTestUtils.setField(user, "role", UserRole.ADMIN);
+            givenValidAccessToken(token, 1L, "/api/reviews/10");
+            given(customUserDetailsService.loadUserById(1L)).willReturn(new CustomUserDetails(user));
+            userPrincipalCache.evict(1L);
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(customUserDetailsService).loadUserById(1L);
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                    .extracting("authority")
+                    .containsExactly(UserRole.ADMIN.getAuthority());
+        }
+
+        @Test
+        @DisplayName("성공: 탈퇴한 회원의 토큰이면 인증 정보 없이 다음 필터로 진행한다")
+        void success_withdrawnUser() throws ServletException, IOException {
+            // given
+            String token = "validToken";
+            givenValidAccessToken(token, 1L, "/api/reviews/10");
+            given(customUserDetailsService.loadUserById(1L))
+                    .willThrow(new CustomException(ErrorCode.NOT_FOUND_USER));
+            userPrincipalCache.evict(1L);
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(filterChain).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    private void givenValidAccessToken(String token, Long userId, String path) {
+        given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
+        given(request.getRequestURI()).willReturn(path);
+        given(jwtTokenProvider.tryVerify(token)).willReturn(Optional.of(new VerifiedToken(userId, "test@test.com",
+                UserRole.USER, JwtConstant.ACCESS_TOKEN_TYPE, "jti", Instant.now().plusSeconds(60))));
+    }
+
+    private User createUser(Long id) {
+        User user = User.builder()
+                .email("test@test.com")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
     }
 }
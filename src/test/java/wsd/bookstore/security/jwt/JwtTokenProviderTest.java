@@ -7,7 +7,9 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -205,6 +207,68 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("단일 파싱 검증 테스트")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("성공: 한 번의 검증으로 모든 클레임을 읽어야 한다")
+        void success() {
+            // given
+            String token = jwtTokenProvider.generateAccess(1L, "test@test.com", UserRole.ADMIN);
+
+            // when
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(verified.userId()).isEqualTo(1L);
+            assertThat(verified.email()).isEqualTo("test@test.com");
+            assertThat(verified.role()).isEqualTo(UserRole.ADMIN);
+            assertThat(verified.isAccessToken()).isTrue();
+            assertThat(verified.jti()).isNotBlank();
+            assertThat(verified.remainingMillis(Instant.now())).isPositive();
+        }
+
+        @Test
+        @DisplayName("성공: 같은 토큰을 다시 검증하면 보관된 결과를 반환해야 한다")
+        void success_cached() {
+            // given
+            String token = jwtTokenProvider.generateAccess(1L, "test@test.com", UserRole.USER);
+            VerifiedToken first = jwtTokenProvider.verify(token);
+
+            // when
+            VerifiedToken second = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("실패: 액세스 토큰 검증에 리프레시 토큰을 넘기면 예외가 발생해야 한다")
+        void fail_verifyAccessToken_wrongType() {
+            // given
+            String token = jwtTokenProvider.generateRefresh(1L);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessage("토큰 타입 불일치");
+        }
+
+        @Test
+        @DisplayName("실패: 검증에 실패한 토큰은 빈 결과를 반환해야 한다")
+        void fail_tryVerify_invalid() {
+            // given
+            String token = "invalid.token.format";
+
+            // when
+            Optional<VerifiedToken> result = jwtTokenProvider.tryVerify(token);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Authentication 객체 생성 테스트")
     class GetAuthenticationTest {
@@ -0,0 +1,164 @@
+package wsd.bookstore.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import wsd.bookstore.common.redis.RedisService;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    private static final long ACCESS_EXPIRATION = 900_000L;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new TokenBlacklist(redisService, listenerContainer, ACCESS_EXPIRATION);
+    }
+
+    @Nested
+    @DisplayName("등록 테스트")
+    class RevokeTest {
+
+        @Test
+        @DisplayName("성공: jti 를 토큰 만료까지 Redis 에 저장하고 다른 노드에 알려야 한다")
+        void success() {
+            // when
+            tokenBlacklist.revoke("jti-1", Instant.now().plusSeconds(60));
+
+            // then
+            verify(redisService).setValues(eq(JwtConstant.REDIS_BL_PREFIX + "jti-1"), eq(JwtConstant.LOGOUT_VALUE),
+                    any(Duration.class));
+            verify(redisService).publish(TokenBlacklist.CHANNEL, "jti-1");
+        }
+
+        @Test
+        @DisplayName("성공: 이미 만료된 토큰은 등록하지 않아야 한다")
+        void success_expired() {
+            // when
+            tokenBlacklist.revoke("jti-1", Instant.now().minusSeconds(1));
+
+            // then
+            verify(redisService, never()).setValues(anyString(), anyString(), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("확인 테스트")
+    class IsRevokedTest {
+
+        @Test
+        @DisplayName("성공: 등록된 jti 는 Redis 확인 후 차단해야 한다")
+        void success_revoked() {
+            // given
+            tokenBlacklist.revoke("jti-1", Instant.now().plusSeconds(60));
+            given(redisService.hasKey(JwtConstant.REDIS_BL_PREFIX + "jti-1")).willReturn(true);
+
+            // when & then
+            assertThat(tokenBlacklist.isRevoked("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드의 알림으로 등록된 jti 도 차단해야 한다")
+        void success_revokedOnOtherNode() {
+            // given
+            tokenBlacklist.onMessage(new DefaultMessage(TokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    "jti-2".getBytes(StandardCharsets.UTF_8)), null);
+            given(redisService.hasKey(JwtConstant.REDIS_BL_PREFIX + "jti-2")).willReturn(true);
+
+            // when & then
+            assertThat(tokenBlacklist.isRevoked("jti-2")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 시작 시 Redis 에 있던 jti 를 불러와야 한다")
+        void success_loadOnStartup() {
+            // given
+            given(redisService.scanKeys(JwtConstant.REDIS_BL_PREFIX + "*"))
+                    .willReturn(List.of(JwtConstant.REDIS_BL_PREFIX + "jti-3"));
+            given(redisService.hasKey(JwtConstant.REDIS_BL_PREFIX + "jti-3")).willReturn(true);
+
+            // when
+            tokenBlacklist.init();
+
+            // then
+            assertThat(tokenBlacklist.isRevoked("jti-3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 등록되지 않은 jti 는 대부분 Redis 를 조회하지 않아야 한다")
+        void success_notRevokedWithoutIo() {
+            // given
+            for (int i = 0; i < 10_000; i++) {
+                tokenBlacklist.add(UUID.randomUUID().toString(), System.currentTimeMillis());
+            }
+            int lookups = 10_000;
+
+            // when
+            for (int i = 0; i < lookups; i++) {
+                assertThat(tokenBlacklist.isRevoked(UUID.randomUUID().toString())).isFalse();
+            }
+
+            // then
+            long redisCalls = mockingDetails(redisService).getInvocations().size();
+            assertThat(redisCalls).isLessThan(lookups / 100);
+        }
+
+        @Test
+        @DisplayName("성공: 두 세대가 지나면 등록된 jti 가 정리되어야 한다")
+        void success_expiresAfterTwoGenerations() {
+            // given
+            long now = System.currentTimeMillis();
+            tokenBlacklist.add("jti-1", now);
+            given(redisService.hasKey(JwtConstant.REDIS_BL_PREFIX + "jti-1")).willReturn(true);
+
+            // when
+            boolean afterOneGeneration = tokenBlacklist.isRevoked("jti-1", now + ACCESS_EXPIRATION);
+            boolean afterTwoGenerations = tokenBlacklist.isRevoked("jti-1", now + 3 * ACCESS_EXPIRATION);
+
+            // then
+            assertThat(afterOneGeneration).isTrue();
+            assertThat(afterTwoGenerations).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패: Redis 확인에 실패하면 차단으로 처리해야 한다")
+        void fail_redisUnavailable() {
+            // given
+            tokenBlacklist.add("jti-1", System.currentTimeMillis());
+            willThrow(new IllegalStateException("redis down"))
+                    .given(redisService).hasKey(JwtConstant.REDIS_BL_PREFIX + "jti-1");
+
+            // when & then
+            assertThat(tokenBlacklist.isRevoked("jti-1")).isTrue();
+        }
+    }
+}
@@ -7,7 +7,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,7 +21,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.common.redis.RedisService;
+import wsd.bookstore.security.jwt.JwtConstant;
 import wsd.bookstore.security.jwt.JwtTokenProvider;
+import wsd.bookstore.security.jwt.TokenBlacklist;
+import wsd.bookstore.security.jwt.VerifiedToken;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.entity.UserRole;
 import wsd.bookstore.user.repository.UserRepository;
@@ -49,6 +52,9 @@ class AuthServiceTest {
     @Mock
     private RedisService redisService;
 
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
     @Nested
     @DisplayName("회원가입 테스트")
     class SignupTest {
@@ -130,6 +136,61 @@ class AuthServiceTest {
             verify(redisService).setValues(anyString(), anyString(), any());
         }
 
+        @Test
+        @DisplayName("성공: 저장된 해시의 비용이 낮으면 로그인 시 다시 해시해야 한다")
+        void success_rehashOutdatedHash() {
+            // given
+            LoginRequest request = new LoginRequest("test@test.com", "password");
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password("outdatedHash")
+                    .role(UserRole.USER)
+                    .build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches("password", "outdatedHash")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("outdatedHash")).willReturn(true);
+            given(passwordEncoder.encode("password")).willReturn("currentHash");
+            given(jwtTokenProvider.generateAccess(any(Long.class), anyString(), any(UserRole.class)))
+                    .willReturn("accessToken");
+            given(jwtTokenProvider.generateRefresh(any(Long.class))).willReturn("refreshToken");
+
+            // when
+            authService.login(request);
+
+            // then
+            assertThat(user.getPassword()).isEqualTo("currentHash");
+        }
+
+        @Test
+        @DisplayName("성공: 해시 대기열이 가득 차면 다시 해시하지 않고 로그인해야 한다")
+        void success_skipRehashWhenBusy() {
+            // given
+            LoginRequest request = new LoginRequest("test@test.com", "password");
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password("outdatedHash")
+                    .role(UserRole.USER)
+                    .build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches("password", "outdatedHash")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("outdatedHash")).willReturn(true);
+            given(passwordEncoder.encode("password")).willThrow(new CustomException(ErrorCode.TOO_MANY_REQUESTS));
+            given(jwtTokenProvider.generateAccess(any(Long.class), anyString(), any(UserRole.class)))
+                    .willReturn("accessToken");
+            given(jwtTokenProvider.generateRefresh(any(Long.class))).willReturn("refreshToken");
+
+            // when
+            LoginResponse response = authService.login(request);
+
+            // then
+            assertThat(response.getAccessToken()).isEqualTo("accessToken");
+            assertThat(user.getPassword()).isEqualTo("outdatedHash");
+        }
+
         @Test
         @DisplayName("실패: 존재하지 않는 사용자로 로그인 시도 시 예외가 발생해야 한다")
         void fail_userNotFound() {
@@ -175,17 +236,17 @@ class AuthServiceTest {
             // given
             String accessToken = "accessToken";
             String email = "test@test.com";
-            long expiration = 1000L;
+            VerifiedToken verifiedToken = new VerifiedToken(1L, email, UserRole.USER,
+                    JwtConstant.ACCESS_TOKEN_TYPE, "jti", Instant.now().plusSeconds(60));
 
-            given(jwtTokenProvider.getEmail(anyString())).willReturn(email);
-            given(jwtTokenProvider.getExpiration(anyString())).willReturn(expiration);
+            given(jwtTokenProvider.verifyAccessToken(accessToken)).willReturn(verifiedToken);
 
             // when
             authService.logout(accessToken);
 
             // then
             verify(redisService).deleteValues(anyString());
-            verify(redisService).setValues(anyString(), anyString(), any(Duration.class));
+            verify(tokenBlacklist).revoke(verifiedToken.jti(), verifiedToken.expiresAt());
         }
     }
 
@@ -204,8 +265,7 @@ class AuthServiceTest {
                     .build();
             ReflectionTestUtils.setField(user, "id", 1L);
 
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-            given(jwtTokenProvider.getUserId(anyString())).willReturn(user.getId());
+            given(jwtTokenProvider.tryVerify(anyString())).willReturn(Optional.of(refreshToken(user.getId())));
             given(userRepository.findById(any(Long.class))).willReturn(Optional.of(user));
             given(redisService.getValues(anyString())).willReturn("refreshToken");
             given(jwtTokenProvider.generateAccess(any(Long.class), anyString(), any(UserRole.class)))
@@ -226,7 +286,7 @@ class AuthServiceTest {
         void fail_invalidToken() {
             // given
             ReissueRequest request = new ReissueRequest("invalidRefreshToken");
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(false);
+            given(jwtTokenProvider.tryVerify(anyString())).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> authService.reissue(request))
@@ -239,8 +299,7 @@ class AuthServiceTest {
         void fail_userNotFound() {
             // given
             ReissueRequest request = new ReissueRequest("refreshToken");
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-            given(jwtTokenProvider.getUserId(anyString())).willReturn(1L);
+            given(jwtTokenProvider.tryVerify(anyString())).willReturn(Optional.of(refreshToken(1L)));
             given(userRepository.findById(any(Long.class))).willReturn(Optional.empty());
 
             // when & then
@@ -260,8 +319,7 @@ class AuthServiceTest {
                     .build();
             ReflectionTestUtils.setField(user, "id", 1L);
 
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-            given(jwtTokenProvider.getUserId(anyString())).willReturn(user.getId());
+            given(jwtTokenProvider.tryVerify(anyString())).willReturn(Optional.of(refreshToken(user.getId())));
             given(userRepository.findById(any(Long.class))).willReturn(Optional.of(user));
             given(redisService.getValues(anyString())).willReturn("differentRefreshToken");
 
@@ -271,4 +329,9 @@ class AuthServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
         }
     }
+
+    private VerifiedToken refreshToken(Long userId) {
+        return new VerifiedToken(userId, null, null, JwtConstant.REFRESH_TOKEN_TYPE, "jti",
+                Instant.now().plusSeconds(60));
+    }
 }
@@ -17,6 +17,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
+import wsd.bookstore.security.auth.UserPrincipalCache;
 import wsd.bookstore.user.entity.UserRole;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.repository.UserRepository;
@@ -35,6 +36,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @Nested
     @DisplayName("회원 정보 조회 테스트")
     class GetUserTest {
@@ -109,6 +113,7 @@ class UserServiceTest {
             assertThat(response.getUsername()).isEqualTo(request.getUsername());
             assertThat(user.getAddress()).isEqualTo(request.getAddress());
             assertThat(user.getPhoneNumber()).isEqualTo(request.getPhoneNumber());
+            verify(userPrincipalCache).evict(userId);
         }
 
         @Test
@@ -157,6 +162,7 @@ class UserServiceTest {
             // then
             assertThat(user.getPassword()).isEqualTo(encodedPassword);
             verify(passwordEncoder).encode(newPassword);
+            verify(userPrincipalCache).evict(userId);
         }
 
         @Test
@@ -219,6 +225,7 @@ class UserServiceTest {
 
             // then
             verify(userRepository).delete(user);
+            verify(userPrincipalCache).evict(userId);
         }
 
         @Test
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import wsd.bookstore.book.entity.Book;
 import wsd.bookstore.book.repository.BookRepository;
@@ -24,6 +25,7 @@ import wsd.bookstore.common.error.CustomException;
 import wsd.bookstore.common.error.ErrorCode;
 import wsd.bookstore.user.entity.User;
 import wsd.bookstore.user.entity.UserRole;
+import wsd.bookstore.user.repository.UserRepository;
 import wsd.bookstore.wishlist.entity.Wishlist;
 import wsd.bookstore.wishlist.repository.WishlistRepository;
 
@@ -39,6 +41,12 @@ class WishlistServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("위시리스트 목록 조회 테스트")
     class GetMyWishlistTest {
@@ -55,10 +63,10 @@ class WishlistServiceTest {
 
             Wishlist wishlist = Wishlist.builder().user(user).book(book).build();
 
-            given(wishlistRepository.findAllByUser(user)).willReturn(List.of(wishlist));
+            given(wishlistRepository.findAllByUserId(1L)).willReturn(List.of(wishlist));
 
             // when
-            List<BookSummaryResponse> result = wishlistService.getMyWishlist(user);
+            List<BookSummaryResponse> result = wishlistService.getMyWishlist(1L);
 
             // then
             assertThat(result).hasSize(1);
@@ -81,10 +89,11 @@ class WishlistServiceTest {
             ReflectionTestUtils.setField(book, "id", bookId);
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(wishlistRepository.existsByUserAndBook(user, book)).willReturn(false);
+            given(wishlistRepository.existsByUserIdAndBook(1L, book)).willReturn(false);
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
 
             // when
-            wishlistService.addWishlist(user, bookId);
+            wishlistService.addWishlist(1L, bookId);
 
             // then
             verify(wishlistRepository).save(any(Wishlist.class));
@@ -94,13 +103,12 @@ class WishlistServiceTest {
         @DisplayName("실패: 존재하지 않는 도서를 위시리스트에 추가하려고 하면 예외가 발생해야 한다")
         void fail_notFoundBook() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
 
             given(bookRepository.findById(bookId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> wishlistService.addWishlist(user, bookId))
+            assertThatThrownBy(() -> wishlistService.addWishlist(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
         }
@@ -109,18 +117,34 @@ class WishlistServiceTest {
         @DisplayName("실패: 이미 위시리스트에 있는 도서를 추가하려고 하면 예외가 발생해야 한다")
         void fail_duplicateWishlist() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
             Book book = Book.builder().title("Book").build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(wishlistRepository.existsByUserAndBook(user, book)).willReturn(true);
+            given(wishlistRepository.existsByUserIdAndBook(1L, book)).willReturn(true);
 
             // when & then
-            assertThatThrownBy(() -> wishlistService.addWishlist(user, bookId))
+            assertThatThrownBy(() -> wishlistService.addWishlist(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_WISHLIST);
         }
+
+        @Test
+        @DisplayName("실패: 탈퇴한 회원이 위시리스트에 추가하려고 하면 예외가 발생해야 한다")
+        void fail_notFoundUser() {
+            // given
+            Long bookId = 1L;
+            Book book = Book.builder().title("Book").build();
+
+            given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
+            given(wishlistRepository.existsByUserIdAndBook(1L, book)).willReturn(false);
+            given(userRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> wishlistService.addWishlist(1L, bookId))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_USER);
+        }
     }
 
     @Nested
@@ -137,10 +161,10 @@ class WishlistServiceTest {
             Wishlist wishlist = Wishlist.builder().user(user).book(book).build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(wishlistRepository.findByUserAndBook(user, book)).willReturn(Optional.of(wishlist));
+            given(wishlistRepository.findByUserIdAndBook(1L, book)).willReturn(Optional.of(wishlist));
 
             // when
-            wishlistService.deleteWishlist(user, bookId);
+            wishlistService.deleteWishlist(1L, bookId);
 
             // then
             verify(wishlistRepository).delete(wishlist);
@@ -150,13 +174,12 @@ class WishlistServiceTest {
         @DisplayName("실패: 존재하지 않는 도서의 위시리스트를 삭제하려고 하면 예외가 발생해야 한다")
         void fail_notFoundBook() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
 
             given(bookRepository.findById(bookId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> wishlistService.deleteWishlist(user, bookId))
+            assertThatThrownBy(() -> wishlistService.deleteWishlist(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_BOOK);
         }
@@ -165,15 +188,14 @@ class WishlistServiceTest {
         @DisplayName("실패: 위시리스트에 없는 도서를 삭제하려고 하면 예외가 발생해야 한다")
         void fail_notFoundWishlist() {
             // given
-            User user = User.builder().email("test@test.com").role(UserRole.USER).build();
             Long bookId = 1L;
             Book book = Book.builder().title("Book").build();
 
             given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-            given(wishlistRepository.findByUserAndBook(user, book)).willReturn(Optional.empty());
+            given(wishlistRepository.findByUserIdAndBook(1L, book)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> wishlistService.deleteWishlist(user, bookId))
+            assertThatThrownBy(() -> wishlistService.deleteWishlist(1L, bookId))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_WISHLIST);
         }